@@ -53,6 +53,7 @@ public class ConfigurationPropertiesReportEndpointAutoConfiguration {
 		if (additionalKeysToSanitize != null) {
 			endpoint.keysToSanitize(additionalKeysToSanitize);
 		}
+		endpoint.setCacheDescriptors(properties.isCacheDescriptors());
 		return endpoint;
 	}
 
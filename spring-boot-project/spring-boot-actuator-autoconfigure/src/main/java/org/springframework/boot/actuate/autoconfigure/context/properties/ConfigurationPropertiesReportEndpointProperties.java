@@ -40,6 +40,13 @@ public class ConfigurationPropertiesReportEndpointProperties {
 	 */
 	private String[] additionalKeysToSanitize;
 
+	/**
+	 * Whether to cache the description of each @ConfigurationProperties bean until the
+	 * bean is replaced or configuration properties are rebound. Changes made to a bean
+	 * other than by binding are not reported when enabled.
+	 */
+	private boolean cacheDescriptors;
+
 	public String[] getKeysToSanitize() {
 		return this.keysToSanitize;
 	}
@@ -56,4 +63,12 @@ public class ConfigurationPropertiesReportEndpointProperties {
 		this.additionalKeysToSanitize = additionalKeysToSanitize;
 	}
 
+	public boolean isCacheDescriptors() {
+		return this.cacheDescriptors;
+	}
+
+	public void setCacheDescriptors(boolean cacheDescriptors) {
+		this.cacheDescriptors = cacheDescriptors;
+	}
+
 }
@@ -25,6 +25,7 @@ import org.springframework.boot.actuate.endpoint.annotation.EndpointConverter;
 import org.springframework.boot.actuate.endpoint.invoke.ParameterValueMapper;
 import org.springframework.boot.actuate.endpoint.invoke.convert.ConversionServiceParameterValueMapper;
 import org.springframework.boot.actuate.endpoint.invoker.cache.CachingOperationInvokerAdvisor;
+import org.springframework.boot.actuate.endpoint.invoker.cache.CachingOperationInvokerListener;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.convert.ApplicationConversionService;
@@ -71,8 +72,11 @@ public class EndpointAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	public CachingOperationInvokerAdvisor endpointCachingOperationInvokerAdvisor(Environment environment) {
-		return new CachingOperationInvokerAdvisor(new EndpointIdTimeToLivePropertyFunction(environment));
+	public CachingOperationInvokerAdvisor endpointCachingOperationInvokerAdvisor(Environment environment,
+			ObjectProvider<CachingOperationInvokerListener> listener) {
+		return new CachingOperationInvokerAdvisor(new EndpointIdTimeToLivePropertyFunction(environment),
+				new EndpointIdStaleWhileRevalidatePropertyFunction(environment),
+				listener.getIfUnique(() -> CachingOperationInvokerListener.NONE));
 	}
 
 }
@@ -24,10 +24,12 @@ import java.util.Map;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.health.BackgroundHealthContributorRegistry;
 import org.springframework.boot.actuate.health.CompositeHealthContributor;
 import org.springframework.boot.actuate.health.CompositeReactiveHealthContributor;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthContributorListener;
 import org.springframework.boot.actuate.health.HealthContributorRegistry;
 import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.actuate.health.HealthEndpointGroups;
@@ -35,12 +37,14 @@ import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
 import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.boot.actuate.health.ParallelHealthIndicatorEvaluator;
 import org.springframework.boot.actuate.health.ReactiveHealthContributor;
 import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
 import org.springframework.boot.actuate.health.SimpleHttpCodeStatusMapper;
 import org.springframework.boot.actuate.health.SimpleStatusAggregator;
 import org.springframework.boot.actuate.health.StatusAggregator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -77,19 +81,39 @@ class HealthEndpointConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	HealthContributorRegistry healthContributorRegistry(ApplicationContext applicationContext,
-			HealthEndpointGroups groups) {
+			HealthEndpointGroups groups, HealthEndpointProperties properties,
+			ObjectProvider<HealthContributorListener> listener) {
 		Map<String, HealthContributor> healthContributors = new LinkedHashMap<>(
 				applicationContext.getBeansOfType(HealthContributor.class));
 		if (ClassUtils.isPresent("reactor.core.publisher.Flux", applicationContext.getClassLoader())) {
 			healthContributors.putAll(new AdaptedReactiveHealthContributors(applicationContext).get());
 		}
-		return new AutoConfiguredHealthContributorRegistry(healthContributors, groups.getNames());
+		HealthContributorRegistry registry = new AutoConfiguredHealthContributorRegistry(healthContributors,
+				groups.getNames());
+		HealthEndpointProperties.Background background = properties.getBackground();
+		if (background.isEnabled()) {
+			return new BackgroundHealthContributorRegistry(registry, background.getPoolSize(),
+					(name) -> background.getContributorInterval().getOrDefault(name, background.getInterval()),
+					background.getTimeout(), listener.getIfUnique(() -> HealthContributorListener.NONE));
+		}
+		return registry;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "management.endpoint.health.parallel", name = "enabled", havingValue = "true")
+	ParallelHealthIndicatorEvaluator parallelHealthIndicatorEvaluator(HealthEndpointProperties properties) {
+		HealthEndpointProperties.Parallel parallel = properties.getParallel();
+		return new ParallelHealthIndicatorEvaluator(parallel.getPoolSize(), parallel.getTimeout());
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
-	HealthEndpoint healthEndpoint(HealthContributorRegistry registry, HealthEndpointGroups groups) {
-		return new HealthEndpoint(registry, groups);
+	HealthEndpoint healthEndpoint(HealthContributorRegistry registry, HealthEndpointGroups groups,
+			ObjectProvider<ParallelHealthIndicatorEvaluator> evaluator,
+			ObjectProvider<HealthContributorListener> listener) {
+		return new HealthEndpoint(registry, groups, evaluator.getIfAvailable(),
+				listener.getIfUnique(() -> HealthContributorListener.NONE));
 	}
 
 	@Bean
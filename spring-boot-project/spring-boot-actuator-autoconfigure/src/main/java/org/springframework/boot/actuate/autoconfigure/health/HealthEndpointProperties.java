@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +44,10 @@ public class HealthEndpointProperties extends HealthProperties {
 	 */
 	private Map<String, Group> group = new LinkedHashMap<>();
 
+	private final Parallel parallel = new Parallel();
+
+	private final Background background = new Background();
+
 	@Override
 	public Show getShowDetails() {
 		return this.showDetails;
@@ -56,6 +61,14 @@ public class HealthEndpointProperties extends HealthProperties {
 		return this.group;
 	}
 
+	public Parallel getParallel() {
+		return this.parallel;
+	}
+
+	public Background getBackground() {
+		return this.background;
+	}
+
 	/**
 	 * A health endpoint group.
 	 */
@@ -104,4 +117,127 @@ public class HealthEndpointProperties extends HealthProperties {
 
 	}
 
+	/**
+	 * Parallel evaluation of health indicators.
+	 */
+	public static class Parallel {
+
+		/**
+		 * Whether to evaluate the health indicators that take part in a request
+		 * concurrently rather than one after the other.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Maximum number of health indicators to evaluate concurrently.
+		 */
+		private int poolSize = 8;
+
+		/**
+		 * Maximum time to wait for the health of an indicator before reporting it as
+		 * down. Set to zero to wait indefinitely.
+		 */
+		private Duration timeout = Duration.ofSeconds(10);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getPoolSize() {
+			return this.poolSize;
+		}
+
+		public void setPoolSize(int poolSize) {
+			this.poolSize = poolSize;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+	}
+
+	/**
+	 * Background refresh of health indicators.
+	 */
+	public static class Background {
+
+		/**
+		 * Whether to poll health indicators in the background and serve their latest
+		 * result rather than invoking them on each request.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Default interval between two consecutive checks of a health contributor.
+		 */
+		private Duration interval = Duration.ofSeconds(10);
+
+		/**
+		 * Interval between two consecutive checks of a health contributor, keyed by
+		 * contributor name. Overrides the default interval.
+		 */
+		private Map<String, Duration> contributorInterval = new LinkedHashMap<>();
+
+		/**
+		 * Time after which a check that has not completed is reported as down. A check
+		 * that exceeds this timeout keeps its polling thread busy until it completes.
+		 */
+		private Duration timeout = Duration.ofSeconds(10);
+
+		/**
+		 * Number of threads used to poll health contributors.
+		 */
+		private int poolSize = 4;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getInterval() {
+			return this.interval;
+		}
+
+		public void setInterval(Duration interval) {
+			this.interval = interval;
+		}
+
+		public Map<String, Duration> getContributorInterval() {
+			return this.contributorInterval;
+		}
+
+		public void setContributorInterval(Map<String, Duration> contributorInterval) {
+			this.contributorInterval = contributorInterval;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		public int getPoolSize() {
+			return this.poolSize;
+		}
+
+		public void setPoolSize(int poolSize) {
+			this.poolSize = poolSize;
+		}
+
+	}
+
 }
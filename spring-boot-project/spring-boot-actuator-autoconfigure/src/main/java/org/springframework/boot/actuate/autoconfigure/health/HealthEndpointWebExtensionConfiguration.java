@@ -16,10 +16,13 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.HealthContributorListener;
 import org.springframework.boot.actuate.health.HealthContributorRegistry;
 import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.actuate.health.HealthEndpointGroups;
 import org.springframework.boot.actuate.health.HealthEndpointWebExtension;
+import org.springframework.boot.actuate.health.ParallelHealthIndicatorEvaluator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -42,8 +45,10 @@ class HealthEndpointWebExtensionConfiguration {
 	@ConditionalOnBean(HealthEndpoint.class)
 	@ConditionalOnMissingBean
 	HealthEndpointWebExtension healthEndpointWebExtension(HealthContributorRegistry healthContributorRegistry,
-			HealthEndpointGroups groups) {
-		return new HealthEndpointWebExtension(healthContributorRegistry, groups);
+			HealthEndpointGroups groups, ObjectProvider<ParallelHealthIndicatorEvaluator> evaluator,
+			ObjectProvider<HealthContributorListener> listener) {
+		return new HealthEndpointWebExtension(healthContributorRegistry, groups, evaluator.getIfAvailable(),
+				listener.getIfUnique(() -> HealthContributorListener.NONE));
 	}
 
 }
@@ -20,6 +20,7 @@ import org.springframework.boot.actuate.autoconfigure.endpoint.condition.Conditi
 import org.springframework.boot.actuate.management.HeapDumpWebEndpoint;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -31,12 +32,13 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnAvailableEndpoint(endpoint = HeapDumpWebEndpoint.class)
+@EnableConfigurationProperties(HeapDumpWebEndpointProperties.class)
 public class HeapDumpWebEndpointAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	public HeapDumpWebEndpoint heapDumpWebEndpoint() {
-		return new HeapDumpWebEndpoint();
+	public HeapDumpWebEndpoint heapDumpWebEndpoint(HeapDumpWebEndpointProperties properties) {
+		return new HeapDumpWebEndpoint(properties.getTimeout(), properties.getMaxPending());
 	}
 
 }
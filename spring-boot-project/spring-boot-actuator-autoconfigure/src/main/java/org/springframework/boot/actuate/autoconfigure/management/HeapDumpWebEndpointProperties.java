@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.management;
+
+import java.time.Duration;
+
+import org.springframework.boot.actuate.management.HeapDumpWebEndpoint;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for {@link HeapDumpWebEndpoint}.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+@ConfigurationProperties(prefix = "management.endpoint.heapdump")
+public class HeapDumpWebEndpointProperties {
+
+	/**
+	 * Maximum time to wait for a heap dump that is already in progress to complete.
+	 */
+	private Duration timeout = Duration.ofSeconds(10);
+
+	/**
+	 * Maximum number of heap dumps that can be pending, either being written or awaiting
+	 * download, at any one time. A heap dump whose download has not started within a
+	 * minute is deleted and no longer counts as pending. Use -1 for no limit.
+	 */
+	private int maxPending = -1;
+
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	public int getMaxPending() {
+		return this.maxPending;
+	}
+
+	public void setMaxPending(int maxPending) {
+		this.maxPending = maxPending;
+	}
+
+}
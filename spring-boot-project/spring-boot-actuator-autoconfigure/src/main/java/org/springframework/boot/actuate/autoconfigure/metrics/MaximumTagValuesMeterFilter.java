@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter.Id;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterFilter} that limits the number of distinct values of a tag of a metric.
+ * Once the maximum number of values has been reached, additional values are replaced with
+ * {@value #OVERFLOW_VALUE} and a warning message is logged once. When bound to a
+ * {@link MeterRegistry}, the number of distinct values that have been replaced, up to the
+ * maximum number of values, is reported by a {@code <metric name>.overflow} gauge.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public final class MaximumTagValuesMeterFilter implements MeterFilter, MeterBinder {
+
+	/**
+	 * Tag value used in place of the values that exceed the maximum.
+	 */
+	public static final String OVERFLOW_VALUE = "OVERFLOW";
+
+	private static final Log logger = LogFactory.getLog(MaximumTagValuesMeterFilter.class);
+
+	private final String metricName;
+
+	private final String tagKey;
+
+	private final int maximumValues;
+
+	private final Supplier<String> message;
+
+	private final Set<String> values = ConcurrentHashMap.newKeySet();
+
+	private final Set<String> droppedValues = ConcurrentHashMap.newKeySet();
+
+	private final AtomicBoolean alreadyWarned = new AtomicBoolean();
+
+	public MaximumTagValuesMeterFilter(String metricName, String tagKey, int maximumValues, Supplier<String> message) {
+		Assert.hasText(metricName, "MetricName must not be empty");
+		Assert.hasText(tagKey, "TagKey must not be empty");
+		Assert.notNull(message, "Message must not be null");
+		this.metricName = metricName;
+		this.tagKey = tagKey;
+		this.maximumValues = maximumValues;
+		this.message = message;
+	}
+
+	@Override
+	public Id map(Id id) {
+		if (!this.metricName.equals(id.getName())) {
+			return id;
+		}
+		String value = id.getTag(this.tagKey);
+		if (value == null || OVERFLOW_VALUE.equals(value) || isAllowed(value)) {
+			return id;
+		}
+		drop(value);
+		return id.replaceTags(Tags.of(id.getTagsAsIterable()).and(this.tagKey, OVERFLOW_VALUE));
+	}
+
+	private boolean isAllowed(String value) {
+		if (this.values.contains(value)) {
+			return true;
+		}
+		if (this.values.size() >= this.maximumValues) {
+			return false;
+		}
+		synchronized (this.values) {
+			if (this.values.size() < this.maximumValues) {
+				this.values.add(value);
+			}
+			return this.values.contains(value);
+		}
+	}
+
+	private void drop(String value) {
+		if (this.droppedValues.size() < this.maximumValues) {
+			this.droppedValues.add(value);
+		}
+		if (logger.isWarnEnabled() && this.alreadyWarned.compareAndSet(false, true)) {
+			logger.warn(this.message.get());
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder(this.metricName + ".overflow", this.droppedValues, Set::size).tag("tag", this.tagKey)
+				.description("Number of distinct tag values that were replaced once the maximum was reached")
+				.register(registry);
+	}
+
+}
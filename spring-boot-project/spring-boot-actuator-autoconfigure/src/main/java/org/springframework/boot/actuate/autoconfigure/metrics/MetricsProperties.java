@@ -106,11 +106,17 @@ public class MetricsProperties {
 
 			/**
 			 * Maximum number of unique URI tag values allowed. After the max number of
-			 * tag values is reached, metrics with additional tag values are denied by
-			 * filter.
+			 * tag values is reached, metrics with additional tag values are handled
+			 * according to the max URI tags policy.
 			 */
 			private int maxUriTags = 100;
 
+			/**
+			 * Policy applied to metrics with additional URI tag values once the max
+			 * number of tag values has been reached.
+			 */
+			private MaxUriTagsPolicy maxUriTagsPolicy = MaxUriTagsPolicy.DENY;
+
 			public ClientRequest getRequest() {
 				return this.request;
 			}
@@ -123,6 +129,14 @@ public class MetricsProperties {
 				this.maxUriTags = maxUriTags;
 			}
 
+			public MaxUriTagsPolicy getMaxUriTagsPolicy() {
+				return this.maxUriTagsPolicy;
+			}
+
+			public void setMaxUriTagsPolicy(MaxUriTagsPolicy maxUriTagsPolicy) {
+				this.maxUriTagsPolicy = maxUriTagsPolicy;
+			}
+
 			public static class ClientRequest {
 
 				/**
@@ -158,11 +172,17 @@ public class MetricsProperties {
 
 			/**
 			 * Maximum number of unique URI tag values allowed. After the max number of
-			 * tag values is reached, metrics with additional tag values are denied by
-			 * filter.
+			 * tag values is reached, metrics with additional tag values are handled
+			 * according to the max URI tags policy.
 			 */
 			private int maxUriTags = 100;
 
+			/**
+			 * Policy applied to metrics with additional URI tag values once the max
+			 * number of tag values has been reached.
+			 */
+			private MaxUriTagsPolicy maxUriTagsPolicy = MaxUriTagsPolicy.DENY;
+
 			public ServerRequest getRequest() {
 				return this.request;
 			}
@@ -175,6 +195,14 @@ public class MetricsProperties {
 				this.maxUriTags = maxUriTags;
 			}
 
+			public MaxUriTagsPolicy getMaxUriTagsPolicy() {
+				return this.maxUriTagsPolicy;
+			}
+
+			public void setMaxUriTagsPolicy(MaxUriTagsPolicy maxUriTagsPolicy) {
+				this.maxUriTagsPolicy = maxUriTagsPolicy;
+			}
+
 			public static class ServerRequest {
 
 				/**
@@ -217,6 +245,24 @@ public class MetricsProperties {
 
 		}
 
+		/**
+		 * Policies for handling metrics with URI tag values beyond the maximum.
+		 */
+		public enum MaxUriTagsPolicy {
+
+			/**
+			 * Deny metrics with additional URI tag values.
+			 */
+			DENY,
+
+			/**
+			 * Record metrics with additional URI tag values using a single
+			 * {@value MaximumTagValuesMeterFilter#OVERFLOW_VALUE} URI tag value.
+			 */
+			COLLAPSE
+
+		}
+
 	}
 
 	public static class Data {
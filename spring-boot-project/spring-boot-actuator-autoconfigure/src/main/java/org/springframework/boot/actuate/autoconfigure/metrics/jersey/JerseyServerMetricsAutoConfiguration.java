@@ -27,6 +27,7 @@ import io.micrometer.jersey2.server.JerseyTagsProvider;
 import io.micrometer.jersey2.server.MetricsApplicationEventListener;
 import org.glassfish.jersey.server.ResourceConfig;
 
+import org.springframework.boot.actuate.autoconfigure.metrics.MaximumTagValuesMeterFilter;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties.Web.Server;
@@ -37,6 +38,7 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.jersey.ResourceConfigCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -84,6 +86,8 @@ public class JerseyServerMetricsAutoConfiguration {
 
 	@Bean
 	@Order(0)
+	@ConditionalOnProperty(prefix = "management.metrics.web.server", name = "max-uri-tags-policy", havingValue = "deny",
+			matchIfMissing = true)
 	public MeterFilter jerseyMetricsUriTagFilter() {
 		String metricName = this.properties.getWeb().getServer().getRequest().getMetricName();
 		MeterFilter filter = new OnlyOnceLoggingDenyMeterFilter(
@@ -92,6 +96,18 @@ public class JerseyServerMetricsAutoConfiguration {
 				filter);
 	}
 
+	@Bean
+	@Order(0)
+	@ConditionalOnProperty(prefix = "management.metrics.web.server", name = "max-uri-tags-policy",
+			havingValue = "collapse")
+	public MaximumTagValuesMeterFilter jerseyMetricsUriTagCollapsingFilter() {
+		String metricName = this.properties.getWeb().getServer().getRequest().getMetricName();
+		return new MaximumTagValuesMeterFilter(metricName, "uri", this.properties.getWeb().getServer().getMaxUriTags(),
+				() -> String.format(
+						"Reached the maximum number of URI tags for '%s'. Additional URIs are tagged as '%s'.",
+						metricName, MaximumTagValuesMeterFilter.OVERFLOW_VALUE));
+	}
+
 	/**
 	 * An {@link AnnotationFinder} that uses {@link AnnotationUtils}.
 	 */
@@ -20,6 +20,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.config.MeterFilter;
 
 import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MaximumTagValuesMeterFilter;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
 import org.springframework.boot.actuate.autoconfigure.metrics.OnlyOnceLoggingDenyMeterFilter;
@@ -28,6 +29,7 @@ import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -53,6 +55,8 @@ public class HttpClientMetricsAutoConfiguration {
 
 	@Bean
 	@Order(0)
+	@ConditionalOnProperty(prefix = "management.metrics.web.client", name = "max-uri-tags-policy", havingValue = "deny",
+			matchIfMissing = true)
 	public MeterFilter metricsHttpClientUriTagFilter(MetricsProperties properties) {
 		String metricName = properties.getWeb().getClient().getRequest().getMetricName();
 		MeterFilter denyFilter = new OnlyOnceLoggingDenyMeterFilter(() -> String
@@ -61,4 +65,17 @@ public class HttpClientMetricsAutoConfiguration {
 				denyFilter);
 	}
 
+	@Bean
+	@Order(0)
+	@ConditionalOnProperty(prefix = "management.metrics.web.client", name = "max-uri-tags-policy",
+			havingValue = "collapse")
+	public MaximumTagValuesMeterFilter metricsHttpClientUriTagCollapsingFilter(MetricsProperties properties) {
+		String metricName = properties.getWeb().getClient().getRequest().getMetricName();
+		return new MaximumTagValuesMeterFilter(metricName, "uri", properties.getWeb().getClient().getMaxUriTags(),
+				() -> String.format(
+						"Reached the maximum number of URI tags for '%s'. Additional URIs are tagged as '%s'. "
+								+ "Are you using 'uriVariables'?",
+						metricName, MaximumTagValuesMeterFilter.OVERFLOW_VALUE));
+	}
+
 }
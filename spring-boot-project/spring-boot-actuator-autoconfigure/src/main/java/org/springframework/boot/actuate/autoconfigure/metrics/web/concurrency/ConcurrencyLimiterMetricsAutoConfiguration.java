@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.web.concurrency;
+
+import java.util.Collections;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.metrics.web.concurrency.ConcurrencyLimiterMetrics;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.web.reactive.ConcurrencyLimitWebFilterAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ConcurrencyLimitFilterAutoConfiguration;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for metrics of an
+ * {@link AdaptiveConcurrencyLimiter}.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@AutoConfigureAfter({ CompositeMeterRegistryAutoConfiguration.class, ConcurrencyLimitFilterAutoConfiguration.class,
+		ConcurrencyLimitWebFilterAutoConfiguration.class })
+@ConditionalOnBean({ MeterRegistry.class, AdaptiveConcurrencyLimiter.class })
+public class ConcurrencyLimiterMetricsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public ConcurrencyLimiterMetrics concurrencyLimiterMetrics(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		return new ConcurrencyLimiterMetrics(concurrencyLimiter, Collections.emptyList());
+	}
+
+}
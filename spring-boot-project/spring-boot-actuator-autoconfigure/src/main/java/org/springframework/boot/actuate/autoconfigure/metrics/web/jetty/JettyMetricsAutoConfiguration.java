@@ -21,6 +21,7 @@ import io.micrometer.core.instrument.binder.jetty.JettyServerThreadPoolMetrics;
 import org.eclipse.jetty.server.Server;
 
 import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.metrics.web.jetty.JettyAccessLogMetricsBinder;
 import org.springframework.boot.actuate.metrics.web.jetty.JettyServerThreadPoolMetricsBinder;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -50,4 +51,11 @@ public class JettyMetricsAutoConfiguration {
 		return new JettyServerThreadPoolMetricsBinder(meterRegistry);
 	}
 
+	@Bean
+	@ConditionalOnBean(MeterRegistry.class)
+	@ConditionalOnMissingBean
+	public JettyAccessLogMetricsBinder jettyAccessLogMetricsBinder(MeterRegistry meterRegistry) {
+		return new JettyAccessLogMetricsBinder(meterRegistry);
+	}
+
 }
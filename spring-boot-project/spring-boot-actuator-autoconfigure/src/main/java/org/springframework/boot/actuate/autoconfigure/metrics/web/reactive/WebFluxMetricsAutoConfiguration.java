@@ -23,12 +23,14 @@ import io.micrometer.core.instrument.config.MeterFilter;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MaximumTagValuesMeterFilter;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties.Web.Server.ServerRequest;
 import org.springframework.boot.actuate.autoconfigure.metrics.OnlyOnceLoggingDenyMeterFilter;
 import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
 import org.springframework.boot.actuate.metrics.web.reactive.server.DefaultWebFluxTagsProvider;
+import org.springframework.boot.actuate.metrics.web.reactive.server.LongTaskTimingWebFilter;
 import org.springframework.boot.actuate.metrics.web.reactive.server.MetricsWebFilter;
 import org.springframework.boot.actuate.metrics.web.reactive.server.WebFluxTagsContributor;
 import org.springframework.boot.actuate.metrics.web.reactive.server.WebFluxTagsProvider;
@@ -36,10 +38,12 @@ import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.web.reactive.result.method.RequestMappingInfoHandlerMapping;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for instrumentation of Spring
@@ -75,8 +79,20 @@ public class WebFluxMetricsAutoConfiguration {
 		return new MetricsWebFilter(registry, tagConfigurer, request.getMetricName(), request.getAutotime());
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	public LongTaskTimingWebFilter webfluxLongTaskTimingMetrics(MeterRegistry registry,
+			WebFluxTagsProvider tagsProvider, ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings) {
+		return new LongTaskTimingWebFilter(registry, tagsProvider,
+				() -> handlerMappings.orderedStream()
+						.flatMap((handlerMapping) -> handlerMapping.getHandlerMethods().values().stream())
+						.collect(Collectors.toList()));
+	}
+
 	@Bean
 	@Order(0)
+	@ConditionalOnProperty(prefix = "management.metrics.web.server", name = "max-uri-tags-policy", havingValue = "deny",
+			matchIfMissing = true)
 	public MeterFilter metricsHttpServerUriTagFilter() {
 		String metricName = this.properties.getWeb().getServer().getRequest().getMetricName();
 		MeterFilter filter = new OnlyOnceLoggingDenyMeterFilter(
@@ -85,4 +101,16 @@ public class WebFluxMetricsAutoConfiguration {
 				filter);
 	}
 
+	@Bean
+	@Order(0)
+	@ConditionalOnProperty(prefix = "management.metrics.web.server", name = "max-uri-tags-policy",
+			havingValue = "collapse")
+	public MaximumTagValuesMeterFilter metricsHttpServerUriTagCollapsingFilter() {
+		String metricName = this.properties.getWeb().getServer().getRequest().getMetricName();
+		return new MaximumTagValuesMeterFilter(metricName, "uri", this.properties.getWeb().getServer().getMaxUriTags(),
+				() -> String.format(
+						"Reached the maximum number of URI tags for '%s'. Additional URIs are tagged as '%s'.",
+						metricName, MaximumTagValuesMeterFilter.OVERFLOW_VALUE));
+	}
+
 }
@@ -25,6 +25,7 @@ import io.micrometer.core.instrument.config.MeterFilter;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MaximumTagValuesMeterFilter;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties.Web.Server.ServerRequest;
@@ -40,6 +41,7 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
@@ -95,6 +97,8 @@ public class WebMvcMetricsAutoConfiguration {
 
 	@Bean
 	@Order(0)
+	@ConditionalOnProperty(prefix = "management.metrics.web.server", name = "max-uri-tags-policy", havingValue = "deny",
+			matchIfMissing = true)
 	public MeterFilter metricsHttpServerUriTagFilter() {
 		String metricName = this.properties.getWeb().getServer().getRequest().getMetricName();
 		MeterFilter filter = new OnlyOnceLoggingDenyMeterFilter(
@@ -103,6 +107,18 @@ public class WebMvcMetricsAutoConfiguration {
 				filter);
 	}
 
+	@Bean
+	@Order(0)
+	@ConditionalOnProperty(prefix = "management.metrics.web.server", name = "max-uri-tags-policy",
+			havingValue = "collapse")
+	public MaximumTagValuesMeterFilter metricsHttpServerUriTagCollapsingFilter() {
+		String metricName = this.properties.getWeb().getServer().getRequest().getMetricName();
+		return new MaximumTagValuesMeterFilter(metricName, "uri", this.properties.getWeb().getServer().getMaxUriTags(),
+				() -> String.format(
+						"Reached the maximum number of URI tags for '%s'. Additional URIs are tagged as '%s'.",
+						metricName, MaximumTagValuesMeterFilter.OVERFLOW_VALUE));
+	}
+
 	@Bean
 	public MetricsWebMvcConfigurer metricsWebMvcConfigurer(MeterRegistry meterRegistry,
 			WebMvcTagsProvider tagsProvider) {
@@ -21,6 +21,7 @@ import io.micrometer.core.instrument.binder.tomcat.TomcatMetrics;
 import org.apache.catalina.Manager;
 
 import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.metrics.web.tomcat.TomcatAccessLogMetricsBinder;
 import org.springframework.boot.actuate.metrics.web.tomcat.TomcatMetricsBinder;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -50,4 +51,11 @@ public class TomcatMetricsAutoConfiguration {
 		return new TomcatMetricsBinder(meterRegistry);
 	}
 
+	@Bean
+	@ConditionalOnBean(MeterRegistry.class)
+	@ConditionalOnMissingBean
+	public TomcatAccessLogMetricsBinder tomcatAccessLogMetricsBinder(MeterRegistry meterRegistry) {
+		return new TomcatAccessLogMetricsBinder(meterRegistry);
+	}
+
 }
@@ -72,6 +72,14 @@ class ConfigurationPropertiesReportEndpointAutoConfigurationTests {
 				.run(validateTestProperties("******", "******"));
 	}
 
+	@Test
+	void cacheDescriptorsCanBeConfiguredViaTheEnvironment() {
+		this.contextRunner.withPropertyValues("management.endpoint.configprops.cache-descriptors=true")
+				.withPropertyValues("management.endpoints.web.exposure.include=configprops")
+				.run((context) -> assertThat(context.getBean(ConfigurationPropertiesReportEndpoint.class))
+						.hasFieldOrPropertyWithValue("cacheDescriptors", true));
+	}
+
 	@Test
 	void runWhenNotExposedShouldNotHaveEndpointBean() {
 		this.contextRunner
@@ -47,6 +47,8 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.replacePattern;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -83,6 +85,21 @@ class EnvironmentEndpointDocumentationTests extends MockMvcEndpointDocumentation
 										.description("Origin of the property, if any.").optional())));
 	}
 
+	@Test
+	void filteredEnv() throws Exception {
+		this.mockMvc.perform(get("/actuator/env").param("prefix", "com.example")).andExpect(status().isOk())
+				.andDo(document("env/filtered",
+						preprocessResponse(replacePattern(
+								Pattern.compile(
+										"org/springframework/boot/actuate/autoconfigure/endpoint/web/documentation/"),
+								"")),
+						requestParameters(parameterWithName("prefix")
+								.description("Prefix that the names of the properties must start with.").optional(),
+								parameterWithName("pattern")
+										.description("Regular expression that the names of the properties must match.")
+										.optional())));
+	}
+
 	@Test
 	void singlePropertyFromEnv() throws Exception {
 		this.mockMvc.perform(get("/actuator/env/com.example.cache.max-size")).andExpect(status().isOk()).andDo(document(
@@ -191,6 +191,20 @@ class ThreadDumpEndpointDocumentationTests extends MockMvcEndpointDocumentationT
 						}))));
 	}
 
+	@Test
+	void threadSummary() throws Exception {
+		this.mockMvc.perform(get("/actuator/threaddump").param("summary", "true").accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andDo(MockMvcRestDocumentation.document("threaddump/summary", responseFields(
+						fieldWithPath("threadCount").description("Number of live threads."),
+						fieldWithPath("daemonThreadCount").description("Number of live daemon threads."),
+						fieldWithPath("peakThreadCount")
+								.description("Peak number of live threads since the JVM started."),
+						subsectionWithPath("states").description("Number of threads in each state."),
+						subsectionWithPath("pools").description(
+								"Number of threads in each pool, keyed by thread name without its numeric suffix."))));
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@Import(BaseDocumentationConfiguration.class)
 	static class TestConfiguration {
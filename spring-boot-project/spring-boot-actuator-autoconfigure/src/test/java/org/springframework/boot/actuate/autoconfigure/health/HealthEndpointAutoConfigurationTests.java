@@ -16,8 +16,10 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import java.time.Duration;
 import java.util.Collections;
 
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -25,6 +27,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.boot.actuate.endpoint.ApiVersion;
 import org.springframework.boot.actuate.endpoint.SecurityContext;
 import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.health.BackgroundHealthContributorRegistry;
 import org.springframework.boot.actuate.health.DefaultHealthContributorRegistry;
 import org.springframework.boot.actuate.health.DefaultReactiveHealthContributorRegistry;
 import org.springframework.boot.actuate.health.Health;
@@ -37,6 +40,7 @@ import org.springframework.boot.actuate.health.HealthEndpointWebExtension;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
 import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.boot.actuate.health.ParallelHealthIndicatorEvaluator;
 import org.springframework.boot.actuate.health.ReactiveHealthContributorRegistry;
 import org.springframework.boot.actuate.health.ReactiveHealthEndpointWebExtension;
 import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
@@ -176,6 +180,49 @@ class HealthEndpointAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	void runDoesNotCreateParallelHealthIndicatorEvaluatorByDefault() {
+		this.contextRunner.run((context) -> {
+			assertThat(context).doesNotHaveBean(ParallelHealthIndicatorEvaluator.class);
+			assertThat(context.getBean(HealthEndpoint.class)).hasFieldOrPropertyWithValue("evaluator", null);
+			assertThat(context.getBean(HealthEndpointWebExtension.class)).hasFieldOrPropertyWithValue("evaluator",
+					null);
+		});
+	}
+
+	@Test
+	void runWhenParallelIsEnabledCreatesParallelHealthIndicatorEvaluator() {
+		this.contextRunner.withPropertyValues("management.endpoint.health.parallel.enabled=true",
+				"management.endpoint.health.parallel.timeout=5s", "management.endpoint.health.show-details=always")
+				.run((context) -> {
+					ParallelHealthIndicatorEvaluator evaluator = context
+							.getBean(ParallelHealthIndicatorEvaluator.class);
+					assertThat(evaluator).hasFieldOrPropertyWithValue("timeout", 5000L);
+					HealthEndpoint endpoint = context.getBean(HealthEndpoint.class);
+					assertThat(endpoint).hasFieldOrPropertyWithValue("evaluator", evaluator);
+					assertThat(context.getBean(HealthEndpointWebExtension.class))
+							.hasFieldOrPropertyWithValue("evaluator", evaluator);
+					Health health = (Health) endpoint.healthForPath("simple");
+					assertThat(health.getDetails()).containsEntry("counter", 42);
+				});
+	}
+
+	@Test
+	void runWhenBackgroundIsEnabledCreatesBackgroundHealthContributorRegistry() {
+		this.contextRunner.withPropertyValues("management.endpoint.health.background.enabled=true",
+				"management.endpoint.health.show-details=always").run((context) -> {
+					HealthContributorRegistry registry = context.getBean(HealthContributorRegistry.class);
+					assertThat(registry).isInstanceOf(BackgroundHealthContributorRegistry.class);
+					assertThat(((BackgroundHealthContributorRegistry) registry).isRunning()).isTrue();
+					Object[] names = registry.stream().map(NamedContributor::getName).toArray();
+					assertThat(names).containsExactlyInAnyOrder("simple", "additional", "ping", "reactive");
+					HealthEndpoint endpoint = context.getBean(HealthEndpoint.class);
+					Awaitility.await().atMost(Duration.ofSeconds(30))
+							.untilAsserted(() -> assertThat(((Health) endpoint.healthForPath("simple")).getDetails())
+									.containsEntry("counter", 42).containsKey("checkedAt"));
+				});
+	}
+
 	@Test
 	void runWhenHasHealthEndpointBeanDoesNotCreateAdditionalHealthEndpoint() {
 		this.contextRunner.withUserConfiguration(HealthEndpointConfiguration.class).run((context) -> {
@@ -16,10 +16,13 @@
 
 package org.springframework.boot.actuate.autoconfigure.management;
 
+import java.util.concurrent.Semaphore;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.actuate.management.HeapDumpWebEndpoint;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -45,4 +48,20 @@ class HeapDumpWebEndpointAutoConfigurationTests {
 				.run((context) -> assertThat(context).doesNotHaveBean(HeapDumpWebEndpoint.class));
 	}
 
+	@Test
+	void runWhenTimeoutSetShouldConfigureEndpoint() {
+		this.contextRunner.withPropertyValues("management.endpoint.heapdump.timeout:30s")
+				.run((context) -> assertThat(context.getBean(HeapDumpWebEndpoint.class))
+						.hasFieldOrPropertyWithValue("timeout", 30000L));
+	}
+
+	@Test
+	void runWhenMaxPendingSetShouldLimitPendingHeapDumps() {
+		this.contextRunner.withPropertyValues("management.endpoint.heapdump.max-pending:2").run((context) -> {
+			HeapDumpWebEndpoint endpoint = context.getBean(HeapDumpWebEndpoint.class);
+			Semaphore pending = (Semaphore) ReflectionTestUtils.getField(endpoint, "pending");
+			assertThat(pending.availablePermits()).isEqualTo(2);
+		});
+	}
+
 }
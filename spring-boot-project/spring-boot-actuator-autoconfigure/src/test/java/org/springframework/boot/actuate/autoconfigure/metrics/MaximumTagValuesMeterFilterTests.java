@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MaximumTagValuesMeterFilter}.
+ *
+ * @author agent (agent@local)
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class MaximumTagValuesMeterFilterTests {
+
+	private final MaximumTagValuesMeterFilter filter = new MaximumTagValuesMeterFilter("http.server.requests", "uri", 2,
+			() -> "Too many URIs");
+
+	private final MeterRegistry registry = createRegistry(this.filter);
+
+	@Test
+	void valuesWithinMaximumAreUnchanged() {
+		this.registry.counter("http.server.requests", "uri", "/one").increment();
+		this.registry.counter("http.server.requests", "uri", "/two").increment();
+		this.registry.counter("http.server.requests", "uri", "/one").increment();
+		assertThat(this.registry.get("http.server.requests").counters()).hasSize(2);
+		assertThat(this.registry.get("http.server.requests").tag("uri", "/one").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void valuesBeyondMaximumAreCollapsed(CapturedOutput output) {
+		this.registry.counter("http.server.requests", "uri", "/one", "status", "200").increment();
+		this.registry.counter("http.server.requests", "uri", "/two", "status", "200").increment();
+		this.registry.counter("http.server.requests", "uri", "/three", "status", "200").increment();
+		this.registry.counter("http.server.requests", "uri", "/four", "status", "200").increment();
+		this.registry.counter("http.server.requests", "uri", "/one", "status", "200").increment();
+		assertThat(this.registry.get("http.server.requests").counters()).hasSize(3);
+		assertThat(this.registry.get("http.server.requests").tags("uri", "OVERFLOW", "status", "200").counter().count())
+				.isEqualTo(2);
+		assertThat(this.registry.get("http.server.requests").tag("uri", "/one").counter().count()).isEqualTo(2);
+		assertThat(output).containsOnlyOnce("Too many URIs");
+	}
+
+	@Test
+	void overflowGaugeReportsDistinctDroppedValues() {
+		for (int i = 0; i < 5; i++) {
+			this.registry.counter("http.server.requests", "uri", "/" + i).increment();
+			this.registry.counter("http.server.requests", "uri", "/" + i).increment();
+		}
+		assertThat(this.registry.get("http.server.requests.overflow").tag("tag", "uri").gauge().value()).isEqualTo(2);
+	}
+
+	@Test
+	void otherMetricsAreUnchanged() {
+		for (int i = 0; i < 5; i++) {
+			this.registry.counter("http.client.requests", "uri", "/" + i).increment();
+		}
+		assertThat(this.registry.get("http.client.requests").counters()).hasSize(5);
+	}
+
+	@Test
+	void metricsWithoutTagAreUnchanged() {
+		for (int i = 0; i < 5; i++) {
+			this.registry.counter("http.server.requests", "method", "M" + i).increment();
+		}
+		assertThat(this.registry.get("http.server.requests").counters()).hasSize(5);
+	}
+
+	private static MeterRegistry createRegistry(MaximumTagValuesMeterFilter filter) {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		registry.config().meterFilter(filter);
+		filter.bindTo(registry);
+		return registry;
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.endpoint;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
+import org.springframework.boot.actuate.endpoint.invoker.cache.CachingOperationInvokerAdvisor;
+import org.springframework.boot.actuate.endpoint.invoker.cache.CachingOperationInvokerListener;
+import org.springframework.boot.actuate.metrics.endpoint.MetricsCachingOperationInvokerListener;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link EndpointCacheMetricsAutoConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+class EndpointCacheMetricsAutoConfigurationTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner().withConfiguration(
+			AutoConfigurations.of(EndpointAutoConfiguration.class, EndpointCacheMetricsAutoConfiguration.class));
+
+	@Test
+	void backsOffWithoutMeterRegistry() {
+		this.contextRunner.run((context) -> {
+			assertThat(context).doesNotHaveBean(CachingOperationInvokerListener.class);
+			assertThat(context.getBean(CachingOperationInvokerAdvisor.class)).hasFieldOrPropertyWithValue("listener",
+					CachingOperationInvokerListener.NONE);
+		});
+	}
+
+	@Test
+	void autoConfiguresListener() {
+		this.contextRunner.with(MetricsRun.simple()).run((context) -> {
+			assertThat(context).hasSingleBean(MetricsCachingOperationInvokerListener.class);
+			assertThat(context.getBean(CachingOperationInvokerAdvisor.class)).hasFieldOrPropertyWithValue("listener",
+					context.getBean(MetricsCachingOperationInvokerListener.class));
+		});
+	}
+
+	@Test
+	void allowsCustomListenerToBeUsed() {
+		this.contextRunner.with(MetricsRun.simple()).withUserConfiguration(CustomListenerConfiguration.class)
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(MetricsCachingOperationInvokerListener.class);
+					assertThat(context.getBean(CachingOperationInvokerAdvisor.class))
+							.hasFieldOrPropertyWithValue("listener", context.getBean("customListener"));
+				});
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class CustomListenerConfiguration {
+
+		@Bean
+		CachingOperationInvokerListener customListener() {
+			return new CachingOperationInvokerListener() {
+			};
+		}
+
+	}
+
+}
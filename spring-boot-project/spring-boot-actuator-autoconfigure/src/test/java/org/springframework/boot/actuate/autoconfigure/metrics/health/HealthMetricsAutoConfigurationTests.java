@@ -0,0 +1,86 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.health;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.actuate.autoconfigure.health.HealthContributorAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
+import org.springframework.boot.actuate.health.HealthContributorListener;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.health.MetricsHealthContributorListener;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HealthMetricsAutoConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+class HealthMetricsAutoConfigurationTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(HealthContributorAutoConfiguration.class,
+					HealthEndpointAutoConfiguration.class, HealthMetricsAutoConfiguration.class));
+
+	@Test
+	void backsOffWithoutMeterRegistry() {
+		this.contextRunner.run((context) -> {
+			assertThat(context).doesNotHaveBean(HealthContributorListener.class);
+			assertThat(context.getBean(HealthEndpoint.class)).hasFieldOrPropertyWithValue("listener",
+					HealthContributorListener.NONE);
+		});
+	}
+
+	@Test
+	void autoConfiguresListener() {
+		this.contextRunner.with(MetricsRun.simple()).run((context) -> {
+			assertThat(context).hasSingleBean(MetricsHealthContributorListener.class);
+			context.getBean(HealthEndpoint.class).health();
+			assertThat(context.getBean(MeterRegistry.class).get("health.contributor")
+					.tags("name", "ping", "group", "none", "status", "UP").timer().count()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	void allowsCustomListenerToBeUsed() {
+		this.contextRunner.with(MetricsRun.simple()).withUserConfiguration(CustomListenerConfiguration.class)
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(MetricsHealthContributorListener.class);
+					assertThat(context.getBean(HealthEndpoint.class)).hasFieldOrPropertyWithValue("listener",
+							context.getBean("customListener"));
+				});
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class CustomListenerConfiguration {
+
+		@Bean
+		HealthContributorListener customListener() {
+			return (name, group, status, duration) -> {
+			};
+		}
+
+	}
+
+}
@@ -94,6 +94,21 @@ class RestTemplateMetricsConfigurationTests {
 		});
 	}
 
+	@Test
+	void afterMaxUrisReachedWithCollapsePolicyFurtherUrisAreCollapsed(CapturedOutput output) {
+		this.contextRunner.withPropertyValues("management.metrics.web.client.max-uri-tags=2",
+				"management.metrics.web.client.max-uri-tags-policy=collapse").run((context) -> {
+					MeterRegistry registry = getInitializedMeterRegistry(context);
+					assertThat(registry.get("http.client.requests").meters()).hasSize(3);
+					assertThat(registry.get("http.client.requests").tag("uri", "OVERFLOW").timer().count())
+							.isEqualTo(1);
+					assertThat(registry.get("http.client.requests.overflow").tag("tag", "uri").gauge().value())
+							.isEqualTo(1);
+					assertThat(output).contains("Reached the maximum number of URI tags for 'http.client.requests'.")
+							.contains("Additional URIs are tagged as 'OVERFLOW'.");
+				});
+	}
+
 	@Test
 	void shouldNotDenyNorLogIfMaxUrisIsNotReached(CapturedOutput output) {
 		this.contextRunner.withPropertyValues("management.metrics.web.client.max-uri-tags=5").run((context) -> {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.web.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
+import org.springframework.boot.actuate.metrics.web.concurrency.ConcurrencyLimiterMetrics;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.servlet.ConcurrencyLimitFilterAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConcurrencyLimiterMetricsAutoConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+class ConcurrencyLimiterMetricsAutoConfigurationTests {
+
+	private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+			.with(MetricsRun.simple()).withConfiguration(AutoConfigurations.of(
+					ConcurrencyLimiterMetricsAutoConfiguration.class, ConcurrencyLimitFilterAutoConfiguration.class));
+
+	@Test
+	void whenConcurrencyLimitIsNotEnabledMetricsAreNotAutoConfigured() {
+		this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean(ConcurrencyLimiterMetrics.class));
+	}
+
+	@Test
+	void whenConcurrencyLimitIsEnabledMetricsAreAutoConfigured() {
+		this.contextRunner
+				.withPropertyValues("server.concurrency-limit.enabled=true", "server.concurrency-limit.initial-limit=1")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(ConcurrencyLimiterMetrics.class);
+					AdaptiveConcurrencyLimiter limiter = context.getBean(AdaptiveConcurrencyLimiter.class);
+					limiter.tryAcquire();
+					limiter.tryAcquire();
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("http.server.concurrency.limit").gauge().value()).isEqualTo(1);
+					assertThat(registry.get("http.server.concurrency.active").gauge().value()).isEqualTo(1);
+					assertThat(registry.get("http.server.concurrency.rejected").functionCounter().count()).isEqualTo(1);
+				});
+	}
+
+	@Test
+	void allowsCustomConcurrencyLimiterMetricsToBeUsed() {
+		this.contextRunner.withPropertyValues("server.concurrency-limit.enabled=true")
+				.withBean("customConcurrencyLimiterMetrics", ConcurrencyLimiterMetrics.class,
+						() -> new ConcurrencyLimiterMetrics(new AdaptiveConcurrencyLimiter(1, 1, 1), null))
+				.run((context) -> assertThat(context).hasSingleBean(ConcurrencyLimiterMetrics.class)
+						.hasBean("customConcurrencyLimiterMetrics"));
+	}
+
+}
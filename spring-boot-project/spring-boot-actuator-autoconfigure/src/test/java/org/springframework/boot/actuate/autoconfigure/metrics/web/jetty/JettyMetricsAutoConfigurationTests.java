@@ -16,13 +16,18 @@
 
 package org.springframework.boot.actuate.autoconfigure.metrics.web.jetty;
 
+import java.io.File;
+
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.metrics.web.jetty.JettyAccessLogMetricsBinder;
 import org.springframework.boot.actuate.metrics.web.jetty.JettyServerThreadPoolMetricsBinder;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerFactoryAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
@@ -83,6 +88,47 @@ class JettyMetricsAutoConfigurationTests {
 						.hasBean("customJettyServerThreadPoolMetricsBinder"));
 	}
 
+	@Test
+	void autoConfiguresAccessLogMetricsWithAsyncAccessLog(@TempDir File temp) {
+		new WebApplicationContextRunner(AnnotationConfigServletWebServerApplicationContext::new)
+				.withConfiguration(AutoConfigurations.of(JettyMetricsAutoConfiguration.class,
+						EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+						ServletWebServerFactoryAutoConfiguration.class))
+				.withUserConfiguration(ServletWebServerConfiguration.class, MeterRegistryConfiguration.class)
+				.withPropertyValues("server.jetty.accesslog.enabled=true", "server.jetty.accesslog.async=true",
+						"server.jetty.accesslog.filename=" + new File(temp, "access.log").getAbsolutePath())
+				.run((context) -> {
+					context.publishEvent(new ApplicationStartedEvent(new SpringApplication(), null,
+							context.getSourceApplicationContext()));
+					assertThat(context).hasSingleBean(JettyAccessLogMetricsBinder.class);
+					SimpleMeterRegistry registry = context.getBean(SimpleMeterRegistry.class);
+					assertThat(registry.find("jetty.accesslog.entries.queued").gauge()).isNotNull();
+					assertThat(registry.find("jetty.accesslog.entries.discarded").functionCounter()).isNotNull();
+				});
+	}
+
+	@Test
+	void doesNotBindAccessLogMetricsWhenAccessLogIsNotAsync() {
+		new WebApplicationContextRunner(AnnotationConfigServletWebServerApplicationContext::new)
+				.withConfiguration(AutoConfigurations.of(JettyMetricsAutoConfiguration.class,
+						ServletWebServerFactoryAutoConfiguration.class))
+				.withUserConfiguration(ServletWebServerConfiguration.class, MeterRegistryConfiguration.class)
+				.run((context) -> {
+					context.publishEvent(new ApplicationStartedEvent(new SpringApplication(), null,
+							context.getSourceApplicationContext()));
+					SimpleMeterRegistry registry = context.getBean(SimpleMeterRegistry.class);
+					assertThat(registry.find("jetty.accesslog.entries.queued").meter()).isNull();
+				});
+	}
+
+	@Test
+	void allowsCustomJettyAccessLogMetricsBinderToBeUsed() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(JettyMetricsAutoConfiguration.class))
+				.withUserConfiguration(CustomJettyAccessLogMetricsBinder.class, MeterRegistryConfiguration.class)
+				.run((context) -> assertThat(context).hasSingleBean(JettyAccessLogMetricsBinder.class)
+						.hasBean("customJettyAccessLogMetricsBinder"));
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	static class MeterRegistryConfiguration {
 
@@ -128,4 +174,14 @@ class JettyMetricsAutoConfigurationTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	static class CustomJettyAccessLogMetricsBinder {
+
+		@Bean
+		JettyAccessLogMetricsBinder customJettyAccessLogMetricsBinder(MeterRegistry meterRegistry) {
+			return new JettyAccessLogMetricsBinder(meterRegistry);
+		}
+
+	}
+
 }
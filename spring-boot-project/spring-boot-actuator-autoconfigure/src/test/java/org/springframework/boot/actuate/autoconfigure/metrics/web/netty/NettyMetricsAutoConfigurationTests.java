@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.web.netty;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.undertow.Undertow;
+import org.apache.catalina.startup.Tomcat;
+import org.eclipse.jetty.server.Server;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.metrics.web.netty.NettyEventLoopMetricsBinder;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerFactoryAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.HttpHandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link NettyMetricsAutoConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+class NettyMetricsAutoConfigurationTests {
+
+	@Test
+	void autoConfiguresEventLoopMetricsWithEmbeddedNetty() {
+		new ReactiveWebApplicationContextRunner(AnnotationConfigReactiveWebServerApplicationContext::new)
+				.withConfiguration(AutoConfigurations.of(NettyMetricsAutoConfiguration.class,
+						ReactiveWebServerFactoryAutoConfiguration.class))
+				.withClassLoader(new FilteredClassLoader(Tomcat.class, Server.class, Undertow.class))
+				.withUserConfiguration(HttpHandlerConfiguration.class, MeterRegistryConfiguration.class)
+				.withPropertyValues("server.port=0", "server.netty.threads.io=2").run((context) -> {
+					context.publishEvent(new ApplicationStartedEvent(new SpringApplication(), null,
+							context.getSourceApplicationContext()));
+					assertThat(context).hasSingleBean(NettyEventLoopMetricsBinder.class);
+					SimpleMeterRegistry registry = context.getBean(SimpleMeterRegistry.class);
+					assertThat(registry.find("netty.eventloop.pending.tasks").gauges()).hasSize(2);
+				});
+	}
+
+	@Test
+	void doesNotAutoConfigureEventLoopMetricsInServletApplication() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(NettyMetricsAutoConfiguration.class))
+				.withUserConfiguration(MeterRegistryConfiguration.class)
+				.run((context) -> assertThat(context).doesNotHaveBean(NettyEventLoopMetricsBinder.class));
+	}
+
+	@Test
+	void allowsCustomNettyEventLoopMetricsBinderToBeUsed() {
+		new ReactiveWebApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(NettyMetricsAutoConfiguration.class))
+				.withUserConfiguration(CustomNettyEventLoopMetricsBinder.class, MeterRegistryConfiguration.class)
+				.run((context) -> assertThat(context).hasSingleBean(NettyEventLoopMetricsBinder.class)
+						.hasBean("customNettyEventLoopMetricsBinder"));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class MeterRegistryConfiguration {
+
+		@Bean
+		SimpleMeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class HttpHandlerConfiguration {
+
+		@Bean
+		HttpHandler httpHandler() {
+			return mock(HttpHandler.class);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class CustomNettyEventLoopMetricsBinder {
+
+		@Bean
+		NettyEventLoopMetricsBinder customNettyEventLoopMetricsBinder(MeterRegistry meterRegistry) {
+			return new NettyEventLoopMetricsBinder(meterRegistry);
+		}
+
+	}
+
+}
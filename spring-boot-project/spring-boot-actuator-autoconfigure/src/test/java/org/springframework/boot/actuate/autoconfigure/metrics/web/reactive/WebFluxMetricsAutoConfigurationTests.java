@@ -23,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
 import org.springframework.boot.actuate.autoconfigure.metrics.web.TestController;
 import org.springframework.boot.actuate.metrics.web.reactive.server.DefaultWebFluxTagsProvider;
+import org.springframework.boot.actuate.metrics.web.reactive.server.LongTaskTimingWebFilter;
 import org.springframework.boot.actuate.metrics.web.reactive.server.MetricsWebFilter;
 import org.springframework.boot.actuate.metrics.web.reactive.server.WebFluxTagsContributor;
 import org.springframework.boot.actuate.metrics.web.reactive.server.WebFluxTagsProvider;
@@ -56,6 +57,7 @@ class WebFluxMetricsAutoConfigurationTests {
 	void shouldProvideWebFluxMetricsBeans() {
 		this.contextRunner.run((context) -> {
 			assertThat(context).getBeans(MetricsWebFilter.class).hasSize(1);
+			assertThat(context).hasSingleBean(LongTaskTimingWebFilter.class);
 			assertThat(context).getBeans(DefaultWebFluxTagsProvider.class).hasSize(1);
 			assertThat(context.getBean(DefaultWebFluxTagsProvider.class)).extracting("ignoreTrailingSlash")
 					.isEqualTo(true);
@@ -79,6 +81,13 @@ class WebFluxMetricsAutoConfigurationTests {
 						.containsKey("customWebFluxTagsProvider"));
 	}
 
+	@Test
+	void shouldNotOverrideCustomLongTaskTimingWebFilter() {
+		this.contextRunner.withUserConfiguration(CustomLongTaskTimingWebFilterConfig.class)
+				.run((context) -> assertThat(context).getBeans(LongTaskTimingWebFilter.class).hasSize(1)
+						.containsKey("customLongTaskTimingWebFilter"));
+	}
+
 	@Test
 	void afterMaxUrisReachedFurtherUrisAreDenied(CapturedOutput output) {
 		this.contextRunner.withConfiguration(AutoConfigurations.of(WebFluxAutoConfiguration.class))
@@ -139,6 +148,16 @@ class WebFluxMetricsAutoConfigurationTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	static class CustomLongTaskTimingWebFilterConfig {
+
+		@Bean
+		LongTaskTimingWebFilter customLongTaskTimingWebFilter() {
+			return mock(LongTaskTimingWebFilter.class);
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	static class TagsContributorsConfiguration {
 
@@ -132,6 +132,24 @@ class WebMvcMetricsAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	void afterMaxUrisReachedWithCollapsePolicyFurtherUrisAreCollapsed(CapturedOutput output) {
+		this.contextRunner.withUserConfiguration(TestController.class)
+				.withConfiguration(AutoConfigurations.of(MetricsAutoConfiguration.class, WebMvcAutoConfiguration.class))
+				.withPropertyValues("management.metrics.web.server.max-uri-tags=2",
+						"management.metrics.web.server.max-uri-tags-policy=collapse")
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean("metricsHttpServerUriTagFilter");
+					MeterRegistry registry = getInitializedMeterRegistry(context);
+					assertThat(registry.get("http.server.requests").meters()).hasSize(3);
+					assertThat(registry.get("http.server.requests").tag("uri", "OVERFLOW").timer().count())
+							.isEqualTo(1);
+					assertThat(registry.get("http.server.requests.overflow").tag("tag", "uri").gauge().value())
+							.isEqualTo(1);
+					assertThat(output).contains("Reached the maximum number of URI tags for 'http.server.requests'");
+				});
+	}
+
 	@Test
 	void shouldNotDenyNorLogIfMaxUrisIsNotReached(CapturedOutput output) {
 		this.contextRunner.withUserConfiguration(TestController.class)
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.autoconfigure.metrics.web.tomcat;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -24,10 +25,13 @@ import io.micrometer.core.instrument.binder.tomcat.TomcatMetrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.tomcat.util.modeler.Registry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.metrics.web.tomcat.TomcatAccessLogMetricsBinder;
 import org.springframework.boot.actuate.metrics.web.tomcat.TomcatMetricsBinder;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerFactoryAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
@@ -109,6 +113,49 @@ class TomcatMetricsAutoConfigurationTests {
 						.hasBean("customTomcatMetrics"));
 	}
 
+	@Test
+	void autoConfiguresAccessLogMetricsWithAsyncAccessLog(@TempDir File temp) {
+		resetTomcatState();
+		new WebApplicationContextRunner(AnnotationConfigServletWebServerApplicationContext::new)
+				.withConfiguration(AutoConfigurations.of(TomcatMetricsAutoConfiguration.class,
+						EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+						ServletWebServerFactoryAutoConfiguration.class))
+				.withUserConfiguration(ServletWebServerConfiguration.class, MeterRegistryConfiguration.class)
+				.withPropertyValues("server.tomcat.accesslog.enabled=true", "server.tomcat.accesslog.async=true",
+						"server.tomcat.accesslog.directory=" + temp.getAbsolutePath())
+				.run((context) -> {
+					context.publishEvent(new ApplicationStartedEvent(new SpringApplication(), null,
+							context.getSourceApplicationContext()));
+					assertThat(context).hasSingleBean(TomcatAccessLogMetricsBinder.class);
+					SimpleMeterRegistry registry = context.getBean(SimpleMeterRegistry.class);
+					assertThat(registry.find("tomcat.accesslog.entries.queued").gauge()).isNotNull();
+					assertThat(registry.find("tomcat.accesslog.entries.discarded").functionCounter()).isNotNull();
+				});
+	}
+
+	@Test
+	void doesNotBindAccessLogMetricsWhenAccessLogIsNotAsync() {
+		resetTomcatState();
+		new WebApplicationContextRunner(AnnotationConfigServletWebServerApplicationContext::new)
+				.withConfiguration(AutoConfigurations.of(TomcatMetricsAutoConfiguration.class,
+						ServletWebServerFactoryAutoConfiguration.class))
+				.withUserConfiguration(ServletWebServerConfiguration.class, MeterRegistryConfiguration.class)
+				.run((context) -> {
+					context.publishEvent(new ApplicationStartedEvent(new SpringApplication(), null,
+							context.getSourceApplicationContext()));
+					SimpleMeterRegistry registry = context.getBean(SimpleMeterRegistry.class);
+					assertThat(registry.find("tomcat.accesslog.entries.queued").meter()).isNull();
+				});
+	}
+
+	@Test
+	void allowsCustomTomcatAccessLogMetricsBinderToBeUsed() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(TomcatMetricsAutoConfiguration.class))
+				.withUserConfiguration(MeterRegistryConfiguration.class, CustomTomcatAccessLogMetricsBinder.class)
+				.run((context) -> assertThat(context).hasSingleBean(TomcatAccessLogMetricsBinder.class)
+						.hasBean("customTomcatAccessLogMetricsBinder"));
+	}
+
 	private void resetTomcatState() {
 		ReflectionTestUtils.setField(Registry.class, "registry", null);
 		AtomicInteger containerCounter = (AtomicInteger) ReflectionTestUtils.getField(TomcatWebServer.class,
@@ -171,4 +218,14 @@ class TomcatMetricsAutoConfigurationTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	static class CustomTomcatAccessLogMetricsBinder {
+
+		@Bean
+		TomcatAccessLogMetricsBinder customTomcatAccessLogMetricsBinder(MeterRegistry meterRegistry) {
+			return new TomcatAccessLogMetricsBinder(meterRegistry);
+		}
+
+	}
+
 }
@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -74,6 +75,7 @@ import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
@@ -106,6 +108,10 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 
 	private ObjectMapper objectMapper;
 
+	private final Map<ApplicationContext, DescriptorCache> descriptorCaches = new ConcurrentReferenceHashMap<>();
+
+	private volatile boolean cacheDescriptors;
+
 	@Override
 	public void setApplicationContext(ApplicationContext context) throws BeansException {
 		this.context = context;
@@ -113,10 +119,25 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 
 	public void setKeysToSanitize(String... keysToSanitize) {
 		this.sanitizer.setKeysToSanitize(keysToSanitize);
+		this.descriptorCaches.clear();
 	}
 
 	public void keysToSanitize(String... keysToSanitize) {
 		this.sanitizer.keysToSanitize(keysToSanitize);
+		this.descriptorCaches.clear();
+	}
+
+	/**
+	 * Set whether the description of each
+	 * {@link ConfigurationProperties @ConfigurationProperties} bean should be cached
+	 * until the bean is replaced or configuration properties are rebound. When enabled,
+	 * changes made to a bean other than by binding are not reported.
+	 * @param cacheDescriptors whether descriptors should be cached
+	 * @since 2.5.0
+	 */
+	public void setCacheDescriptors(boolean cacheDescriptors) {
+		this.cacheDescriptors = cacheDescriptors;
+		this.descriptorCaches.clear();
 	}
 
 	@ReadOperation
@@ -185,18 +206,52 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 	private ContextConfigurationProperties describeBeans(ObjectMapper mapper, ApplicationContext context,
 			Predicate<ConfigurationPropertiesBean> beanFilterPredicate) {
 		Map<String, ConfigurationPropertiesBean> beans = ConfigurationPropertiesBean.getAll(context);
+		BoundConfigurationProperties bound = BoundConfigurationProperties.get(this.context);
+		Map<String, CachedDescriptor> cache = (this.cacheDescriptors) ? getDescriptorCache(context, bound) : null;
 		Map<String, ConfigurationPropertiesBeanDescriptor> descriptors = beans.values().stream()
-				.filter(beanFilterPredicate)
-				.collect(Collectors.toMap(ConfigurationPropertiesBean::getName, (bean) -> describeBean(mapper, bean)));
+				.filter(beanFilterPredicate).collect(Collectors.toMap(ConfigurationPropertiesBean::getName,
+						(bean) -> describeBean(mapper, bean, bound, cache)));
 		return new ContextConfigurationProperties(descriptors,
 				(context.getParent() != null) ? context.getParent().getId() : null);
 	}
 
-	private ConfigurationPropertiesBeanDescriptor describeBean(ObjectMapper mapper, ConfigurationPropertiesBean bean) {
+	private Map<String, CachedDescriptor> getDescriptorCache(ApplicationContext context,
+			BoundConfigurationProperties bound) {
+		long modificationCount = getModificationCount(bound);
+		if (context != this.context) {
+			modificationCount += getModificationCount(BoundConfigurationProperties.get(context));
+		}
+		long expectedModificationCount = modificationCount;
+		DescriptorCache descriptorCache = this.descriptorCaches.compute(context,
+				(key, existing) -> (existing != null && existing.modificationCount == expectedModificationCount)
+						? existing : new DescriptorCache(expectedModificationCount));
+		return descriptorCache.descriptors;
+	}
+
+	private long getModificationCount(BoundConfigurationProperties bound) {
+		return (bound != null) ? bound.getModificationCount() : 0;
+	}
+
+	private ConfigurationPropertiesBeanDescriptor describeBean(ObjectMapper mapper, ConfigurationPropertiesBean bean,
+			BoundConfigurationProperties bound, Map<String, CachedDescriptor> cache) {
+		if (cache == null) {
+			return describeBean(mapper, bean, bound);
+		}
+		CachedDescriptor cached = cache.get(bean.getName());
+		if (cached != null && cached.instance == bean.getInstance()) {
+			return cached.descriptor;
+		}
+		ConfigurationPropertiesBeanDescriptor descriptor = describeBean(mapper, bean, bound);
+		cache.put(bean.getName(), new CachedDescriptor(bean.getInstance(), descriptor));
+		return descriptor;
+	}
+
+	private ConfigurationPropertiesBeanDescriptor describeBean(ObjectMapper mapper, ConfigurationPropertiesBean bean,
+			BoundConfigurationProperties bound) {
 		String prefix = bean.getAnnotation().prefix();
 		Map<String, Object> serialized = safeSerialize(mapper, bean.getInstance(), prefix);
 		Map<String, Object> properties = sanitize(prefix, serialized);
-		Map<String, Object> inputs = getInputs(prefix, serialized);
+		Map<String, Object> inputs = getInputs(bound, prefix, serialized);
 		return new ConfigurationPropertiesBeanDescriptor(prefix, properties, inputs);
 	}
 
@@ -262,44 +317,43 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 	}
 
 	@SuppressWarnings("unchecked")
-	private Map<String, Object> getInputs(String prefix, Map<String, Object> map) {
+	private Map<String, Object> getInputs(BoundConfigurationProperties bound, String prefix, Map<String, Object> map) {
 		Map<String, Object> augmented = new LinkedHashMap<>(map);
 		map.forEach((key, value) -> {
 			String qualifiedKey = getQualifiedKey(prefix, key);
 			if (value instanceof Map) {
-				augmented.put(key, getInputs(qualifiedKey, (Map<String, Object>) value));
+				augmented.put(key, getInputs(bound, qualifiedKey, (Map<String, Object>) value));
 			}
 			else if (value instanceof List) {
-				augmented.put(key, getInputs(qualifiedKey, (List<Object>) value));
+				augmented.put(key, getInputs(bound, qualifiedKey, (List<Object>) value));
 			}
 			else {
-				augmented.put(key, applyInput(qualifiedKey));
+				augmented.put(key, applyInput(bound, qualifiedKey));
 			}
 		});
 		return augmented;
 	}
 
 	@SuppressWarnings("unchecked")
-	private List<Object> getInputs(String prefix, List<Object> list) {
+	private List<Object> getInputs(BoundConfigurationProperties bound, String prefix, List<Object> list) {
 		List<Object> augmented = new ArrayList<>();
 		int index = 0;
 		for (Object item : list) {
 			String name = prefix + "[" + index++ + "]";
 			if (item instanceof Map) {
-				augmented.add(getInputs(name, (Map<String, Object>) item));
+				augmented.add(getInputs(bound, name, (Map<String, Object>) item));
 			}
 			else if (item instanceof List) {
-				augmented.add(getInputs(name, (List<Object>) item));
+				augmented.add(getInputs(bound, name, (List<Object>) item));
 			}
 			else {
-				augmented.add(applyInput(name));
+				augmented.add(applyInput(bound, name));
 			}
 		}
 		return augmented;
 	}
 
-	private Map<String, Object> applyInput(String qualifiedKey) {
-		BoundConfigurationProperties bound = BoundConfigurationProperties.get(this.context);
+	private Map<String, Object> applyInput(BoundConfigurationProperties bound, String qualifiedKey) {
 		if (bound == null) {
 			return Collections.emptyMap();
 		}
@@ -588,4 +642,37 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 
 	}
 
+	/**
+	 * Cache of the {@link ConfigurationPropertiesBeanDescriptor descriptors} of a single
+	 * context, valid for as long as the bound properties are not modified.
+	 */
+	private static final class DescriptorCache {
+
+		private final long modificationCount;
+
+		private final Map<String, CachedDescriptor> descriptors = new ConcurrentHashMap<>();
+
+		DescriptorCache(long modificationCount) {
+			this.modificationCount = modificationCount;
+		}
+
+	}
+
+	/**
+	 * A cached {@link ConfigurationPropertiesBeanDescriptor} and the bean instance that
+	 * it describes.
+	 */
+	private static final class CachedDescriptor {
+
+		private final Object instance;
+
+		private final ConfigurationPropertiesBeanDescriptor descriptor;
+
+		CachedDescriptor(Object instance, ConfigurationPropertiesBeanDescriptor descriptor) {
+			this.instance = instance;
+			this.descriptor = descriptor;
+		}
+
+	}
+
 }
@@ -18,17 +18,24 @@ package org.springframework.boot.actuate.endpoint;
 
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
  * Strategy that should be used by endpoint implementations to sanitize potentially
  * sensitive keys.
+ * <p>
+ * Keys that are simple strings, and regular expressions of the form {@code .*value.*},
+ * are matched without using regular expressions. The outcome of matching is cached per
+ * key so that repeatedly sanitizing the same keys is cheap.
  *
  * @author Christian Dupuis
  * @author Toshiaki Maki
@@ -52,7 +59,13 @@ public class Sanitizer {
 
 	private static final Pattern URI_USERINFO_PATTERN = Pattern.compile("\\[?[A-Za-z]+://.+:(.*)@.+$");
 
-	private Pattern[] keysToSanitize;
+	private static final String NON_LITERAL_CHARACTERS = "\\[]{}()?|*+^$";
+
+	private static final SanitizableKey NO_MATCH = new SanitizableKey((key) -> false);
+
+	private SanitizableKey[] keysToSanitize;
+
+	private final Map<String, SanitizableKey> matches = new ConcurrentReferenceHashMap<>();
 
 	static {
 		DEFAULT_KEYS_TO_SANITIZE.addAll(URI_USERINFO_KEYS);
@@ -73,10 +86,11 @@ public class Sanitizer {
 	 */
 	public void setKeysToSanitize(String... keysToSanitize) {
 		Assert.notNull(keysToSanitize, "KeysToSanitize must not be null");
-		this.keysToSanitize = new Pattern[keysToSanitize.length];
+		this.keysToSanitize = new SanitizableKey[keysToSanitize.length];
 		for (int i = 0; i < keysToSanitize.length; i++) {
-			this.keysToSanitize[i] = getPattern(keysToSanitize[i]);
+			this.keysToSanitize[i] = getSanitizableKey(keysToSanitize[i]);
 		}
+		this.matches.clear();
 	}
 
 	/**
@@ -90,15 +104,44 @@ public class Sanitizer {
 		int existingKeys = this.keysToSanitize.length;
 		this.keysToSanitize = Arrays.copyOf(this.keysToSanitize, this.keysToSanitize.length + keysToSanitize.length);
 		for (int i = 0; i < keysToSanitize.length; i++) {
-			this.keysToSanitize[i + existingKeys] = getPattern(keysToSanitize[i]);
+			this.keysToSanitize[i + existingKeys] = getSanitizableKey(keysToSanitize[i]);
 		}
+		this.matches.clear();
 	}
 
-	private Pattern getPattern(String value) {
-		if (isRegex(value)) {
-			return Pattern.compile(value, Pattern.CASE_INSENSITIVE);
+	private SanitizableKey getSanitizableKey(String value) {
+		if (!isRegex(value)) {
+			if (isLiteral(value)) {
+				return new SanitizableKey((key) -> endsWith(key, value));
+			}
+			return new SanitizableKey(getPredicate(Pattern.compile(".*" + value + "$", Pattern.CASE_INSENSITIVE)));
 		}
-		return Pattern.compile(".*" + value + "$", Pattern.CASE_INSENSITIVE);
+		if (value.length() > 4 && value.startsWith(".*") && value.endsWith(".*")) {
+			String contained = value.substring(2, value.length() - 2);
+			if (isLiteral(contained)) {
+				return new SanitizableKey((key) -> contains(key, contained));
+			}
+		}
+		return new SanitizableKey(getPredicate(Pattern.compile(value, Pattern.CASE_INSENSITIVE)));
+	}
+
+	private Predicate<String> getPredicate(Pattern pattern) {
+		return (key) -> pattern.matcher(key).matches();
+	}
+
+	/**
+	 * Return whether the given value only contains characters that a regular expression
+	 * matches literally, with the exception of {@code '.'} that matches any character.
+	 * @param value the value to check
+	 * @return {@code true} if the value can be matched without a regular expression
+	 */
+	private boolean isLiteral(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (NON_LITERAL_CHARACTERS.indexOf(value.charAt(i)) != -1) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	private boolean isRegex(String value) {
@@ -120,24 +163,32 @@ public class Sanitizer {
 		if (value == null) {
 			return null;
 		}
-		for (Pattern pattern : this.keysToSanitize) {
-			if (pattern.matcher(key).matches()) {
-				if (keyIsUriWithUserInfo(pattern)) {
-					return sanitizeUris(value.toString());
-				}
-				return "******";
-			}
+		SanitizableKey match = getMatch(key);
+		if (match == NO_MATCH) {
+			return value;
 		}
-		return value;
+		if (match.isUriWithUserInfo()) {
+			return sanitizeUris(value.toString());
+		}
+		return "******";
 	}
 
-	private boolean keyIsUriWithUserInfo(Pattern pattern) {
-		for (String uriKey : URI_USERINFO_KEYS) {
-			if (pattern.matcher(uriKey).matches()) {
-				return true;
+	private SanitizableKey getMatch(String key) {
+		SanitizableKey match = this.matches.get(key);
+		if (match == null) {
+			match = findMatch(key);
+			this.matches.put(key, match);
+		}
+		return match;
+	}
+
+	private SanitizableKey findMatch(String key) {
+		for (SanitizableKey keyToSanitize : this.keysToSanitize) {
+			if (keyToSanitize.matches(key)) {
+				return keyToSanitize;
 			}
 		}
-		return false;
+		return NO_MATCH;
 	}
 
 	private Object sanitizeUris(String value) {
@@ -153,4 +204,59 @@ public class Sanitizer {
 		return value;
 	}
 
+	private static boolean endsWith(String key, String suffix) {
+		int offset = key.length() - suffix.length();
+		return offset >= 0 && regionMatches(key, offset, suffix);
+	}
+
+	private static boolean contains(String key, String contained) {
+		for (int offset = 0; offset <= key.length() - contained.length(); offset++) {
+			if (regionMatches(key, offset, contained)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean regionMatches(String key, int offset, String literal) {
+		for (int i = 0; i < literal.length(); i++) {
+			char expected = literal.charAt(i);
+			char actual = key.charAt(offset + i);
+			if (expected != '.' && expected != actual && !equalsIgnoringAsciiCase(expected, actual)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean equalsIgnoringAsciiCase(char c1, char c2) {
+		// Pattern.CASE_INSENSITIVE only ignores the case of US-ASCII characters
+		return c1 < 128 && c2 < 128 && Character.toLowerCase(c1) == Character.toLowerCase(c2);
+	}
+
+	/**
+	 * A key to sanitize and whether it also matches keys whose values are URIs that may
+	 * contain user info.
+	 */
+	private static final class SanitizableKey {
+
+		private final Predicate<String> matcher;
+
+		private final boolean uriWithUserInfo;
+
+		SanitizableKey(Predicate<String> matcher) {
+			this.matcher = matcher;
+			this.uriWithUserInfo = URI_USERINFO_KEYS.stream().anyMatch(matcher);
+		}
+
+		boolean matches(String key) {
+			return this.matcher.test(key);
+		}
+
+		boolean isUriWithUserInfo() {
+			return this.uriWithUserInfo;
+		}
+
+	}
+
 }
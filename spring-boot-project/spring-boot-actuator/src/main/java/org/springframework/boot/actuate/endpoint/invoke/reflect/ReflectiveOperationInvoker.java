@@ -16,9 +16,14 @@
 
 package org.springframework.boot.actuate.endpoint.invoke.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.boot.actuate.endpoint.InvocationContext;
 import org.springframework.boot.actuate.endpoint.invoke.MissingParametersException;
@@ -30,7 +35,9 @@ import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
 /**
- * An {@code OperationInvoker} that invokes an operation using reflection.
+ * An {@code OperationInvoker} that invokes an operation using reflection. The operation
+ * method is bound once to a {@link MethodHandle} and the details of its parameters are
+ * computed up-front so that each invocation only has to resolve argument values.
  *
  * @author Andy Wilkinson
  * @author Stephane Nicoll
@@ -39,12 +46,18 @@ import org.springframework.util.ReflectionUtils;
  */
 public class ReflectiveOperationInvoker implements OperationInvoker {
 
+	private static final Object[] NO_ARGUMENTS = {};
+
 	private final Object target;
 
 	private final OperationMethod operationMethod;
 
 	private final ParameterValueMapper parameterValueMapper;
 
+	private final BoundParameter[] parameters;
+
+	private final MethodHandle methodHandle;
+
 	/**
 	 * Creates a new {@code ReflectiveOperationInvoker} that will invoke the given
 	 * {@code method} on the given {@code target}. The given {@code parameterMapper} will
@@ -63,47 +76,89 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 		this.target = target;
 		this.operationMethod = operationMethod;
 		this.parameterValueMapper = parameterValueMapper;
+		this.parameters = bindParameters(operationMethod);
+		this.methodHandle = bindMethodHandle(target, operationMethod.getMethod());
+	}
+
+	private static BoundParameter[] bindParameters(OperationMethod operationMethod) {
+		BoundParameter[] parameters = new BoundParameter[operationMethod.getParameters().getParameterCount()];
+		int index = 0;
+		for (OperationParameter parameter : operationMethod.getParameters()) {
+			parameters[index++] = new BoundParameter(parameter);
+		}
+		return parameters;
+	}
+
+	private static MethodHandle bindMethodHandle(Object target, Method method) {
+		try {
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+			if (!Modifier.isStatic(method.getModifiers())) {
+				methodHandle = methodHandle.bindTo(target);
+			}
+			return methodHandle.asType(MethodType.genericMethodType(method.getParameterCount()));
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			// Fall back to reflective invocation
+			return null;
+		}
 	}
 
 	@Override
 	public Object invoke(InvocationContext context) {
 		validateRequiredParameters(context);
-		Method method = this.operationMethod.getMethod();
 		Object[] resolvedArguments = resolveArguments(context);
-		ReflectionUtils.makeAccessible(method);
-		return ReflectionUtils.invokeMethod(method, this.target, resolvedArguments);
+		if (this.methodHandle == null) {
+			return ReflectionUtils.invokeMethod(this.operationMethod.getMethod(), this.target, resolvedArguments);
+		}
+		try {
+			return invokeMethodHandle(resolvedArguments);
+		}
+		catch (RuntimeException | Error ex) {
+			throw ex;
+		}
+		catch (Throwable ex) {
+			ReflectionUtils.rethrowRuntimeException(ex);
+			return null;
+		}
 	}
 
-	private void validateRequiredParameters(InvocationContext context) {
-		Set<OperationParameter> missing = this.operationMethod.getParameters().stream()
-				.filter((parameter) -> isMissing(context, parameter)).collect(Collectors.toSet());
-		if (!missing.isEmpty()) {
-			throw new MissingParametersException(missing);
+	private Object invokeMethodHandle(Object[] arguments) throws Throwable {
+		switch (arguments.length) {
+		case 0:
+			return this.methodHandle.invokeExact();
+		case 1:
+			return this.methodHandle.invokeExact(arguments[0]);
+		case 2:
+			return this.methodHandle.invokeExact(arguments[0], arguments[1]);
+		case 3:
+			return this.methodHandle.invokeExact(arguments[0], arguments[1], arguments[2]);
+		default:
+			return this.methodHandle.invokeWithArguments(arguments);
 		}
 	}
 
-	private boolean isMissing(InvocationContext context, OperationParameter parameter) {
-		if (!parameter.isMandatory()) {
-			return false;
+	private void validateRequiredParameters(InvocationContext context) {
+		Set<OperationParameter> missing = null;
+		for (BoundParameter parameter : this.parameters) {
+			if (parameter.isMissing(context)) {
+				missing = (missing != null) ? missing : new LinkedHashSet<>();
+				missing.add(parameter.getParameter());
+			}
 		}
-		if (context.canResolve(parameter.getType())) {
-			return false;
+		if (missing != null) {
+			throw new MissingParametersException(missing);
 		}
-		return context.getArguments().get(parameter.getName()) == null;
 	}
 
 	private Object[] resolveArguments(InvocationContext context) {
-		return this.operationMethod.getParameters().stream().map((parameter) -> resolveArgument(parameter, context))
-				.toArray();
-	}
-
-	private Object resolveArgument(OperationParameter parameter, InvocationContext context) {
-		Object resolvedByType = context.resolveArgument(parameter.getType());
-		if (resolvedByType != null) {
-			return resolvedByType;
+		if (this.parameters.length == 0) {
+			return NO_ARGUMENTS;
+		}
+		Object[] resolvedArguments = new Object[this.parameters.length];
+		for (int i = 0; i < this.parameters.length; i++) {
+			resolvedArguments[i] = this.parameters[i].resolve(context, this.parameterValueMapper);
 		}
-		Object value = context.getArguments().get(parameter.getName());
-		return this.parameterValueMapper.mapParameterValue(parameter, value);
+		return resolvedArguments;
 	}
 
 	@Override
@@ -112,4 +167,46 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 				.toString();
 	}
 
+	/**
+	 * An {@link OperationParameter} with its name, type and mandatory flag computed once.
+	 */
+	private static final class BoundParameter {
+
+		private final OperationParameter parameter;
+
+		private final String name;
+
+		private final Class<?> type;
+
+		private final boolean mandatory;
+
+		BoundParameter(OperationParameter parameter) {
+			this.parameter = parameter;
+			this.name = parameter.getName();
+			this.type = parameter.getType();
+			this.mandatory = parameter.isMandatory();
+		}
+
+		OperationParameter getParameter() {
+			return this.parameter;
+		}
+
+		boolean isMissing(InvocationContext context) {
+			if (!this.mandatory || context.canResolve(this.type)) {
+				return false;
+			}
+			return context.getArguments().get(this.name) == null;
+		}
+
+		Object resolve(InvocationContext context, ParameterValueMapper parameterValueMapper) {
+			Object resolvedByType = context.resolveArgument(this.type);
+			if (resolvedByType != null) {
+				return resolvedByType;
+			}
+			Map<String, Object> arguments = context.getArguments();
+			return parameterValueMapper.mapParameterValue(this.parameter, arguments.get(this.name));
+		}
+
+	}
+
 }
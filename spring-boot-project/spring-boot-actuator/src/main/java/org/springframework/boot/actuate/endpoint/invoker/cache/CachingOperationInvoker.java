@@ -18,15 +18,25 @@ package org.springframework.boot.actuate.endpoint.invoker.cache;
 
 import java.security.Principal;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.boot.actuate.endpoint.ApiVersion;
+import org.springframework.boot.actuate.endpoint.EndpointId;
 import org.springframework.boot.actuate.endpoint.InvocationContext;
+import org.springframework.boot.actuate.endpoint.OperationArgumentResolver;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
 import org.springframework.boot.actuate.endpoint.invoke.OperationInvoker;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -35,6 +45,11 @@ import org.springframework.util.ObjectUtils;
 /**
  * An {@link OperationInvoker} that caches the response of an operation with a
  * configurable time to live.
+ * <p>
+ * Concurrent invocations that miss the cache for the same key share a single invocation
+ * of the underlying operation. Optionally, a stale response that is not specific to a
+ * principal can be served for a limited period of time while it is being refreshed in the
+ * background.
  *
  * @author Stephane Nicoll
  * @author Christoph Dreis
@@ -45,12 +60,31 @@ public class CachingOperationInvoker implements OperationInvoker {
 
 	private static final boolean IS_REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Mono", null);
 
+	private static final Log logger = LogFactory.getLog(CachingOperationInvoker.class);
+
+	/**
+	 * The default maximum number of responses that are cached.
+	 */
+	static final int DEFAULT_MAX_SIZE = 1000;
+
 	private final OperationInvoker invoker;
 
 	private final long timeToLive;
 
+	private final long staleWhileRevalidate;
+
+	private final int maxSize;
+
+	private final Executor refreshExecutor;
+
+	private final EndpointId endpointId;
+
+	private final CachingOperationInvokerListener listener;
+
 	private final Map<CacheKey, CachedResponse> cachedResponses;
 
+	private final Map<CacheKey, CompletableFuture<CachedResponse>> inFlightInvocations;
+
 	/**
 	 * Create a new instance with the target {@link OperationInvoker} to use to compute
 	 * the response and the time to live for the cache.
@@ -58,10 +92,39 @@ public class CachingOperationInvoker implements OperationInvoker {
 	 * @param timeToLive the maximum time in milliseconds that a response can be cached
 	 */
 	CachingOperationInvoker(OperationInvoker invoker, long timeToLive) {
+		this(invoker, timeToLive, 0, DEFAULT_MAX_SIZE, null, null, null);
+	}
+
+	/**
+	 * Create a new instance with the target {@link OperationInvoker} to use to compute
+	 * the response and the settings of the cache.
+	 * @param invoker the {@link OperationInvoker} this instance wraps
+	 * @param timeToLive the maximum time in milliseconds that a response can be cached
+	 * @param staleWhileRevalidate the additional time in milliseconds during which a
+	 * stale response can be served while it is refreshed in the background, or {@code 0}
+	 * to always wait for a fresh response
+	 * @param maxSize the maximum number of cached responses
+	 * @param refreshExecutor the executor used to refresh stale responses in the
+	 * background, or {@code null} if {@code staleWhileRevalidate} is {@code 0}
+	 * @param endpointId the id of the endpoint, or {@code null}
+	 * @param listener the listener to notify of cache activity, or {@code null}
+	 */
+	CachingOperationInvoker(OperationInvoker invoker, long timeToLive, long staleWhileRevalidate, int maxSize,
+			Executor refreshExecutor, EndpointId endpointId, CachingOperationInvokerListener listener) {
 		Assert.isTrue(timeToLive > 0, "TimeToLive must be strictly positive");
+		Assert.isTrue(staleWhileRevalidate >= 0, "StaleWhileRevalidate must not be negative");
+		Assert.isTrue(maxSize > 0, "MaxSize must be strictly positive");
+		Assert.isTrue(staleWhileRevalidate == 0 || refreshExecutor != null,
+				"RefreshExecutor must not be null when StaleWhileRevalidate is set");
 		this.invoker = invoker;
 		this.timeToLive = timeToLive;
+		this.staleWhileRevalidate = staleWhileRevalidate;
+		this.maxSize = maxSize;
+		this.refreshExecutor = refreshExecutor;
+		this.endpointId = endpointId;
+		this.listener = (listener != null) ? listener : CachingOperationInvokerListener.NONE;
 		this.cachedResponses = new ConcurrentHashMap<>();
+		this.inFlightInvocations = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -72,6 +135,16 @@ public class CachingOperationInvoker implements OperationInvoker {
 		return this.timeToLive;
 	}
 
+	/**
+	 * Return the additional time in milliseconds during which a stale response can be
+	 * served while it is refreshed in the background.
+	 * @return the stale-while-revalidate period or {@code 0}
+	 * @since 2.5.0
+	 */
+	public long getStaleWhileRevalidate() {
+		return this.staleWhileRevalidate;
+	}
+
 	@Override
 	public Object invoke(InvocationContext context) {
 		if (hasInput(context)) {
@@ -82,12 +155,142 @@ public class CachingOperationInvoker implements OperationInvoker {
 		Principal principal = context.resolveArgument(Principal.class);
 		CacheKey cacheKey = new CacheKey(contextApiVersion, principal);
 		CachedResponse cached = this.cachedResponses.get(cacheKey);
-		if (cached == null || cached.isStale(accessTime, this.timeToLive)) {
-			Object response = this.invoker.invoke(context);
-			cached = createCachedResponse(response, accessTime);
-			this.cachedResponses.put(cacheKey, cached);
+		if (cached != null && !cached.isStale(accessTime, this.timeToLive)) {
+			this.listener.onHit(this.endpointId);
+			return cached.getResponse();
+		}
+		if (cached != null && principal == null && !cached.isStale(accessTime, getMaximumAge())) {
+			this.listener.onStaleHit(this.endpointId);
+			refreshInBackground(cacheKey, cached);
+			return cached.getResponse();
+		}
+		this.listener.onMiss(this.endpointId);
+		return refresh(cacheKey, context).getResponse();
+	}
+
+	/**
+	 * Refresh the response for the given key in the background, unless an invocation is
+	 * already in flight. Only responses that are not specific to a principal are
+	 * refreshed in the background and the refresh does not use any state of the request
+	 * that triggered it.
+	 * @param cacheKey the cache key
+	 * @param stale the stale response
+	 */
+	private void refreshInBackground(CacheKey cacheKey, CachedResponse stale) {
+		CompletableFuture<CachedResponse> invocation = new CompletableFuture<>();
+		if (this.inFlightInvocations.putIfAbsent(cacheKey, invocation) != null) {
+			return;
+		}
+		try {
+			this.refreshExecutor.execute(() -> {
+				this.listener.onRefresh(this.endpointId);
+				try {
+					invokeAndCache(cacheKey, createBackgroundContext(cacheKey), invocation);
+				}
+				catch (RuntimeException ex) {
+					logger.debug("Failed to refresh cached response", ex);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			logger.debug("Background refresh of cached response rejected", ex);
+			this.inFlightInvocations.remove(cacheKey, invocation);
+			invocation.complete(stale);
+		}
+	}
+
+	private InvocationContext createBackgroundContext(CacheKey cacheKey) {
+		ApiVersion apiVersion = cacheKey.apiVersion;
+		return new InvocationContext(SecurityContext.NONE, Collections.emptyMap(),
+				OperationArgumentResolver.of(ApiVersion.class, () -> apiVersion));
+	}
+
+	/**
+	 * Invoke the target operation and cache its response. Only one invocation per
+	 * {@link CacheKey} is in flight at any time, concurrent callers wait for its outcome.
+	 * @param cacheKey the cache key
+	 * @param context the invocation context
+	 * @return the cached response
+	 */
+	private CachedResponse refresh(CacheKey cacheKey, InvocationContext context) {
+		CompletableFuture<CachedResponse> invocation = new CompletableFuture<>();
+		CompletableFuture<CachedResponse> inFlight = this.inFlightInvocations.putIfAbsent(cacheKey, invocation);
+		if (inFlight != null) {
+			return awaitInvocation(inFlight);
+		}
+		return invokeAndCache(cacheKey, context, invocation);
+	}
+
+	private CachedResponse invokeAndCache(CacheKey cacheKey, InvocationContext context,
+			CompletableFuture<CachedResponse> invocation) {
+		try {
+			long accessTime = System.currentTimeMillis();
+			CachedResponse cached = this.cachedResponses.get(cacheKey);
+			if (cached == null || cached.isStale(accessTime, this.timeToLive)) {
+				Object response = this.invoker.invoke(context);
+				cached = createCachedResponse(response, accessTime);
+				putCachedResponse(cacheKey, cached);
+			}
+			invocation.complete(cached);
+			return cached;
+		}
+		catch (RuntimeException | Error ex) {
+			invocation.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlightInvocations.remove(cacheKey, invocation);
+		}
+	}
+
+	private CachedResponse awaitInvocation(CompletableFuture<CachedResponse> invocation) {
+		try {
+			return invocation.join();
 		}
-		return cached.getResponse();
+		catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw ex;
+		}
+	}
+
+	private void putCachedResponse(CacheKey cacheKey, CachedResponse cached) {
+		this.cachedResponses.put(cacheKey, cached);
+		if (this.cachedResponses.size() > this.maxSize) {
+			evict(System.currentTimeMillis());
+		}
+	}
+
+	private void evict(long accessTime) {
+		long maximumAge = getMaximumAge();
+		this.cachedResponses.forEach((key, cached) -> {
+			if (cached.isStale(accessTime, maximumAge) && this.cachedResponses.remove(key, cached)) {
+				this.listener.onEviction(this.endpointId);
+			}
+		});
+		while (this.cachedResponses.size() > this.maxSize) {
+			Map.Entry<CacheKey, CachedResponse> oldest = null;
+			for (Map.Entry<CacheKey, CachedResponse> candidate : this.cachedResponses.entrySet()) {
+				if (oldest == null || candidate.getValue().creationTime < oldest.getValue().creationTime) {
+					oldest = candidate;
+				}
+			}
+			if (oldest == null) {
+				return;
+			}
+			if (this.cachedResponses.remove(oldest.getKey(), oldest.getValue())) {
+				this.listener.onEviction(this.endpointId);
+			}
+		}
+	}
+
+	private long getMaximumAge() {
+		return this.timeToLive + this.staleWhileRevalidate;
 	}
 
 	private boolean hasInput(InvocationContext context) {
@@ -100,7 +303,7 @@ public class CachingOperationInvoker implements OperationInvoker {
 
 	private CachedResponse createCachedResponse(Object response, long accessTime) {
 		if (IS_REACTOR_PRESENT) {
-			return new ReactiveCachedResponse(response, accessTime, this.timeToLive);
+			return new ReactiveCachedResponse(response, accessTime, getMaximumAge());
 		}
 		return new CachedResponse(response, accessTime);
 	}
@@ -16,6 +16,10 @@
 
 package org.springframework.boot.actuate.endpoint.invoker.cache;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.springframework.boot.actuate.endpoint.ApiVersion;
@@ -26,6 +30,7 @@ import org.springframework.boot.actuate.endpoint.invoke.OperationInvoker;
 import org.springframework.boot.actuate.endpoint.invoke.OperationInvokerAdvisor;
 import org.springframework.boot.actuate.endpoint.invoke.OperationParameter;
 import org.springframework.boot.actuate.endpoint.invoke.OperationParameters;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
  * {@link OperationInvokerAdvisor} to optionally provide result caching support.
@@ -35,10 +40,65 @@ import org.springframework.boot.actuate.endpoint.invoke.OperationParameters;
  */
 public class CachingOperationInvokerAdvisor implements OperationInvokerAdvisor {
 
+	private static final int REFRESH_THREADS = 2;
+
+	private static final int REFRESH_QUEUE_CAPACITY = 100;
+
 	private final Function<EndpointId, Long> endpointIdTimeToLive;
 
+	private final Function<EndpointId, Long> endpointIdStaleWhileRevalidate;
+
+	private final CachingOperationInvokerListener listener;
+
+	private final Executor refreshExecutor;
+
 	public CachingOperationInvokerAdvisor(Function<EndpointId, Long> endpointIdTimeToLive) {
+		this(endpointIdTimeToLive, (endpointId) -> null, CachingOperationInvokerListener.NONE);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param endpointIdTimeToLive function providing the time to live of an endpoint's
+	 * cached responses in milliseconds
+	 * @param endpointIdStaleWhileRevalidate function providing the time in milliseconds
+	 * during which an endpoint can serve a stale response while refreshing it in the
+	 * background
+	 * @param listener the listener to notify of cache activity
+	 * @since 2.5.0
+	 */
+	public CachingOperationInvokerAdvisor(Function<EndpointId, Long> endpointIdTimeToLive,
+			Function<EndpointId, Long> endpointIdStaleWhileRevalidate, CachingOperationInvokerListener listener) {
+		this(endpointIdTimeToLive, endpointIdStaleWhileRevalidate, listener, null);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param endpointIdTimeToLive function providing the time to live of an endpoint's
+	 * cached responses in milliseconds
+	 * @param endpointIdStaleWhileRevalidate function providing the time in milliseconds
+	 * during which an endpoint can serve a stale response while refreshing it in the
+	 * background
+	 * @param listener the listener to notify of cache activity
+	 * @param refreshExecutor the executor used to refresh stale responses in the
+	 * background or {@code null} to use a small, bounded, thread pool
+	 * @since 2.5.0
+	 */
+	public CachingOperationInvokerAdvisor(Function<EndpointId, Long> endpointIdTimeToLive,
+			Function<EndpointId, Long> endpointIdStaleWhileRevalidate, CachingOperationInvokerListener listener,
+			Executor refreshExecutor) {
 		this.endpointIdTimeToLive = endpointIdTimeToLive;
+		this.endpointIdStaleWhileRevalidate = endpointIdStaleWhileRevalidate;
+		this.listener = listener;
+		this.refreshExecutor = (refreshExecutor != null) ? refreshExecutor : createRefreshExecutor();
+	}
+
+	private static Executor createRefreshExecutor() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("endpoint-cache-refresh-");
+		threadFactory.setDaemon(true);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
 	}
 
 	@Override
@@ -47,7 +107,10 @@ public class CachingOperationInvokerAdvisor implements OperationInvokerAdvisor {
 		if (operationType == OperationType.READ && !hasMandatoryParameter(parameters)) {
 			Long timeToLive = this.endpointIdTimeToLive.apply(endpointId);
 			if (timeToLive != null && timeToLive > 0) {
-				return new CachingOperationInvoker(invoker, timeToLive);
+				Long staleWhileRevalidate = this.endpointIdStaleWhileRevalidate.apply(endpointId);
+				return new CachingOperationInvoker(invoker, timeToLive,
+						(staleWhileRevalidate != null && staleWhileRevalidate > 0) ? staleWhileRevalidate : 0,
+						CachingOperationInvoker.DEFAULT_MAX_SIZE, this.refreshExecutor, endpointId, this.listener);
 			}
 		}
 		return invoker;
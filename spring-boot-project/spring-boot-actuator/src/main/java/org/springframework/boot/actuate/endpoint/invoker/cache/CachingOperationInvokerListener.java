@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.endpoint.invoker.cache;
+
+import org.springframework.boot.actuate.endpoint.EndpointId;
+
+/**
+ * Listener notified of the cache activity of endpoint operations that have been advised
+ * by {@link CachingOperationInvokerAdvisor}. Callbacks are invoked on the thread that
+ * accessed the cache and should return quickly.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public interface CachingOperationInvokerListener {
+
+	/**
+	 * A {@link CachingOperationInvokerListener} that does nothing.
+	 */
+	CachingOperationInvokerListener NONE = new CachingOperationInvokerListener() {
+	};
+
+	/**
+	 * Called when a fresh cached response has been served.
+	 * @param endpointId the id of the endpoint
+	 */
+	default void onHit(EndpointId endpointId) {
+	}
+
+	/**
+	 * Called when a stale cached response has been served while it is refreshed in the
+	 * background.
+	 * @param endpointId the id of the endpoint
+	 */
+	default void onStaleHit(EndpointId endpointId) {
+	}
+
+	/**
+	 * Called when no usable cached response was available and the caller has to wait for
+	 * the operation to be invoked.
+	 * @param endpointId the id of the endpoint
+	 */
+	default void onMiss(EndpointId endpointId) {
+	}
+
+	/**
+	 * Called when a stale cached response is refreshed in the background.
+	 * @param endpointId the id of the endpoint
+	 */
+	default void onRefresh(EndpointId endpointId) {
+	}
+
+	/**
+	 * Called when a cached response has been evicted to keep the cache within its bounds.
+	 * @param endpointId the id of the endpoint
+	 */
+	default void onEviction(EndpointId endpointId) {
+	}
+
+}
@@ -22,8 +22,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 
@@ -45,9 +45,11 @@ import org.springframework.core.env.PropertySource;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.PropertyPlaceholderHelper;
 import org.springframework.util.StringUtils;
 import org.springframework.util.SystemPropertyUtils;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * {@link Endpoint @Endpoint} to expose {@link ConfigurableEnvironment environment}
@@ -68,24 +70,46 @@ public class EnvironmentEndpoint {
 
 	private final Environment environment;
 
+	private final Map<String, PropertySourceDescriptorCache> descriptorCaches = new ConcurrentReferenceHashMap<>();
+
 	public EnvironmentEndpoint(Environment environment) {
 		this.environment = environment;
 	}
 
 	public void setKeysToSanitize(String... keysToSanitize) {
 		this.sanitizer.setKeysToSanitize(keysToSanitize);
+		this.descriptorCaches.clear();
 	}
 
 	public void keysToSanitize(String... keysToSanitize) {
 		this.sanitizer.keysToSanitize(keysToSanitize);
+		this.descriptorCaches.clear();
 	}
 
-	@ReadOperation
 	public EnvironmentDescriptor environment(@Nullable String pattern) {
+		return environment(pattern, null);
+	}
+
+	/**
+	 * Return a description of the environment, limited to the properties whose names
+	 * match the given {@code pattern} and start with the given {@code prefix}.
+	 * @param pattern a regular expression that property names must match or {@code null}
+	 * to match all names
+	 * @param prefix a prefix that property names must start with or {@code null} to match
+	 * all names
+	 * @return the environment descriptor
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public EnvironmentDescriptor environment(@Nullable String pattern, @Nullable String prefix) {
+		Predicate<String> propertyNamePredicate = (name) -> true;
+		if (StringUtils.hasText(prefix)) {
+			propertyNamePredicate = (name) -> name.startsWith(prefix);
+		}
 		if (StringUtils.hasText(pattern)) {
-			return getEnvironmentDescriptor(Pattern.compile(pattern).asPredicate());
+			propertyNamePredicate = propertyNamePredicate.and(Pattern.compile(pattern).asPredicate());
 		}
-		return getEnvironmentDescriptor((name) -> true);
+		return getEnvironmentDescriptor(propertyNamePredicate);
 	}
 
 	@ReadOperation
@@ -94,7 +118,7 @@ public class EnvironmentEndpoint {
 	}
 
 	private EnvironmentDescriptor getEnvironmentDescriptor(Predicate<String> propertyNamePredicate) {
-		PlaceholdersResolver resolver = getResolver();
+		Supplier<PlaceholdersResolver> resolver = SingletonSupplier.of(this::getResolver);
 		List<PropertySourceDescriptor> propertySources = new ArrayList<>();
 		getPropertySourcesAsMap().forEach((sourceName, source) -> {
 			if (source instanceof EnumerablePropertySource) {
@@ -130,28 +154,61 @@ public class EnvironmentEndpoint {
 
 	private Map<String, PropertyValueDescriptor> getPropertySourceDescriptors(String propertyName) {
 		Map<String, PropertyValueDescriptor> propertySources = new LinkedHashMap<>();
-		PlaceholdersResolver resolver = getResolver();
-		getPropertySourcesAsMap().forEach((sourceName, source) -> propertySources.put(sourceName,
-				source.containsProperty(propertyName) ? describeValueOf(propertyName, source, resolver) : null));
+		Supplier<PlaceholdersResolver> resolver = SingletonSupplier.of(this::getResolver);
+		getPropertySourcesAsMap()
+				.forEach((sourceName, source) -> propertySources.put(sourceName, source.containsProperty(propertyName)
+						? describeValueOf(propertyName, source.getProperty(propertyName), source, resolver) : null));
 		return propertySources;
 	}
 
 	private PropertySourceDescriptor describeSource(String sourceName, EnumerablePropertySource<?> source,
-			PlaceholdersResolver resolver, Predicate<String> namePredicate) {
+			Supplier<PlaceholdersResolver> resolver, Predicate<String> namePredicate) {
+		PropertySourceDescriptorCache cache = getDescriptorCache(sourceName, source);
 		Map<String, PropertyValueDescriptor> properties = new LinkedHashMap<>();
-		Stream.of(source.getPropertyNames()).filter(namePredicate)
-				.forEach((name) -> properties.put(name, describeValueOf(name, source, resolver)));
+		for (String name : source.getPropertyNames()) {
+			if (namePredicate.test(name)) {
+				properties.put(name, describeValueOf(name, source, resolver, cache));
+			}
+		}
 		return new PropertySourceDescriptor(sourceName, properties);
 	}
 
-	@SuppressWarnings("unchecked")
+	private PropertySourceDescriptorCache getDescriptorCache(String sourceName, PropertySource<?> source) {
+		PropertySourceDescriptorCache cache = this.descriptorCaches.get(sourceName);
+		if (cache == null || cache.getSource() != source) {
+			cache = new PropertySourceDescriptorCache(source);
+			this.descriptorCaches.put(sourceName, cache);
+		}
+		return cache;
+	}
+
 	private PropertyValueDescriptor describeValueOf(String name, PropertySource<?> source,
-			PlaceholdersResolver resolver) {
-		Object resolved = resolver.resolvePlaceholders(source.getProperty(name));
+			Supplier<PlaceholdersResolver> resolver, PropertySourceDescriptorCache cache) {
+		Object value = source.getProperty(name);
+		if (hasPlaceholders(value)) {
+			// Resolved values depend on other property sources so they cannot be cached
+			return describeValueOf(name, value, source, resolver);
+		}
+		PropertyValueDescriptor descriptor = cache.get(name, value);
+		if (descriptor == null) {
+			descriptor = describeValueOf(name, value, source, resolver);
+			cache.put(name, value, descriptor);
+		}
+		return descriptor;
+	}
+
+	@SuppressWarnings("unchecked")
+	private PropertyValueDescriptor describeValueOf(String name, Object value, PropertySource<?> source,
+			Supplier<PlaceholdersResolver> resolver) {
+		Object resolved = hasPlaceholders(value) ? resolver.get().resolvePlaceholders(value) : value;
 		Origin origin = ((source instanceof OriginLookup) ? ((OriginLookup<Object>) source).getOrigin(name) : null);
 		return new PropertyValueDescriptor(stringifyIfNecessary(sanitize(name, resolved)), origin);
 	}
 
+	private boolean hasPlaceholders(Object value) {
+		return value instanceof String && ((String) value).contains(SystemPropertyUtils.PLACEHOLDER_PREFIX);
+	}
+
 	private PlaceholdersResolver getResolver() {
 		return new PropertySourcesPlaceholdersSanitizingResolver(getPropertySources(), this.sanitizer);
 	}
@@ -199,6 +256,54 @@ public class EnvironmentEndpoint {
 		return "Complex property type " + value.getClass().getName();
 	}
 
+	/**
+	 * Cache of the {@link PropertyValueDescriptor descriptors} of a single
+	 * {@link PropertySource}. A cached descriptor is only used while the property source
+	 * continues to return the very same value instance for the property.
+	 */
+	private static final class PropertySourceDescriptorCache {
+
+		private final PropertySource<?> source;
+
+		private final Map<String, CachedDescriptor> descriptors = new ConcurrentReferenceHashMap<>();
+
+		PropertySourceDescriptorCache(PropertySource<?> source) {
+			this.source = source;
+		}
+
+		PropertySource<?> getSource() {
+			return this.source;
+		}
+
+		PropertyValueDescriptor get(String name, Object value) {
+			CachedDescriptor cached = this.descriptors.get(name);
+			return (cached != null && cached.value == value) ? cached.descriptor : null;
+		}
+
+		void put(String name, Object value, PropertyValueDescriptor descriptor) {
+			if (value != null) {
+				this.descriptors.put(name, new CachedDescriptor(value, descriptor));
+			}
+		}
+
+	}
+
+	/**
+	 * A {@link PropertyValueDescriptor} along with the raw value it was created from.
+	 */
+	private static final class CachedDescriptor {
+
+		private final Object value;
+
+		private final PropertyValueDescriptor descriptor;
+
+		CachedDescriptor(Object value, PropertyValueDescriptor descriptor) {
+			this.value = value;
+			this.descriptor = descriptor;
+		}
+
+	}
+
 	/**
 	 * {@link PropertySourcesPlaceholdersResolver} that sanitizes sensitive placeholders
 	 * if present.
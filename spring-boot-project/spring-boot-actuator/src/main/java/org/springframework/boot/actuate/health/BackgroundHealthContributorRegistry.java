@@ -0,0 +1,289 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link HealthContributorRegistry} that polls each {@link HealthIndicator} of a delegate
+ * registry on its own schedule in the background and serves the latest results. Reading
+ * the health of a contributor therefore never invokes the underlying indicator, which
+ * decouples high-frequency probes from the cost of the checks themselves.
+ * <p>
+ * The refresh interval is resolved per top-level contributor name and applies to every
+ * indicator of a {@link CompositeHealthContributor composite contributor}. Polling starts
+ * when the registry is {@link #start() started} and stops when it is {@link #stop()
+ * stopped}. Until its first check has completed an indicator is reported as
+ * {@link Status#UNKNOWN unknown}. An indicator whose check has been running for longer
+ * than the configured timeout is reported as {@link Status#DOWN down} until the check
+ * completes.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class BackgroundHealthContributorRegistry implements HealthContributorRegistry, SmartLifecycle, AutoCloseable {
+
+	private static final Log logger = LogFactory.getLog(BackgroundHealthContributorRegistry.class);
+
+	private final HealthContributorRegistry delegate;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Function<String, Duration> intervals;
+
+	private final Duration timeout;
+
+	private final HealthContributorListener listener;
+
+	private final Clock clock;
+
+	private final boolean ownsScheduler;
+
+	private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+	private final Object lifecycleMonitor = new Object();
+
+	private volatile boolean running;
+
+	/**
+	 * Create a new {@link BackgroundHealthContributorRegistry} backed by a dedicated pool
+	 * of daemon threads that is shut down when this instance is {@link #close() closed}.
+	 * @param delegate the registry holding the contributors to poll
+	 * @param poolSize the number of threads used to poll contributors
+	 * @param intervals a function that returns the refresh interval of a contributor
+	 * given its name
+	 * @param timeout the time after which a check that has not completed is reported as
+	 * {@link Status#DOWN down}
+	 * @param listener the listener notified each time an indicator has been checked
+	 */
+	public BackgroundHealthContributorRegistry(HealthContributorRegistry delegate, int poolSize,
+			Function<String, Duration> intervals, Duration timeout, HealthContributorListener listener) {
+		this(delegate, createScheduler(poolSize), intervals, timeout, listener, Clock.systemUTC(), true);
+	}
+
+	BackgroundHealthContributorRegistry(HealthContributorRegistry delegate, ScheduledExecutorService scheduler,
+			Function<String, Duration> intervals, Duration timeout, HealthContributorListener listener, Clock clock,
+			boolean ownsScheduler) {
+		Assert.notNull(delegate, "Delegate must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+		Assert.notNull(intervals, "Intervals must not be null");
+		Assert.isTrue(timeout != null && !timeout.isNegative() && !timeout.isZero(),
+				"Timeout must be strictly positive");
+		Assert.notNull(listener, "Listener must not be null");
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+		this.intervals = intervals;
+		this.timeout = timeout;
+		this.listener = listener;
+		this.clock = clock;
+		this.ownsScheduler = ownsScheduler;
+		delegate.forEach((named) -> register(named.getName(), named.getContributor()));
+	}
+
+	private static ScheduledExecutorService createScheduler(int poolSize) {
+		Assert.isTrue(poolSize > 0, "PoolSize must be strictly positive");
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("health-refresh-");
+		threadFactory.setDaemon(true);
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(poolSize, threadFactory);
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+
+	@Override
+	public void registerContributor(String name, HealthContributor contributor) {
+		this.delegate.registerContributor(name, contributor);
+		synchronized (this.lifecycleMonitor) {
+			Registration registration = register(name, contributor);
+			if (this.running) {
+				registration.schedule(this.scheduler);
+			}
+		}
+	}
+
+	@Override
+	public HealthContributor unregisterContributor(String name) {
+		HealthContributor unregistered = this.delegate.unregisterContributor(name);
+		if (unregistered != null) {
+			Registration registration = this.registrations.remove(HealthContributorNameFactory.INSTANCE.apply(name));
+			if (registration != null) {
+				registration.cancel();
+			}
+		}
+		return unregistered;
+	}
+
+	@Override
+	public HealthContributor getContributor(String name) {
+		return adapt(name, this.delegate.getContributor(name));
+	}
+
+	@Override
+	public Iterator<NamedContributor<HealthContributor>> iterator() {
+		Iterator<NamedContributor<HealthContributor>> iterator = this.delegate.iterator();
+		return new Iterator<NamedContributor<HealthContributor>>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public NamedContributor<HealthContributor> next() {
+				NamedContributor<HealthContributor> next = iterator.next();
+				return NamedContributor.of(next.getName(), adapt(next.getName(), next.getContributor()));
+			}
+
+		};
+	}
+
+	private HealthContributor adapt(String name, HealthContributor contributor) {
+		Registration registration = (contributor != null) ? this.registrations.get(name) : null;
+		return (registration != null && registration.source == contributor) ? registration.contributor : contributor;
+	}
+
+	private Registration register(String name, HealthContributor contributor) {
+		String adaptedName = HealthContributorNameFactory.INSTANCE.apply(name);
+		Duration interval = this.intervals.apply(adaptedName);
+		Assert.state(interval != null && !interval.isNegative() && !interval.isZero(),
+				() -> "Refresh interval of health contributor '" + name + "' must be strictly positive");
+		List<BackgroundHealthIndicator> indicators = new ArrayList<>();
+		HealthContributor background = createBackgroundContributor(adaptedName, contributor, interval, indicators);
+		Registration registration = new Registration(contributor, background, indicators, interval);
+		Registration previous = this.registrations.put(adaptedName, registration);
+		if (previous != null) {
+			previous.cancel();
+		}
+		return registration;
+	}
+
+	private HealthContributor createBackgroundContributor(String name, HealthContributor contributor, Duration interval,
+			List<BackgroundHealthIndicator> indicators) {
+		if (contributor instanceof HealthIndicator) {
+			BackgroundHealthIndicator indicator = new BackgroundHealthIndicator(name, (HealthIndicator) contributor,
+					interval, this.timeout, this.clock, this.listener);
+			indicators.add(indicator);
+			return indicator;
+		}
+		if (contributor instanceof CompositeHealthContributor) {
+			Map<String, HealthContributor> children = new LinkedHashMap<>();
+			for (NamedContributor<HealthContributor> child : (CompositeHealthContributor) contributor) {
+				children.put(child.getName(), createBackgroundContributor(name + "/" + child.getName(),
+						child.getContributor(), interval, indicators));
+			}
+			return CompositeHealthContributor.fromMap(children);
+		}
+		return contributor;
+	}
+
+	@Override
+	public void start() {
+		synchronized (this.lifecycleMonitor) {
+			if (!this.running) {
+				this.registrations.values().forEach((registration) -> registration.schedule(this.scheduler));
+				this.running = true;
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		synchronized (this.lifecycleMonitor) {
+			if (this.running) {
+				this.registrations.values().forEach(Registration::cancel);
+				this.running = false;
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public void close() {
+		stop();
+		this.registrations.clear();
+		if (this.ownsScheduler) {
+			this.scheduler.shutdownNow();
+		}
+	}
+
+	private static final class Registration {
+
+		private final HealthContributor source;
+
+		private final HealthContributor contributor;
+
+		private final List<BackgroundHealthIndicator> indicators;
+
+		private final Duration interval;
+
+		private final List<ScheduledFuture<?>> futures = new ArrayList<>();
+
+		Registration(HealthContributor source, HealthContributor contributor,
+				List<BackgroundHealthIndicator> indicators, Duration interval) {
+			this.source = source;
+			this.contributor = contributor;
+			this.indicators = indicators;
+			this.interval = interval;
+		}
+
+		synchronized void schedule(ScheduledExecutorService scheduler) {
+			for (BackgroundHealthIndicator indicator : this.indicators) {
+				this.futures.add(scheduler.scheduleWithFixedDelay(() -> refresh(indicator), 0, this.interval.toMillis(),
+						TimeUnit.MILLISECONDS));
+			}
+		}
+
+		private void refresh(BackgroundHealthIndicator indicator) {
+			try {
+				indicator.refresh();
+			}
+			catch (Throwable ex) {
+				// A failure must not cancel subsequent executions of the periodic task
+				logger.warn("Background health check failed", ex);
+			}
+		}
+
+		synchronized void cancel() {
+			this.futures.forEach((future) -> future.cancel(false));
+			this.futures.clear();
+		}
+
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * {@link HealthIndicator} that returns the latest {@link Health} computed by a background
+ * {@link #refresh() refresh} of its delegate rather than invoking the delegate on each
+ * call. Until the first check has completed, the indicator is reported as
+ * {@link Status#UNKNOWN unknown}. When details are requested, the time of the last check
+ * is included along with a {@code stale} flag once the snapshot is older than twice the
+ * refresh interval. While a check has been running for longer than the timeout, the
+ * indicator is reported as {@link Status#DOWN down}. The
+ * {@link HealthContributorListener} is notified each time the delegate has been checked.
+ *
+ * @author agent (agent@local)
+ * @see BackgroundHealthContributorRegistry
+ */
+class BackgroundHealthIndicator implements HealthIndicator {
+
+	private final String name;
+
+	private final HealthIndicator delegate;
+
+	private final Duration staleAfter;
+
+	private final Duration timeout;
+
+	private final Clock clock;
+
+	private final HealthContributorListener listener;
+
+	private volatile Snapshot snapshot;
+
+	private volatile Instant checkStartedAt;
+
+	BackgroundHealthIndicator(String name, HealthIndicator delegate, Duration interval, Duration timeout, Clock clock,
+			HealthContributorListener listener) {
+		this.name = name;
+		this.delegate = delegate;
+		this.staleAfter = interval.multipliedBy(2);
+		this.timeout = timeout;
+		this.clock = clock;
+		this.listener = listener;
+	}
+
+	/**
+	 * Invoke the delegate indicator and store its health as the latest snapshot. Failures
+	 * of the delegate, including errors, are reported as {@link Status#DOWN down}.
+	 */
+	void refresh() {
+		this.checkStartedAt = this.clock.instant();
+		try {
+			long startTime = System.nanoTime();
+			Health health = check();
+			this.snapshot = new Snapshot(health, this.clock.instant());
+			this.listener.onHealth(this.name, null, health.getStatus(),
+					Duration.ofNanos(System.nanoTime() - startTime));
+		}
+		finally {
+			this.checkStartedAt = null;
+		}
+	}
+
+	private Health check() {
+		try {
+			return this.delegate.getHealth(true);
+		}
+		catch (Throwable ex) {
+			return Health.down().withException(ex).build();
+		}
+	}
+
+	@Override
+	public Health getHealth(boolean includeDetails) {
+		Instant checkStartedAt = this.checkStartedAt;
+		if (checkStartedAt != null
+				&& Duration.between(checkStartedAt, this.clock.instant()).compareTo(this.timeout) > 0) {
+			return timedOut(checkStartedAt, includeDetails);
+		}
+		Snapshot snapshot = this.snapshot;
+		if (snapshot == null) {
+			return Health.unknown().build();
+		}
+		if (!includeDetails) {
+			return snapshot.health.withoutDetails();
+		}
+		Health.Builder builder = Health.status(snapshot.health.getStatus()).withDetails(snapshot.health.getDetails())
+				.withDetail("checkedAt", snapshot.checkedAt.toString());
+		if (Duration.between(snapshot.checkedAt, this.clock.instant()).compareTo(this.staleAfter) > 0) {
+			builder.withDetail("stale", true);
+		}
+		return builder.build();
+	}
+
+	private Health timedOut(Instant checkStartedAt, boolean includeDetails) {
+		Health.Builder builder = Health.down();
+		if (includeDetails) {
+			builder.withDetail("error", "Health check did not complete within " + this.timeout)
+					.withDetail("checkStartedAt", checkStartedAt.toString());
+		}
+		return builder.build();
+	}
+
+	@Override
+	public Health health() {
+		return getHealth(true);
+	}
+
+	private static final class Snapshot {
+
+		private final Health health;
+
+		private final Instant checkedAt;
+
+		Snapshot(Health health, Instant checkedAt) {
+			this.health = health;
+			this.checkedAt = checkedAt;
+		}
+
+	}
+
+}
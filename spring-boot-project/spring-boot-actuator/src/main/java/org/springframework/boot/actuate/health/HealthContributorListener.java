@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Duration;
+
+/**
+ * Listener notified each time the {@link HealthEndpoint} or
+ * {@link HealthEndpointWebExtension} has computed the health of a
+ * {@link HealthIndicator}, including indicators that did not respond in time when they
+ * are evaluated in parallel. When a {@link BackgroundHealthContributorRegistry} is used,
+ * the listener is instead notified each time an indicator has been checked in the
+ * background. Callbacks are invoked on the thread that computed the health and should
+ * return quickly.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+@FunctionalInterface
+public interface HealthContributorListener {
+
+	/**
+	 * A {@link HealthContributorListener} that does nothing.
+	 */
+	HealthContributorListener NONE = (name, group, status, duration) -> {
+	};
+
+	/**
+	 * Called when the health of a contributor has been computed.
+	 * @param name the name of the contributor, with the names of any enclosing composite
+	 * contributors separated by {@code /}
+	 * @param group the name of the group that was requested or {@code null} if the health
+	 * was requested outside of a group or checked in the background
+	 * @param status the status of the contributor
+	 * @param duration the time taken to compute the health
+	 */
+	void onHealth(String name, String group, Status status, Duration duration);
+
+}
@@ -16,9 +16,14 @@
 
 package org.springframework.boot.actuate.health;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.boot.actuate.endpoint.ApiVersion;
@@ -41,28 +46,43 @@ abstract class HealthEndpointSupport<C, T> {
 
 	private final HealthEndpointGroups groups;
 
+	private final HealthContributorListener listener;
+
 	/**
 	 * Create a new {@link HealthEndpointSupport} instance.
 	 * @param registry the health contributor registry
 	 * @param groups the health endpoint groups
 	 */
 	HealthEndpointSupport(ContributorRegistry<C> registry, HealthEndpointGroups groups) {
+		this(registry, groups, HealthContributorListener.NONE);
+	}
+
+	/**
+	 * Create a new {@link HealthEndpointSupport} instance.
+	 * @param registry the health contributor registry
+	 * @param groups the health endpoint groups
+	 * @param listener the listener notified of the health of each contributor
+	 */
+	HealthEndpointSupport(ContributorRegistry<C> registry, HealthEndpointGroups groups,
+			HealthContributorListener listener) {
 		Assert.notNull(registry, "Registry must not be null");
 		Assert.notNull(groups, "Groups must not be null");
+		Assert.notNull(listener, "Listener must not be null");
 		this.registry = registry;
 		this.groups = groups;
+		this.listener = listener;
 	}
 
 	HealthResult<T> getHealth(ApiVersion apiVersion, SecurityContext securityContext, boolean showAll, String... path) {
 		HealthEndpointGroup group = (path.length > 0) ? this.groups.get(path[0]) : null;
 		if (group != null) {
-			return getHealth(apiVersion, group, securityContext, showAll, path, 1);
+			return getHealth(apiVersion, path[0], group, securityContext, showAll, path, 1);
 		}
-		return getHealth(apiVersion, this.groups.getPrimary(), securityContext, showAll, path, 0);
+		return getHealth(apiVersion, null, this.groups.getPrimary(), securityContext, showAll, path, 0);
 	}
 
-	private HealthResult<T> getHealth(ApiVersion apiVersion, HealthEndpointGroup group, SecurityContext securityContext,
-			boolean showAll, String[] path, int pathOffset) {
+	private HealthResult<T> getHealth(ApiVersion apiVersion, String groupName, HealthEndpointGroup group,
+			SecurityContext securityContext, boolean showAll, String[] path, int pathOffset) {
 		boolean showComponents = showAll || group.showComponents(securityContext);
 		boolean showDetails = showAll || group.showDetails(securityContext);
 		boolean isSystemHealth = group == this.groups.getPrimary() && pathOffset == 0;
@@ -71,8 +91,10 @@ abstract class HealthEndpointSupport<C, T> {
 			return null;
 		}
 		Object contributor = getContributor(path, pathOffset);
-		T health = getContribution(apiVersion, group, contributor, showComponents, showDetails,
-				isSystemHealth ? this.groups.getNames() : null, false);
+		String name = String.join("/", Arrays.copyOfRange(path, pathOffset, path.length));
+		Supplier<T> contribution = getContribution(apiVersion, group, groupName, name, contributor, showComponents,
+				showDetails, isSystemHealth ? this.groups.getNames() : null, false);
+		T health = (contribution != null) ? contribution.get() : null;
 		return (health != null) ? new HealthResult<>(health, group) : null;
 	}
 
@@ -90,25 +112,29 @@ abstract class HealthEndpointSupport<C, T> {
 	}
 
 	@SuppressWarnings("unchecked")
-	private T getContribution(ApiVersion apiVersion, HealthEndpointGroup group, Object contributor,
-			boolean showComponents, boolean showDetails, Set<String> groupNames, boolean isNested) {
+	private Supplier<T> getContribution(ApiVersion apiVersion, HealthEndpointGroup group, String groupName, String name,
+			Object contributor, boolean showComponents, boolean showDetails, Set<String> groupNames, boolean isNested) {
 		if (contributor instanceof NamedContributors) {
-			return getAggregateHealth(apiVersion, group, (NamedContributors<C>) contributor, showComponents,
-					showDetails, groupNames, isNested);
+			return getAggregateHealth(apiVersion, group, groupName, name, (NamedContributors<C>) contributor,
+					showComponents, showDetails, groupNames, isNested);
+		}
+		if (contributor == null) {
+			return null;
 		}
-		return (contributor != null) ? getHealth((C) contributor, showDetails) : null;
+		return getObservedHealth(groupName, name, (C) contributor, showDetails);
 	}
 
-	private T getAggregateHealth(ApiVersion apiVersion, HealthEndpointGroup group,
-			NamedContributors<C> namedContributors, boolean showComponents, boolean showDetails, Set<String> groupNames,
-			boolean isNested) {
-		Map<String, T> contributions = new LinkedHashMap<>();
+	private Supplier<T> getAggregateHealth(ApiVersion apiVersion, HealthEndpointGroup group, String groupName,
+			String aggregateName, NamedContributors<C> namedContributors, boolean showComponents, boolean showDetails,
+			Set<String> groupNames, boolean isNested) {
+		Map<String, Supplier<T>> contributions = new LinkedHashMap<>();
 		for (NamedContributor<C> namedContributor : namedContributors) {
 			String name = namedContributor.getName();
 			C contributor = namedContributor.getContributor();
 			if (group.isMember(name) || isNested) {
-				T contribution = getContribution(apiVersion, group, contributor, showComponents, showDetails, null,
-						true);
+				String qualifiedName = aggregateName.isEmpty() ? name : aggregateName + "/" + name;
+				Supplier<T> contribution = getContribution(apiVersion, group, groupName, qualifiedName, contributor,
+						showComponents, showDetails, null, true);
 				if (contribution != null) {
 					contributions.put(name, contribution);
 				}
@@ -117,8 +143,58 @@ abstract class HealthEndpointSupport<C, T> {
 		if (contributions.isEmpty()) {
 			return null;
 		}
-		return aggregateContributions(apiVersion, contributions, group.getStatusAggregator(), showComponents,
-				groupNames);
+		return () -> {
+			Map<String, T> healths = new LinkedHashMap<>();
+			contributions.forEach((name, contribution) -> {
+				T health = contribution.get();
+				if (health != null) {
+					healths.put(name, health);
+				}
+			});
+			return (!healths.isEmpty()) ? aggregateContributions(apiVersion, healths, group.getStatusAggregator(),
+					showComponents, groupNames) : null;
+		};
+	}
+
+	/**
+	 * Return a supplier for the health computed by the given {@code health} supplier. All
+	 * the contributors that take part in a request are resolved before any of the
+	 * returned suppliers is called, allowing implementations to compute health
+	 * concurrently. By default, the health is computed immediately on the calling thread.
+	 * @param health the supplier that computes the health of a contributor
+	 * @param includeDetails if details should be included
+	 * @return a supplier of the health
+	 */
+	protected Supplier<T> getDeferredHealth(Supplier<T> health, boolean includeDetails) {
+		T result = health.get();
+		return () -> result;
+	}
+
+	private Supplier<T> getObservedHealth(String groupName, String name, C contributor, boolean includeDetails) {
+		if (this.listener == HealthContributorListener.NONE || contributor instanceof BackgroundHealthIndicator) {
+			// Background indicators notify the listener when they are checked
+			return getDeferredHealth(() -> getHealth(contributor, includeDetails), includeDetails);
+		}
+		AtomicLong computeTime = new AtomicLong();
+		AtomicReference<T> computed = new AtomicReference<>();
+		long submitTime = System.nanoTime();
+		Supplier<T> health = getDeferredHealth(() -> {
+			long startTime = System.nanoTime();
+			T result = getHealth(contributor, includeDetails);
+			computeTime.set(System.nanoTime() - startTime);
+			computed.set(result);
+			return result;
+		}, includeDetails);
+		return () -> {
+			T result = health.get();
+			// The result differs from the computed health if it was not computed in time
+			long duration = (result == computed.get()) ? computeTime.get() : System.nanoTime() - submitTime;
+			if (result instanceof HealthComponent) {
+				this.listener.onHealth(name, groupName, ((HealthComponent) result).getStatus(),
+						Duration.ofNanos(duration));
+			}
+			return result;
+		};
 	}
 
 	protected abstract T getHealth(C contributor, boolean includeDetails);
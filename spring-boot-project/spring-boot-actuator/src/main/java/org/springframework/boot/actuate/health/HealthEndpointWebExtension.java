@@ -19,6 +19,7 @@ package org.springframework.boot.actuate.health;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.springframework.boot.actuate.endpoint.ApiVersion;
 import org.springframework.boot.actuate.endpoint.SecurityContext;
@@ -46,13 +47,43 @@ public class HealthEndpointWebExtension extends HealthEndpointSupport<HealthCont
 
 	private static final String[] NO_PATH = {};
 
+	private final ParallelHealthIndicatorEvaluator evaluator;
+
 	/**
 	 * Create a new {@link HealthEndpointWebExtension} instance.
 	 * @param registry the health contributor registry
 	 * @param groups the health endpoint groups
 	 */
 	public HealthEndpointWebExtension(HealthContributorRegistry registry, HealthEndpointGroups groups) {
-		super(registry, groups);
+		this(registry, groups, null);
+	}
+
+	/**
+	 * Create a new {@link HealthEndpointWebExtension} instance.
+	 * @param registry the health contributor registry
+	 * @param groups the health endpoint groups
+	 * @param evaluator the evaluator used to compute the health of indicators
+	 * concurrently or {@code null} to compute them sequentially on the calling thread
+	 * @since 2.5.0
+	 */
+	public HealthEndpointWebExtension(HealthContributorRegistry registry, HealthEndpointGroups groups,
+			ParallelHealthIndicatorEvaluator evaluator) {
+		this(registry, groups, evaluator, HealthContributorListener.NONE);
+	}
+
+	/**
+	 * Create a new {@link HealthEndpointWebExtension} instance.
+	 * @param registry the health contributor registry
+	 * @param groups the health endpoint groups
+	 * @param evaluator the evaluator used to compute the health of indicators
+	 * concurrently or {@code null} to compute them sequentially on the calling thread
+	 * @param listener the listener notified of the health of each indicator
+	 * @since 2.5.0
+	 */
+	public HealthEndpointWebExtension(HealthContributorRegistry registry, HealthEndpointGroups groups,
+			ParallelHealthIndicatorEvaluator evaluator, HealthContributorListener listener) {
+		super(registry, groups, listener);
+		this.evaluator = evaluator;
 	}
 
 	@ReadOperation
@@ -80,6 +111,14 @@ public class HealthEndpointWebExtension extends HealthEndpointSupport<HealthCont
 		return new WebEndpointResponse<>(health, statusCode);
 	}
 
+	@Override
+	protected Supplier<HealthComponent> getDeferredHealth(Supplier<HealthComponent> health, boolean includeDetails) {
+		if (this.evaluator != null) {
+			return this.evaluator.evaluate(health, includeDetails);
+		}
+		return super.getDeferredHealth(health, includeDetails);
+	}
+
 	@Override
 	protected HealthComponent getHealth(HealthContributor contributor, boolean includeDetails) {
 		return ((HealthIndicator) contributor).getHealth(includeDetails);
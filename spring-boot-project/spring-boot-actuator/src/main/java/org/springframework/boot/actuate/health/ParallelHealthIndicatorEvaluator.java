@@ -0,0 +1,158 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Evaluates {@link HealthIndicator health indicators} concurrently on behalf of the
+ * {@link HealthEndpoint} and {@link HealthEndpointWebExtension} so that the time taken to
+ * compute a composite health is bounded by its slowest indicator rather than by the sum
+ * of all of them. An indicator that does not respond within the configured timeout is
+ * reported as {@link Status#DOWN down}.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class ParallelHealthIndicatorEvaluator implements AutoCloseable {
+
+	private final Executor executor;
+
+	private final long timeout;
+
+	private final boolean ownsExecutor;
+
+	/**
+	 * Create a new {@link ParallelHealthIndicatorEvaluator} that uses the given
+	 * {@link Executor}. The lifecycle of the executor is not managed by this instance.
+	 * @param executor the executor used to evaluate health indicators
+	 * @param timeout the maximum time to wait for the health of an indicator or
+	 * {@code null} to wait indefinitely
+	 */
+	public ParallelHealthIndicatorEvaluator(Executor executor, Duration timeout) {
+		this(executor, timeout, false);
+	}
+
+	/**
+	 * Create a new {@link ParallelHealthIndicatorEvaluator} backed by a dedicated pool of
+	 * daemon threads that is shut down when this instance is {@link #close() closed}.
+	 * @param poolSize the maximum number of health indicators evaluated concurrently
+	 * @param timeout the maximum time to wait for the health of an indicator or
+	 * {@code null} to wait indefinitely
+	 */
+	public ParallelHealthIndicatorEvaluator(int poolSize, Duration timeout) {
+		this(createExecutor(poolSize), timeout, true);
+	}
+
+	private ParallelHealthIndicatorEvaluator(Executor executor, Duration timeout, boolean ownsExecutor) {
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(timeout == null || !timeout.isNegative(), "Timeout must not be negative");
+		this.executor = executor;
+		this.timeout = (timeout != null && !timeout.isZero()) ? timeout.toMillis() : -1;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	private static ExecutorService createExecutor(int poolSize) {
+		Assert.isTrue(poolSize > 0, "PoolSize must be strictly positive");
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("health-");
+		threadFactory.setDaemon(true);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Start the computation of the given health and return a supplier that waits for its
+	 * outcome.
+	 * @param health the supplier that computes the health
+	 * @param includeDetails if details should be included
+	 * @return a supplier of the health
+	 */
+	Supplier<HealthComponent> evaluate(Supplier<? extends HealthComponent> health, boolean includeDetails) {
+		FutureTask<HealthComponent> task = new FutureTask<>(health::get);
+		long deadline = System.currentTimeMillis() + this.timeout;
+		try {
+			this.executor.execute(task);
+		}
+		catch (RejectedExecutionException ex) {
+			task.run();
+		}
+		return () -> getHealth(task, deadline, includeDetails);
+	}
+
+	private HealthComponent getHealth(FutureTask<HealthComponent> task, long deadline, boolean includeDetails) {
+		try {
+			if (this.timeout < 0) {
+				return task.get();
+			}
+			return task.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException ex) {
+			task.cancel(true);
+			return timedOut(includeDetails);
+		}
+		catch (InterruptedException ex) {
+			task.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for health indicator", ex);
+		}
+		catch (CancellationException ex) {
+			return timedOut(includeDetails);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private Health timedOut(boolean includeDetails) {
+		if (!includeDetails) {
+			return Health.down().build();
+		}
+		return Health.down(new TimeoutException("Health indicator did not respond within " + this.timeout + "ms"))
+				.build();
+	}
+
+	@Override
+	public void close() {
+		if (this.ownsExecutor) {
+			((ExecutorService) this.executor).shutdownNow();
+		}
+	}
+
+}
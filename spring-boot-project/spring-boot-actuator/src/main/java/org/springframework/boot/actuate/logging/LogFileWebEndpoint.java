@@ -17,6 +17,14 @@
 package org.springframework.boot.actuate.logging;
 
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -27,9 +35,13 @@ import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
 import org.springframework.boot.logging.LogFile;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 
 /**
- * Web {@link Endpoint @Endpoint} that provides access to an application's log file.
+ * Web {@link Endpoint @Endpoint} that provides access to an application's log file. The
+ * end of the log file can be retrieved by specifying the number of lines or bytes to
+ * return, in which case the file is scanned backwards from its end so that large log
+ * files do not have to be read in full.
  *
  * @author Johannes Edmeier
  * @author Phillip Webb
@@ -41,6 +53,8 @@ public class LogFileWebEndpoint {
 
 	private static final Log logger = LogFactory.getLog(LogFileWebEndpoint.class);
 
+	private static final int BUFFER_SIZE = 8192;
+
 	private File externalFile;
 
 	private final LogFile logFile;
@@ -50,16 +64,39 @@ public class LogFileWebEndpoint {
 		this.logFile = logFile;
 	}
 
-	@ReadOperation(produces = "text/plain; charset=UTF-8")
 	public Resource logFile() {
-		Resource logFileResource = getLogFileResource();
+		return getReadableLogFileResource();
+	}
+
+	/**
+	 * Return the log file or, when {@code lines} or {@code bytes} is specified, only the
+	 * end of the log file.
+	 * @param lines the number of lines to return from the end of the log file or
+	 * {@code null}
+	 * @param bytes the maximum number of bytes to return from the end of the log file or
+	 * {@code null}
+	 * @return the log file resource or {@code null} if the log file is not available
+	 * @throws IOException on IO error
+	 * @since 2.5.0
+	 */
+	@ReadOperation(produces = "text/plain; charset=UTF-8")
+	public Resource logFile(@Nullable Integer lines, @Nullable Long bytes) throws IOException {
+		FileSystemResource logFileResource = getReadableLogFileResource();
+		if (logFileResource == null || (lines == null && bytes == null)) {
+			return logFileResource;
+		}
+		return getTail(logFileResource.getFile(), lines, bytes);
+	}
+
+	private FileSystemResource getReadableLogFileResource() {
+		FileSystemResource logFileResource = getLogFileResource();
 		if (logFileResource == null || !logFileResource.isReadable()) {
 			return null;
 		}
 		return logFileResource;
 	}
 
-	private Resource getLogFileResource() {
+	private FileSystemResource getLogFileResource() {
 		if (this.externalFile != null) {
 			return new FileSystemResource(this.externalFile);
 		}
@@ -70,4 +107,153 @@ public class LogFileWebEndpoint {
 		return new FileSystemResource(this.logFile.toString());
 	}
 
+	private Resource getTail(File file, Integer lines, Long bytes) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			long position = 0;
+			if (bytes != null) {
+				position = Math.max(position, size - Math.max(bytes, 0));
+			}
+			if (lines != null) {
+				position = Math.max(position, findStartOfLastLines(channel, size, lines));
+			}
+			return new FileTailResource(file, position, size - position);
+		}
+	}
+
+	private long findStartOfLastLines(FileChannel channel, long size, int lines) throws IOException {
+		if (lines <= 0) {
+			return size;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		int found = 0;
+		long position = size;
+		while (position > 0) {
+			int length = (int) Math.min(BUFFER_SIZE, position);
+			position -= length;
+			buffer.clear();
+			buffer.limit(length);
+			read(channel, buffer, position);
+			for (int i = length - 1; i >= 0; i--) {
+				long offset = position + i;
+				// The new line that terminates the last line does not start a new line
+				if (buffer.get(i) == '\n' && offset != size - 1 && ++found == lines) {
+					return offset + 1;
+				}
+			}
+		}
+		return 0;
+	}
+
+	private void read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) == -1) {
+				throw new IOException("Unexpected end of file");
+			}
+		}
+	}
+
+	/**
+	 * {@link FileSystemResource} for the end of a file. The length of the content is
+	 * fixed when the resource is created so that content that is appended afterwards is
+	 * not included.
+	 */
+	private static final class FileTailResource extends FileSystemResource {
+
+		private final long position;
+
+		private final long length;
+
+		FileTailResource(File file, long position, long length) {
+			super(file);
+			this.position = position;
+			this.length = length;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			FileChannel channel = FileChannel.open(getFile().toPath(), StandardOpenOption.READ);
+			try {
+				channel.position(this.position);
+			}
+			catch (IOException ex) {
+				channel.close();
+				throw ex;
+			}
+			return new BoundedInputStream(Channels.newInputStream(channel), this.length);
+		}
+
+		@Override
+		public ReadableByteChannel readableChannel() throws IOException {
+			return Channels.newChannel(getInputStream());
+		}
+
+		@Override
+		public long contentLength() {
+			return this.length;
+		}
+
+		@Override
+		public boolean isFile() {
+			// Prevent zero-copy of the whole file
+			return false;
+		}
+
+	}
+
+	/**
+	 * {@link FilterInputStream} that reads at most a given number of bytes.
+	 */
+	private static final class BoundedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		BoundedInputStream(InputStream in, long remaining) {
+			super(in);
+			this.remaining = remaining;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			int read = super.read();
+			if (read != -1) {
+				this.remaining--;
+			}
+			return read;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			int read = super.read(b, off, (int) Math.min(len, this.remaining));
+			if (read != -1) {
+				this.remaining -= read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, this.remaining));
+			this.remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), this.remaining);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+	}
+
 }
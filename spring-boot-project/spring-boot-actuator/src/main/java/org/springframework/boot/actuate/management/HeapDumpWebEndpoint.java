@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.management;
 
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FilterInputStream;
@@ -25,13 +26,25 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.PlatformManagedObject;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -47,7 +60,11 @@ import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
- * Web {@link Endpoint @Endpoint} to expose heap dumps.
+ * Web {@link Endpoint @Endpoint} to expose heap dumps. Heap dumps can optionally be
+ * gzip-compressed as they are streamed to the client and the number of heap dumps that
+ * can be pending (being written or awaiting download) at any one time can be limited. A
+ * heap dump that has not started to be downloaded a minute after it was written is
+ * considered abandoned: it is deleted and no longer counts as pending.
  *
  * @author Lari Hotari
  * @author Phillip Webb
@@ -58,10 +75,20 @@ import org.springframework.util.ReflectionUtils;
 @WebEndpoint(id = "heapdump")
 public class HeapDumpWebEndpoint {
 
+	private static final Log logger = LogFactory.getLog(HeapDumpWebEndpoint.class);
+
+	private static final Duration UNREAD_TIMEOUT = Duration.ofMinutes(1);
+
 	private final long timeout;
 
+	private final long unreadTimeout;
+
+	private final Set<TemporaryFileSystemResource> heapDumps = ConcurrentHashMap.newKeySet();
+
 	private final Lock lock = new ReentrantLock();
 
+	private final Semaphore pending;
+
 	private HeapDumper heapDumper;
 
 	public HeapDumpWebEndpoint() {
@@ -69,15 +96,51 @@ public class HeapDumpWebEndpoint {
 	}
 
 	protected HeapDumpWebEndpoint(long timeout) {
-		this.timeout = timeout;
+		this(Duration.ofMillis(timeout), -1);
+	}
+
+	/**
+	 * Create a new {@link HeapDumpWebEndpoint} instance.
+	 * @param timeout the time to wait for a heap dump that is already in progress
+	 * @param maxPending the maximum number of heap dumps that can be pending at any one
+	 * time or {@code -1} for no limit
+	 * @since 2.5.0
+	 */
+	public HeapDumpWebEndpoint(Duration timeout, int maxPending) {
+		this(timeout, maxPending, UNREAD_TIMEOUT);
+	}
+
+	HeapDumpWebEndpoint(Duration timeout, int maxPending, Duration unreadTimeout) {
+		this.timeout = timeout.toMillis();
+		this.pending = new Semaphore((maxPending >= 0) ? maxPending : Integer.MAX_VALUE);
+		this.unreadTimeout = unreadTimeout.toNanos();
 	}
 
-	@ReadOperation
 	public WebEndpointResponse<Resource> heapDump(@Nullable Boolean live) {
+		return heapDump(live, null);
+	}
+
+	/**
+	 * Dump the heap, returning a response containing the dump.
+	 * @param live if only <em>live</em> objects should be dumped (defaults to
+	 * {@code true})
+	 * @param compress if the dump should be gzip-compressed as it is streamed (defaults
+	 * to {@code false})
+	 * @return the response
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public WebEndpointResponse<Resource> heapDump(@Nullable Boolean live, @Nullable Boolean compress) {
+		releaseAbandonedHeapDumps();
+		if (!this.pending.tryAcquire()) {
+			return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+		}
+		Resource heapDump = null;
 		try {
 			if (this.lock.tryLock(this.timeout, TimeUnit.MILLISECONDS)) {
 				try {
-					return new WebEndpointResponse<>(dumpHeap((live != null) ? live : true));
+					heapDump = dumpHeap((live != null) ? live : true, (compress != null) ? compress : false);
+					return new WebEndpointResponse<>(heapDump);
 				}
 				finally {
 					this.lock.unlock();
@@ -93,16 +156,48 @@ public class HeapDumpWebEndpoint {
 		catch (HeapDumperUnavailableException ex) {
 			return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
 		}
+		finally {
+			if (heapDump == null) {
+				this.pending.release();
+			}
+		}
 		return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
 	}
 
-	private Resource dumpHeap(boolean live) throws IOException, InterruptedException {
+	private Resource dumpHeap(boolean live, boolean compress) throws IOException, InterruptedException {
 		if (this.heapDumper == null) {
 			this.heapDumper = createHeapDumper();
 		}
 		File file = createTempFile(live);
-		this.heapDumper.dumpHeap(file, live);
-		return new TemporaryFileSystemResource(file);
+		logger.info("Dumping heap to '" + file + "'");
+		long start = System.nanoTime();
+		try {
+			this.heapDumper.dumpHeap(file, live);
+		}
+		catch (IOException | InterruptedException | RuntimeException ex) {
+			file.delete();
+			throw ex;
+		}
+		logger.info("Heap dump of " + file.length() + " bytes written to '" + file + "' in "
+				+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+		TemporaryFileSystemResource heapDump = new TemporaryFileSystemResource(file, compress, this::released);
+		this.heapDumps.add(heapDump);
+		return heapDump;
+	}
+
+	private void released(TemporaryFileSystemResource heapDump) {
+		this.heapDumps.remove(heapDump);
+		this.pending.release();
+	}
+
+	private void releaseAbandonedHeapDumps() {
+		long now = System.nanoTime();
+		for (TemporaryFileSystemResource heapDump : this.heapDumps) {
+			if (!heapDump.opened.get() && now - heapDump.createdAt > this.unreadTimeout) {
+				logger.warn("Deleting heap dump '" + heapDump.getFile() + "' that was not downloaded");
+				heapDump.release();
+			}
+		}
 	}
 
 	private File createTempFile(boolean live) throws IOException {
@@ -186,13 +281,42 @@ public class HeapDumpWebEndpoint {
 
 		private final Log logger = LogFactory.getLog(getClass());
 
-		private TemporaryFileSystemResource(File file) {
+		private final boolean compress;
+
+		private final Consumer<TemporaryFileSystemResource> onRelease;
+
+		private final long createdAt = System.nanoTime();
+
+		private final AtomicBoolean opened = new AtomicBoolean();
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private TemporaryFileSystemResource(File file, boolean compress,
+				Consumer<TemporaryFileSystemResource> onRelease) {
 			super(file);
+			this.compress = compress;
+			this.onRelease = onRelease;
+		}
+
+		@Override
+		public String getFilename() {
+			String filename = super.getFilename();
+			return (this.compress) ? filename + ".gz" : filename;
+		}
+
+		@Override
+		public long contentLength() throws IOException {
+			// The compressed length is not known until the dump has been streamed
+			return (this.compress) ? -1 : super.contentLength();
 		}
 
 		@Override
 		public ReadableByteChannel readableChannel() throws IOException {
+			if (this.compress) {
+				return Channels.newChannel(getInputStream());
+			}
 			ReadableByteChannel readableChannel = super.readableChannel();
+			this.opened.set(true);
 			return new ReadableByteChannel() {
 
 				@Override
@@ -215,7 +339,7 @@ public class HeapDumpWebEndpoint {
 
 		@Override
 		public InputStream getInputStream() throws IOException {
-			return new FilterInputStream(super.getInputStream()) {
+			InputStream inputStream = new FilterInputStream(super.getInputStream()) {
 
 				@Override
 				public void close() throws IOException {
@@ -223,6 +347,8 @@ public class HeapDumpWebEndpoint {
 				}
 
 			};
+			this.opened.set(true);
+			return (this.compress) ? new GzipCompressingInputStream(inputStream) : inputStream;
 		}
 
 		private void closeThenDeleteFile(Closeable closeable) throws IOException {
@@ -230,11 +356,17 @@ public class HeapDumpWebEndpoint {
 				closeable.close();
 			}
 			finally {
-				deleteFile();
+				release();
 			}
 		}
 
-		private void deleteFile() {
+		/**
+		 * Delete the file and release the heap dump. Only the first call has an effect.
+		 */
+		void release() {
+			if (!this.released.compareAndSet(false, true)) {
+				return;
+			}
 			try {
 				Files.delete(getFile().toPath());
 			}
@@ -242,6 +374,9 @@ public class HeapDumpWebEndpoint {
 				TemporaryFileSystemResource.this.logger
 						.warn("Failed to delete temporary heap dump file '" + getFile() + "'", ex);
 			}
+			finally {
+				this.onRelease.accept(this);
+			}
 		}
 
 		@Override
@@ -252,4 +387,71 @@ public class HeapDumpWebEndpoint {
 
 	}
 
+	/**
+	 * {@link InputStream} that gzip-compresses the content of another stream as it is
+	 * read.
+	 */
+	private static final class GzipCompressingInputStream extends InputStream {
+
+		private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+		private static final int BUFFER_SIZE = 64 * 1024;
+
+		private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+		private final CheckedInputStream source;
+
+		private final InputStream deflated;
+
+		private InputStream current;
+
+		private boolean trailerWritten;
+
+		GzipCompressingInputStream(InputStream source) {
+			this.source = new CheckedInputStream(source, new CRC32());
+			this.deflated = new DeflaterInputStream(this.source, this.deflater, BUFFER_SIZE);
+			this.current = new ByteArrayInputStream(HEADER);
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] buffer = new byte[1];
+			return (read(buffer, 0, 1) != -1) ? buffer[0] & 0xff : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			while (this.current != null) {
+				int read = this.current.read(b, off, len);
+				if (read != -1) {
+					return read;
+				}
+				this.current = nextStream();
+			}
+			return -1;
+		}
+
+		private InputStream nextStream() {
+			if (this.current != this.deflated) {
+				return (!this.trailerWritten) ? this.deflated : null;
+			}
+			this.trailerWritten = true;
+			ByteBuffer trailer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+			trailer.putInt((int) this.source.getChecksum().getValue());
+			trailer.putInt((int) this.deflater.getBytesRead());
+			return new ByteArrayInputStream(trailer.array());
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				this.deflated.close();
+			}
+			finally {
+				this.deflater.end();
+			}
+		}
+
+	}
+
 }
@@ -25,9 +25,6 @@ import java.lang.management.RuntimeMXBean;
 import java.lang.management.ThreadInfo;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Formats a thread dump as plain text.
@@ -67,21 +64,16 @@ class PlainTextThreadDumpFormatter {
 	private void writeStackTrace(PrintWriter writer, ThreadInfo info, MonitorInfo[] lockedMonitors) {
 		int depth = 0;
 		for (StackTraceElement element : info.getStackTrace()) {
-			writeStackTraceElement(writer, element, info, lockedMonitorsForDepth(lockedMonitors, depth), depth == 0);
+			writeStackTraceElement(writer, element, info, lockedMonitors, depth);
 			depth++;
 		}
 	}
 
-	private List<MonitorInfo> lockedMonitorsForDepth(MonitorInfo[] lockedMonitors, int depth) {
-		return Stream.of(lockedMonitors).filter((lockedMonitor) -> lockedMonitor.getLockedStackDepth() == depth)
-				.collect(Collectors.toList());
-	}
-
 	private void writeStackTraceElement(PrintWriter writer, StackTraceElement element, ThreadInfo info,
-			List<MonitorInfo> lockedMonitors, boolean firstElement) {
+			MonitorInfo[] lockedMonitors, int depth) {
 		writer.printf("\tat %s%n", element.toString());
 		LockInfo lockInfo = info.getLockInfo();
-		if (firstElement && lockInfo != null) {
+		if (depth == 0 && lockInfo != null) {
 			if (element.getClassName().equals(Object.class.getName()) && element.getMethodName().equals("wait")) {
 				writer.printf("\t- waiting on %s%n", format(lockInfo));
 			}
@@ -96,16 +88,18 @@ class PlainTextThreadDumpFormatter {
 				}
 			}
 		}
-		writeMonitors(writer, lockedMonitors);
+		writeMonitors(writer, lockedMonitors, depth);
 	}
 
 	private String format(LockInfo lockInfo) {
 		return String.format("<%x> (a %s)", lockInfo.getIdentityHashCode(), lockInfo.getClassName());
 	}
 
-	private void writeMonitors(PrintWriter writer, List<MonitorInfo> lockedMonitorsAtCurrentDepth) {
-		for (MonitorInfo lockedMonitor : lockedMonitorsAtCurrentDepth) {
-			writer.printf("\t- locked %s%n", format(lockedMonitor));
+	private void writeMonitors(PrintWriter writer, MonitorInfo[] lockedMonitors, int depth) {
+		for (MonitorInfo lockedMonitor : lockedMonitors) {
+			if (lockedMonitor.getLockedStackDepth() == depth) {
+				writer.printf("\t- locked %s%n", format(lockedMonitor));
+			}
 		}
 	}
 
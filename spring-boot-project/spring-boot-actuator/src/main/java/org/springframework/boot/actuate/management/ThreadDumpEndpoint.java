@@ -16,17 +16,29 @@
 
 package org.springframework.boot.actuate.management;
 
+import java.lang.Thread.State;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
 
 /**
- * {@link Endpoint @Endpoint} to expose thread info.
+ * {@link Endpoint @Endpoint} to expose thread info. Thread dumps can be filtered by
+ * thread name and state, in which case only the matching threads are dumped. A summary of
+ * the application's threads that does not require a full thread dump is also available.
  *
  * @author Dave Syer
  * @author Andy Wilkinson
@@ -35,20 +47,132 @@ import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 @Endpoint(id = "threaddump")
 public class ThreadDumpEndpoint {
 
+	private static final Pattern POOL_SUFFIX_PATTERN = Pattern.compile("[-_#.\\s]*\\d+$");
+
 	private final PlainTextThreadDumpFormatter plainTextFormatter = new PlainTextThreadDumpFormatter();
 
-	@ReadOperation
 	public ThreadDumpDescriptor threadDump() {
-		return getFormattedThreadDump(ThreadDumpDescriptor::new);
+		return threadDump(null, null);
+	}
+
+	/**
+	 * Return a thread dump, optionally limited to the threads that match the given
+	 * {@code name} pattern and {@code state}.
+	 * @param name a regular expression that thread names must match or {@code null}
+	 * @param state the state that threads must be in or {@code null}
+	 * @return the thread dump
+	 * @since 2.5.0
+	 */
+	public ThreadDumpDescriptor threadDump(@Nullable String name, @Nullable State state) {
+		return getFormattedThreadDump(ThreadDumpDescriptor::new, name, state);
+	}
+
+	/**
+	 * Return a thread dump or, if {@code summary} is {@code true}, a
+	 * {@link #threadSummary(String, State) summary} of the threads, optionally limited to
+	 * the threads that match the given {@code name} pattern and {@code state}.
+	 * @param name a regular expression that thread names must match or {@code null}
+	 * @param state the state that threads must be in or {@code null}
+	 * @param summary if a summary should be returned rather than a thread dump (defaults
+	 * to {@code false})
+	 * @return the thread dump or the summary
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public Object threadDump(@Nullable String name, @Nullable State state, @Nullable Boolean summary) {
+		if (summary != null && summary) {
+			return threadSummary(name, state);
+		}
+		return threadDump(name, state);
 	}
 
-	@ReadOperation(produces = "text/plain;charset=UTF-8")
 	public String textThreadDump() {
-		return getFormattedThreadDump(this.plainTextFormatter::format);
+		return textThreadDump(null, null);
+	}
+
+	/**
+	 * Return a plain text thread dump, optionally limited to the threads that match the
+	 * given {@code name} pattern and {@code state}.
+	 * @param name a regular expression that thread names must match or {@code null}
+	 * @param state the state that threads must be in or {@code null}
+	 * @return the thread dump
+	 * @since 2.5.0
+	 */
+	@ReadOperation(produces = "text/plain;charset=UTF-8")
+	public String textThreadDump(@Nullable String name, @Nullable State state) {
+		return getFormattedThreadDump(this.plainTextFormatter::format, name, state);
+	}
+
+	/**
+	 * Return a summary of the application's threads, optionally limited to the threads
+	 * that match the given {@code name} pattern and {@code state}. The thread counts
+	 * always describe all of the application's threads. The summary is created without
+	 * capturing stack traces, monitors, or synchronizers.
+	 * @param name a regular expression that thread names must match or {@code null}
+	 * @param state the state that threads must be in or {@code null}
+	 * @return the summary
+	 * @since 2.5.0
+	 */
+	public ThreadSummaryDescriptor threadSummary(@Nullable String name, @Nullable State state) {
+		Pattern namePattern = compileNamePattern(name);
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		Map<State, Integer> states = new EnumMap<>(State.class);
+		for (State candidate : State.values()) {
+			states.put(candidate, 0);
+		}
+		Map<String, Integer> pools = new TreeMap<>();
+		for (ThreadInfo info : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds())) {
+			if (matches(info, namePattern, state)) {
+				states.merge(info.getThreadState(), 1, Integer::sum);
+				pools.merge(getPoolName(info.getThreadName()), 1, Integer::sum);
+			}
+		}
+		return new ThreadSummaryDescriptor(threadMXBean.getThreadCount(), threadMXBean.getDaemonThreadCount(),
+				threadMXBean.getPeakThreadCount(), states, pools);
+	}
+
+	private String getPoolName(String threadName) {
+		String poolName = POOL_SUFFIX_PATTERN.matcher(threadName).replaceFirst("");
+		return (!poolName.isEmpty()) ? poolName : threadName;
+	}
+
+	private <T> T getFormattedThreadDump(Function<ThreadInfo[], T> formatter, String name, State state) {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (name == null && state == null) {
+			return formatter.apply(threadMXBean.dumpAllThreads(true, true));
+		}
+		Pattern namePattern = compileNamePattern(name);
+		// Identify matching threads without capturing stack traces, then dump only them
+		ThreadInfo[] candidates = threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds());
+		long[] matchingIds = Arrays.stream(candidates).filter((info) -> matches(info, namePattern, state))
+				.mapToLong(ThreadInfo::getThreadId).toArray();
+		ThreadInfo[] threads = (matchingIds.length > 0) ? threadMXBean.getThreadInfo(matchingIds, true, true)
+				: new ThreadInfo[0];
+		return formatter.apply(
+				Arrays.stream(threads).filter((info) -> matches(info, namePattern, state)).toArray(ThreadInfo[]::new));
 	}
 
-	private <T> T getFormattedThreadDump(Function<ThreadInfo[], T> formatter) {
-		return formatter.apply(ManagementFactory.getThreadMXBean().dumpAllThreads(true, true));
+	private Pattern compileNamePattern(String name) {
+		if (name == null) {
+			return null;
+		}
+		try {
+			return Pattern.compile(name);
+		}
+		catch (PatternSyntaxException ex) {
+			throw new InvalidEndpointRequestException("Invalid thread name pattern '" + name + "'",
+					"Invalid thread name pattern", ex);
+		}
+	}
+
+	private boolean matches(ThreadInfo info, Pattern namePattern, State state) {
+		if (info == null) {
+			return false;
+		}
+		if (namePattern != null && !namePattern.matcher(info.getThreadName()).matches()) {
+			return false;
+		}
+		return state == null || info.getThreadState() == state;
 	}
 
 	/**
@@ -68,4 +192,53 @@ public class ThreadDumpEndpoint {
 
 	}
 
+	/**
+	 * A summary of the application's threads. Primarily intended for serialization to
+	 * JSON.
+	 *
+	 * @since 2.5.0
+	 */
+	public static final class ThreadSummaryDescriptor {
+
+		private final int threadCount;
+
+		private final int daemonThreadCount;
+
+		private final int peakThreadCount;
+
+		private final Map<State, Integer> states;
+
+		private final Map<String, Integer> pools;
+
+		private ThreadSummaryDescriptor(int threadCount, int daemonThreadCount, int peakThreadCount,
+				Map<State, Integer> states, Map<String, Integer> pools) {
+			this.threadCount = threadCount;
+			this.daemonThreadCount = daemonThreadCount;
+			this.peakThreadCount = peakThreadCount;
+			this.states = Collections.unmodifiableMap(states);
+			this.pools = Collections.unmodifiableMap(pools);
+		}
+
+		public int getThreadCount() {
+			return this.threadCount;
+		}
+
+		public int getDaemonThreadCount() {
+			return this.daemonThreadCount;
+		}
+
+		public int getPeakThreadCount() {
+			return this.peakThreadCount;
+		}
+
+		public Map<State, Integer> getStates() {
+			return this.states;
+		}
+
+		public Map<String, Integer> getPools() {
+			return this.pools;
+		}
+
+	}
+
 }
@@ -16,8 +16,10 @@
 
 package org.springframework.boot.actuate.metrics;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -25,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -42,6 +46,8 @@ import org.springframework.lang.Nullable;
 
 /**
  * An {@link Endpoint @Endpoint} for exposing the metrics held by a {@link MeterRegistry}.
+ * Meters are looked up using an index of meter names and tags that is kept up-to-date as
+ * meters are added to and removed from each registry.
  *
  * @author Jon Schneider
  * @author Phillip Webb
@@ -50,6 +56,14 @@ import org.springframework.lang.Nullable;
 @Endpoint(id = "metrics")
 public class MetricsEndpoint {
 
+	/**
+	 * Indexes shared by every endpoint. Micrometer does not allow the listeners that keep
+	 * an index up-to-date to be removed so each registry is given a single index, and a
+	 * single pair of listeners, for as long as it is in use, however many endpoints are
+	 * created for it.
+	 */
+	private static final Map<MeterRegistry, MeterIndex> indexes = Collections.synchronizedMap(new WeakHashMap<>());
+
 	private final MeterRegistry registry;
 
 	public MetricsEndpoint(MeterRegistry registry) {
@@ -112,7 +126,11 @@ public class MetricsEndpoint {
 		if (registry instanceof CompositeMeterRegistry) {
 			return findFirstMatchingMeters((CompositeMeterRegistry) registry, name, tags);
 		}
-		return registry.find(name).tags(tags).meters();
+		return getIndex(registry).find(name, tags);
+	}
+
+	private MeterIndex getIndex(MeterRegistry registry) {
+		return indexes.computeIfAbsent(registry, MeterIndex::new);
 	}
 
 	private Collection<Meter> findFirstMatchingMeters(CompositeMeterRegistry composite, String name,
@@ -161,6 +179,100 @@ public class MetricsEndpoint {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Index of the meters of a {@link MeterRegistry} by name and by tag. The index is
+	 * maintained by listeners so that meters matching a name and tags can be found
+	 * without iterating over every meter in the registry. The index does not reference
+	 * its registry so that the registry, its listeners, and the index can be garbage
+	 * collected together.
+	 */
+	private static final class MeterIndex {
+
+		private final Map<String, NameIndex> names = new ConcurrentHashMap<>();
+
+		MeterIndex(MeterRegistry registry) {
+			registry.config().onMeterAdded(this::add).onMeterRemoved(this::remove);
+			registry.getMeters().forEach(this::add);
+		}
+
+		private void add(Meter meter) {
+			this.names.computeIfAbsent(meter.getId().getName(), (name) -> new NameIndex()).add(meter);
+		}
+
+		private void remove(Meter meter) {
+			NameIndex index = this.names.get(meter.getId().getName());
+			if (index != null) {
+				index.remove(meter);
+			}
+		}
+
+		Collection<Meter> find(String name, Iterable<Tag> tags) {
+			NameIndex index = this.names.get(name);
+			return (index != null) ? index.find(tags) : Collections.emptyList();
+		}
+
+	}
+
+	/**
+	 * The meters with a particular name, indexed by tag key and value.
+	 */
+	private static final class NameIndex {
+
+		private final Set<Meter> meters = ConcurrentHashMap.newKeySet();
+
+		private final Map<String, Map<String, Set<Meter>>> tags = new ConcurrentHashMap<>();
+
+		void add(Meter meter) {
+			this.meters.add(meter);
+			for (Tag tag : meter.getId().getTagsAsIterable()) {
+				this.tags.computeIfAbsent(tag.getKey(), (key) -> new ConcurrentHashMap<>()).compute(tag.getValue(),
+						(value, meters) -> {
+							Set<Meter> result = (meters != null) ? meters : ConcurrentHashMap.newKeySet();
+							result.add(meter);
+							return result;
+						});
+			}
+		}
+
+		void remove(Meter meter) {
+			this.meters.remove(meter);
+			for (Tag tag : meter.getId().getTagsAsIterable()) {
+				Map<String, Set<Meter>> values = this.tags.get(tag.getKey());
+				if (values != null) {
+					values.computeIfPresent(tag.getValue(), (value, meters) -> {
+						meters.remove(meter);
+						return (!meters.isEmpty()) ? meters : null;
+					});
+				}
+			}
+		}
+
+		Collection<Meter> find(Iterable<Tag> tags) {
+			List<Set<Meter>> candidates = new ArrayList<>();
+			for (Tag tag : tags) {
+				Set<Meter> meters = this.tags.getOrDefault(tag.getKey(), Collections.emptyMap()).get(tag.getValue());
+				if (meters == null) {
+					return Collections.emptyList();
+				}
+				candidates.add(meters);
+			}
+			if (candidates.isEmpty()) {
+				return new ArrayList<>(this.meters);
+			}
+			candidates.sort(Comparator.comparingInt(Set::size));
+			Set<Meter> smallest = candidates.get(0);
+			List<Set<Meter>> others = candidates.subList(1, candidates.size());
+			List<Meter> result = new ArrayList<>();
+			for (Meter meter : smallest) {
+				if (others.stream().allMatch((meters) -> meters.contains(meter))) {
+					result.add(meter);
+				}
+			}
+			return result;
+		}
+
+	}
+
 	/**
 	 * Response payload for a metric name listing.
 	 */
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.endpoint;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.actuate.endpoint.EndpointId;
+import org.springframework.boot.actuate.endpoint.invoker.cache.CachingOperationInvokerListener;
+
+/**
+ * {@link CachingOperationInvokerListener} that records the cache activity of endpoint
+ * operations to a {@link MeterRegistry}.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class MetricsCachingOperationInvokerListener implements CachingOperationInvokerListener {
+
+	private static final String GETS_METRIC_NAME = "endpoint.cache.gets";
+
+	private final MeterRegistry registry;
+
+	/**
+	 * Create a new {@code MetricsCachingOperationInvokerListener}.
+	 * @param registry the registry to which metrics are recorded
+	 */
+	public MetricsCachingOperationInvokerListener(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void onHit(EndpointId endpointId) {
+		recordGet(endpointId, "hit");
+	}
+
+	@Override
+	public void onStaleHit(EndpointId endpointId) {
+		recordGet(endpointId, "stale");
+	}
+
+	@Override
+	public void onMiss(EndpointId endpointId) {
+		recordGet(endpointId, "miss");
+	}
+
+	@Override
+	public void onRefresh(EndpointId endpointId) {
+		Counter.builder("endpoint.cache.refreshes").tag("endpoint", endpointId.toString())
+				.description("The number of times a stale cached response has been refreshed in the background")
+				.register(this.registry).increment();
+	}
+
+	@Override
+	public void onEviction(EndpointId endpointId) {
+		Counter.builder("endpoint.cache.evictions").tag("endpoint", endpointId.toString())
+				.description("The number of cached responses that have been evicted").register(this.registry)
+				.increment();
+	}
+
+	private void recordGet(EndpointId endpointId, String result) {
+		Counter.builder(GETS_METRIC_NAME).tag("endpoint", endpointId.toString()).tag("result", result)
+				.description("The number of cache lookups of endpoint responses").register(this.registry).increment();
+	}
+
+}
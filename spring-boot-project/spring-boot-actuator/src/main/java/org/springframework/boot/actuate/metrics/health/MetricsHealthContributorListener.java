@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.health;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.boot.actuate.health.HealthContributorListener;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * {@link HealthContributorListener} that records the time taken to compute the health of
+ * each contributor, as well as the transitions of its status, to a {@link MeterRegistry}.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class MetricsHealthContributorListener implements HealthContributorListener {
+
+	private static final String NO_GROUP = "none";
+
+	private final MeterRegistry registry;
+
+	private final Map<String, Status> statuses = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@code MetricsHealthContributorListener}.
+	 * @param registry the registry to which metrics are recorded
+	 */
+	public MetricsHealthContributorListener(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void onHealth(String name, String group, Status status, Duration duration) {
+		Timer.builder("health.contributor").tag("name", name).tag("group", (group != null) ? group : NO_GROUP)
+				.tag("status", status.getCode()).description("Time taken to compute the health of a contributor")
+				.register(this.registry).record(duration);
+		Status previous = this.statuses.put(name, status);
+		if (previous != null && !previous.equals(status)) {
+			Counter.builder("health.contributor.transitions").tag("name", name).tag("from", previous.getCode())
+					.tag("to", status.getCode()).description("The number of times the status of a contributor changed")
+					.register(this.registry).increment();
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.concurrency;
+
+import java.util.Collections;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MeterBinder} for an {@link AdaptiveConcurrencyLimiter}.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class ConcurrencyLimiterMetrics implements MeterBinder {
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	private final Iterable<Tag> tags;
+
+	/**
+	 * Create a new meter binder recording the specified
+	 * {@link AdaptiveConcurrencyLimiter}.
+	 * @param limiter the {@link AdaptiveConcurrencyLimiter} to instrument
+	 * @param tags tags to apply to all recorded metrics
+	 */
+	public ConcurrencyLimiterMetrics(AdaptiveConcurrencyLimiter limiter, Iterable<Tag> tags) {
+		Assert.notNull(limiter, "Limiter must not be null");
+		this.limiter = limiter;
+		this.tags = (tags != null) ? tags : Collections.emptyList();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("http.server.concurrency.limit", this.limiter, AdaptiveConcurrencyLimiter::getLimit)
+				.tags(this.tags).baseUnit("requests")
+				.description("Number of requests that may be processed concurrently").register(registry);
+		Gauge.builder("http.server.concurrency.active", this.limiter, AdaptiveConcurrencyLimiter::getInFlight)
+				.tags(this.tags).baseUnit("requests")
+				.description("Number of requests that are currently being processed").register(registry);
+		FunctionCounter
+				.builder("http.server.concurrency.rejected", this.limiter, AdaptiveConcurrencyLimiter::getRejected)
+				.tags(this.tags).baseUnit("requests")
+				.description("Number of requests that were rejected because the limit had been reached")
+				.register(registry);
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.jetty;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.web.embedded.jetty.JettyAsyncRequestLogWriter;
+
+/**
+ * {@link MeterBinder} for the queue of a {@link JettyAsyncRequestLogWriter}.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class JettyAccessLogMetrics implements MeterBinder {
+
+	private final JettyAsyncRequestLogWriter writer;
+
+	private final Iterable<Tag> tags;
+
+	public JettyAccessLogMetrics(JettyAsyncRequestLogWriter writer, Iterable<Tag> tags) {
+		this.writer = writer;
+		this.tags = tags;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("jetty.accesslog.entries.queued", this.writer, JettyAsyncRequestLogWriter::getQueuedEntries)
+				.tags(this.tags).description("Number of access log entries that are waiting to be written")
+				.register(registry);
+		FunctionCounter
+				.builder("jetty.accesslog.entries.discarded", this.writer,
+						JettyAsyncRequestLogWriter::getDiscardedEntries)
+				.tags(this.tags).description("Number of access log entries that were discarded as the queue was full")
+				.register(registry);
+	}
+
+}
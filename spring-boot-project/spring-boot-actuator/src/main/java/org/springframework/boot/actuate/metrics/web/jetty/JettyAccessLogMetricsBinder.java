@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.jetty;
+
+import java.util.Collections;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import org.eclipse.jetty.server.CustomRequestLog;
+import org.eclipse.jetty.server.RequestLog;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.jetty.JettyAsyncRequestLogWriter;
+import org.springframework.boot.web.embedded.jetty.JettyWebServer;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Binds {@link JettyAccessLogMetrics} for the embedded Jetty's
+ * {@link JettyAsyncRequestLogWriter}, if any, in response to the
+ * {@link ApplicationStartedEvent}.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class JettyAccessLogMetricsBinder implements ApplicationListener<ApplicationStartedEvent> {
+
+	private final MeterRegistry meterRegistry;
+
+	private final Iterable<Tag> tags;
+
+	public JettyAccessLogMetricsBinder(MeterRegistry meterRegistry) {
+		this(meterRegistry, Collections.emptyList());
+	}
+
+	public JettyAccessLogMetricsBinder(MeterRegistry meterRegistry, Iterable<Tag> tags) {
+		this.meterRegistry = meterRegistry;
+		this.tags = tags;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationStartedEvent event) {
+		JettyAsyncRequestLogWriter writer = findWriter(event.getApplicationContext());
+		if (writer != null) {
+			new JettyAccessLogMetrics(writer, this.tags).bindTo(this.meterRegistry);
+		}
+	}
+
+	private JettyAsyncRequestLogWriter findWriter(ApplicationContext applicationContext) {
+		if (applicationContext instanceof WebServerApplicationContext) {
+			WebServer webServer = ((WebServerApplicationContext) applicationContext).getWebServer();
+			if (webServer instanceof JettyWebServer) {
+				RequestLog requestLog = ((JettyWebServer) webServer).getServer().getRequestLog();
+				if (requestLog instanceof CustomRequestLog
+						&& ((CustomRequestLog) requestLog).getWriter() instanceof JettyAsyncRequestLogWriter) {
+					return (JettyAsyncRequestLogWriter) ((CustomRequestLog) requestLog).getWriter();
+				}
+			}
+		}
+		return null;
+	}
+
+}
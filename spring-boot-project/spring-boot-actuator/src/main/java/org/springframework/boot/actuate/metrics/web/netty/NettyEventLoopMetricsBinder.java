@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.netty;
+
+import java.util.Collections;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Binds metrics for the event loops of a {@link NettyWebServer} in response to the
+ * {@link ApplicationStartedEvent}.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class NettyEventLoopMetricsBinder implements ApplicationListener<ApplicationStartedEvent> {
+
+	private final MeterRegistry meterRegistry;
+
+	private final Iterable<Tag> tags;
+
+	public NettyEventLoopMetricsBinder(MeterRegistry meterRegistry) {
+		this(meterRegistry, Collections.emptyList());
+	}
+
+	public NettyEventLoopMetricsBinder(MeterRegistry meterRegistry, Iterable<Tag> tags) {
+		this.meterRegistry = meterRegistry;
+		this.tags = tags;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationStartedEvent event) {
+		ApplicationContext applicationContext = event.getApplicationContext();
+		EventLoopGroup eventLoopGroup = findEventLoopGroup(applicationContext);
+		if (eventLoopGroup != null) {
+			bindTo(eventLoopGroup);
+		}
+	}
+
+	private EventLoopGroup findEventLoopGroup(ApplicationContext applicationContext) {
+		if (applicationContext instanceof WebServerApplicationContext) {
+			WebServer webServer = ((WebServerApplicationContext) applicationContext).getWebServer();
+			if (webServer instanceof NettyWebServer) {
+				return ((NettyWebServer) webServer).getEventLoopGroup();
+			}
+		}
+		return null;
+	}
+
+	private void bindTo(EventLoopGroup eventLoopGroup) {
+		int index = 0;
+		for (EventExecutor executor : eventLoopGroup) {
+			if (executor instanceof SingleThreadEventExecutor) {
+				Gauge.builder("netty.eventloop.pending.tasks", (SingleThreadEventExecutor) executor,
+						SingleThreadEventExecutor::pendingTasks).tags(this.tags).tag("eventloop", String.valueOf(index))
+						.baseUnit(BaseUnits.TASKS)
+						.description("Number of tasks that are waiting to be processed by the event loop")
+						.register(this.meterRegistry);
+			}
+			index++;
+		}
+	}
+
+}
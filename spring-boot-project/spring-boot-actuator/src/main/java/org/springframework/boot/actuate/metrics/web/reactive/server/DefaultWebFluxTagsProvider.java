@@ -82,4 +82,13 @@ public class DefaultWebFluxTagsProvider implements WebFluxTagsProvider {
 		return tags;
 	}
 
+	@Override
+	public Iterable<Tag> httpLongRequestTags(ServerWebExchange exchange, Object handler) {
+		Tags tags = Tags.of(WebFluxTags.method(exchange), WebFluxTags.uri(exchange, this.ignoreTrailingSlash));
+		for (WebFluxTagsContributor contributor : this.contributors) {
+			tags = tags.and(contributor.httpLongRequestTags(exchange, handler));
+		}
+		return tags;
+	}
+
 }
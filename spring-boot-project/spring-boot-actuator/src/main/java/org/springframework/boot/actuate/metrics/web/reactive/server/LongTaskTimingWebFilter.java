@@ -0,0 +1,242 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.reactive.server;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import reactor.core.publisher.Mono;
+
+import org.springframework.boot.actuate.metrics.annotation.TimedAnnotations;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * A {@link WebFilter} that supports Micrometer's long task timers configured on a handler
+ * using {@link Timed @Timed} with {@link Timed#longTask() longTask} set to {@code true}.
+ * Timing starts once the handler for an exchange has been determined and stops when the
+ * exchange completes, errors, or is cancelled. For a streaming response, the exchange
+ * completes once the whole stream has been written. When the application's handler
+ * methods are known and none of them uses a long task timer, exchanges are passed down
+ * the chain untouched.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class LongTaskTimingWebFilter implements WebFilter {
+
+	private final MeterRegistry registry;
+
+	private final WebFluxTagsProvider tagsProvider;
+
+	private final Supplier<? extends Collection<HandlerMethod>> handlerMethods;
+
+	private volatile Boolean hasLongTaskHandlers;
+
+	/**
+	 * Creates a new {@code LongTaskTimingWebFilter} that will create {@link LongTaskTimer
+	 * LongTaskTimers} using the given registry. Timers will be tagged using the given
+	 * {@code tagsProvider}.
+	 * @param registry the registry
+	 * @param tagsProvider the tags provider
+	 */
+	public LongTaskTimingWebFilter(MeterRegistry registry, WebFluxTagsProvider tagsProvider) {
+		this(registry, tagsProvider, null);
+	}
+
+	/**
+	 * Creates a new {@code LongTaskTimingWebFilter} that will create {@link LongTaskTimer
+	 * LongTaskTimers} using the given registry. Timers will be tagged using the given
+	 * {@code tagsProvider}. The given {@code handlerMethods} are retrieved when the first
+	 * exchange is filtered. If none of them uses a long task timer, the filter does
+	 * nothing.
+	 * @param registry the registry
+	 * @param tagsProvider the tags provider
+	 * @param handlerMethods supplier of the application's handler methods or {@code null}
+	 * if they are not known
+	 */
+	public LongTaskTimingWebFilter(MeterRegistry registry, WebFluxTagsProvider tagsProvider,
+			Supplier<? extends Collection<HandlerMethod>> handlerMethods) {
+		this.registry = registry;
+		this.tagsProvider = tagsProvider;
+		this.handlerMethods = handlerMethods;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		if (!hasLongTaskHandlers()) {
+			return chain.filter(exchange);
+		}
+		return Mono.defer(() -> {
+			LongTaskTimingExchange timingExchange = new LongTaskTimingExchange(exchange);
+			return chain.filter(timingExchange).doFinally((signal) -> timingExchange.stopLongTaskTimers());
+		});
+	}
+
+	private boolean hasLongTaskHandlers() {
+		Boolean hasLongTaskHandlers = this.hasLongTaskHandlers;
+		if (hasLongTaskHandlers == null) {
+			hasLongTaskHandlers = this.handlerMethods == null
+					|| this.handlerMethods.get().stream().anyMatch(this::hasLongTaskTimer);
+			this.hasLongTaskHandlers = hasLongTaskHandlers;
+		}
+		return hasLongTaskHandlers;
+	}
+
+	private boolean hasLongTaskTimer(HandlerMethod handlerMethod) {
+		return getTimedAnnotations(handlerMethod).stream().anyMatch(Timed::longTask);
+	}
+
+	private List<LongTaskTimer.Sample> startLongTaskTimers(ServerWebExchange exchange, Object handler) {
+		Set<Timed> annotations = getTimedAnnotations(handler);
+		if (annotations.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<LongTaskTimer.Sample> samples = new ArrayList<>();
+		annotations.stream().filter(Timed::longTask).forEach((annotation) -> {
+			Iterable<Tag> tags = this.tagsProvider.httpLongRequestTags(exchange, handler);
+			LongTaskTimer.Builder builder = LongTaskTimer.builder(annotation).tags(tags);
+			LongTaskTimer timer = builder.register(this.registry);
+			samples.add(timer.start());
+		});
+		return samples;
+	}
+
+	private Set<Timed> getTimedAnnotations(Object handler) {
+		if (handler instanceof HandlerMethod) {
+			HandlerMethod handlerMethod = (HandlerMethod) handler;
+			return TimedAnnotations.get(handlerMethod.getMethod(), handlerMethod.getBeanType());
+		}
+		return Collections.emptySet();
+	}
+
+	/**
+	 * {@link ServerWebExchangeDecorator} that starts the long task timers of the
+	 * exchange's handler as soon as the handler has been determined.
+	 */
+	private final class LongTaskTimingExchange extends ServerWebExchangeDecorator {
+
+		private final Map<String, Object> attributes;
+
+		private List<LongTaskTimer.Sample> samples;
+
+		private boolean stopped;
+
+		LongTaskTimingExchange(ServerWebExchange delegate) {
+			super(delegate);
+			this.attributes = new HandlerListeningAttributes(delegate.getAttributes(), this);
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			return this.attributes;
+		}
+
+		synchronized void handlerMappingAttributeSet(boolean handlerConfirmed) {
+			if (this.samples != null || this.stopped) {
+				return;
+			}
+			// The best matching pattern, used for the uri tag, is set after the handler
+			// itself so wait for it or for the handler to be set again
+			Object handler = this.attributes.get(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+			if (handler != null && (handlerConfirmed
+					|| this.attributes.containsKey(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))) {
+				this.samples = startLongTaskTimers(this, handler);
+			}
+		}
+
+		synchronized void stopLongTaskTimers() {
+			this.stopped = true;
+			if (this.samples != null) {
+				this.samples.forEach(LongTaskTimer.Sample::stop);
+				this.samples = Collections.emptyList();
+			}
+		}
+
+	}
+
+	/**
+	 * Exchange attributes that notify a {@link LongTaskTimingExchange} when the
+	 * {@link HandlerMapping#BEST_MATCHING_HANDLER_ATTRIBUTE handler} or its
+	 * {@link HandlerMapping#BEST_MATCHING_PATTERN_ATTRIBUTE pattern} is set.
+	 */
+	private static final class HandlerListeningAttributes extends AbstractMap<String, Object> {
+
+		private final Map<String, Object> delegate;
+
+		private final LongTaskTimingExchange exchange;
+
+		HandlerListeningAttributes(Map<String, Object> delegate, LongTaskTimingExchange exchange) {
+			this.delegate = delegate;
+			this.exchange = exchange;
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			Object previous = this.delegate.put(key, value);
+			boolean handler = HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE.equals(key);
+			if (handler || HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE.equals(key)) {
+				this.exchange.handlerMappingAttributeSet(handler && value == previous);
+			}
+			return previous;
+		}
+
+		@Override
+		public Object get(Object key) {
+			return this.delegate.get(key);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return this.delegate.containsKey(key);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			return this.delegate.remove(key);
+		}
+
+		@Override
+		public int size() {
+			return this.delegate.size();
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return this.delegate.entrySet();
+		}
+
+	}
+
+}
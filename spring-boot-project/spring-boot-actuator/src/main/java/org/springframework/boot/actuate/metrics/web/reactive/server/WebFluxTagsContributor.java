@@ -16,7 +16,9 @@
 
 package org.springframework.boot.actuate.metrics.web.reactive.server;
 
+import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 
 import org.springframework.web.server.ServerWebExchange;
 
@@ -38,4 +40,15 @@ public interface WebFluxTagsContributor {
 	 */
 	Iterable<Tag> httpRequestTags(ServerWebExchange exchange, Throwable ex);
 
+	/**
+	 * Provides tags to be used by {@link LongTaskTimer long task timers}.
+	 * @param exchange the exchange
+	 * @param handler the handler for the exchange
+	 * @return tags to associate with metrics recorded for the exchange
+	 * @since 2.5.0
+	 */
+	default Iterable<Tag> httpLongRequestTags(ServerWebExchange exchange, Object handler) {
+		return Tags.empty();
+	}
+
 }
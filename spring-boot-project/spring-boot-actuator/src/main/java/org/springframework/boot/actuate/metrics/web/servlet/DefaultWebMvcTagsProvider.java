@@ -18,6 +18,7 @@ package org.springframework.boot.actuate.metrics.web.servlet;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -88,4 +89,68 @@ public class DefaultWebMvcTagsProvider implements WebMvcTagsProvider {
 		return tags;
 	}
 
+	/**
+	 * Return a key that identifies the tags that {@link #getTags} provides for the given
+	 * exchange, or {@code null} if those tags cannot be determined without computing
+	 * them. Two exchanges with equal keys are guaranteed to have equal tags.
+	 * @param request the request
+	 * @param response the response
+	 * @param exception the current exception, if any
+	 * @return the key or {@code null}
+	 */
+	Object getTagsKey(HttpServletRequest request, HttpServletResponse response, Throwable exception) {
+		if (!this.contributors.isEmpty() || request == null || response == null) {
+			return null;
+		}
+		String pattern = WebMvcTags.getMatchingPattern(request);
+		if (pattern == null) {
+			return null;
+		}
+		return new TagsKey(request.getMethod(), pattern, response.getStatus(),
+				(exception != null) ? exception.getClass() : null);
+	}
+
+	/**
+	 * Key for the tags of an exchange whose URI has been matched to a pattern.
+	 */
+	private static final class TagsKey {
+
+		private final String method;
+
+		private final String pattern;
+
+		private final int status;
+
+		private final Class<?> exceptionType;
+
+		private final int hashCode;
+
+		TagsKey(String method, String pattern, int status, Class<?> exceptionType) {
+			this.method = method;
+			this.pattern = pattern;
+			this.status = status;
+			this.exceptionType = exceptionType;
+			this.hashCode = Objects.hash(method, pattern, status, exceptionType);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TagsKey other = (TagsKey) obj;
+			return this.status == other.status && this.exceptionType == other.exceptionType
+					&& Objects.equals(this.method, other.method) && this.pattern.equals(other.pattern);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+	}
+
 }
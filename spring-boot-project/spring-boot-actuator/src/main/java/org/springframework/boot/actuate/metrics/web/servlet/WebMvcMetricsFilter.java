@@ -17,8 +17,16 @@
 package org.springframework.boot.actuate.metrics.web.servlet;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -26,6 +34,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Timer.Builder;
@@ -52,6 +61,8 @@ import org.springframework.web.util.NestedServletException;
  */
 public class WebMvcMetricsFilter extends OncePerRequestFilter {
 
+	private static final int MAX_CACHED_TIMERS = 1000;
+
 	private final MeterRegistry registry;
 
 	private final WebMvcTagsProvider tagsProvider;
@@ -60,6 +71,8 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 
 	private final AutoTimer autoTimer;
 
+	private final Map<TimersKey, List<Timer>> timers = new ConcurrentHashMap<>();
+
 	/**
 	 * Create a new {@link WebMvcMetricsFilter} instance.
 	 * @param registry the meter registry
@@ -74,6 +87,7 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 		this.tagsProvider = tagsProvider;
 		this.metricName = metricName;
 		this.autoTimer = autoTimer;
+		registry.config().onMeterRemoved(new TimersInvalidator(this.timers));
 	}
 
 	@Override
@@ -128,10 +142,37 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 	private void record(TimingContext timingContext, HttpServletRequest request, HttpServletResponse response,
 			Throwable exception) {
 		Object handler = getHandler(request);
-		Set<Timed> annotations = getTimedAnnotations(handler);
 		Timer.Sample timerSample = timingContext.getTimerSample();
+		for (Timer timer : getTimers(handler, request, response, exception)) {
+			timerSample.stop(timer);
+		}
+	}
+
+	private List<Timer> getTimers(Object handler, HttpServletRequest request, HttpServletResponse response,
+			Throwable exception) {
+		Set<Timed> annotations = getTimedAnnotations(handler);
+		Object tagsKey = (this.tagsProvider.getClass() == DefaultWebMvcTagsProvider.class)
+				? ((DefaultWebMvcTagsProvider) this.tagsProvider).getTagsKey(request, response, exception) : null;
+		if (tagsKey == null) {
+			return createTimers(annotations, handler, request, response, exception);
+		}
+		TimersKey key = new TimersKey(handler, tagsKey);
+		List<Timer> timers = this.timers.get(key);
+		if (timers == null) {
+			timers = createTimers(annotations, handler, request, response, exception);
+			if (this.timers.size() < MAX_CACHED_TIMERS) {
+				this.timers.putIfAbsent(key, timers);
+			}
+		}
+		return timers;
+	}
+
+	private List<Timer> createTimers(Set<Timed> annotations, Object handler, HttpServletRequest request,
+			HttpServletResponse response, Throwable exception) {
+		List<Timer> timers = new ArrayList<>(Math.max(annotations.size(), 1));
 		AutoTimer.apply(this.autoTimer, this.metricName, annotations,
-				(builder) -> timerSample.stop(getTimer(builder, handler, request, response, exception)));
+				(builder) -> timers.add(getTimer(builder, handler, request, response, exception)));
+		return timers;
 	}
 
 	private Object getHandler(HttpServletRequest request) {
@@ -151,6 +192,68 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 		return builder.tags(this.tagsProvider.getTags(request, response, handler, exception)).register(this.registry);
 	}
 
+	/**
+	 * Key for the timers of an exchange. The handler method and bean type determine the
+	 * {@link Timed} annotations and the tags key determines the tags.
+	 */
+	private static final class TimersKey {
+
+		private final Method method;
+
+		private final Class<?> beanType;
+
+		private final Object tagsKey;
+
+		TimersKey(Object handler, Object tagsKey) {
+			HandlerMethod handlerMethod = (handler instanceof HandlerMethod) ? (HandlerMethod) handler : null;
+			this.method = (handlerMethod != null) ? handlerMethod.getMethod() : null;
+			this.beanType = (handlerMethod != null) ? handlerMethod.getBeanType() : null;
+			this.tagsKey = tagsKey;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TimersKey other = (TimersKey) obj;
+			return Objects.equals(this.method, other.method) && this.beanType == other.beanType
+					&& this.tagsKey.equals(other.tagsKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Objects.hashCode(this.method) + this.tagsKey.hashCode();
+		}
+
+	}
+
+	/**
+	 * Removes cached timers when their meter is removed from the registry so that
+	 * subsequent requests register a new one. Registry listeners cannot be removed so the
+	 * cache is only weakly referenced.
+	 */
+	private static final class TimersInvalidator implements Consumer<Meter> {
+
+		private final WeakReference<Map<TimersKey, List<Timer>>> timers;
+
+		TimersInvalidator(Map<TimersKey, List<Timer>> timers) {
+			this.timers = new WeakReference<>(timers);
+		}
+
+		@Override
+		public void accept(Meter meter) {
+			Map<TimersKey, List<Timer>> timers = this.timers.get();
+			if (timers != null && meter instanceof Timer) {
+				timers.values().removeIf((cached) -> cached.contains(meter));
+			}
+		}
+
+	}
+
 	/**
 	 * Context object attached to a request to retain information across the multiple
 	 * filter calls that happen with async requests.
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.actuate.context.properties.ConfigurationPropertiesReportEndpoint.ConfigurationPropertiesBeanDescriptor;
 import org.springframework.boot.actuate.context.properties.ConfigurationPropertiesReportEndpoint.ContextConfigurationProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindingPostProcessor;
 import org.springframework.boot.context.properties.ConstructorBinding;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
@@ -40,6 +41,7 @@ import org.springframework.boot.origin.OriginLookup;
 import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.boot.test.context.runner.ContextConsumer;
+import org.springframework.boot.test.util.TestPropertyValues;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -297,6 +299,57 @@ class ConfigurationPropertiesReportEndpointTests {
 				}));
 	}
 
+	@Test
+	void descriptorsAreNotCachedByDefault() {
+		this.contextRunner.withUserConfiguration(TestPropertiesConfiguration.class).run((context) -> {
+			ConfigurationPropertiesReportEndpoint endpoint = context
+					.getBean(ConfigurationPropertiesReportEndpoint.class);
+			context.getBean(TestProperties.class).setMyTestProperty("changed");
+			assertThat(getTestPropertiesDescriptor(endpoint, context).getProperties()).containsEntry("myTestProperty",
+					"changed");
+		});
+	}
+
+	@Test
+	void cachedDescriptorIsReusedUntilPropertiesAreRebound() {
+		this.contextRunner.withUserConfiguration(TestPropertiesConfiguration.class)
+				.withPropertyValues("test.my-test-property=initial").run((context) -> {
+					ConfigurationPropertiesReportEndpoint endpoint = context
+							.getBean(ConfigurationPropertiesReportEndpoint.class);
+					endpoint.setCacheDescriptors(true);
+					ConfigurationPropertiesBeanDescriptor descriptor = getTestPropertiesDescriptor(endpoint, context);
+					assertThat(descriptor.getProperties()).containsEntry("myTestProperty", "initial");
+					assertThat(getTestPropertiesDescriptor(endpoint, context)).isSameAs(descriptor);
+					TestProperties bean = context.getBean(TestProperties.class);
+					TestPropertyValues.of("test.my-test-property=rebound").applyTo(context);
+					context.getBean(ConfigurationPropertiesBindingPostProcessor.class)
+							.postProcessBeforeInitialization(bean, "test-" + TestProperties.class.getName());
+					ConfigurationPropertiesBeanDescriptor rebound = getTestPropertiesDescriptor(endpoint, context);
+					assertThat(rebound).isNotSameAs(descriptor);
+					assertThat(rebound.getProperties()).containsEntry("myTestProperty", "rebound");
+				});
+	}
+
+	@Test
+	void cachedDescriptorsAreClearedWhenKeysToSanitizeChange() {
+		this.contextRunner.withUserConfiguration(TestPropertiesConfiguration.class).run((context) -> {
+			ConfigurationPropertiesReportEndpoint endpoint = context
+					.getBean(ConfigurationPropertiesReportEndpoint.class);
+			endpoint.setCacheDescriptors(true);
+			assertThat(getTestPropertiesDescriptor(endpoint, context).getProperties()).containsEntry("myTestProperty",
+					"654321");
+			endpoint.setKeysToSanitize("property");
+			assertThat(getTestPropertiesDescriptor(endpoint, context).getProperties()).containsEntry("myTestProperty",
+					"******");
+		});
+	}
+
+	private ConfigurationPropertiesBeanDescriptor getTestPropertiesDescriptor(
+			ConfigurationPropertiesReportEndpoint endpoint, AssertableApplicationContext context) {
+		return endpoint.configurationProperties().getContexts().get(context.getId()).getBeans()
+				.get("test-" + TestProperties.class.getName());
+	}
+
 	private void initializeOriginParents(ConfigurableApplicationContext context) {
 		MockPropertySource propertySource = new OriginParentMockPropertySource();
 		propertySource.setProperty("sensible.string", "spring");
@@ -151,4 +151,48 @@ class SanitizerTests {
 		assertThat(sanitizer.sanitize("veryokish", "secret")).isEqualTo("secret");
 	}
 
+	@Test
+	void regexWithAnchorsAndAlternation() {
+		Sanitizer sanitizer = new Sanitizer("^spring\\.(first|second)\\..*$");
+		assertThat(sanitizer.sanitize("spring.first.value", "secret")).isEqualTo("******");
+		assertThat(sanitizer.sanitize("SPRING.SECOND.value", "secret")).isEqualTo("******");
+		assertThat(sanitizer.sanitize("spring.third.value", "secret")).isEqualTo("secret");
+	}
+
+	@Test
+	void simpleKeyMatchesDotAsAnyCharacter() {
+		Sanitizer sanitizer = new Sanitizer("sun.java.command");
+		assertThat(sanitizer.sanitize("sun.java.command", "secret")).isEqualTo("******");
+		assertThat(sanitizer.sanitize("SUN-JAVA-COMMAND", "secret")).isEqualTo("******");
+		assertThat(sanitizer.sanitize("sun.java.commands", "secret")).isEqualTo("secret");
+	}
+
+	@Test
+	void simpleKeyIgnoresOnlyAsciiCase() {
+		Sanitizer sanitizer = new Sanitizer("password", ".*credentials.*");
+		assertThat(sanitizer.sanitize("my.PassWord", "secret")).isEqualTo("******");
+		assertThat(sanitizer.sanitize("my.pa\u017Fsword", "secret")).isEqualTo("secret");
+		assertThat(sanitizer.sanitize("my.CREDENTIALS.file", "secret")).isEqualTo("******");
+		assertThat(sanitizer.sanitize("my.credential", "secret")).isEqualTo("secret");
+	}
+
+	@Test
+	void simpleKeyWithRegexCharactersIsMatchedAsRegex() {
+		Sanitizer sanitizer = new Sanitizer("pass(word)?");
+		assertThat(sanitizer.sanitize("my.pass", "secret")).isEqualTo("******");
+		assertThat(sanitizer.sanitize("my.password", "secret")).isEqualTo("******");
+		assertThat(sanitizer.sanitize("my.passw", "secret")).isEqualTo("secret");
+	}
+
+	@Test
+	void whenKeysAreChangedAfterSanitizingPreviouslySanitizedKeysReflectTheChange() {
+		Sanitizer sanitizer = new Sanitizer();
+		assertThat(sanitizer.sanitize("confidential", "secret")).isEqualTo("secret");
+		sanitizer.keysToSanitize("confidential");
+		assertThat(sanitizer.sanitize("confidential", "secret")).isEqualTo("******");
+		sanitizer.setKeysToSanitize("other");
+		assertThat(sanitizer.sanitize("confidential", "secret")).isEqualTo("secret");
+		assertThat(sanitizer.sanitize("password", "secret")).isEqualTo("secret");
+	}
+
 }
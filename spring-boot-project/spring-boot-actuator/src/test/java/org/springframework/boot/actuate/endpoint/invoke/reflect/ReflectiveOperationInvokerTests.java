@@ -16,7 +16,11 @@
 
 package org.springframework.boot.actuate.endpoint.invoke.reflect;
 
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +37,7 @@ import org.springframework.util.ReflectionUtils;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -114,8 +119,63 @@ class ReflectiveOperationInvokerTests {
 		assertThat(result).isEqualTo("4321");
 	}
 
+	@Test
+	void invokeWhenMethodHasNoParametersShouldInvoke() {
+		ReflectiveOperationInvoker invoker = createInvoker("hello");
+		Object result = invoker.invoke(new InvocationContext(mock(SecurityContext.class), Collections.emptyMap()));
+		assertThat(result).isEqualTo("hello");
+	}
+
+	@Test
+	void invokeWhenMethodIsVoidShouldReturnNull() {
+		ReflectiveOperationInvoker invoker = createInvoker("clear");
+		Object result = invoker.invoke(new InvocationContext(mock(SecurityContext.class), Collections.emptyMap()));
+		assertThat(result).isNull();
+		assertThat(this.target.cleared).isTrue();
+	}
+
+	@Test
+	void invokeWhenMethodHasManyParametersShouldInvoke() {
+		OperationMethod operationMethod = new OperationMethod(ReflectionUtils.findMethod(Example.class, "join",
+				String.class, String.class, String.class, String.class, int.class), OperationType.READ);
+		ReflectiveOperationInvoker invoker = new ReflectiveOperationInvoker(this.target, operationMethod,
+				(parameter, value) -> (parameter.getType() == int.class) ? value : value.toString());
+		Map<String, Object> arguments = new HashMap<>();
+		arguments.put("a", "w");
+		arguments.put("b", "x");
+		arguments.put("c", "y");
+		arguments.put("d", "z");
+		arguments.put("count", 2);
+		Object result = invoker.invoke(new InvocationContext(mock(SecurityContext.class), arguments));
+		assertThat(result).isEqualTo("wxyzwxyz");
+	}
+
+	@Test
+	void invokeWhenMethodThrowsRuntimeExceptionShouldPropagateException() {
+		ReflectiveOperationInvoker invoker = createInvoker("failWithRuntimeException");
+		assertThatIllegalStateException().isThrownBy(
+				() -> invoker.invoke(new InvocationContext(mock(SecurityContext.class), Collections.emptyMap())))
+				.withMessage("runtime");
+	}
+
+	@Test
+	void invokeWhenMethodThrowsCheckedExceptionShouldThrowUndeclaredThrowableException() {
+		ReflectiveOperationInvoker invoker = createInvoker("failWithCheckedException");
+		assertThatExceptionOfType(UndeclaredThrowableException.class).isThrownBy(
+				() -> invoker.invoke(new InvocationContext(mock(SecurityContext.class), Collections.emptyMap())))
+				.withCauseInstanceOf(IOException.class);
+	}
+
+	private ReflectiveOperationInvoker createInvoker(String methodName, Class<?>... parameterTypes) {
+		OperationMethod operationMethod = new OperationMethod(
+				ReflectionUtils.findMethod(Example.class, methodName, parameterTypes), OperationType.READ);
+		return new ReflectiveOperationInvoker(this.target, operationMethod, this.parameterValueMapper);
+	}
+
 	static class Example {
 
+		private boolean cleared;
+
 		String reverse(ApiVersion apiVersion, SecurityContext securityContext, String name) {
 			assertThat(apiVersion).isEqualTo(ApiVersion.LATEST);
 			assertThat(securityContext).isNotNull();
@@ -128,6 +188,30 @@ class ReflectiveOperationInvokerTests {
 			return new StringBuilder(String.valueOf(name)).reverse().toString();
 		}
 
+		String hello() {
+			return "hello";
+		}
+
+		void clear() {
+			this.cleared = true;
+		}
+
+		String join(String a, String b, String c, String d, int count) {
+			StringBuilder result = new StringBuilder();
+			for (int i = 0; i < count; i++) {
+				result.append(a).append(b).append(c).append(d);
+			}
+			return result.toString();
+		}
+
+		String failWithRuntimeException() {
+			throw new IllegalStateException("runtime");
+		}
+
+		String failWithCheckedException() throws IOException {
+			throw new IOException("checked");
+		}
+
 	}
 
 }
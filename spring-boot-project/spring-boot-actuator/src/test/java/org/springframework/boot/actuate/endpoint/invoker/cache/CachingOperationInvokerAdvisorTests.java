@@ -55,11 +55,17 @@ class CachingOperationInvokerAdvisorTests {
 	@Mock
 	private Function<EndpointId, Long> timeToLive;
 
+	@Mock
+	private Function<EndpointId, Long> staleWhileRevalidate;
+
+	@Mock
+	private CachingOperationInvokerListener listener;
+
 	private CachingOperationInvokerAdvisor advisor;
 
 	@BeforeEach
 	void setup() {
-		this.advisor = new CachingOperationInvokerAdvisor(this.timeToLive);
+		this.advisor = new CachingOperationInvokerAdvisor(this.timeToLive, this.staleWhileRevalidate, this.listener);
 	}
 
 	@Test
@@ -126,12 +132,38 @@ class CachingOperationInvokerAdvisorTests {
 		assertAdviseIsApplied(parameters);
 	}
 
+	@Test
+	void applyWithStaleWhileRevalidateShouldAddAdvise() {
+		OperationParameters parameters = getParameters("get");
+		given(this.timeToLive.apply(any())).willReturn(100L);
+		given(this.staleWhileRevalidate.apply(any())).willReturn(500L);
+		OperationInvoker advised = this.advisor.apply(EndpointId.of("foo"), OperationType.READ, parameters,
+				this.invoker);
+		assertThat(advised).isInstanceOf(CachingOperationInvoker.class);
+		assertThat(advised).hasFieldOrPropertyWithValue("timeToLive", 100L);
+		assertThat(advised).hasFieldOrPropertyWithValue("staleWhileRevalidate", 500L);
+		assertThat(advised).hasFieldOrPropertyWithValue("endpointId", EndpointId.of("foo"));
+		assertThat(advised).hasFieldOrPropertyWithValue("listener", this.listener);
+	}
+
+	@Test
+	void applyWithoutListenerShouldAddAdvise() {
+		CachingOperationInvokerAdvisor advisor = new CachingOperationInvokerAdvisor(this.timeToLive);
+		OperationParameters parameters = getParameters("get");
+		given(this.timeToLive.apply(any())).willReturn(100L);
+		OperationInvoker advised = advisor.apply(EndpointId.of("foo"), OperationType.READ, parameters, this.invoker);
+		assertThat(advised).isInstanceOf(CachingOperationInvoker.class);
+		assertThat(advised).hasFieldOrPropertyWithValue("staleWhileRevalidate", 0L);
+		assertThat(advised).hasFieldOrPropertyWithValue("listener", CachingOperationInvokerListener.NONE);
+	}
+
 	private void assertAdviseIsApplied(OperationParameters parameters) {
 		OperationInvoker advised = this.advisor.apply(EndpointId.of("foo"), OperationType.READ, parameters,
 				this.invoker);
 		assertThat(advised).isInstanceOf(CachingOperationInvoker.class);
 		assertThat(advised).hasFieldOrPropertyWithValue("invoker", this.invoker);
 		assertThat(advised).hasFieldOrPropertyWithValue("timeToLive", 100L);
+		assertThat(advised).hasFieldOrPropertyWithValue("staleWhileRevalidate", 0L);
 	}
 
 	private OperationParameters getParameters(String methodName, Class<?>... parameterTypes) {
@@ -18,16 +18,28 @@ package org.springframework.boot.actuate.endpoint.invoker.cache;
 
 import java.security.Principal;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.boot.actuate.endpoint.ApiVersion;
+import org.springframework.boot.actuate.endpoint.EndpointId;
 import org.springframework.boot.actuate.endpoint.InvocationContext;
 import org.springframework.boot.actuate.endpoint.OperationArgumentResolver;
 import org.springframework.boot.actuate.endpoint.SecurityContext;
@@ -36,6 +48,8 @@ import org.springframework.boot.actuate.endpoint.invoke.OperationInvoker;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -216,6 +230,234 @@ class CachingOperationInvokerTests {
 		verify(target, times(1)).invoke(contextV3);
 	}
 
+	@Test
+	void concurrentInvocationsOnCacheMissInvokeTargetOnce() throws Exception {
+		CountDownLatch invoked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger invocations = new AtomicInteger();
+		Object expected = new Object();
+		OperationInvoker target = (context) -> {
+			invocations.incrementAndGet();
+			invoked.countDown();
+			await(release);
+			return expected;
+		};
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, CACHE_TTL);
+		InvocationContext context = new InvocationContext(mock(SecurityContext.class), Collections.emptyMap());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<Object> first = executor.submit(() -> invoker.invoke(context));
+			assertThat(invoked.await(5, TimeUnit.SECONDS)).isTrue();
+			Future<Object> second = executor.submit(() -> invoker.invoke(context));
+			Future<Object> third = executor.submit(() -> invoker.invoke(context));
+			Thread.sleep(50);
+			release.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+			assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+			assertThat(third.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+			assertThat(invocations).hasValue(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void failedInvocationIsNotCached() {
+		OperationInvoker target = mock(OperationInvoker.class);
+		InvocationContext context = new InvocationContext(mock(SecurityContext.class), Collections.emptyMap());
+		Object expected = new Object();
+		given(target.invoke(context)).willThrow(new IllegalStateException("test")).willReturn(expected);
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, CACHE_TTL);
+		assertThatIllegalStateException().isThrownBy(() -> invoker.invoke(context)).withMessage("test");
+		assertThat(invoker.invoke(context)).isSameAs(expected);
+		assertThat(invoker.invoke(context)).isSameAs(expected);
+		verify(target, times(2)).invoke(context);
+	}
+
+	@Test
+	void createInstanceWithStaleWhileRevalidateAndNoExecutor() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new CachingOperationInvoker(mock(OperationInvoker.class), CACHE_TTL, 100,
+						CachingOperationInvoker.DEFAULT_MAX_SIZE, null, null, null))
+				.withMessageContaining("RefreshExecutor");
+	}
+
+	@Test
+	void staleResponseIsServedWhileRefreshedInBackground() throws InterruptedException {
+		OperationInvoker target = mock(OperationInvoker.class);
+		InvocationContext context = new InvocationContext(mock(SecurityContext.class), Collections.emptyMap());
+		Object first = new Object();
+		Object second = new Object();
+		given(target.invoke(any())).willReturn(first, second);
+		RecordingExecutor executor = new RecordingExecutor();
+		RecordingListener listener = new RecordingListener();
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 50L, CACHE_TTL,
+				CachingOperationInvoker.DEFAULT_MAX_SIZE, executor, EndpointId.of("test"), listener);
+		assertThat(invoker.invoke(context)).isSameAs(first);
+		waitForExpiry(50);
+		assertThat(invoker.invoke(context)).isSameAs(first);
+		assertThat(invoker.invoke(context)).isSameAs(first);
+		verify(target, times(1)).invoke(any());
+		assertThat(executor.tasks).hasSize(1);
+		executor.runAll();
+		verify(target, times(2)).invoke(any());
+		assertThat(invoker.invoke(context)).isSameAs(second);
+		assertThat(listener.events).containsExactly("miss:test", "stale:test", "stale:test", "refresh:test",
+				"hit:test");
+	}
+
+	@Test
+	void backgroundRefreshDoesNotUseStateOfTriggeringRequest() throws InterruptedException {
+		OperationInvoker target = mock(OperationInvoker.class);
+		SecurityContext securityContext = mock(SecurityContext.class);
+		InvocationContext context = new InvocationContext(securityContext, Collections.emptyMap(),
+				new ApiVersionArgumentResolver(ApiVersion.V2));
+		given(target.invoke(any())).willReturn(new Object());
+		RecordingExecutor executor = new RecordingExecutor();
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 50L, CACHE_TTL,
+				CachingOperationInvoker.DEFAULT_MAX_SIZE, executor, EndpointId.of("test"), null);
+		invoker.invoke(context);
+		waitForExpiry(50);
+		invoker.invoke(context);
+		executor.runAll();
+		ArgumentCaptor<InvocationContext> refreshContext = ArgumentCaptor.forClass(InvocationContext.class);
+		verify(target, times(2)).invoke(refreshContext.capture());
+		InvocationContext backgroundContext = refreshContext.getAllValues().get(1);
+		assertThat(backgroundContext).isNotSameAs(context);
+		assertThat(backgroundContext.resolveArgument(SecurityContext.class)).isSameAs(SecurityContext.NONE);
+		assertThat(backgroundContext.resolveArgument(ApiVersion.class)).isEqualTo(ApiVersion.V2);
+	}
+
+	@Test
+	void staleResponseIsNotServedToPrincipal() throws InterruptedException {
+		OperationInvoker target = mock(OperationInvoker.class);
+		SecurityContext securityContext = mock(SecurityContext.class);
+		given(securityContext.getPrincipal()).willReturn(mock(Principal.class));
+		InvocationContext context = new InvocationContext(securityContext, Collections.emptyMap());
+		Object first = new Object();
+		Object second = new Object();
+		given(target.invoke(context)).willReturn(first, second);
+		RecordingExecutor executor = new RecordingExecutor();
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 50L, CACHE_TTL,
+				CachingOperationInvoker.DEFAULT_MAX_SIZE, executor, EndpointId.of("test"), null);
+		assertThat(invoker.invoke(context)).isSameAs(first);
+		waitForExpiry(50);
+		assertThat(invoker.invoke(context)).isSameAs(second);
+		assertThat(executor.tasks).isEmpty();
+	}
+
+	@Test
+	void concurrentStaleHitsStartASingleBackgroundRefresh() throws Exception {
+		OperationInvoker target = mock(OperationInvoker.class);
+		InvocationContext context = new InvocationContext(mock(SecurityContext.class), Collections.emptyMap());
+		given(target.invoke(any())).willReturn(new Object());
+		RecordingExecutor executor = new RecordingExecutor();
+		RecordingListener listener = new RecordingListener();
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 50L, CACHE_TTL,
+				CachingOperationInvoker.DEFAULT_MAX_SIZE, executor, EndpointId.of("test"), listener);
+		invoker.invoke(context);
+		waitForExpiry(50);
+		ExecutorService callers = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(callers.submit(() -> invoker.invoke(context)));
+			}
+			for (Future<Object> result : results) {
+				result.get(5, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			callers.shutdown();
+		}
+		assertThat(executor.tasks).hasSize(1);
+		executor.runAll();
+		assertThat(listener.events).containsOnlyOnce("refresh:test");
+	}
+
+	@Test
+	void rejectedBackgroundRefreshCanBeRetried() throws InterruptedException {
+		OperationInvoker target = mock(OperationInvoker.class);
+		InvocationContext context = new InvocationContext(mock(SecurityContext.class), Collections.emptyMap());
+		given(target.invoke(any())).willReturn(new Object());
+		RecordingExecutor executor = new RecordingExecutor();
+		executor.reject = true;
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 50L, CACHE_TTL,
+				CachingOperationInvoker.DEFAULT_MAX_SIZE, executor, EndpointId.of("test"), null);
+		invoker.invoke(context);
+		waitForExpiry(50);
+		invoker.invoke(context);
+		executor.reject = false;
+		invoker.invoke(context);
+		assertThat(executor.tasks).hasSize(1);
+	}
+
+	@Test
+	void responseOlderThanStaleWhileRevalidateIsNotServed() throws InterruptedException {
+		OperationInvoker target = mock(OperationInvoker.class);
+		InvocationContext context = new InvocationContext(mock(SecurityContext.class), Collections.emptyMap());
+		Object first = new Object();
+		Object second = new Object();
+		given(target.invoke(context)).willReturn(first, second);
+		RecordingExecutor executor = new RecordingExecutor();
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 20L, 30L,
+				CachingOperationInvoker.DEFAULT_MAX_SIZE, executor, EndpointId.of("test"), null);
+		assertThat(invoker.invoke(context)).isSameAs(first);
+		waitForExpiry(50);
+		assertThat(invoker.invoke(context)).isSameAs(second);
+		assertThat(executor.tasks).isEmpty();
+	}
+
+	@Test
+	void cachedResponsesAreEvictedWhenMaxSizeIsExceeded() {
+		OperationInvoker target = mock(OperationInvoker.class);
+		SecurityContext securityContext = mock(SecurityContext.class);
+		Principal first = mock(Principal.class);
+		Principal second = mock(Principal.class);
+		Principal third = mock(Principal.class);
+		given(securityContext.getPrincipal()).willReturn(first, second, third);
+		InvocationContext context = new InvocationContext(securityContext, Collections.emptyMap());
+		given(target.invoke(context)).willReturn(new Object());
+		RecordingListener listener = new RecordingListener();
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, CACHE_TTL, 0, 2, null,
+				EndpointId.of("test"), listener);
+		invoker.invoke(context);
+		invoker.invoke(context);
+		invoker.invoke(context);
+		verify(target, times(3)).invoke(context);
+		assertThat(listener.events).containsExactly("miss:test", "miss:test", "miss:test", "eviction:test");
+	}
+
+	@Test
+	void listenerIsNotNotifiedWhenInvocationHasInput() {
+		OperationInvoker target = mock(OperationInvoker.class);
+		RecordingListener listener = new RecordingListener();
+		InvocationContext context = new InvocationContext(mock(SecurityContext.class),
+				Collections.singletonMap("test", "value"));
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, CACHE_TTL, 0,
+				CachingOperationInvoker.DEFAULT_MAX_SIZE, null, EndpointId.of("test"), listener);
+		invoker.invoke(context);
+		assertThat(listener.events).isEmpty();
+		verify(target).invoke(context);
+	}
+
+	private static void waitForExpiry(long timeToLive) throws InterruptedException {
+		long expired = System.currentTimeMillis() + timeToLive;
+		while (System.currentTimeMillis() < expired) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	private static class MonoOperationInvoker implements OperationInvoker {
 
 		static AtomicInteger invocations = new AtomicInteger();
@@ -241,6 +483,58 @@ class CachingOperationInvokerTests {
 
 	}
 
+	private static class RecordingExecutor implements Executor {
+
+		private final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+		private volatile boolean reject;
+
+		@Override
+		public void execute(Runnable task) {
+			if (this.reject) {
+				throw new RejectedExecutionException();
+			}
+			this.tasks.add(task);
+		}
+
+		void runAll() {
+			this.tasks.forEach(Runnable::run);
+			this.tasks.clear();
+		}
+
+	}
+
+	private static class RecordingListener implements CachingOperationInvokerListener {
+
+		private final List<String> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void onHit(EndpointId endpointId) {
+			this.events.add("hit:" + endpointId);
+		}
+
+		@Override
+		public void onStaleHit(EndpointId endpointId) {
+			this.events.add("stale:" + endpointId);
+		}
+
+		@Override
+		public void onMiss(EndpointId endpointId) {
+			this.events.add("miss:" + endpointId);
+		}
+
+		@Override
+		public void onRefresh(EndpointId endpointId) {
+			this.events.add("refresh:" + endpointId);
+		}
+
+		@Override
+		public void onEviction(EndpointId endpointId) {
+			this.events.add("eviction:" + endpointId);
+		}
+
+	}
+
 	private static final class ApiVersionArgumentResolver implements OperationArgumentResolver {
 
 		private final ApiVersion apiVersion;
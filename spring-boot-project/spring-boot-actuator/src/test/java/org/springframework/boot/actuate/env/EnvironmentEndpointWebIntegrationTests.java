@@ -65,6 +65,13 @@ class EnvironmentEndpointWebIntegrationTests {
 				.isEqualTo("baz");
 	}
 
+	@WebEndpointTest
+	void prefix() {
+		this.client.get().uri("/actuator/env?prefix=fool").exchange().expectStatus().isOk().expectBody()
+				.jsonPath(forProperty("test", "fool")).isEqualTo("baz").jsonPath(forProperty("test", "foo"))
+				.doesNotExist();
+	}
+
 	@WebEndpointTest
 	void nestedPathWhenPlaceholderCannotBeResolvedShouldReturnUnresolvedProperty() {
 		Map<String, Object> map = new HashMap<>();
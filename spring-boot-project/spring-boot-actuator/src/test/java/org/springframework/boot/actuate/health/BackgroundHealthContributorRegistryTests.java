@@ -0,0 +1,349 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link BackgroundHealthContributorRegistry}.
+ *
+ * @author agent (agent@local)
+ */
+class BackgroundHealthContributorRegistryTests {
+
+	private static final Instant NOW = Instant.parse("2021-01-01T00:00:00Z");
+
+	private final List<ScheduledFuture<?>> futures = new ArrayList<>();
+
+	private final ScheduledExecutorService scheduler = mockScheduler();
+
+	private final Clock clock = mock(Clock.class);
+
+	private final List<String> notifications = new ArrayList<>();
+
+	private final HealthContributorListener listener = (name, group, status, duration) -> {
+		assertThat(duration.isNegative()).isFalse();
+		this.notifications.add(name + ":" + group + ":" + status);
+	};
+
+	BackgroundHealthContributorRegistryTests() {
+		given(this.clock.instant()).willReturn(NOW);
+	}
+
+	@Test
+	void createSchedulesEachIndicatorWithItsInterval() {
+		Map<String, HealthContributor> composite = new LinkedHashMap<>();
+		composite.put("a", new CountingHealthIndicator());
+		composite.put("b", new CountingHealthIndicator());
+		Map<String, HealthContributor> contributors = new LinkedHashMap<>();
+		contributors.put("one", new CountingHealthIndicator());
+		contributors.put("two", CompositeHealthContributor.fromMap(composite));
+		createRegistry(contributors, (name) -> name.equals("one") ? Duration.ofSeconds(5) : Duration.ofSeconds(30))
+				.start();
+		verify(this.scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(5000L),
+				eq(TimeUnit.MILLISECONDS));
+		verify(this.scheduler, times(2)).scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(30000L),
+				eq(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void createDoesNotSchedulePollingUntilStarted() {
+		BackgroundHealthContributorRegistry registry = createRegistry(
+				Collections.singletonMap("test", new CountingHealthIndicator()), (name) -> Duration.ofSeconds(10));
+		verifyNoInteractions(this.scheduler);
+		assertThat(registry.isRunning()).isFalse();
+		registry.start();
+		assertThat(registry.isRunning()).isTrue();
+		assertThat(this.futures).hasSize(1);
+	}
+
+	@Test
+	void stopCancelsPollingAndStartReschedulesIt() {
+		BackgroundHealthContributorRegistry registry = createRegistry(
+				Collections.singletonMap("test", new CountingHealthIndicator()), (name) -> Duration.ofSeconds(10));
+		registry.start();
+		ScheduledFuture<?> future = this.futures.get(0);
+		registry.stop();
+		assertThat(registry.isRunning()).isFalse();
+		verify(future).cancel(false);
+		registry.start();
+		assertThat(this.futures).hasSize(2);
+	}
+
+	@Test
+	void getHealthWhenCheckExceedsTimeoutReturnsDown() {
+		Instant[] now = { NOW };
+		given(this.clock.instant()).willAnswer((invocation) -> now[0]);
+		List<Health> healthDuringCheck = new ArrayList<>();
+		HealthIndicator[] contributor = new HealthIndicator[1];
+		AtomicInteger checks = new AtomicInteger();
+		HealthIndicator slow = () -> {
+			if (checks.incrementAndGet() > 1) {
+				now[0] = NOW.plusSeconds(4);
+				healthDuringCheck.add(contributor[0].getHealth(true));
+				now[0] = NOW.plusSeconds(6);
+				healthDuringCheck.add(contributor[0].getHealth(false));
+				healthDuringCheck.add(contributor[0].getHealth(true));
+			}
+			return Health.up().build();
+		};
+		BackgroundHealthContributorRegistry registry = createRegistry(Collections.singletonMap("test", slow),
+				(name) -> Duration.ofSeconds(10));
+		registry.start();
+		contributor[0] = (HealthIndicator) registry.getContributor("test");
+		refresh();
+		refresh();
+		assertThat(healthDuringCheck.get(0).getStatus()).isEqualTo(Status.UP);
+		assertThat(healthDuringCheck.get(1).getStatus()).isEqualTo(Status.DOWN);
+		assertThat(healthDuringCheck.get(1).getDetails()).isEmpty();
+		assertThat(healthDuringCheck.get(2).getStatus()).isEqualTo(Status.DOWN);
+		assertThat(healthDuringCheck.get(2).getDetails())
+				.containsEntry("error", "Health check did not complete within PT5S")
+				.containsEntry("checkStartedAt", NOW.toString());
+		assertThat(contributor[0].getHealth(true).getStatus()).isEqualTo(Status.UP);
+	}
+
+	@Test
+	void createWhenIntervalIsZeroThrowsException() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> createRegistry(Collections.singletonMap("test", new CountingHealthIndicator()),
+						(name) -> Duration.ZERO))
+				.withMessage("Refresh interval of health contributor 'test' must be strictly positive");
+	}
+
+	@Test
+	void getHealthReturnsSnapshotWithoutInvokingIndicator() {
+		CountingHealthIndicator indicator = new CountingHealthIndicator();
+		BackgroundHealthContributorRegistry registry = createRegistry(Collections.singletonMap("test", indicator),
+				(name) -> Duration.ofSeconds(10));
+		registry.start();
+		refresh();
+		HealthIndicator contributor = (HealthIndicator) registry.getContributor("test");
+		contributor.getHealth(true);
+		contributor.getHealth(false);
+		assertThat(indicator.count).hasValue(1);
+		refresh();
+		assertThat(contributor.getHealth(true).getDetails()).containsEntry("count", 2);
+	}
+
+	@Test
+	void getHealthWhenNotYetRefreshedReturnsUnknownWithoutInvokingIndicator() {
+		CountingHealthIndicator indicator = new CountingHealthIndicator();
+		BackgroundHealthContributorRegistry registry = createRegistry(Collections.singletonMap("test", indicator),
+				(name) -> Duration.ofSeconds(10));
+		Health health = ((HealthIndicator) registry.getContributor("test")).getHealth(true);
+		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+		assertThat(indicator.count).hasValue(0);
+	}
+
+	@Test
+	void getHealthWithDetailsReportsCheckTimeAndStaleness() {
+		BackgroundHealthContributorRegistry registry = createRegistry(
+				Collections.singletonMap("test", new CountingHealthIndicator()), (name) -> Duration.ofSeconds(10));
+		registry.start();
+		refresh();
+		HealthIndicator contributor = (HealthIndicator) registry.getContributor("test");
+		Health health = contributor.getHealth(true);
+		assertThat(health.getDetails()).containsEntry("checkedAt", NOW.toString()).doesNotContainKey("stale");
+		given(this.clock.instant()).willReturn(NOW.plusSeconds(21));
+		health = contributor.getHealth(true);
+		assertThat(health.getDetails()).containsEntry("checkedAt", NOW.toString()).containsEntry("stale", true);
+		assertThat(contributor.getHealth(false).getDetails()).isEmpty();
+	}
+
+	@Test
+	void getHealthWhenIndicatorThrowsReturnsDown() {
+		HealthIndicator indicator = () -> {
+			throw new IllegalStateException("broken");
+		};
+		BackgroundHealthContributorRegistry registry = createRegistry(Collections.singletonMap("test", indicator),
+				(name) -> Duration.ofSeconds(10));
+		registry.start();
+		refresh();
+		Health health = ((HealthIndicator) registry.getContributor("test")).getHealth(true);
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("error", "java.lang.IllegalStateException: broken");
+	}
+
+	@Test
+	void getHealthWhenIndicatorThrowsErrorReturnsDownAndIsNotReportedAsTimedOut() {
+		Instant[] now = { NOW };
+		given(this.clock.instant()).willAnswer((invocation) -> now[0]);
+		HealthIndicator indicator = () -> {
+			throw new NoClassDefFoundError("broken");
+		};
+		BackgroundHealthContributorRegistry registry = createRegistry(Collections.singletonMap("test", indicator),
+				(name) -> Duration.ofSeconds(10));
+		registry.start();
+		refresh();
+		now[0] = NOW.plusSeconds(60);
+		Health health = ((HealthIndicator) registry.getContributor("test")).getHealth(true);
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("error", "java.lang.NoClassDefFoundError: broken");
+	}
+
+	@Test
+	void scheduledRefreshWhenListenerThrowsDoesNotThrow() {
+		BackgroundHealthContributorRegistry registry = new BackgroundHealthContributorRegistry(
+				new DefaultHealthContributorRegistry(Collections.singletonMap("test", new CountingHealthIndicator())),
+				this.scheduler, (name) -> Duration.ofSeconds(10), Duration.ofSeconds(5),
+				(name, group, status, duration) -> {
+					throw new IllegalStateException("listener");
+				}, this.clock, false);
+		registry.start();
+		refresh();
+		Health health = ((HealthIndicator) registry.getContributor("test")).getHealth(true);
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+	}
+
+	@Test
+	void refreshNotifiesListenerWithQualifiedName() {
+		Map<String, HealthContributor> composite = new LinkedHashMap<>();
+		composite.put("a", new CountingHealthIndicator());
+		Map<String, HealthContributor> contributors = new LinkedHashMap<>();
+		contributors.put("oneHealthIndicator", new CountingHealthIndicator());
+		contributors.put("two", CompositeHealthContributor.fromMap(composite));
+		BackgroundHealthContributorRegistry registry = createRegistry(contributors, (name) -> Duration.ofSeconds(10));
+		registry.start();
+		refresh();
+		assertThat(this.notifications).containsExactlyInAnyOrder("one:null:UP", "two/a:null:UP");
+		((HealthIndicator) registry.getContributor("one")).getHealth(true);
+		assertThat(this.notifications).hasSize(2);
+	}
+
+	@Test
+	void getContributorWhenCompositeReturnsBackgroundChildren() {
+		CountingHealthIndicator child = new CountingHealthIndicator();
+		BackgroundHealthContributorRegistry registry = createRegistry(
+				Collections.singletonMap("test",
+						CompositeHealthContributor.fromMap(Collections.singletonMap("child", child))),
+				(name) -> Duration.ofSeconds(10));
+		registry.start();
+		refresh();
+		CompositeHealthContributor composite = (CompositeHealthContributor) registry.getContributor("test");
+		((HealthIndicator) composite.getContributor("child")).getHealth(true);
+		assertThat(child.count).hasValue(1);
+	}
+
+	@Test
+	void registerContributorSchedulesIndicatorUsingAdaptedName() {
+		BackgroundHealthContributorRegistry registry = createRegistry(Collections.emptyMap(),
+				(name) -> name.equals("test") ? Duration.ofSeconds(7) : Duration.ofSeconds(10));
+		registry.start();
+		CountingHealthIndicator indicator = new CountingHealthIndicator();
+		registry.registerContributor("testHealthIndicator", indicator);
+		verify(this.scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(7000L),
+				eq(TimeUnit.MILLISECONDS));
+		assertThat(registry.getContributor("test")).isInstanceOf(BackgroundHealthIndicator.class);
+		assertThat(registry.stream().map(NamedContributor::getContributor))
+				.hasOnlyElementsOfType(BackgroundHealthIndicator.class).hasSize(1);
+	}
+
+	@Test
+	void unregisterContributorCancelsRefreshAndReturnsOriginalContributor() {
+		CountingHealthIndicator indicator = new CountingHealthIndicator();
+		BackgroundHealthContributorRegistry registry = createRegistry(Collections.singletonMap("test", indicator),
+				(name) -> Duration.ofSeconds(10));
+		registry.start();
+		ScheduledFuture<?> future = this.futures.get(0);
+		assertThat(registry.unregisterContributor("test")).isSameAs(indicator);
+		verify(future).cancel(false);
+		assertThat(registry.getContributor("test")).isNull();
+	}
+
+	@Test
+	void unregisterContributorWhenSameInstanceIsRegisteredUnderTwoNamesOnlyCancelsThatName() {
+		CountingHealthIndicator indicator = new CountingHealthIndicator();
+		BackgroundHealthContributorRegistry registry = createRegistry(Collections.emptyMap(),
+				(name) -> Duration.ofSeconds(10));
+		registry.start();
+		registry.registerContributor("one", indicator);
+		registry.registerContributor("two", indicator);
+		assertThat(this.futures).hasSize(2);
+		registry.unregisterContributor("one");
+		verify(this.futures.get(0)).cancel(false);
+		verify(this.futures.get(1), never()).cancel(anyBoolean());
+		assertThat(registry.getContributor("two")).isInstanceOf(BackgroundHealthIndicator.class);
+		registry.unregisterContributor("two");
+		verify(this.futures.get(1)).cancel(false);
+	}
+
+	private BackgroundHealthContributorRegistry createRegistry(Map<String, HealthContributor> contributors,
+			Function<String, Duration> intervals) {
+		return new BackgroundHealthContributorRegistry(new DefaultHealthContributorRegistry(contributors),
+				this.scheduler, intervals, Duration.ofSeconds(5), this.listener, this.clock, false);
+	}
+
+	private void refresh() {
+		ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.scheduler, times(this.futures.size())).scheduleWithFixedDelay(tasks.capture(), anyLong(), anyLong(),
+				any());
+		tasks.getAllValues().forEach(Runnable::run);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private ScheduledExecutorService mockScheduler() {
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		given(scheduler.scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any()))
+				.willAnswer((invocation) -> {
+					ScheduledFuture future = mock(ScheduledFuture.class);
+					this.futures.add(future);
+					return future;
+				});
+		return scheduler;
+	}
+
+	static class CountingHealthIndicator implements HealthIndicator {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Health health() {
+			return Health.up().withDetail("count", this.count.incrementAndGet()).build();
+		}
+
+	}
+
+}
@@ -16,8 +16,15 @@
 
 package org.springframework.boot.actuate.health;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -66,6 +73,104 @@ class HealthEndpointTests
 		assertThat(health).isEqualTo(this.up);
 	}
 
+	@Test
+	void healthWithParallelEvaluatorEvaluatesIndicatorsConcurrently() {
+		CountDownLatch latch = new CountDownLatch(3);
+		Map<String, HealthContributor> nested = new LinkedHashMap<>();
+		nested.put("one", awaitingContributor(latch));
+		nested.put("two", awaitingContributor(latch));
+		this.registry.registerContributor("test", awaitingContributor(latch));
+		this.registry.registerContributor("nested", createCompositeContributor(nested));
+		try (ParallelHealthIndicatorEvaluator evaluator = new ParallelHealthIndicatorEvaluator(4,
+				Duration.ofSeconds(5))) {
+			CompositeHealth health = (CompositeHealth) new HealthEndpoint(this.registry, this.groups, evaluator)
+					.health();
+			assertThat(health.getStatus()).isEqualTo(Status.UP);
+			assertThat(health.getComponents()).containsOnlyKeys("test", "nested");
+			assertThat(((CompositeHealth) health.getComponents().get("nested")).getComponents()).containsOnlyKeys("one",
+					"two");
+		}
+	}
+
+	@Test
+	void healthWithListenerNotifiesListenerOfEachIndicator() {
+		Map<String, HealthContributor> nested = new LinkedHashMap<>();
+		nested.put("one", createContributor(this.up));
+		nested.put("two", createContributor(this.down));
+		this.registry.registerContributor("atest", createContributor(this.up));
+		this.registry.registerContributor("nested", createCompositeContributor(nested));
+		List<String> notifications = new ArrayList<>();
+		HealthContributorListener listener = (name, group, status, duration) -> {
+			assertThat(duration.isNegative()).isFalse();
+			notifications.add(name + ":" + group + ":" + status);
+		};
+		HealthEndpoint endpoint = new HealthEndpoint(this.registry, this.groups, null, listener);
+		endpoint.health();
+		assertThat(notifications).containsExactly("atest:null:UP", "nested/one:null:UP", "nested/two:null:DOWN");
+		notifications.clear();
+		endpoint.healthForPath("alltheas", "atest");
+		assertThat(notifications).containsExactly("atest:alltheas:UP");
+	}
+
+	@Test
+	void healthWithListenerAndParallelEvaluatorNotifiesListenerOfIndicatorThatTimesOut() {
+		CountDownLatch latch = new CountDownLatch(1);
+		this.registry.registerContributor("atest", createContributor(this.up));
+		this.registry.registerContributor("slow", (HealthIndicator) () -> {
+			try {
+				latch.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return this.up;
+		});
+		List<String> notifications = Collections.synchronizedList(new ArrayList<>());
+		List<Duration> durations = Collections.synchronizedList(new ArrayList<>());
+		HealthContributorListener listener = (name, group, status, duration) -> {
+			notifications.add(name + ":" + status);
+			durations.add(duration);
+		};
+		try (ParallelHealthIndicatorEvaluator evaluator = new ParallelHealthIndicatorEvaluator(4,
+				Duration.ofMillis(100))) {
+			HealthEndpoint endpoint = new HealthEndpoint(this.registry, this.groups, evaluator, listener);
+			CompositeHealth health = (CompositeHealth) endpoint.health();
+			assertThat(health.getComponents().get("slow").getStatus()).isEqualTo(Status.DOWN);
+			assertThat(notifications).containsExactlyInAnyOrder("atest:UP", "slow:DOWN");
+			assertThat(durations.get(notifications.indexOf("slow:DOWN")))
+					.isGreaterThanOrEqualTo(Duration.ofMillis(100));
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	void healthWithListenerDoesNotNotifyListenerOfBackgroundIndicator() {
+		BackgroundHealthIndicator indicator = new BackgroundHealthIndicator("atest", () -> this.up,
+				Duration.ofSeconds(10), Duration.ofSeconds(10), Clock.systemUTC(), HealthContributorListener.NONE);
+		indicator.refresh();
+		this.registry.registerContributor("atest", indicator);
+		List<String> notifications = new ArrayList<>();
+		HealthEndpoint endpoint = new HealthEndpoint(this.registry, this.groups, null,
+				(name, group, status, duration) -> notifications.add(name));
+		endpoint.health();
+		assertThat(notifications).isEmpty();
+	}
+
+	private HealthContributor awaitingContributor(CountDownLatch latch) {
+		return (HealthIndicator) () -> {
+			latch.countDown();
+			try {
+				return latch.await(5, TimeUnit.SECONDS) ? this.up : this.down;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return this.down;
+			}
+		};
+	}
+
 	@Override
 	protected HealthEndpoint create(HealthContributorRegistry registry, HealthEndpointGroups groups) {
 		return new HealthEndpoint(registry, groups);
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ParallelHealthIndicatorEvaluator}.
+ *
+ * @author agent (agent@local)
+ */
+class ParallelHealthIndicatorEvaluatorTests {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void createWhenExecutorIsNullThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ParallelHealthIndicatorEvaluator(null, null))
+				.withMessage("Executor must not be null");
+	}
+
+	@Test
+	void createWhenPoolSizeIsZeroThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ParallelHealthIndicatorEvaluator(0, null))
+				.withMessage("PoolSize must be strictly positive");
+	}
+
+	@Test
+	void evaluateReturnsHealthOfIndicator() {
+		ParallelHealthIndicatorEvaluator evaluator = new ParallelHealthIndicatorEvaluator(this.executor,
+				Duration.ofSeconds(5));
+		Health health = Health.up().withDetail("spring", "boot").build();
+		HealthIndicator indicator = () -> health;
+		assertThat(evaluator.evaluate(() -> indicator.getHealth(true), true).get()).isEqualTo(health);
+		assertThat(evaluator.evaluate(() -> indicator.getHealth(false), false).get()).isEqualTo(Health.up().build());
+	}
+
+	@Test
+	void evaluateRunsIndicatorsConcurrently() throws Exception {
+		ParallelHealthIndicatorEvaluator evaluator = new ParallelHealthIndicatorEvaluator(this.executor,
+				Duration.ofSeconds(5));
+		CountDownLatch latch = new CountDownLatch(2);
+		Supplier<Health> indicator = () -> {
+			latch.countDown();
+			try {
+				return latch.await(5, TimeUnit.SECONDS) ? Health.up().build() : Health.down().build();
+			}
+			catch (InterruptedException ex) {
+				return Health.unknown().build();
+			}
+		};
+		Supplier<HealthComponent> first = evaluator.evaluate(indicator, true);
+		Supplier<HealthComponent> second = evaluator.evaluate(indicator, true);
+		assertThat(first.get().getStatus()).isEqualTo(Status.UP);
+		assertThat(second.get().getStatus()).isEqualTo(Status.UP);
+	}
+
+	@Test
+	void evaluateWhenIndicatorTimesOutReturnsDown() {
+		ParallelHealthIndicatorEvaluator evaluator = new ParallelHealthIndicatorEvaluator(this.executor,
+				Duration.ofMillis(50));
+		CountDownLatch latch = new CountDownLatch(1);
+		Supplier<Health> indicator = () -> {
+			try {
+				latch.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return Health.up().build();
+		};
+		Health health = (Health) evaluator.evaluate(indicator, true).get();
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("error",
+				"java.util.concurrent.TimeoutException: Health indicator did not respond within 50ms");
+		Health withoutDetails = (Health) evaluator.evaluate(indicator, false).get();
+		assertThat(withoutDetails).isEqualTo(Health.down().build());
+	}
+
+	@Test
+	void evaluateWhenIndicatorThrowsExceptionPropagatesException() {
+		ParallelHealthIndicatorEvaluator evaluator = new ParallelHealthIndicatorEvaluator(this.executor,
+				Duration.ofSeconds(5));
+		Supplier<HealthComponent> health = evaluator.evaluate(() -> {
+			throw new IllegalStateException("failed");
+		}, true);
+		assertThatIllegalStateException().isThrownBy(health::get).withMessage("failed");
+	}
+
+	@Test
+	void evaluateWhenExecutorRejectsTaskRunsOnCallingThread() {
+		ParallelHealthIndicatorEvaluator evaluator = new ParallelHealthIndicatorEvaluator(this.executor, null);
+		this.executor.shutdown();
+		Thread caller = Thread.currentThread();
+		Supplier<Health> indicator = () -> Health.status((Thread.currentThread() == caller) ? Status.UP : Status.DOWN)
+				.build();
+		assertThat(evaluator.evaluate(indicator, true).get().getStatus()).isEqualTo(Status.UP);
+	}
+
+	@Test
+	void closeShutsDownOwnedExecutor() {
+		ParallelHealthIndicatorEvaluator evaluator = new ParallelHealthIndicatorEvaluator(2, null);
+		Thread caller = Thread.currentThread();
+		Supplier<Health> indicator = () -> Health.status((Thread.currentThread() == caller) ? Status.UP : Status.DOWN)
+				.build();
+		assertThat(evaluator.evaluate(indicator, true).get().getStatus()).isEqualTo(Status.DOWN);
+		evaluator.close();
+		assertThat(evaluator.evaluate(indicator, true).get().getStatus()).isEqualTo(Status.UP);
+	}
+
+}
@@ -18,8 +18,11 @@ package org.springframework.boot.actuate.logging;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,7 @@ import org.springframework.boot.logging.LogFile;
 import org.springframework.core.io.Resource;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StreamUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.contentOf;
@@ -82,4 +86,67 @@ class LogFileWebEndpointTests {
 		assertThat(contentOf(resource.getFile())).isEqualTo("--TEST--");
 	}
 
+	@Test
+	void resourceResponseWithLinesReturnsLastLines() throws Exception {
+		FileCopyUtils.copy("one\ntwo\nthree\nfour\n".getBytes(), this.logFile);
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		assertThat(readContent(endpoint.logFile(2, null))).isEqualTo("three\nfour\n");
+	}
+
+	@Test
+	void resourceResponseWithLinesWhenLastLineIsNotTerminatedReturnsLastLines() throws Exception {
+		FileCopyUtils.copy("one\ntwo\nthree\nfour".getBytes(), this.logFile);
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		assertThat(readContent(endpoint.logFile(2, null))).isEqualTo("three\nfour");
+	}
+
+	@Test
+	void resourceResponseWithMoreLinesThanFileReturnsEntireFile() throws Exception {
+		FileCopyUtils.copy("one\ntwo\n".getBytes(), this.logFile);
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		assertThat(readContent(endpoint.logFile(10, null))).isEqualTo("one\ntwo\n");
+	}
+
+	@Test
+	void resourceResponseWithLinesSpanningBuffersReturnsLastLines() throws Exception {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			content.append("line ").append(i).append("\n");
+		}
+		FileCopyUtils.copy(content.toString().getBytes(), this.logFile);
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		String tail = readContent(endpoint.logFile(5000, null));
+		assertThat(tail).startsWith("line 5000\n").endsWith("line 9999\n");
+	}
+
+	@Test
+	void resourceResponseWithBytesReturnsLastBytes() throws Exception {
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		Resource resource = endpoint.logFile(null, 4L);
+		assertThat(resource.contentLength()).isEqualTo(4);
+		assertThat(readContent(resource)).isEqualTo("ST--");
+	}
+
+	@Test
+	void resourceResponseWithLinesAndBytesReturnsSmallerTail() throws Exception {
+		FileCopyUtils.copy("one\ntwo\nthree\n".getBytes(), this.logFile);
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		assertThat(readContent(endpoint.logFile(2, 3L))).isEqualTo("ee\n");
+		assertThat(readContent(endpoint.logFile(1, 100L))).isEqualTo("three\n");
+	}
+
+	@Test
+	void resourceResponseWithTailDoesNotIncludeContentAppendedLater() throws Exception {
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		Resource resource = endpoint.logFile(1, null);
+		Files.write(this.logFile.toPath(), "++MORE++".getBytes(), StandardOpenOption.APPEND);
+		assertThat(readContent(resource)).isEqualTo("--TEST--");
+	}
+
+	private String readContent(Resource resource) throws IOException {
+		try (InputStream inputStream = resource.getInputStream()) {
+			return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+		}
+	}
+
 }
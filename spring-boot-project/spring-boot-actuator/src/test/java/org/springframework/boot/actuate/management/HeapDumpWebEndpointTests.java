@@ -16,10 +16,23 @@
 
 package org.springframework.boot.actuate.management;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StreamUtils;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -52,4 +65,116 @@ class HeapDumpWebEndpointTests {
 		thread.join();
 	}
 
+	@Test
+	void heapDumpWhenCompressedShouldReturnGzippedContent() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			content.append("HEAPDUMP").append(i);
+		}
+		AtomicReference<File> dumpFile = new AtomicReference<>();
+		HeapDumpWebEndpoint endpoint = new TestHeapDumpWebEndpoint(-1, (file, live) -> {
+			dumpFile.set(file);
+			FileCopyUtils.copy(content.toString().getBytes(StandardCharsets.UTF_8), file);
+		});
+		Resource heapDump = endpoint.heapDump(true, true).getBody();
+		assertThat(heapDump.contentLength()).isEqualTo(-1);
+		assertThat(heapDump.getFilename()).endsWith(".hprof.gz");
+		byte[] compressed;
+		try (InputStream inputStream = heapDump.getInputStream()) {
+			compressed = StreamUtils.copyToByteArray(inputStream);
+		}
+		assertThat(compressed.length).isLessThan(content.length());
+		try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			assertThat(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8)).isEqualTo(content.toString());
+		}
+		assertThat(dumpFile.get()).doesNotExist();
+	}
+
+	@Test
+	void heapDumpWhenMaxPendingReachedProducesTooManyRequestsResponse() throws IOException {
+		HeapDumpWebEndpoint endpoint = new TestHeapDumpWebEndpoint(1,
+				(file, live) -> FileCopyUtils.copy("HEAPDUMP".getBytes(), file));
+		WebEndpointResponse<Resource> first = endpoint.heapDump(true, false);
+		assertThat(first.getStatus()).isEqualTo(200);
+		assertThat(endpoint.heapDump(true, false).getStatus()).isEqualTo(429);
+		first.getBody().getInputStream().close();
+		WebEndpointResponse<Resource> second = endpoint.heapDump(true, false);
+		assertThat(second.getStatus()).isEqualTo(200);
+		second.getBody().getInputStream().close();
+	}
+
+	@Test
+	void heapDumpWhenDumpFailsDeletesFileAndReleasesPending() {
+		AtomicReference<File> dumpFile = new AtomicReference<>();
+		HeapDumpWebEndpoint endpoint = new TestHeapDumpWebEndpoint(1, (file, live) -> {
+			dumpFile.set(file);
+			FileCopyUtils.copy("HEAP".getBytes(), file);
+			throw new IOException("Failed");
+		});
+		assertThat(endpoint.heapDump(true, false).getStatus()).isEqualTo(500);
+		assertThat(dumpFile.get()).doesNotExist();
+		assertThat(endpoint.heapDump(true, false).getStatus()).isEqualTo(500);
+	}
+
+	@Test
+	void heapDumpWhenClosedMoreThanOnceReleasesPendingOnce() throws IOException {
+		HeapDumpWebEndpoint endpoint = new TestHeapDumpWebEndpoint(1,
+				(file, live) -> FileCopyUtils.copy("HEAPDUMP".getBytes(), file));
+		Resource heapDump = endpoint.heapDump(true, false).getBody();
+		InputStream first = heapDump.getInputStream();
+		InputStream second = heapDump.getInputStream();
+		first.close();
+		second.close();
+		first.close();
+		WebEndpointResponse<Resource> next = endpoint.heapDump(true, false);
+		assertThat(next.getStatus()).isEqualTo(200);
+		assertThat(endpoint.heapDump(true, false).getStatus()).isEqualTo(429);
+		next.getBody().getInputStream().close();
+	}
+
+	@Test
+	void heapDumpWhenPreviousDumpWasNotDownloadedDeletesItAndReleasesPending() throws IOException {
+		AtomicReference<File> dumpFile = new AtomicReference<>();
+		HeapDumpWebEndpoint endpoint = new TestHeapDumpWebEndpoint(1, Duration.ZERO, (file, live) -> {
+			dumpFile.set(file);
+			FileCopyUtils.copy("HEAPDUMP".getBytes(), file);
+		});
+		assertThat(endpoint.heapDump(true, false).getStatus()).isEqualTo(200);
+		File abandoned = dumpFile.get();
+		assertThat(abandoned).exists();
+		WebEndpointResponse<Resource> next = endpoint.heapDump(true, false);
+		assertThat(next.getStatus()).isEqualTo(200);
+		assertThat(abandoned).doesNotExist();
+		next.getBody().getInputStream().close();
+	}
+
+	@Test
+	void heapDumpWhenPreviousDumpIsBeingDownloadedDoesNotReleasePending() throws IOException {
+		HeapDumpWebEndpoint endpoint = new TestHeapDumpWebEndpoint(1, Duration.ZERO,
+				(file, live) -> FileCopyUtils.copy("HEAPDUMP".getBytes(), file));
+		try (InputStream inputStream = endpoint.heapDump(true, false).getBody().getInputStream()) {
+			assertThat(endpoint.heapDump(true, false).getStatus()).isEqualTo(429);
+		}
+	}
+
+	static class TestHeapDumpWebEndpoint extends HeapDumpWebEndpoint {
+
+		private final HeapDumper heapDumper;
+
+		TestHeapDumpWebEndpoint(int maxPending, HeapDumper heapDumper) {
+			this(maxPending, Duration.ofMinutes(1), heapDumper);
+		}
+
+		TestHeapDumpWebEndpoint(int maxPending, Duration unreadTimeout, HeapDumper heapDumper) {
+			super(Duration.ofSeconds(1), maxPending, unreadTimeout);
+			this.heapDumper = heapDumper;
+		}
+
+		@Override
+		protected HeapDumper createHeapDumper() {
+			return this.heapDumper;
+		}
+
+	}
+
 }
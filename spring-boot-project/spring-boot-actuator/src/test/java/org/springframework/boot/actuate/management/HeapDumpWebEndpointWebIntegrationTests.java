@@ -16,10 +16,12 @@
 
 package org.springframework.boot.actuate.management;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +35,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.util.FileCopyUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 
 /**
@@ -65,6 +68,17 @@ class HeapDumpWebEndpointWebIntegrationTests {
 		assertHeapDumpFileIsDeleted();
 	}
 
+	@WebEndpointTest
+	void getRequestWithCompressShouldReturnCompressedHeapDumpInResponseBody(WebTestClient client) throws Exception {
+		byte[] body = client.get().uri("/actuator/heapdump?compress=true").exchange().expectStatus().isOk()
+				.expectHeader().contentType(MediaType.APPLICATION_OCTET_STREAM).expectBody(byte[].class).returnResult()
+				.getResponseBody();
+		try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			assertThat(FileCopyUtils.copyToByteArray(inputStream)).isEqualTo("HEAPDUMP".getBytes());
+		}
+		assertHeapDumpFileIsDeleted();
+	}
+
 	private void assertHeapDumpFileIsDeleted() throws InterruptedException {
 		Awaitility.waitAtMost(Duration.ofSeconds(5)).until(this.endpoint.file::exists, is(false));
 	}
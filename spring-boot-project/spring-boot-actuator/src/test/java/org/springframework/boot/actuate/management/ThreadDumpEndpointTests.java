@@ -17,6 +17,7 @@
 package org.springframework.boot.actuate.management;
 
 import java.lang.Thread.State;
+import java.lang.management.ThreadInfo;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -24,7 +25,12 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.management.ThreadDumpEndpoint.ThreadDumpDescriptor;
+import org.springframework.boot.actuate.management.ThreadDumpEndpoint.ThreadSummaryDescriptor;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link ThreadDumpEndpoint}.
@@ -39,6 +45,109 @@ class ThreadDumpEndpointTests {
 		assertThat(new ThreadDumpEndpoint().threadDump().getThreads().size()).isGreaterThan(0);
 	}
 
+	@Test
+	void dumpThreadsFilteredByName() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		Thread thread = startAwaitingThread(latch, "filter-test-1");
+		try {
+			awaitState(thread, State.WAITING);
+			ThreadDumpDescriptor threadDump = new ThreadDumpEndpoint().threadDump("filter-test-\\d+", null);
+			assertThat(threadDump.getThreads()).extracting(ThreadInfo::getThreadName).containsExactly("filter-test-1");
+			assertThat(threadDump.getThreads().get(0).getStackTrace()).isNotEmpty();
+		}
+		finally {
+			latch.countDown();
+			thread.join();
+		}
+	}
+
+	@Test
+	void dumpThreadsFilteredByState() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		Thread thread = startAwaitingThread(latch, "state-test-1");
+		try {
+			awaitState(thread, State.WAITING);
+			ThreadDumpDescriptor threadDump = new ThreadDumpEndpoint().threadDump(null, State.WAITING);
+			assertThat(threadDump.getThreads()).extracting(ThreadInfo::getThreadState).containsOnly(State.WAITING);
+			assertThat(threadDump.getThreads()).extracting(ThreadInfo::getThreadName).contains("state-test-1");
+			assertThat(new ThreadDumpEndpoint().threadDump("state-test-1", State.BLOCKED).getThreads()).isEmpty();
+		}
+		finally {
+			latch.countDown();
+			thread.join();
+		}
+	}
+
+	@Test
+	void dumpThreadsAsTextFilteredByName() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		Thread thread = startAwaitingThread(latch, "text-filter-test-1");
+		try {
+			String threadDump = new ThreadDumpEndpoint().textThreadDump("text-filter-test-.*", null);
+			assertThat(threadDump).contains("\"text-filter-test-1\"")
+					.doesNotContain("\"" + Thread.currentThread().getName() + "\"");
+		}
+		finally {
+			latch.countDown();
+			thread.join();
+		}
+	}
+
+	@Test
+	void threadSummary() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		Thread first = startAwaitingThread(latch, "summary-pool-1");
+		Thread second = startAwaitingThread(latch, "summary-pool-2");
+		try {
+			ThreadSummaryDescriptor summary = new ThreadDumpEndpoint().threadSummary(null, null);
+			assertThat(summary.getThreadCount()).isGreaterThanOrEqualTo(2);
+			assertThat(summary.getStates()).containsKeys(State.values());
+			assertThat(summary.getStates().values().stream().mapToInt(Integer::intValue).sum())
+					.isGreaterThanOrEqualTo(2);
+			assertThat(summary.getPools()).containsEntry("summary-pool", 2);
+		}
+		finally {
+			latch.countDown();
+			first.join();
+			second.join();
+		}
+	}
+
+	@Test
+	void threadSummaryWithNameOnlySummarizesMatchingThreads() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		Thread thread = startAwaitingThread(latch, "summary-filter-1");
+		try {
+			ThreadSummaryDescriptor summary = new ThreadDumpEndpoint().threadSummary("summary-filter-.*", null);
+			assertThat(summary.getPools()).containsOnlyKeys("summary-filter");
+			assertThat(summary.getStates().values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(1);
+		}
+		finally {
+			latch.countDown();
+			thread.join();
+		}
+	}
+
+	@Test
+	void threadDumpOperationWithSummaryReturnsSummary() {
+		ThreadDumpEndpoint endpoint = new ThreadDumpEndpoint();
+		assertThat(endpoint.threadDump(null, null, true)).isInstanceOf(ThreadSummaryDescriptor.class);
+		assertThat(endpoint.threadDump(null, null, false)).isInstanceOf(ThreadDumpDescriptor.class);
+		assertThat(endpoint.threadDump(null, null, null)).isInstanceOf(ThreadDumpDescriptor.class);
+	}
+
+	@Test
+	void threadDumpWithInvalidNamePatternThrowsInvalidEndpointRequestException() {
+		ThreadDumpEndpoint endpoint = new ThreadDumpEndpoint();
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> endpoint.threadDump("[unclosed", null))
+				.withMessage("Invalid thread name pattern '[unclosed'");
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> endpoint.textThreadDump("[unclosed", null));
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> endpoint.threadSummary("[unclosed", null));
+	}
+
 	@Test
 	void dumpThreadsAsText() throws InterruptedException {
 		Object contendedMonitor = new Object();
@@ -111,6 +220,19 @@ class ThreadDumpEndpointTests {
 								ReentrantReadWriteLock.class.getName().replace(".", "\\.")));
 	}
 
+	private Thread startAwaitingThread(CountDownLatch latch, String name) {
+		Thread thread = new Thread(() -> {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}, name);
+		thread.start();
+		return thread;
+	}
+
 	private String hexIdentityHashCode(Object object) {
 		return Integer.toHexString(System.identityHashCode(object));
 	}
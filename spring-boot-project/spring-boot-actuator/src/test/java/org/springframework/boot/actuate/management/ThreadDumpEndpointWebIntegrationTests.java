@@ -46,6 +46,19 @@ class ThreadDumpEndpointWebIntegrationTests {
 		assertThat(response).contains("Full thread dump");
 	}
 
+	@WebEndpointTest
+	void getRequestWithSummaryShouldProduceSummaryResponse(WebTestClient client) {
+		client.get().uri("/actuator/threaddump?summary=true").accept(MediaType.APPLICATION_JSON).exchange()
+				.expectStatus().isOk().expectBody().jsonPath("threadCount").isNumber().jsonPath("threads")
+				.doesNotExist();
+	}
+
+	@WebEndpointTest
+	void getRequestWithInvalidNamePatternShouldProduceBadRequestResponse(WebTestClient client) {
+		client.get().uri((builder) -> builder.path("/actuator/threaddump").queryParam("name", "{name}").build("[a"))
+				.accept(MediaType.APPLICATION_JSON).exchange().expectStatus().isBadRequest();
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	public static class TestConfiguration {
 
@@ -16,11 +16,14 @@
 
 package org.springframework.boot.actuate.metrics;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.MockClock;
 import io.micrometer.core.instrument.Statistic;
@@ -30,6 +33,7 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -188,6 +192,64 @@ class MetricsEndpointTests {
 		assertMetricHasStatisticEqualTo(reg, "counter", Statistic.COUNT, 2.0);
 	}
 
+	@Test
+	void metricMatchingMultipleTags() {
+		this.registry.counter("cache", "result", "hit", "host", "1").increment(1);
+		this.registry.counter("cache", "result", "miss", "host", "1").increment(2);
+		this.registry.counter("cache", "result", "hit", "host", "2").increment(4);
+		MetricsEndpoint.MetricResponse response = this.endpoint.metric("cache", Arrays.asList("result:hit", "host:2"));
+		assertThat(getCount(response)).hasValue(4.0);
+		assertThat(this.endpoint.metric("cache", Arrays.asList("result:miss", "host:2"))).isNull();
+		assertThat(this.endpoint.metric("cache", Collections.singletonList("region:eu"))).isNull();
+	}
+
+	@Test
+	void metricAddedAfterFirstRequestIsFound() {
+		this.registry.counter("cache", "result", "hit").increment(1);
+		assertThat(getCount(this.endpoint.metric("cache", Collections.emptyList()))).hasValue(1.0);
+		this.registry.counter("cache", "result", "miss").increment(2);
+		this.registry.counter("other").increment();
+		assertThat(getCount(this.endpoint.metric("cache", Collections.emptyList()))).hasValue(3.0);
+		assertThat(getCount(this.endpoint.metric("cache", Collections.singletonList("result:miss")))).hasValue(2.0);
+		assertThat(this.endpoint.metric("other", Collections.emptyList())).isNotNull();
+	}
+
+	@Test
+	void metricRemovedAfterFirstRequestIsNotFound() {
+		Counter hit = this.registry.counter("cache", "result", "hit");
+		hit.increment(1);
+		this.registry.counter("cache", "result", "miss").increment(2);
+		assertThat(getCount(this.endpoint.metric("cache", Collections.emptyList()))).hasValue(3.0);
+		this.registry.remove(hit);
+		assertThat(getCount(this.endpoint.metric("cache", Collections.emptyList()))).hasValue(2.0);
+		assertThat(this.endpoint.metric("cache", Collections.singletonList("result:hit"))).isNull();
+	}
+
+	@Test
+	void endpointsForTheSameRegistryShareItsListeners() {
+		this.registry.counter("cache", "result", "hit");
+		this.endpoint.metric("cache", Collections.emptyList());
+		List<?> added = (List<?>) ReflectionTestUtils.getField(this.registry, "meterAddedListeners");
+		List<?> removed = (List<?>) ReflectionTestUtils.getField(this.registry, "meterRemovedListeners");
+		int addedCount = added.size();
+		int removedCount = removed.size();
+		MetricsEndpoint another = new MetricsEndpoint(this.registry);
+		assertThat(another.metric("cache", Collections.emptyList())).isNotNull();
+		assertThat(added).hasSize(addedCount);
+		assertThat(removed).hasSize(removedCount);
+	}
+
+	@Test
+	void metricAddedToCompositeMemberAfterFirstRequestIsFound() {
+		CompositeMeterRegistry composite = new CompositeMeterRegistry();
+		SimpleMeterRegistry member = new SimpleMeterRegistry();
+		composite.add(member);
+		MetricsEndpoint endpoint = new MetricsEndpoint(composite);
+		assertThat(endpoint.metric("counter", Collections.emptyList())).isNull();
+		member.counter("counter").increment();
+		assertThat(getCount(endpoint.metric("counter", Collections.emptyList()))).hasValue(1.0);
+	}
+
 	private void assertMetricHasStatisticEqualTo(MeterRegistry registry, String metricName, Statistic stat,
 			Double value) {
 		MetricsEndpoint endpoint = new MetricsEndpoint(registry);
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.endpoint;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.actuate.endpoint.EndpointId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MetricsCachingOperationInvokerListener}.
+ *
+ * @author agent (agent@local)
+ */
+class MetricsCachingOperationInvokerListenerTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final MetricsCachingOperationInvokerListener listener = new MetricsCachingOperationInvokerListener(
+			this.registry);
+
+	@Test
+	void cacheGetsAreRecordedPerResult() {
+		EndpointId health = EndpointId.of("health");
+		this.listener.onHit(health);
+		this.listener.onHit(health);
+		this.listener.onStaleHit(health);
+		this.listener.onMiss(health);
+		assertThat(
+				this.registry.get("endpoint.cache.gets").tags("endpoint", "health", "result", "hit").counter().count())
+						.isEqualTo(2);
+		assertThat(this.registry.get("endpoint.cache.gets").tags("endpoint", "health", "result", "stale").counter()
+				.count()).isEqualTo(1);
+		assertThat(
+				this.registry.get("endpoint.cache.gets").tags("endpoint", "health", "result", "miss").counter().count())
+						.isEqualTo(1);
+	}
+
+	@Test
+	void refreshesAndEvictionsAreRecordedPerEndpoint() {
+		this.listener.onRefresh(EndpointId.of("health"));
+		this.listener.onEviction(EndpointId.of("info"));
+		assertThat(this.registry.get("endpoint.cache.refreshes").tags("endpoint", "health").counter().count())
+				.isEqualTo(1);
+		assertThat(this.registry.get("endpoint.cache.evictions").tags("endpoint", "info").counter().count())
+				.isEqualTo(1);
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.health;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MetricsHealthContributorListener}.
+ *
+ * @author agent (agent@local)
+ */
+class MetricsHealthContributorListenerTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final MetricsHealthContributorListener listener = new MetricsHealthContributorListener(this.registry);
+
+	@Test
+	void healthIsTimedPerContributorGroupAndStatus() {
+		this.listener.onHealth("db", null, Status.UP, Duration.ofMillis(10));
+		this.listener.onHealth("db", null, Status.UP, Duration.ofMillis(30));
+		this.listener.onHealth("db", "readiness", Status.DOWN, Duration.ofMillis(5));
+		Timer timer = this.registry.get("health.contributor").tags("name", "db", "group", "none", "status", "UP")
+				.timer();
+		assertThat(timer.count()).isEqualTo(2);
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+		assertThat(this.registry.get("health.contributor").tags("name", "db", "group", "readiness", "status", "DOWN")
+				.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void statusTransitionsAreCountedPerContributor() {
+		this.listener.onHealth("db", null, Status.UP, Duration.ZERO);
+		this.listener.onHealth("db", null, Status.UP, Duration.ZERO);
+		this.listener.onHealth("db", null, Status.DOWN, Duration.ZERO);
+		this.listener.onHealth("db", "readiness", Status.UP, Duration.ZERO);
+		this.listener.onHealth("redis", null, Status.DOWN, Duration.ZERO);
+		assertThat(this.registry.get("health.contributor.transitions").tags("name", "db", "from", "UP", "to", "DOWN")
+				.counter().count()).isEqualTo(1);
+		assertThat(this.registry.get("health.contributor.transitions").tags("name", "db", "from", "DOWN", "to", "UP")
+				.counter().count()).isEqualTo(1);
+		assertThat(this.registry.find("health.contributor.transitions").tag("name", "redis").counter()).isNull();
+	}
+
+}
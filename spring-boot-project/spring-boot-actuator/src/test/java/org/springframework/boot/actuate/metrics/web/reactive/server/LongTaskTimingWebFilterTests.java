@@ -0,0 +1,204 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.reactive.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LongTaskTimingWebFilter}.
+ *
+ * @author agent (agent@local)
+ */
+class LongTaskTimingWebFilterTests {
+
+	private SimpleMeterRegistry registry;
+
+	private LongTaskTimingWebFilter webFilter;
+
+	@BeforeEach
+	void setup() {
+		this.registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, new MockClock());
+		this.webFilter = new LongTaskTimingWebFilter(this.registry, new DefaultWebFluxTagsProvider(true));
+	}
+
+	@Test
+	void longTaskTimerIsActiveUntilExchangeCompletes() {
+		Sinks.Empty<Void> completion = Sinks.empty();
+		MockServerWebExchange exchange = createExchange();
+		StepVerifier.create(this.webFilter.filter(exchange, (filtered) -> handle(filtered, "longTask", completion)))
+				.then(() -> assertThat(activeTasks("my.long.request")).isEqualTo(1)).then(completion::tryEmitEmpty)
+				.verifyComplete();
+		assertThat(activeTasks("my.long.request")).isEqualTo(0);
+	}
+
+	@Test
+	void longTaskTimerIsTaggedWithMethodUriAndExtraTags() {
+		MockServerWebExchange exchange = createExchange();
+		this.webFilter.filter(exchange, (filtered) -> handle(filtered, "longTask", Sinks.empty())).subscribe()
+				.dispose();
+		assertThat(this.registry.get("my.long.request")
+				.tags("method", "GET", "uri", "/projects/{project}", "region", "test").longTaskTimer()).isNotNull();
+	}
+
+	@Test
+	void longTaskTimerIsStoppedWhenExchangeFails() {
+		Sinks.Empty<Void> completion = Sinks.empty();
+		MockServerWebExchange exchange = createExchange();
+		StepVerifier.create(this.webFilter.filter(exchange, (filtered) -> handle(filtered, "longTask", completion)))
+				.then(() -> assertThat(activeTasks("my.long.request")).isEqualTo(1))
+				.then(() -> completion.tryEmitError(new IllegalStateException("test"))).verifyError();
+		assertThat(activeTasks("my.long.request")).isEqualTo(0);
+	}
+
+	@Test
+	void longTaskTimerIsStoppedWhenExchangeIsCancelled() {
+		MockServerWebExchange exchange = createExchange();
+		StepVerifier.create(this.webFilter.filter(exchange, (filtered) -> handle(filtered, "longTask", Sinks.empty())))
+				.then(() -> assertThat(activeTasks("my.long.request")).isEqualTo(1)).thenCancel().verify();
+		assertThat(activeTasks("my.long.request")).isEqualTo(0);
+	}
+
+	@Test
+	void handlerWithoutLongTaskIsNotTimed() {
+		MockServerWebExchange exchange = createExchange();
+		this.webFilter.filter(exchange, (filtered) -> handle(filtered, "timed", Sinks.empty())).subscribe().dispose();
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+
+	@Test
+	void whenNoHandlerMethodUsesLongTaskTimerExchangeIsNotDecorated() {
+		LongTaskTimingWebFilter webFilter = new LongTaskTimingWebFilter(this.registry,
+				new DefaultWebFluxTagsProvider(true), () -> Collections.singletonList(
+						new HandlerMethod(new Handlers(), ReflectionUtils.findMethod(Handlers.class, "timed"))));
+		MockServerWebExchange exchange = createExchange();
+		AtomicReference<ServerWebExchange> filtered = new AtomicReference<>();
+		webFilter.filter(exchange, (candidate) -> {
+			filtered.set(candidate);
+			return handle(candidate, "longTask", Sinks.empty());
+		}).subscribe().dispose();
+		assertThat(filtered.get()).isSameAs(exchange);
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+
+	@Test
+	void whenHandlerMethodUsesLongTaskTimerExchangeIsTimed() {
+		LongTaskTimingWebFilter webFilter = new LongTaskTimingWebFilter(this.registry,
+				new DefaultWebFluxTagsProvider(true), () -> Collections.singletonList(
+						new HandlerMethod(new Handlers(), ReflectionUtils.findMethod(Handlers.class, "longTask"))));
+		MockServerWebExchange exchange = createExchange();
+		StepVerifier.create(webFilter.filter(exchange, (filtered) -> handle(filtered, "longTask", Sinks.empty())))
+				.then(() -> assertThat(activeTasks("my.long.request")).isEqualTo(1)).thenCancel().verify();
+	}
+
+	@Test
+	void streamingResponseIsTimedUntilStreamCompletes() {
+		Sinks.Many<String> events = Sinks.many().unicast().onBackpressureBuffer();
+		Sinks.Empty<Void> handled = Sinks.empty();
+		handled.tryEmitEmpty();
+		MockServerWebExchange exchange = createExchange();
+		StepVerifier
+				.create(this.webFilter.filter(exchange,
+						(filtered) -> handle(filtered, "longTask", handled).then(filtered.getResponse()
+								.writeWith(events.asFlux().map((event) -> toDataBuffer(filtered, event))))))
+				.then(() -> events.tryEmitNext("first"))
+				.then(() -> assertThat(activeTasks("my.long.request")).isEqualTo(1)).then(events::tryEmitComplete)
+				.verifyComplete();
+		assertThat(activeTasks("my.long.request")).isEqualTo(0);
+	}
+
+	@Test
+	void handlerDeterminedByRequestMappingIsTimedWithUriTag() {
+		WebTestClient client = WebTestClient.bindToController(new TimedController()).webFilter(this.webFilter).build();
+		client.get().uri("/projects/spring-boot").exchange().expectStatus().isOk();
+		assertThat(this.registry.get("my.long.request").tags("method", "GET", "uri", "/projects/{project}")
+				.longTaskTimer().activeTasks()).isEqualTo(0);
+	}
+
+	private DataBuffer toDataBuffer(ServerWebExchange exchange, String event) {
+		return exchange.getResponse().bufferFactory().wrap(event.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Mono<Void> handle(ServerWebExchange exchange, String methodName, Sinks.Empty<Void> completion) {
+		exchange.getAttributes().put(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+				new HandlerMethod(new Handlers(), ReflectionUtils.findMethod(Handlers.class, methodName)));
+		return completion.asMono();
+	}
+
+	private int activeTasks(String name) {
+		return this.registry.get(name).longTaskTimer().activeTasks();
+	}
+
+	private MockServerWebExchange createExchange() {
+		MockServerWebExchange exchange = MockServerWebExchange
+				.from(MockServerHttpRequest.get("/projects/spring-boot").build());
+		exchange.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+				new PathPatternParser().parse("/projects/{project}"));
+		return exchange;
+	}
+
+	static class Handlers {
+
+		@Timed(value = "my.long.request", extraTags = { "region", "test" }, longTask = true)
+		Mono<String> longTask() {
+			return Mono.just("test");
+		}
+
+		@Timed
+		Mono<String> timed() {
+			return Mono.just("test");
+		}
+
+	}
+
+	@RestController
+	static class TimedController {
+
+		@Timed(value = "my.long.request", longTask = true)
+		@GetMapping("/projects/{project}")
+		Mono<String> project() {
+			return Mono.just("test");
+		}
+
+	}
+
+}
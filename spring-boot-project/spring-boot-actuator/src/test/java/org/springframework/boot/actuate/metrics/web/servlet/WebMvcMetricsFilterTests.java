@@ -23,6 +23,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
@@ -41,6 +42,7 @@ import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.MockClock;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.config.MeterFilterReply;
@@ -63,6 +65,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
@@ -76,6 +81,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
@@ -299,6 +305,87 @@ class WebMvcMetricsFilterTests {
 				.count()).isEqualTo(2);
 	}
 
+	@Test
+	void repeatedRequestsAreRecordedPerStatus() throws Exception {
+		this.mvc.perform(get("/api/c1/repeated/10")).andExpect(status().isOk());
+		this.mvc.perform(get("/api/c1/repeated/oops")).andExpect(status().is4xxClientError());
+		this.mvc.perform(get("/api/c1/repeated/20")).andExpect(status().isOk());
+		assertThat(this.registry.get("http.server.requests").tags("status", "200", "uri", "/api/c1/repeated/{id}")
+				.timer().count()).isEqualTo(2);
+		assertThat(this.registry.get("http.server.requests").tags("status", "400", "uri", "/api/c1/repeated/{id}")
+				.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void repeatedRequestsWithTagsContributorAreTaggedPerRequest() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		WebMvcTagsContributor contributor = new WebMvcTagsContributor() {
+
+			@Override
+			public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler,
+					Throwable exception) {
+				return Collections.singleton(Tag.of("tenant", request.getHeader("Tenant")));
+			}
+
+			@Override
+			public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+				return Collections.emptyList();
+			}
+
+		};
+		WebMvcMetricsFilter filter = new WebMvcMetricsFilter(registry,
+				new DefaultWebMvcTagsProvider(Collections.singletonList(contributor)), "http.server.requests",
+				AutoTimer.ENABLED);
+		for (String tenant : new String[] { "one", "two" }) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tenants/1");
+			request.addHeader("Tenant", tenant);
+			request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tenants/{id}");
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		}
+		assertThat(registry.get("http.server.requests").tags("tenant", "one").timer().count()).isEqualTo(1);
+		assertThat(registry.get("http.server.requests").tags("tenant", "two").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void repeatedRequestsWithTagsProviderSubclassAreTaggedPerRequest() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		DefaultWebMvcTagsProvider tagsProvider = new DefaultWebMvcTagsProvider() {
+
+			@Override
+			public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler,
+					Throwable exception) {
+				return Tags.of(super.getTags(request, response, handler, exception)).and("tenant",
+						request.getHeader("Tenant"));
+			}
+
+		};
+		WebMvcMetricsFilter filter = new WebMvcMetricsFilter(registry, tagsProvider, "http.server.requests",
+				AutoTimer.ENABLED);
+		for (String tenant : new String[] { "one", "two" }) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tenants/1");
+			request.addHeader("Tenant", tenant);
+			request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tenants/{id}");
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		}
+		assertThat(registry.get("http.server.requests").tags("tenant", "one").timer().count()).isEqualTo(1);
+		assertThat(registry.get("http.server.requests").tags("tenant", "two").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void whenTimerIsRemovedFromRegistryRepeatedRequestsRegisterANewTimer() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		WebMvcMetricsFilter filter = new WebMvcMetricsFilter(registry, new DefaultWebMvcTagsProvider(),
+				"http.server.requests", AutoTimer.ENABLED);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tenants/1");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tenants/{id}");
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		registry.remove(registry.get("http.server.requests").timer());
+		MockHttpServletRequest repeated = new MockHttpServletRequest("GET", "/tenants/2");
+		repeated.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tenants/{id}");
+		filter.doFilter(repeated, new MockHttpServletResponse(), new MockFilterChain());
+		assertThat(registry.get("http.server.requests").timer().count()).isEqualTo(1);
+	}
+
 	@Target({ ElementType.METHOD })
 	@Retention(RetentionPolicy.RUNTIME)
 	@Timed(percentiles = 0.95)
@@ -395,6 +482,11 @@ class WebMvcMetricsFilterTests {
 			return id.toString();
 		}
 
+		@GetMapping("/repeated/{id}")
+		String repeatedMapping(@PathVariable Long id) {
+			return id.toString();
+		}
+
 		@Timed
 		@Timed(value = "my.long.request", extraTags = { "region", "test" }, longTask = true)
 		@GetMapping("/callable/{id}")
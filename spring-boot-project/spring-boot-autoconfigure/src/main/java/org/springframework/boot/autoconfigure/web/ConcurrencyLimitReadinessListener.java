@@ -0,0 +1,141 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AdaptiveConcurrencyLimiter.Listener} that changes the {@link ReadinessState} to
+ * {@link ReadinessState#REFUSING_TRAFFIC refusing traffic} once the concurrency limit has
+ * been exceeded for longer than a window, and back to
+ * {@link ReadinessState#ACCEPTING_TRAFFIC accepting traffic} once it has recovered for
+ * longer than the same window. Short bursts of rejected requests therefore leave the
+ * readiness state untouched. Readiness is only restored if it was changed by this
+ * listener.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class ConcurrencyLimitReadinessListener implements AdaptiveConcurrencyLimiter.Listener, DisposableBean {
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final ApplicationAvailability applicationAvailability;
+
+	private final long windowNanos;
+
+	private final ScheduledExecutorService executor;
+
+	private boolean exceeded;
+
+	private boolean refusingTraffic;
+
+	private ScheduledFuture<?> pendingChange;
+
+	/**
+	 * Create a new {@link ConcurrencyLimitReadinessListener} instance.
+	 * @param eventPublisher the publisher used to change the readiness state
+	 * @param applicationAvailability the application availability
+	 * @param window how long the limit must remain exceeded, or recovered, before the
+	 * readiness state is changed
+	 */
+	public ConcurrencyLimitReadinessListener(ApplicationEventPublisher eventPublisher,
+			ApplicationAvailability applicationAvailability, Duration window) {
+		this(eventPublisher, applicationAvailability, window, createExecutor());
+	}
+
+	ConcurrencyLimitReadinessListener(ApplicationEventPublisher eventPublisher,
+			ApplicationAvailability applicationAvailability, Duration window, ScheduledExecutorService executor) {
+		Assert.notNull(window, "Window must not be null");
+		Assert.isTrue(!window.isNegative(), "Window must not be negative");
+		this.eventPublisher = eventPublisher;
+		this.applicationAvailability = applicationAvailability;
+		this.windowNanos = window.toNanos();
+		this.executor = executor;
+	}
+
+	private static ScheduledExecutorService createExecutor() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("concurrency-limit-readiness-");
+		threadFactory.setDaemon(true);
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+		executor.setRemoveOnCancelPolicy(true);
+		return executor;
+	}
+
+	@Override
+	public synchronized void limitExceeded(AdaptiveConcurrencyLimiter limiter) {
+		this.exceeded = true;
+		cancelPendingChange();
+		if (!this.refusingTraffic) {
+			this.pendingChange = this.executor.schedule(() -> refuseTrafficIfStillExceeded(limiter), this.windowNanos,
+					TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public synchronized void limitRecovered(AdaptiveConcurrencyLimiter limiter) {
+		this.exceeded = false;
+		cancelPendingChange();
+		if (this.refusingTraffic) {
+			this.pendingChange = this.executor.schedule(() -> acceptTrafficIfStillRecovered(limiter), this.windowNanos,
+					TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private synchronized void refuseTrafficIfStillExceeded(AdaptiveConcurrencyLimiter limiter) {
+		if (this.exceeded && !this.refusingTraffic
+				&& this.applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC) {
+			this.refusingTraffic = true;
+			AvailabilityChangeEvent.publish(this.eventPublisher, limiter, ReadinessState.REFUSING_TRAFFIC);
+		}
+	}
+
+	private synchronized void acceptTrafficIfStillRecovered(AdaptiveConcurrencyLimiter limiter) {
+		if (!this.exceeded && this.refusingTraffic) {
+			this.refusingTraffic = false;
+			if (this.applicationAvailability.getReadinessState() == ReadinessState.REFUSING_TRAFFIC) {
+				AvailabilityChangeEvent.publish(this.eventPublisher, limiter, ReadinessState.ACCEPTING_TRAFFIC);
+			}
+		}
+	}
+
+	private void cancelPendingChange() {
+		if (this.pendingChange != null) {
+			this.pendingChange.cancel(false);
+			this.pendingChange = null;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+}
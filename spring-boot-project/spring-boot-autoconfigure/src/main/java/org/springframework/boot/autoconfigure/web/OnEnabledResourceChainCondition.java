@@ -48,8 +48,9 @@ class OnEnabledResourceChainCondition extends SpringBootCondition {
 		String prefix = determineResourcePropertiesPrefix(environment);
 		boolean fixed = getEnabledProperty(environment, prefix, "strategy.fixed.", false);
 		boolean content = getEnabledProperty(environment, prefix, "strategy.content.", false);
+		boolean compressed = environment.getProperty(prefix + "compressed", Boolean.class, false);
 		Boolean chain = getEnabledProperty(environment, prefix, "", null);
-		Boolean match = Chain.getEnabled(fixed, content, chain);
+		Boolean match = Chain.getEnabled(fixed, content, compressed, chain);
 		ConditionMessage.Builder message = ConditionMessage.forCondition(ConditionalOnEnabledResourceChain.class);
 		if (match == null) {
 			if (ClassUtils.isPresent(WEBJAR_ASSET_LOCATOR, getClass().getClassLoader())) {
@@ -40,6 +40,7 @@ import org.springframework.boot.web.server.Ssl;
 import org.springframework.boot.web.servlet.server.Encoding;
 import org.springframework.boot.web.servlet.server.Jsp;
 import org.springframework.boot.web.servlet.server.Session;
+import org.springframework.boot.web.servlet.server.StaticResourceCache;
 import org.springframework.util.StringUtils;
 import org.springframework.util.unit.DataSize;
 
@@ -105,6 +106,10 @@ public class ServerProperties {
 	 */
 	private Shutdown shutdown = Shutdown.IMMEDIATE;
 
+	private final Threads threads = new Threads();
+
+	private final ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
 	@NestedConfigurationProperty
 	private Ssl ssl;
 
@@ -164,6 +169,14 @@ public class ServerProperties {
 		this.shutdown = shutdown;
 	}
 
+	public Threads getThreads() {
+		return this.threads;
+	}
+
+	public ConcurrencyLimit getConcurrencyLimit() {
+		return this.concurrencyLimit;
+	}
+
 	public ErrorProperties getError() {
 		return this.error;
 	}
@@ -212,6 +225,118 @@ public class ServerProperties {
 		this.forwardHeadersStrategy = forwardHeadersStrategy;
 	}
 
+	/**
+	 * Threads properties.
+	 */
+	public static class Threads {
+
+		/**
+		 * Whether to process requests on virtual threads, one per task, rather than on
+		 * the server's pool of platform threads. Ignored when the JVM does not support
+		 * virtual threads and by reactive Undertow web servers.
+		 */
+		private boolean virtual;
+
+		public boolean isVirtual() {
+			return this.virtual;
+		}
+
+		public void setVirtual(boolean virtual) {
+			this.virtual = virtual;
+		}
+
+	}
+
+	/**
+	 * Concurrency limit properties.
+	 */
+	public static class ConcurrencyLimit {
+
+		/**
+		 * Whether to limit the number of requests that are processed concurrently,
+		 * rejecting requests that exceed the limit with a 503 response. The limit adapts
+		 * to the observed latency of requests.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Initial concurrency limit.
+		 */
+		private int initialLimit = 20;
+
+		/**
+		 * Minimum concurrency limit.
+		 */
+		private int minLimit = 1;
+
+		/**
+		 * Maximum concurrency limit.
+		 */
+		private int maxLimit = 200;
+
+		/**
+		 * Whether to change the readiness state to refusing traffic while requests are
+		 * being rejected.
+		 */
+		private boolean updateReadiness;
+
+		/**
+		 * How long requests must keep being rejected before the readiness state is
+		 * changed to refusing traffic, and how long they must no longer be rejected
+		 * before it is changed back to accepting traffic.
+		 */
+		private Duration readinessWindow = Duration.ofSeconds(10);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getInitialLimit() {
+			return this.initialLimit;
+		}
+
+		public void setInitialLimit(int initialLimit) {
+			this.initialLimit = initialLimit;
+		}
+
+		public int getMinLimit() {
+			return this.minLimit;
+		}
+
+		public void setMinLimit(int minLimit) {
+			this.minLimit = minLimit;
+		}
+
+		public int getMaxLimit() {
+			return this.maxLimit;
+		}
+
+		public void setMaxLimit(int maxLimit) {
+			this.maxLimit = maxLimit;
+		}
+
+		public boolean isUpdateReadiness() {
+			return this.updateReadiness;
+		}
+
+		public void setUpdateReadiness(boolean updateReadiness) {
+			this.updateReadiness = updateReadiness;
+		}
+
+		public Duration getReadinessWindow() {
+			return this.readinessWindow;
+		}
+
+		public void setReadinessWindow(Duration readinessWindow) {
+			this.readinessWindow = readinessWindow;
+		}
+
+	}
+
 	/**
 	 * Servlet properties.
 	 */
@@ -246,6 +371,9 @@ public class ServerProperties {
 		@NestedConfigurationProperty
 		private final Session session = new Session();
 
+		@NestedConfigurationProperty
+		private final StaticResourceCache staticResourceCache = new StaticResourceCache();
+
 		public String getContextPath() {
 			return this.contextPath;
 		}
@@ -294,6 +422,10 @@ public class ServerProperties {
 			return this.session;
 		}
 
+		public StaticResourceCache getStaticResourceCache() {
+			return this.staticResourceCache;
+		}
+
 	}
 
 	/**
@@ -670,6 +802,18 @@ public class ServerProperties {
 			 */
 			private boolean buffered = true;
 
+			/**
+			 * Whether to write log entries on a background thread rather than on the
+			 * request processing thread.
+			 */
+			private boolean async = false;
+
+			/**
+			 * Maximum number of log entries that can be queued for writing when async is
+			 * enabled. Entries are discarded when the queue is full.
+			 */
+			private int asyncQueueCapacity = 1024;
+
 			public boolean isEnabled() {
 				return this.enabled;
 			}
@@ -806,6 +950,22 @@ public class ServerProperties {
 				this.buffered = buffered;
 			}
 
+			public boolean isAsync() {
+				return this.async;
+			}
+
+			public void setAsync(boolean async) {
+				this.async = async;
+			}
+
+			public int getAsyncQueueCapacity() {
+				return this.asyncQueueCapacity;
+			}
+
+			public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+				this.asyncQueueCapacity = asyncQueueCapacity;
+			}
+
 		}
 
 		/**
@@ -1078,6 +1238,18 @@ public class ServerProperties {
 			 */
 			private List<String> ignorePaths;
 
+			/**
+			 * Whether to write log entries on a background thread rather than on the
+			 * request processing thread.
+			 */
+			private boolean async = false;
+
+			/**
+			 * Maximum number of log entries that can be queued for writing when async is
+			 * enabled. Entries are discarded when the queue is full.
+			 */
+			private int asyncQueueCapacity = 1024;
+
 			public boolean isEnabled() {
 				return this.enabled;
 			}
@@ -1142,6 +1314,22 @@ public class ServerProperties {
 				this.ignorePaths = ignorePaths;
 			}
 
+			public boolean isAsync() {
+				return this.async;
+			}
+
+			public void setAsync(boolean async) {
+				this.async = async;
+			}
+
+			public int getAsyncQueueCapacity() {
+				return this.asyncQueueCapacity;
+			}
+
+			public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+				this.asyncQueueCapacity = asyncQueueCapacity;
+			}
+
 			/**
 			 * Log format for Jetty access logs.
 			 */
@@ -1287,6 +1475,33 @@ public class ServerProperties {
 		 */
 		private boolean validateHeaders = true;
 
+		/**
+		 * Whether to use a native transport (io_uring, epoll, or kqueue), when one is
+		 * available, rather than NIO. When not set, Reactor Netty's default is used.
+		 */
+		private Boolean preferNative;
+
+		/**
+		 * Whether to enable SO_REUSEPORT on the server socket, allowing multiple
+		 * processes to bind to the same port. Only supported by the io_uring, epoll, and
+		 * kqueue transports.
+		 */
+		private boolean reusePort = false;
+
+		/**
+		 * Amount of data queued for writing to a connection below which it becomes
+		 * writable again.
+		 */
+		private DataSize writeBufferLowWaterMark;
+
+		/**
+		 * Amount of data queued for writing to a connection above which it stops being
+		 * writable.
+		 */
+		private DataSize writeBufferHighWaterMark;
+
+		private final Threads threads = new Threads();
+
 		public Duration getConnectionTimeout() {
 			return this.connectionTimeout;
 		}
@@ -1335,6 +1550,77 @@ public class ServerProperties {
 			this.validateHeaders = validateHeaders;
 		}
 
+		public Boolean getPreferNative() {
+			return this.preferNative;
+		}
+
+		public void setPreferNative(Boolean preferNative) {
+			this.preferNative = preferNative;
+		}
+
+		public boolean isReusePort() {
+			return this.reusePort;
+		}
+
+		public void setReusePort(boolean reusePort) {
+			this.reusePort = reusePort;
+		}
+
+		public DataSize getWriteBufferLowWaterMark() {
+			return this.writeBufferLowWaterMark;
+		}
+
+		public void setWriteBufferLowWaterMark(DataSize writeBufferLowWaterMark) {
+			this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+		}
+
+		public DataSize getWriteBufferHighWaterMark() {
+			return this.writeBufferHighWaterMark;
+		}
+
+		public void setWriteBufferHighWaterMark(DataSize writeBufferHighWaterMark) {
+			this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+		}
+
+		public Threads getThreads() {
+			return this.threads;
+		}
+
+		/**
+		 * Netty thread properties.
+		 */
+		public static class Threads {
+
+			/**
+			 * Number of I/O threads. When not set, Reactor Netty's default, derived from
+			 * the number of available processors, is used.
+			 */
+			private Integer io;
+
+			/**
+			 * Number of threads dedicated to accepting connections. When not set,
+			 * connections are accepted by the I/O threads.
+			 */
+			private Integer acceptors;
+
+			public Integer getIo() {
+				return this.io;
+			}
+
+			public void setIo(Integer io) {
+				this.io = io;
+			}
+
+			public Integer getAcceptors() {
+				return this.acceptors;
+			}
+
+			public void setAcceptors(Integer acceptors) {
+				this.acceptors = acceptors;
+			}
+
+		}
+
 	}
 
 	/**
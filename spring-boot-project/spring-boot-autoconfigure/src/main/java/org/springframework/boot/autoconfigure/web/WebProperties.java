@@ -153,7 +153,8 @@ public class WebProperties {
 
 			/**
 			 * Whether to enable the Spring Resource Handling chain. By default, disabled
-			 * unless at least one strategy has been enabled.
+			 * unless at least one strategy or the resolution of compressed resources has
+			 * been enabled.
 			 */
 			private Boolean enabled;
 
@@ -179,7 +180,7 @@ public class WebProperties {
 			 */
 			public Boolean getEnabled() {
 				return getEnabled(getStrategy().getFixed().isEnabled(), getStrategy().getContent().isEnabled(),
-						this.enabled);
+						this.compressed, this.enabled);
 			}
 
 			private boolean hasBeenCustomized() {
@@ -213,8 +214,9 @@ public class WebProperties {
 				this.customized = true;
 			}
 
-			static Boolean getEnabled(boolean fixedEnabled, boolean contentEnabled, Boolean chainEnabled) {
-				return (fixedEnabled || contentEnabled) ? Boolean.TRUE : chainEnabled;
+			static Boolean getEnabled(boolean fixedEnabled, boolean contentEnabled, boolean compressed,
+					Boolean chainEnabled) {
+				return (fixedEnabled || contentEnabled || compressed) ? Boolean.TRUE : chainEnabled;
 			}
 
 			/**
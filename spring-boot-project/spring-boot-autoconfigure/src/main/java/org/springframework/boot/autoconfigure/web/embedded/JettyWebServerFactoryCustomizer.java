@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,7 +39,10 @@ import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.cloud.CloudPlatform;
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.boot.web.embedded.jetty.ConfigurableJettyWebServerFactory;
+import org.springframework.boot.web.embedded.jetty.JettyAsyncRequestLogWriter;
 import org.springframework.boot.web.embedded.jetty.JettyServerCustomizer;
+import org.springframework.boot.web.embedded.jetty.JettyThreadPerTaskThreadPool;
+import org.springframework.boot.web.server.VirtualThreads;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
@@ -78,7 +81,7 @@ public class JettyWebServerFactoryCustomizer
 		ServerProperties.Jetty jettyProperties = properties.getJetty();
 		factory.setUseForwardHeaders(getOrDeduceUseForwardHeaders());
 		ServerProperties.Jetty.Threads threadProperties = jettyProperties.getThreads();
-		factory.setThreadPool(determineThreadPool(jettyProperties.getThreads()));
+		factory.setThreadPool(determineThreadPool(properties.getThreads(), threadProperties));
 		PropertyMapper propertyMapper = PropertyMapper.get();
 		propertyMapper.from(threadProperties::getAcceptors).whenNonNull().to(factory::setAcceptors);
 		propertyMapper.from(threadProperties::getSelectors).whenNonNull().to(factory::setSelectors);
@@ -140,7 +143,11 @@ public class JettyWebServerFactoryCustomizer
 		});
 	}
 
-	private ThreadPool determineThreadPool(ServerProperties.Jetty.Threads properties) {
+	private ThreadPool determineThreadPool(ServerProperties.Threads serverProperties,
+			ServerProperties.Jetty.Threads properties) {
+		if (serverProperties.isVirtual() && VirtualThreads.isAvailable()) {
+			return new JettyThreadPerTaskThreadPool(() -> VirtualThreads.newThreadPerTaskExecutor("jetty-"));
+		}
 		BlockingQueue<Runnable> queue = determineBlockingQueue(properties.getMaxQueueCapacity());
 		int maxThreadCount = (properties.getMax() > 0) ? properties.getMax() : 200;
 		int minThreadCount = (properties.getMin() > 0) ? properties.getMin() : 8;
@@ -164,7 +171,7 @@ public class JettyWebServerFactoryCustomizer
 	private void customizeAccessLog(ConfigurableJettyWebServerFactory factory,
 			ServerProperties.Jetty.Accesslog properties) {
 		factory.addServerCustomizers((server) -> {
-			RequestLogWriter logWriter = new RequestLogWriter();
+			RequestLogWriter logWriter = createLogWriter(properties);
 			String format = getLogFormat(properties);
 			CustomRequestLog log = new CustomRequestLog(logWriter, format);
 			if (!CollectionUtils.isEmpty(properties.getIgnorePaths())) {
@@ -182,6 +189,13 @@ public class JettyWebServerFactoryCustomizer
 		});
 	}
 
+	private RequestLogWriter createLogWriter(ServerProperties.Jetty.Accesslog properties) {
+		if (properties.isAsync()) {
+			return new JettyAsyncRequestLogWriter(properties.getAsyncQueueCapacity());
+		}
+		return new RequestLogWriter();
+	}
+
 	private String getLogFormat(ServerProperties.Jetty.Accesslog properties) {
 		if (properties.getCustomFormat() != null) {
 			return properties.getCustomFormat();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,15 @@
 
 package org.springframework.boot.autoconfigure.web.embedded;
 
+import java.lang.reflect.Field;
 import java.time.Duration;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import reactor.netty.http.server.HttpServerConfig;
 
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.cloud.CloudPlatform;
@@ -27,6 +33,9 @@ import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Customization for Netty-specific features.
@@ -39,6 +48,14 @@ import org.springframework.core.env.Environment;
 public class NettyWebServerFactoryCustomizer
 		implements WebServerFactoryCustomizer<NettyReactiveWebServerFactory>, Ordered {
 
+	private static final String IO_URING_EVENT_LOOP_GROUP = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+
+	private static final String IO_URING_CHANNEL_OPTION = "io.netty.incubator.channel.uring.IOUringChannelOption";
+
+	private static final String KQUEUE_EVENT_LOOP_GROUP = "io.netty.channel.kqueue.KQueueEventLoopGroup";
+
+	private static final String KQUEUE_CHANNEL_OPTION = "io.netty.channel.kqueue.KQueueChannelOption";
+
 	private final Environment environment;
 
 	private final ServerProperties serverProperties;
@@ -61,6 +78,13 @@ public class NettyWebServerFactoryCustomizer
 		propertyMapper.from(nettyProperties::getConnectionTimeout).whenNonNull()
 				.to((connectionTimeout) -> customizeConnectionTimeout(factory, connectionTimeout));
 		customizeRequestDecoder(factory, propertyMapper);
+		propertyMapper.from(nettyProperties::getPreferNative)
+				.to((preferNative) -> customizePreferNative(factory, preferNative));
+		propertyMapper.from(nettyProperties::isReusePort).whenTrue().to((reusePort) -> customizeReusePort(factory));
+		if (nettyProperties.getWriteBufferLowWaterMark() != null
+				|| nettyProperties.getWriteBufferHighWaterMark() != null) {
+			customizeWriteBufferWaterMark(factory, nettyProperties);
+		}
 	}
 
 	private boolean getOrDeduceUseForwardHeaders() {
@@ -76,6 +100,54 @@ public class NettyWebServerFactoryCustomizer
 				(int) connectionTimeout.toMillis()));
 	}
 
+	private void customizePreferNative(NettyReactiveWebServerFactory factory, boolean preferNative) {
+		factory.addServerCustomizers(
+				(httpServer) -> httpServer.runOn(httpServer.configuration().loopResources(), preferNative));
+	}
+
+	private void customizeReusePort(NettyReactiveWebServerFactory factory) {
+		factory.addServerCustomizers((httpServer) -> {
+			HttpServerConfig configuration = httpServer.configuration();
+			EventLoopGroup group = configuration.loopResources().onServer(configuration.isPreferNative());
+			ChannelOption<Boolean> reusePort = getReusePortOption(group);
+			return (reusePort != null) ? httpServer.option(reusePort, true) : httpServer;
+		});
+	}
+
+	private ChannelOption<Boolean> getReusePortOption(EventLoopGroup group) {
+		if (group instanceof EpollEventLoopGroup) {
+			return EpollChannelOption.SO_REUSEPORT;
+		}
+		String groupClassName = group.getClass().getName();
+		if (groupClassName.equals(IO_URING_EVENT_LOOP_GROUP)) {
+			return getChannelOption(group, IO_URING_CHANNEL_OPTION, "SO_REUSEPORT");
+		}
+		if (groupClassName.equals(KQUEUE_EVENT_LOOP_GROUP)) {
+			return getChannelOption(group, KQUEUE_CHANNEL_OPTION, "SO_REUSE_PORT");
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private ChannelOption<Boolean> getChannelOption(EventLoopGroup group, String className, String fieldName) {
+		Class<?> optionClass = ClassUtils.resolveClassName(className, group.getClass().getClassLoader());
+		Field field = ReflectionUtils.findField(optionClass, fieldName);
+		return (field != null) ? (ChannelOption<Boolean>) ReflectionUtils.getField(field, null) : null;
+	}
+
+	private void customizeWriteBufferWaterMark(NettyReactiveWebServerFactory factory,
+			ServerProperties.Netty nettyProperties) {
+		int low = getBytes(nettyProperties.getWriteBufferLowWaterMark(), WriteBufferWaterMark.DEFAULT.low());
+		int high = getBytes(nettyProperties.getWriteBufferHighWaterMark(), WriteBufferWaterMark.DEFAULT.high());
+		WriteBufferWaterMark waterMark = new WriteBufferWaterMark(low, high);
+		factory.addServerCustomizers(
+				(httpServer) -> httpServer.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, waterMark));
+	}
+
+	private int getBytes(DataSize size, int defaultBytes) {
+		return (size != null) ? (int) size.toBytes() : defaultBytes;
+	}
+
 	private void customizeRequestDecoder(NettyReactiveWebServerFactory factory, PropertyMapper propertyMapper) {
 		factory.addServerCustomizers((httpServer) -> httpServer.httpRequestDecoder((httpRequestDecoderSpec) -> {
 			propertyMapper.from(this.serverProperties.getMaxHttpHeaderSize()).whenNonNull()
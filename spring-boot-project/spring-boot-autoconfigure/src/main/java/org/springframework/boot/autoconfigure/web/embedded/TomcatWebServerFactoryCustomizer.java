@@ -35,7 +35,10 @@ import org.springframework.boot.autoconfigure.web.ServerProperties.Tomcat.Access
 import org.springframework.boot.autoconfigure.web.ServerProperties.Tomcat.Remoteip;
 import org.springframework.boot.cloud.CloudPlatform;
 import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.web.embedded.tomcat.AsyncAccessLogValve;
 import org.springframework.boot.web.embedded.tomcat.ConfigurableTomcatWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatThreadPerTaskExecutor;
+import org.springframework.boot.web.server.VirtualThreads;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
@@ -90,6 +93,9 @@ public class TomcatWebServerFactoryCustomizer
 				.to((maxThreads) -> customizeMaxThreads(factory, threadProperties.getMax()));
 		propertyMapper.from(threadProperties::getMinSpare).when(this::isPositive)
 				.to((minSpareThreads) -> customizeMinThreads(factory, minSpareThreads));
+		if (properties.getThreads().isVirtual() && VirtualThreads.isAvailable()) {
+			customizeVirtualThreads(factory);
+		}
 		propertyMapper.from(this.serverProperties.getMaxHttpHeaderSize()).whenNonNull().asInt(DataSize::toBytes)
 				.when(this::isPositive)
 				.to((maxHttpHeaderSize) -> customizeMaxHttpHeaderSize(factory, maxHttpHeaderSize));
@@ -254,6 +260,19 @@ public class TomcatWebServerFactoryCustomizer
 		});
 	}
 
+	private void customizeVirtualThreads(ConfigurableTomcatWebServerFactory factory) {
+		factory.addConnectorCustomizers((connector) -> {
+			TomcatThreadPerTaskExecutor executor = new TomcatThreadPerTaskExecutor(
+					VirtualThreads.newThreadPerTaskExecutor("tomcat-handler-"));
+			connector.getProtocolHandler().setExecutor(executor);
+			connector.addLifecycleListener((event) -> {
+				if (Lifecycle.AFTER_DESTROY_EVENT.equals(event.getType())) {
+					executor.shutdown();
+				}
+			});
+		});
+	}
+
 	@SuppressWarnings("rawtypes")
 	private void customizeMaxHttpHeaderSize(ConfigurableTomcatWebServerFactory factory, int maxHttpHeaderSize) {
 		factory.addConnectorCustomizers((connector) -> {
@@ -281,9 +300,9 @@ public class TomcatWebServerFactoryCustomizer
 
 	private void customizeAccessLog(ConfigurableTomcatWebServerFactory factory) {
 		ServerProperties.Tomcat tomcatProperties = this.serverProperties.getTomcat();
-		AccessLogValve valve = new AccessLogValve();
-		PropertyMapper map = PropertyMapper.get();
 		Accesslog accessLogConfig = tomcatProperties.getAccesslog();
+		AccessLogValve valve = createAccessLogValve(accessLogConfig);
+		PropertyMapper map = PropertyMapper.get();
 		map.from(accessLogConfig.getConditionIf()).to(valve::setConditionIf);
 		map.from(accessLogConfig.getConditionUnless()).to(valve::setConditionUnless);
 		map.from(accessLogConfig.getPattern()).to(valve::setPattern);
@@ -303,6 +322,15 @@ public class TomcatWebServerFactoryCustomizer
 		factory.addEngineValves(valve);
 	}
 
+	private AccessLogValve createAccessLogValve(Accesslog accessLogConfig) {
+		if (!accessLogConfig.isAsync()) {
+			return new AccessLogValve();
+		}
+		AsyncAccessLogValve valve = new AsyncAccessLogValve();
+		valve.setQueueCapacity(accessLogConfig.getAsyncQueueCapacity());
+		return valve;
+	}
+
 	private void customizeStaticResources(ConfigurableTomcatWebServerFactory factory) {
 		ServerProperties.Tomcat.Resource resource = this.serverProperties.getTomcat().getResource();
 		factory.addContextCustomizers((context) -> context.addLifecycleListener((event) -> {
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.ConcurrencyLimitReadinessListener;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.reactive.filter.ConcurrencyLimitingWebFilter;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for limiting the number of requests
+ * that are processed concurrently in reactive web applications.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ServerProperties.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(prefix = "server.concurrency-limit", name = "enabled", havingValue = "true")
+@AutoConfigureAfter(ApplicationAvailabilityAutoConfiguration.class)
+public class ConcurrencyLimitWebFilterAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public AdaptiveConcurrencyLimiter concurrencyLimiter(ServerProperties serverProperties,
+			ObjectProvider<ConcurrencyLimitReadinessListener> readinessListener) {
+		ServerProperties.ConcurrencyLimit properties = serverProperties.getConcurrencyLimit();
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties.getInitialLimit(),
+				properties.getMinLimit(), properties.getMaxLimit());
+		readinessListener.ifAvailable(limiter::setListener);
+		return limiter;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(ApplicationAvailability.class)
+	@ConditionalOnProperty(prefix = "server.concurrency-limit", name = "update-readiness", havingValue = "true")
+	public ConcurrencyLimitReadinessListener concurrencyLimitReadinessListener(ServerProperties serverProperties,
+			ApplicationEventPublisher eventPublisher, ApplicationAvailability applicationAvailability) {
+		return new ConcurrencyLimitReadinessListener(eventPublisher, applicationAvailability,
+				serverProperties.getConcurrencyLimit().getReadinessWindow());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public ConcurrencyLimitingWebFilter concurrencyLimitingWebFilter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		return new ConcurrencyLimitingWebFilter(concurrencyLimiter);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,10 +21,14 @@ import java.util.stream.Collectors;
 import io.undertow.Undertow;
 import org.eclipse.jetty.servlet.ServletHolder;
 import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.web.embedded.jetty.JettyReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.jetty.JettyServerCustomizer;
 import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
@@ -38,6 +42,7 @@ import org.springframework.boot.web.embedded.undertow.UndertowBuilderCustomizer;
 import org.springframework.boot.web.embedded.undertow.UndertowReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.JettyResourceFactory;
 import org.springframework.http.client.reactive.ReactorResourceFactory;
@@ -65,11 +70,24 @@ abstract class ReactiveWebServerFactoryConfiguration {
 			return new ReactorResourceFactory();
 		}
 
+		@Bean(destroyMethod = "dispose")
+		@Conditional(OnNettyThreadsCondition.class)
+		LoopResources reactorServerLoopResources(ServerProperties serverProperties) {
+			ServerProperties.Netty.Threads threads = serverProperties.getNetty().getThreads();
+			int io = (threads.getIo() != null) ? threads.getIo() : LoopResources.DEFAULT_IO_WORKER_COUNT;
+			if (threads.getAcceptors() != null) {
+				return LoopResources.create("reactor-http-server", threads.getAcceptors(), io, true);
+			}
+			return LoopResources.create("reactor-http-server", io, true);
+		}
+
 		@Bean
 		NettyReactiveWebServerFactory nettyReactiveWebServerFactory(ReactorResourceFactory resourceFactory,
-				ObjectProvider<NettyRouteProvider> routes, ObjectProvider<NettyServerCustomizer> serverCustomizers) {
+				ObjectProvider<LoopResources> loopResources, ObjectProvider<NettyRouteProvider> routes,
+				ObjectProvider<NettyServerCustomizer> serverCustomizers) {
 			NettyReactiveWebServerFactory serverFactory = new NettyReactiveWebServerFactory();
 			serverFactory.setResourceFactory(resourceFactory);
+			loopResources.ifUnique(serverFactory::setLoopResources);
 			routes.orderedStream().forEach(serverFactory::addRouteProviders);
 			serverFactory.getServerCustomizers().addAll(serverCustomizers.orderedStream().collect(Collectors.toList()));
 			return serverFactory;
@@ -77,6 +95,24 @@ abstract class ReactiveWebServerFactoryConfiguration {
 
 	}
 
+	static class OnNettyThreadsCondition extends AnyNestedCondition {
+
+		OnNettyThreadsCondition() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@ConditionalOnProperty("server.netty.threads.io")
+		static class IoThreads {
+
+		}
+
+		@ConditionalOnProperty("server.netty.threads.acceptors")
+		static class AcceptorThreads {
+
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnMissingBean(ReactiveWebServerFactory.class)
 	@ConditionalOnClass({ org.apache.catalina.startup.Tomcat.class })
@@ -69,6 +69,7 @@ public class ServletWebServerFactoryCustomizer
 		map.from(this.serverProperties.getServlet()::getSession).to(factory::setSession);
 		map.from(this.serverProperties::getSsl).to(factory::setSsl);
 		map.from(this.serverProperties.getServlet()::getJsp).to(factory::setJsp);
+		map.from(this.serverProperties.getServlet()::getStaticResourceCache).to(factory::setStaticResourceCache);
 		map.from(this.serverProperties::getCompression).to(factory::setCompression);
 		map.from(this.serverProperties::getHttp2).to(factory::setHttp2);
 		map.from(this.serverProperties::getServerHeader).to(factory::setServerHeader);
@@ -16,8 +16,18 @@
 
 package org.springframework.boot.autoconfigure.web.servlet;
 
+import java.util.concurrent.ExecutorService;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+import io.undertow.servlet.Servlets;
+import io.undertow.servlet.api.DeploymentInfo;
+import io.undertow.servlet.util.ImmediateInstanceFactory;
+
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.VirtualThreads;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 
 /**
@@ -40,6 +50,35 @@ public class UndertowServletWebServerFactoryCustomizer
 	public void customize(UndertowServletWebServerFactory factory) {
 		factory.setEagerFilterInit(this.serverProperties.getUndertow().isEagerFilterInit());
 		factory.setPreservePathOnForward(this.serverProperties.getUndertow().isPreservePathOnForward());
+		if (this.serverProperties.getThreads().isVirtual() && VirtualThreads.isAvailable()) {
+			factory.addDeploymentInfoCustomizers(this::useVirtualThreads);
+		}
+	}
+
+	private void useVirtualThreads(DeploymentInfo deploymentInfo) {
+		ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("undertow-");
+		deploymentInfo.setExecutor(executor);
+		deploymentInfo.addListener(Servlets.listener(ExecutorShutdownListener.class,
+				new ImmediateInstanceFactory<>(new ExecutorShutdownListener(executor))));
+	}
+
+	/**
+	 * {@link ServletContextListener} that shuts down the executor used to process
+	 * requests when the deployment is stopped.
+	 */
+	static class ExecutorShutdownListener implements ServletContextListener {
+
+		private final ExecutorService executor;
+
+		ExecutorShutdownListener(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public void contextDestroyed(ServletContextEvent event) {
+			this.executor.shutdown();
+		}
+
 	}
 
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ConcurrencyLimitReadinessListener}.
+ *
+ * @author agent (agent@local)
+ */
+class ConcurrencyLimitReadinessListenerTests {
+
+	private final ApplicationAvailabilityBean availability = new ApplicationAvailabilityBean();
+
+	private final ApplicationEventPublisher eventPublisher = (event) -> this.availability
+			.onApplicationEvent((AvailabilityChangeEvent<?>) event);
+
+	private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+
+	private final List<Runnable> scheduled = new ArrayList<>();
+
+	private final ConcurrencyLimitReadinessListener listener = new ConcurrencyLimitReadinessListener(
+			this.eventPublisher, this.availability, Duration.ofSeconds(10), mockExecutor());
+
+	@Test
+	void whenLimitRemainsExceededForWindowTrafficIsRefused() {
+		AvailabilityChangeEvent.publish(this.eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+		this.listener.limitExceeded(this.limiter);
+		assertThat(this.availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+		runScheduled();
+		assertThat(this.availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+	}
+
+	@Test
+	void whenLimitRecoversWithinWindowReadinessIsUnchanged() {
+		AvailabilityChangeEvent.publish(this.eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+		this.listener.limitExceeded(this.limiter);
+		this.listener.limitRecovered(this.limiter);
+		runScheduled();
+		assertThat(this.availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+	}
+
+	@Test
+	void whenLimitRemainsRecoveredForWindowTrafficIsAccepted() {
+		AvailabilityChangeEvent.publish(this.eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+		this.listener.limitExceeded(this.limiter);
+		runScheduled();
+		this.listener.limitRecovered(this.limiter);
+		assertThat(this.availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+		runScheduled();
+		assertThat(this.availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+	}
+
+	@Test
+	void whenLimitIsExceededAgainWithinWindowTrafficRemainsRefused() {
+		AvailabilityChangeEvent.publish(this.eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+		this.listener.limitExceeded(this.limiter);
+		runScheduled();
+		this.listener.limitRecovered(this.limiter);
+		this.listener.limitExceeded(this.limiter);
+		runScheduled();
+		assertThat(this.availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+	}
+
+	@Test
+	void whenReadinessIsAlreadyRefusingTrafficItIsNotRestoredWhenLimitRecovers() {
+		AvailabilityChangeEvent.publish(this.eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+		this.listener.limitExceeded(this.limiter);
+		runScheduled();
+		this.listener.limitRecovered(this.limiter);
+		runScheduled();
+		assertThat(this.availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+	}
+
+	private ScheduledExecutorService mockExecutor() {
+		ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+		willAnswer((invocation) -> {
+			Runnable task = invocation.getArgument(0);
+			this.scheduled.add(task);
+			ScheduledFuture<?> future = mock(ScheduledFuture.class);
+			given(future.cancel(false)).will((cancel) -> this.scheduled.remove(task));
+			return future;
+		}).given(executor).schedule(any(Runnable.class), eq(Duration.ofSeconds(10).toNanos()),
+				eq(TimeUnit.NANOSECONDS));
+		return executor;
+	}
+
+	private void runScheduled() {
+		List<Runnable> tasks = new ArrayList<>(this.scheduled);
+		this.scheduled.clear();
+		tasks.forEach(Runnable::run);
+	}
+
+}
@@ -76,6 +76,13 @@ class ConditionalOnEnabledResourceChainTests {
 		assertThat(this.context.containsBean("foo")).isTrue();
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = { "spring.resources.", "spring.web.resources." })
+	void enabledViaCompressedFlag(String prefix) {
+		load(prefix + "chain.compressed:true");
+		assertThat(this.context.containsBean("foo")).isTrue();
+	}
+
 	private void load(String... environment) {
 		this.context.register(Config.class);
 		TestPropertyValues.of(environment).applyTo(this.context);
@@ -164,6 +164,17 @@ class ServerPropertiesTests {
 		assertThat(this.properties.getServlet().getContextPath()).isEqualTo("/foo");
 	}
 
+	@Test
+	void virtualThreadsAreDisabledByDefault() {
+		assertThat(this.properties.getThreads().isVirtual()).isFalse();
+	}
+
+	@Test
+	void testVirtualThreadsBinding() {
+		bind("server.threads.virtual", "true");
+		assertThat(this.properties.getThreads().isVirtual()).isTrue();
+	}
+
 	@Test
 	void testSlashOfContextPathIsDefaultValue() {
 		bind("server.servlet.context-path", "/");
@@ -48,6 +48,12 @@ class WebPropertiesResourcesTests {
 		assertThat(this.properties.getChain().getEnabled()).isTrue();
 	}
 
+	@Test
+	void resourceChainCompressedEnabled() {
+		this.properties.getChain().setCompressed(true);
+		assertThat(this.properties.getChain().getEnabled()).isTrue();
+	}
+
 	@Test
 	void resourceChainEnabled() {
 		this.properties.getChain().setEnabled(true);
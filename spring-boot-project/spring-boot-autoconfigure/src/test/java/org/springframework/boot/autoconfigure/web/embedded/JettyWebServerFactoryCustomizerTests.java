@@ -47,13 +47,18 @@ import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
 import org.springframework.boot.web.embedded.jetty.ConfigurableJettyWebServerFactory;
+import org.springframework.boot.web.embedded.jetty.JettyAsyncRequestLogWriter;
 import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
+import org.springframework.boot.web.embedded.jetty.JettyThreadPerTaskThreadPool;
 import org.springframework.boot.web.embedded.jetty.JettyWebServer;
+import org.springframework.boot.web.server.VirtualThreads;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.context.support.TestPropertySourceUtils;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -143,6 +148,18 @@ class JettyWebServerFactoryCustomizerTests {
 		assertThat(logWriter.isAppend()).isFalse();
 	}
 
+	@Test
+	void accessLogCanBeAsync() throws IOException {
+		File logFile = File.createTempFile("jetty_log", ".log");
+		bind("server.jetty.accesslog.enabled=true", "server.jetty.accesslog.async=true",
+				"server.jetty.accesslog.filename=" + logFile.getAbsolutePath().replace("\\", "\\\\"));
+		JettyWebServer server = customizeAndGetServer();
+		CustomRequestLog requestLog = getRequestLog(server);
+		RequestLogWriter logWriter = getLogWriter(requestLog);
+		assertThat(logWriter).isInstanceOf(JettyAsyncRequestLogWriter.class);
+		assertThat(logWriter.getFileName()).isEqualTo(logFile.getAbsolutePath());
+	}
+
 	@Test
 	void threadPoolMatchesJettyDefaults() {
 		ThreadPool defaultThreadPool = new Server(0).getThreadPool();
@@ -162,6 +179,22 @@ class JettyWebServerFactoryCustomizerTests {
 				.isEqualTo(((BlockingArrayQueue<?>) configuredQueue).getMaxCapacity());
 	}
 
+	@Test
+	void threadPoolUsesVirtualThreadsWhenEnabledAndAvailable() {
+		assumeTrue(VirtualThreads.isAvailable());
+		bind("server.threads.virtual=true");
+		JettyWebServer server = customizeAndGetServer();
+		assertThat(server.getServer().getThreadPool()).isInstanceOf(JettyThreadPerTaskThreadPool.class);
+	}
+
+	@Test
+	void threadPoolIsQueuedWhenVirtualThreadsAreEnabledButNotAvailable() {
+		assumeFalse(VirtualThreads.isAvailable());
+		bind("server.threads.virtual=true");
+		JettyWebServer server = customizeAndGetServer();
+		assertThat(server.getServer().getThreadPool()).isInstanceOf(QueuedThreadPool.class);
+	}
+
 	@Test
 	void threadPoolMaxThreadsCanBeCustomized() {
 		bind("server.jetty.threads.max=100");
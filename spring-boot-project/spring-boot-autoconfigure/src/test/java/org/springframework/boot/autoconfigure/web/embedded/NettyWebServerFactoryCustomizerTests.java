@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,9 @@ import java.time.Duration;
 import java.util.Map;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +41,7 @@ import org.springframework.mock.env.MockEnvironment;
 import org.springframework.util.unit.DataSize;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -131,6 +135,54 @@ class NettyWebServerFactoryCustomizerTests {
 		assertThat(decoder.maxInitialLineLength()).isEqualTo(nettyProperties.getMaxInitialLineLength().toBytes());
 	}
 
+	@Test
+	void configurePreferNative() {
+		this.serverProperties.getNetty().setPreferNative(false);
+		HttpServer httpServer = customizeAndApplyLastServerCustomizer();
+		assertThat(httpServer.configuration().isPreferNative()).isFalse();
+	}
+
+	@Test
+	void configureReusePort() {
+		assumeTrue(Epoll.isAvailable());
+		this.serverProperties.getNetty().setReusePort(true);
+		HttpServer httpServer = customizeAndApplyLastServerCustomizer();
+		assertThat(httpServer.configuration().options().get(EpollChannelOption.SO_REUSEPORT)).isEqualTo(true);
+	}
+
+	@Test
+	void configureReusePortWhenNotPreferringNativeHasNoEffect() {
+		ServerProperties.Netty nettyProperties = this.serverProperties.getNetty();
+		nettyProperties.setPreferNative(false);
+		nettyProperties.setReusePort(true);
+		NettyReactiveWebServerFactory factory = mock(NettyReactiveWebServerFactory.class);
+		this.customizer.customize(factory);
+		verify(factory, times(3)).addServerCustomizers(this.customizerCaptor.capture());
+		HttpServer httpServer = HttpServer.create();
+		for (NettyServerCustomizer serverCustomizer : this.customizerCaptor.getAllValues()) {
+			httpServer = serverCustomizer.apply(httpServer);
+		}
+		assertThat(httpServer.configuration().options()).doesNotContainKey(EpollChannelOption.SO_REUSEPORT);
+	}
+
+	@Test
+	void configureWriteBufferWaterMark() {
+		this.serverProperties.getNetty().setWriteBufferHighWaterMark(DataSize.ofKilobytes(256));
+		HttpServer httpServer = customizeAndApplyLastServerCustomizer();
+		WriteBufferWaterMark waterMark = (WriteBufferWaterMark) httpServer.configuration().childOptions()
+				.get(ChannelOption.WRITE_BUFFER_WATER_MARK);
+		assertThat(waterMark.low()).isEqualTo(WriteBufferWaterMark.DEFAULT.low());
+		assertThat(waterMark.high()).isEqualTo(256 * 1024);
+	}
+
+	private HttpServer customizeAndApplyLastServerCustomizer() {
+		NettyReactiveWebServerFactory factory = mock(NettyReactiveWebServerFactory.class);
+		this.customizer.customize(factory);
+		verify(factory, times(2)).addServerCustomizers(this.customizerCaptor.capture());
+		NettyServerCustomizer serverCustomizer = this.customizerCaptor.getAllValues().get(1);
+		return serverCustomizer.apply(HttpServer.create());
+	}
+
 	private void verifyConnectionTimeout(NettyReactiveWebServerFactory factory, Integer expected) {
 		if (expected == null) {
 			verify(factory, never()).addServerCustomizers(any(NettyServerCustomizer.class));
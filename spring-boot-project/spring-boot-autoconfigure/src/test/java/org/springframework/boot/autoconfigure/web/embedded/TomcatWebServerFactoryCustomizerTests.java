@@ -36,14 +36,19 @@ import org.springframework.boot.autoconfigure.web.ServerProperties.ForwardHeader
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.web.embedded.tomcat.AsyncAccessLogValve;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatThreadPerTaskExecutor;
 import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.server.VirtualThreads;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.context.support.TestPropertySourceUtils;
 import org.springframework.util.unit.DataSize;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Tests for {@link TomcatWebServerFactoryCustomizer}
@@ -340,6 +345,24 @@ class TomcatWebServerFactoryCustomizerTests {
 		assertThat(this.serverProperties.getTomcat().getThreads().getMinSpare()).isEqualTo(10);
 	}
 
+	@Test
+	void virtualThreadsWhenAvailable() {
+		assumeTrue(VirtualThreads.isAvailable());
+		bind("server.threads.virtual=true");
+		customizeAndRunServer(
+				(server) -> assertThat(server.getTomcat().getConnector().getProtocolHandler().getExecutor())
+						.isInstanceOf(TomcatThreadPerTaskExecutor.class));
+	}
+
+	@Test
+	void virtualThreadsWhenNotAvailable() {
+		assumeFalse(VirtualThreads.isAvailable());
+		bind("server.threads.virtual=true");
+		customizeAndRunServer(
+				(server) -> assertThat(server.getTomcat().getConnector().getProtocolHandler().getExecutor())
+						.isNotInstanceOf(TomcatThreadPerTaskExecutor.class));
+	}
+
 	@Test
 	void customConnectionTimeout() {
 		bind("server.tomcat.connection-timeout=30s");
@@ -363,6 +386,24 @@ class TomcatWebServerFactoryCustomizerTests {
 		assertThat(factory.getEngineValves()).first().isInstanceOf(AccessLogValve.class);
 	}
 
+	@Test
+	void accessLogCanBeAsync() {
+		bind("server.tomcat.accesslog.enabled=true", "server.tomcat.accesslog.async=true",
+				"server.tomcat.accesslog.async-queue-capacity=512");
+		TomcatServletWebServerFactory factory = customizeAndGetFactory();
+		assertThat(factory.getEngineValves()).hasSize(1);
+		assertThat(factory.getEngineValves()).first().isInstanceOf(AsyncAccessLogValve.class);
+		assertThat(((AsyncAccessLogValve) factory.getEngineValves().iterator().next()).getQueueCapacity())
+				.isEqualTo(512);
+	}
+
+	@Test
+	void accessLogIsNotAsyncByDefault() {
+		bind("server.tomcat.accesslog.enabled=true");
+		TomcatServletWebServerFactory factory = customizeAndGetFactory();
+		assertThat(factory.getEngineValves()).first().isNotInstanceOf(AsyncAccessLogValve.class);
+	}
+
 	@Test
 	void accessLogFileDateFormatByDefault() {
 		bind("server.tomcat.accesslog.enabled=true");
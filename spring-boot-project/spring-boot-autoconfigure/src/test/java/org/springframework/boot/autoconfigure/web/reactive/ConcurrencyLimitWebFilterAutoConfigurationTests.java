@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.ConcurrencyLimitReadinessListener;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.web.reactive.filter.ConcurrencyLimitingWebFilter;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConcurrencyLimitWebFilterAutoConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+class ConcurrencyLimitWebFilterAutoConfigurationTests {
+
+	private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ConcurrencyLimitWebFilterAutoConfiguration.class,
+					ApplicationAvailabilityAutoConfiguration.class));
+
+	@Test
+	void whenNotEnabledFilterIsNotAutoConfigured() {
+		this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean(AdaptiveConcurrencyLimiter.class)
+				.doesNotHaveBean(ConcurrencyLimitingWebFilter.class));
+	}
+
+	@Test
+	void whenEnabledFilterIsAutoConfigured() {
+		this.contextRunner.withPropertyValues("server.concurrency-limit.enabled=true",
+				"server.concurrency-limit.initial-limit=50").run((context) -> {
+					assertThat(context).hasSingleBean(ConcurrencyLimitingWebFilter.class);
+					assertThat(context.getBean(AdaptiveConcurrencyLimiter.class).getLimit()).isEqualTo(50);
+				});
+	}
+
+	@Test
+	void whenUpdateReadinessIsEnabledReadinessListenerIsAutoConfigured() {
+		this.contextRunner
+				.withPropertyValues("server.concurrency-limit.enabled=true",
+						"server.concurrency-limit.update-readiness=true")
+				.run((context) -> assertThat(context).hasSingleBean(ConcurrencyLimitReadinessListener.class));
+	}
+
+	@Test
+	void userDefinedLimiterIsUsed() {
+		this.contextRunner.withPropertyValues("server.concurrency-limit.enabled=true")
+				.withBean(AdaptiveConcurrencyLimiter.class, () -> new AdaptiveConcurrencyLimiter(5, 5, 5))
+				.run((context) -> assertThat(context.getBean(AdaptiveConcurrencyLimiter.class).getLimit())
+						.isEqualTo(5));
+	}
+
+}
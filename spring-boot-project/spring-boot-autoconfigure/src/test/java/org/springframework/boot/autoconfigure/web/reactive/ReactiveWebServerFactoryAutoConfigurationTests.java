@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import org.apache.catalina.startup.Tomcat;
 import org.eclipse.jetty.server.Server;
 import org.junit.jupiter.api.Test;
 import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.FilteredClassLoader;
@@ -47,6 +48,7 @@ import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.context.ApplicationContextException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
 import org.springframework.http.server.reactive.HttpHandler;
 import org.springframework.web.server.adapter.ForwardedHeaderTransformer;
 
@@ -282,6 +284,33 @@ class ReactiveWebServerFactoryAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	void nettyUsesGlobalResourcesByDefault() {
+		new ReactiveWebApplicationContextRunner(AnnotationConfigReactiveWebApplicationContext::new)
+				.withConfiguration(AutoConfigurations.of(ReactiveWebServerFactoryAutoConfiguration.class))
+				.withClassLoader(new FilteredClassLoader(Tomcat.class, Server.class, Undertow.class))
+				.withUserConfiguration(HttpHandlerConfiguration.class).run((context) -> {
+					assertThat(context.getBean(ReactorResourceFactory.class).isUseGlobalResources()).isTrue();
+					assertThat(context).doesNotHaveBean(LoopResources.class);
+				});
+	}
+
+	@Test
+	void nettyThreadsCanBeConfigured() {
+		new ReactiveWebApplicationContextRunner(AnnotationConfigReactiveWebApplicationContext::new)
+				.withConfiguration(AutoConfigurations.of(ReactiveWebServerFactoryAutoConfiguration.class))
+				.withClassLoader(new FilteredClassLoader(Tomcat.class, Server.class, Undertow.class))
+				.withUserConfiguration(HttpHandlerConfiguration.class)
+				.withPropertyValues("server.netty.threads.io=3", "server.netty.threads.acceptors=1").run((context) -> {
+					assertThat(context.getBean(ReactorResourceFactory.class).isUseGlobalResources()).isTrue();
+					LoopResources loopResources = context.getBean(LoopResources.class);
+					assertThat(loopResources.onServer(false)).hasSize(3);
+					assertThat(loopResources.onServerSelect(false)).hasSize(1);
+					assertThat(context.getBean(NettyReactiveWebServerFactory.class)).extracting("loopResources")
+							.isSameAs(loopResources);
+				});
+	}
+
 	@Test
 	void nettyServerCustomizerRegisteredAsBeanAndViaFactoryIsOnlyCalledOnce() {
 		new ReactiveWebApplicationContextRunner(AnnotationConfigReactiveWebServerApplicationContext::new)
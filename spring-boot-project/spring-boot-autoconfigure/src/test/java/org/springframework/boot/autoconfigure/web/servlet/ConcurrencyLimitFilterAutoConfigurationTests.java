@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import java.time.Duration;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.ConcurrencyLimitReadinessListener;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter.Permit;
+import org.springframework.boot.web.servlet.filter.ConcurrencyLimitingFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConcurrencyLimitFilterAutoConfiguration}.
+ *
+ * @author agent (agent@local)
+ */
+class ConcurrencyLimitFilterAutoConfigurationTests {
+
+	private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ConcurrencyLimitFilterAutoConfiguration.class,
+					ApplicationAvailabilityAutoConfiguration.class));
+
+	@Test
+	void whenNotEnabledFilterIsNotAutoConfigured() {
+		this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean(AdaptiveConcurrencyLimiter.class)
+				.doesNotHaveBean(ConcurrencyLimitingFilter.class));
+	}
+
+	@Test
+	void whenEnabledFilterIsAutoConfigured() {
+		this.contextRunner.withPropertyValues("server.concurrency-limit.enabled=true",
+				"server.concurrency-limit.initial-limit=50").run((context) -> {
+					assertThat(context).hasSingleBean(ConcurrencyLimitingFilter.class);
+					assertThat(context.getBean(AdaptiveConcurrencyLimiter.class).getLimit()).isEqualTo(50);
+				});
+	}
+
+	@Test
+	void whenLimitIsExceededReadinessIsNotUpdatedByDefault() {
+		this.contextRunner
+				.withPropertyValues("server.concurrency-limit.enabled=true", "server.concurrency-limit.initial-limit=1")
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(ConcurrencyLimitReadinessListener.class);
+					AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+					AdaptiveConcurrencyLimiter limiter = context.getBean(AdaptiveConcurrencyLimiter.class);
+					limiter.tryAcquire();
+					assertThat(limiter.tryAcquire()).isNull();
+					assertThat(context.getBean(ApplicationAvailability.class).getReadinessState())
+							.isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+				});
+	}
+
+	@Test
+	void whenUpdateReadinessIsEnabledReadinessIsUpdatedWhileLimitRemainsExceeded() {
+		this.contextRunner.withPropertyValues("server.concurrency-limit.enabled=true",
+				"server.concurrency-limit.initial-limit=1", "server.concurrency-limit.update-readiness=true",
+				"server.concurrency-limit.readiness-window=50ms").run((context) -> {
+					AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+					AdaptiveConcurrencyLimiter limiter = context.getBean(AdaptiveConcurrencyLimiter.class);
+					ApplicationAvailability availability = context.getBean(ApplicationAvailability.class);
+					Permit permit = limiter.tryAcquire();
+					assertThat(limiter.tryAcquire()).isNull();
+					Awaitility.await().atMost(Duration.ofSeconds(30))
+							.untilAsserted(() -> assertThat(availability.getReadinessState())
+									.isEqualTo(ReadinessState.REFUSING_TRAFFIC));
+					permit.release();
+					Awaitility.await().atMost(Duration.ofSeconds(30))
+							.untilAsserted(() -> assertThat(availability.getReadinessState())
+									.isEqualTo(ReadinessState.ACCEPTING_TRAFFIC));
+				});
+	}
+
+	@Test
+	void whenUpdateReadinessIsEnabledReadinessIsNotUpdatedWhenLimitIsExceededBriefly() {
+		this.contextRunner.withPropertyValues("server.concurrency-limit.enabled=true",
+				"server.concurrency-limit.initial-limit=1", "server.concurrency-limit.update-readiness=true")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(ConcurrencyLimitReadinessListener.class);
+					AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+					AdaptiveConcurrencyLimiter limiter = context.getBean(AdaptiveConcurrencyLimiter.class);
+					Permit permit = limiter.tryAcquire();
+					assertThat(limiter.tryAcquire()).isNull();
+					permit.release();
+					assertThat(context.getBean(ApplicationAvailability.class).getReadinessState())
+							.isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+				});
+	}
+
+	@Test
+	void userDefinedLimiterIsUsed() {
+		this.contextRunner.withPropertyValues("server.concurrency-limit.enabled=true")
+				.withBean(AdaptiveConcurrencyLimiter.class, () -> new AdaptiveConcurrencyLimiter(5, 5, 5))
+				.run((context) -> assertThat(context.getBean(AdaptiveConcurrencyLimiter.class).getLimit())
+						.isEqualTo(5));
+	}
+
+}
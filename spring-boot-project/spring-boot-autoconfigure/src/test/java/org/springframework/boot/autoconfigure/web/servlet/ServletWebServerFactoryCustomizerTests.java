@@ -35,6 +35,8 @@ import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerF
 import org.springframework.boot.web.servlet.server.Jsp;
 import org.springframework.boot.web.servlet.server.Session;
 import org.springframework.boot.web.servlet.server.Session.Cookie;
+import org.springframework.boot.web.servlet.server.StaticResourceCache;
+import org.springframework.util.unit.DataSize;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -125,6 +127,25 @@ class ServletWebServerFactoryCustomizerTests {
 
 	}
 
+	@Test
+	void customizeStaticResourceCacheProperties() {
+		Map<String, String> map = new HashMap<>();
+		map.put("server.servlet.static-resource-cache.enabled", "true");
+		map.put("server.servlet.static-resource-cache.max-size", "20MB");
+		map.put("server.servlet.static-resource-cache.max-entry-size", "1MB");
+		map.put("server.servlet.static-resource-cache.preload", "true");
+		bindProperties(map);
+		ConfigurableServletWebServerFactory factory = mock(ConfigurableServletWebServerFactory.class);
+		this.customizer.customize(factory);
+		ArgumentCaptor<StaticResourceCache> cacheCaptor = ArgumentCaptor.forClass(StaticResourceCache.class);
+		verify(factory).setStaticResourceCache(cacheCaptor.capture());
+		StaticResourceCache cache = cacheCaptor.getValue();
+		assertThat(cache.isEnabled()).isTrue();
+		assertThat(cache.getMaxSize()).isEqualTo(DataSize.ofMegabytes(20));
+		assertThat(cache.getMaxEntrySize()).isEqualTo(DataSize.ofMegabytes(1));
+		assertThat(cache.isPreload()).isTrue();
+	}
+
 	@Test
 	void testCustomizeTomcatPort() {
 		ConfigurableServletWebServerFactory factory = mock(ConfigurableServletWebServerFactory.class);
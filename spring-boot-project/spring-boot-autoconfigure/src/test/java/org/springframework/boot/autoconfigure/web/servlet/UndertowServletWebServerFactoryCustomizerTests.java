@@ -16,12 +16,22 @@
 
 package org.springframework.boot.autoconfigure.web.servlet;
 
+import java.util.concurrent.ExecutorService;
+
+import javax.servlet.ServletContextListener;
+
+import io.undertow.servlet.Servlets;
+import io.undertow.servlet.api.DeploymentInfo;
+import io.undertow.servlet.api.ListenerInfo;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.VirtualThreads;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Tests for {@link UndertowServletWebServerFactoryCustomizer}
@@ -50,4 +60,31 @@ class UndertowServletWebServerFactoryCustomizerTests {
 		assertThat(factory.isPreservePathOnForward()).isTrue();
 	}
 
+	@Test
+	void virtualThreadsExecutorIsShutDownWhenDeploymentIsStopped() throws Exception {
+		assumeTrue(VirtualThreads.isAvailable());
+		UndertowServletWebServerFactory factory = new UndertowServletWebServerFactory(0);
+		ServerProperties serverProperties = new ServerProperties();
+		serverProperties.getThreads().setVirtual(true);
+		new UndertowServletWebServerFactoryCustomizer(serverProperties).customize(factory);
+		DeploymentInfo deploymentInfo = Servlets.deployment();
+		factory.getDeploymentInfoCustomizers().forEach((customizer) -> customizer.customize(deploymentInfo));
+		ExecutorService executor = (ExecutorService) deploymentInfo.getExecutor();
+		assertThat(deploymentInfo.getListeners()).hasSize(1);
+		assertThat(executor.isShutdown()).isFalse();
+		ListenerInfo listener = deploymentInfo.getListeners().get(0);
+		((ServletContextListener) listener.getInstanceFactory().createInstance().getInstance()).contextDestroyed(null);
+		assertThat(executor.isShutdown()).isTrue();
+	}
+
+	@Test
+	void virtualThreadsWhenNotAvailable() {
+		assumeFalse(VirtualThreads.isAvailable());
+		UndertowServletWebServerFactory factory = new UndertowServletWebServerFactory(0);
+		ServerProperties serverProperties = new ServerProperties();
+		serverProperties.getThreads().setVirtual(true);
+		new UndertowServletWebServerFactoryCustomizer(serverProperties).customize(factory);
+		assertThat(factory.getDeploymentInfoCustomizers()).isEmpty();
+	}
+
 }
@@ -231,6 +231,14 @@ class WebMvcAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	void resourceHandlerChainEnabledByCompressedFlag() {
+		this.contextRunner.withPropertyValues("spring.web.resources.chain.compressed:true")
+				.run((context) -> assertThat(getResourceResolvers(context, "/**")).extractingResultOf("getClass")
+						.containsOnly(CachingResourceResolver.class, EncodedResourceResolver.class,
+								PathResourceResolver.class));
+	}
+
 	@ParameterizedTest
 	@ValueSource(strings = { "spring.resources.", "spring.web.resources." })
 	void resourceHandlerFixedStrategyEnabled(String prefix) {
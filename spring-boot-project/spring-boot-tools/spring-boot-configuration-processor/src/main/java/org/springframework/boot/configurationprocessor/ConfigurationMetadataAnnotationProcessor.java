@@ -289,6 +289,10 @@ public class ConfigurationMetadataAnnotationProcessor extends AbstractProcessor
 		if (hasMainReadOperation(element)) {
 			this.metadataCollector.add(ItemMetadata.newProperty(endpointKey, "cache.time-to-live",
 					Duration.class.getName(), type, null, "Maximum time that a response can be cached.", "0ms", null));
+			this.metadataCollector.add(ItemMetadata.newProperty(endpointKey, "cache.stale-while-revalidate",
+					Duration.class.getName(), type, null,
+					"Maximum time that a stale response can be served while it is refreshed in the background.", "0ms",
+					null));
 		}
 	}
 
@@ -45,7 +45,8 @@ class EndpointMetadataGenerationTests extends AbstractMetadataGenerationTests {
 		assertThat(metadata).has(Metadata.withGroup("management.endpoint.simple").fromSource(SimpleEndpoint.class));
 		assertThat(metadata).has(enabledFlag("simple", true));
 		assertThat(metadata).has(cacheTtl("simple"));
-		assertThat(metadata.getItems()).hasSize(3);
+		assertThat(metadata).has(cacheStaleWhileRevalidate("simple"));
+		assertThat(metadata.getItems()).hasSize(4);
 	}
 
 	@Test
@@ -73,7 +74,8 @@ class EndpointMetadataGenerationTests extends AbstractMetadataGenerationTests {
 				.withDefaultValue("test"));
 		assertThat(metadata).has(enabledFlag("customprops", true));
 		assertThat(metadata).has(cacheTtl("customprops"));
-		assertThat(metadata.getItems()).hasSize(4);
+		assertThat(metadata).has(cacheStaleWhileRevalidate("customprops"));
+		assertThat(metadata.getItems()).hasSize(5);
 	}
 
 	@Test
@@ -82,7 +84,8 @@ class EndpointMetadataGenerationTests extends AbstractMetadataGenerationTests {
 		assertThat(metadata).has(Metadata.withGroup("management.endpoint.specific").fromSource(SpecificEndpoint.class));
 		assertThat(metadata).has(enabledFlag("specific", true));
 		assertThat(metadata).has(cacheTtl("specific"));
-		assertThat(metadata.getItems()).hasSize(3);
+		assertThat(metadata).has(cacheStaleWhileRevalidate("specific"));
+		assertThat(metadata.getItems()).hasSize(4);
 	}
 
 	@Test
@@ -102,7 +105,8 @@ class EndpointMetadataGenerationTests extends AbstractMetadataGenerationTests {
 				.has(Metadata.withGroup("management.endpoint.incremental").fromSource(IncrementalEndpoint.class));
 		assertThat(metadata).has(enabledFlag("incremental", true));
 		assertThat(metadata).has(cacheTtl("incremental"));
-		assertThat(metadata.getItems()).hasSize(3);
+		assertThat(metadata).has(cacheStaleWhileRevalidate("incremental"));
+		assertThat(metadata.getItems()).hasSize(4);
 		project.replaceText(IncrementalEndpoint.class, "id = \"incremental\"",
 				"id = \"incremental\", enableByDefault = false");
 		metadata = project.incrementalBuild(IncrementalEndpoint.class);
@@ -110,7 +114,8 @@ class EndpointMetadataGenerationTests extends AbstractMetadataGenerationTests {
 				.has(Metadata.withGroup("management.endpoint.incremental").fromSource(IncrementalEndpoint.class));
 		assertThat(metadata).has(enabledFlag("incremental", false));
 		assertThat(metadata).has(cacheTtl("incremental"));
-		assertThat(metadata.getItems()).hasSize(3);
+		assertThat(metadata).has(cacheStaleWhileRevalidate("incremental"));
+		assertThat(metadata.getItems()).hasSize(4);
 	}
 
 	@Test
@@ -121,7 +126,8 @@ class EndpointMetadataGenerationTests extends AbstractMetadataGenerationTests {
 				.has(Metadata.withGroup("management.endpoint.incremental").fromSource(IncrementalEndpoint.class));
 		assertThat(metadata).has(enabledFlag("incremental", true));
 		assertThat(metadata).has(cacheTtl("incremental"));
-		assertThat(metadata.getItems()).hasSize(3);
+		assertThat(metadata).has(cacheStaleWhileRevalidate("incremental"));
+		assertThat(metadata.getItems()).hasSize(4);
 		project.replaceText(IncrementalEndpoint.class, "@Nullable String param", "String param");
 		metadata = project.incrementalBuild(IncrementalEndpoint.class);
 		assertThat(metadata)
@@ -137,13 +143,15 @@ class EndpointMetadataGenerationTests extends AbstractMetadataGenerationTests {
 		assertThat(metadata).has(Metadata.withGroup("management.endpoint.specific").fromSource(SpecificEndpoint.class));
 		assertThat(metadata).has(enabledFlag("specific", true));
 		assertThat(metadata).has(cacheTtl("specific"));
-		assertThat(metadata.getItems()).hasSize(3);
+		assertThat(metadata).has(cacheStaleWhileRevalidate("specific"));
+		assertThat(metadata.getItems()).hasSize(4);
 		project.replaceText(SpecificEndpoint.class, "enableByDefault = true", "enableByDefault = false");
 		metadata = project.incrementalBuild(SpecificEndpoint.class);
 		assertThat(metadata).has(Metadata.withGroup("management.endpoint.specific").fromSource(SpecificEndpoint.class));
 		assertThat(metadata).has(enabledFlag("specific", false));
 		assertThat(metadata).has(cacheTtl("specific"));
-		assertThat(metadata.getItems()).hasSize(3);
+		assertThat(metadata).has(cacheStaleWhileRevalidate("specific"));
+		assertThat(metadata.getItems()).hasSize(4);
 	}
 
 	private Metadata.MetadataItemCondition enabledFlag(String endpointId, String endpointSuffix, Boolean defaultValue) {
@@ -161,4 +169,10 @@ class EndpointMetadataGenerationTests extends AbstractMetadataGenerationTests {
 				.withDefaultValue("0ms").withDescription("Maximum time that a response can be cached.");
 	}
 
+	private Metadata.MetadataItemCondition cacheStaleWhileRevalidate(String endpointId) {
+		return Metadata.withProperty("management.endpoint." + endpointId + ".cache.stale-while-revalidate")
+				.ofType(Duration.class).withDefaultValue("0ms").withDescription(
+						"Maximum time that a stale response can be served while it is refreshed in the background.");
+	}
+
 }
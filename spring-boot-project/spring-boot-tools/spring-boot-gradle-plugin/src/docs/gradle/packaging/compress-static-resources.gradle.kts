@@ -0,0 +1,12 @@
+plugins {
+	java
+	id("org.springframework.boot") version "{gradle-project-version}"
+}
+
+// tag::compress-static-resources[]
+springBoot {
+	compressStaticResources {
+		minimumSize.set(1024)
+	}
+}
+// end::compress-static-resources[]
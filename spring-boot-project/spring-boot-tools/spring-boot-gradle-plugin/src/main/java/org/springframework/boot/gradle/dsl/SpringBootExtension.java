@@ -17,6 +17,8 @@
 package org.springframework.boot.gradle.dsl;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.Callable;
 
 import org.gradle.api.Action;
 import org.gradle.api.Project;
@@ -32,6 +34,7 @@ import org.gradle.jvm.tasks.Jar;
 
 import org.springframework.boot.gradle.tasks.buildinfo.BuildInfo;
 import org.springframework.boot.gradle.tasks.buildinfo.BuildInfoProperties;
+import org.springframework.boot.gradle.tasks.resources.CompressStaticResources;
 
 /**
  * Entry point to Spring Boot's Gradle DSL.
@@ -127,6 +130,62 @@ public class SpringBootExtension {
 		}
 	}
 
+	/**
+	 * Creates a new {@link CompressStaticResources} task named
+	 * {@code bootCompressStaticResources} and adds its destination directory to the main
+	 * source set's output so that the compressed variants are packaged and available at
+	 * runtime.
+	 * <p>
+	 * By default, the task compresses the static resources in the main source set's
+	 * resources output directory and writes the variants to
+	 * {@code build/compressedResources/main}.
+	 * @since 2.5.0
+	 */
+	public void compressStaticResources() {
+		compressStaticResources(null);
+	}
+
+	/**
+	 * Creates a new {@link CompressStaticResources} task named
+	 * {@code bootCompressStaticResources} and adds its destination directory to the main
+	 * source set's output so that the compressed variants are packaged and available at
+	 * runtime. The task is passed to the given {@code configurer} for further
+	 * configuration.
+	 * <p>
+	 * By default, the task compresses the static resources in the main source set's
+	 * resources output directory and writes the variants to
+	 * {@code build/compressedResources/main}.
+	 * @param configurer the task configurer
+	 * @since 2.5.0
+	 */
+	public void compressStaticResources(Action<CompressStaticResources> configurer) {
+		TaskContainer tasks = this.project.getTasks();
+		TaskProvider<CompressStaticResources> bootCompressStaticResources = tasks
+				.register("bootCompressStaticResources", CompressStaticResources.class, this::configureCompressTask);
+		this.project.getPlugins().withType(JavaPlugin.class, (plugin) -> {
+			SourceSet main = this.project.getConvention().getPlugin(JavaPluginConvention.class).getSourceSets()
+					.getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+			bootCompressStaticResources.configure((compress) -> {
+				compress.dependsOn(main.getProcessResourcesTaskName());
+				compress.getResourcesDir().set(this.project.getLayout()
+						.dir(this.project.provider(this::determineMainSourceSetResourcesOutputDir)));
+			});
+			Callable<File> destinationDir = () -> bootCompressStaticResources.get().getDestinationDir().getAsFile()
+					.get();
+			main.getOutput().dir(Collections.singletonMap("builtBy", bootCompressStaticResources), destinationDir);
+		});
+		if (configurer != null) {
+			bootCompressStaticResources.configure(configurer);
+		}
+	}
+
+	private void configureCompressTask(CompressStaticResources task) {
+		task.setGroup(BasePlugin.BUILD_GROUP);
+		task.setDescription("Writes compressed variants of the application's static resources.");
+		task.getDestinationDir()
+				.convention(this.project.getLayout().getBuildDirectory().dir("compressedResources/main"));
+	}
+
 	private void configureBuildInfoTask(BuildInfo task) {
 		task.setGroup(BasePlugin.BUILD_GROUP);
 		task.setDescription("Generates a META-INF/build-info.properties file.");
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.gradle.tasks.resources;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.Task;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.TaskExecutionException;
+
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
+/**
+ * {@link Task} for writing gzip-compressed variants of an application's static resources
+ * so that they can be served as they are rather than being compressed each time they are
+ * requested.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class CompressStaticResources extends DefaultTask {
+
+	private final DirectoryProperty resourcesDir;
+
+	private final DirectoryProperty destinationDir;
+
+	private final ListProperty<String> locations;
+
+	private final SetProperty<String> fileExtensions;
+
+	private final Property<Long> minimumSize;
+
+	public CompressStaticResources() {
+		ObjectFactory objects = getProject().getObjects();
+		this.resourcesDir = objects.directoryProperty();
+		this.destinationDir = objects.directoryProperty();
+		this.locations = objects.listProperty(String.class).convention(StaticResourceCompressor.DEFAULT_LOCATIONS);
+		this.fileExtensions = objects.setProperty(String.class).convention(StaticResourceCompressor.DEFAULT_EXTENSIONS);
+		this.minimumSize = objects.property(Long.class).convention(StaticResourceCompressor.DEFAULT_MINIMUM_SIZE);
+	}
+
+	/**
+	 * Writes the compressed variants of the static resources to the
+	 * {@link #getDestinationDir() destination directory}.
+	 */
+	@TaskAction
+	public void compressStaticResources() {
+		File destination = this.destinationDir.getAsFile().get();
+		getProject().delete(destination);
+		StaticResourceCompressor compressor = new StaticResourceCompressor(this.resourcesDir.getAsFile().get(),
+				destination);
+		compressor.setLocations(this.locations.get());
+		compressor.setExtensions(this.fileExtensions.get());
+		compressor.setMinimumSize(this.minimumSize.get());
+		try {
+			compressor.compress();
+		}
+		catch (IOException ex) {
+			throw new TaskExecutionException(this, ex);
+		}
+	}
+
+	/**
+	 * Returns the directory, typically the output directory of the main source set's
+	 * resources, that contains the static resource locations.
+	 * @return the resources directory
+	 */
+	@Internal
+	public DirectoryProperty getResourcesDir() {
+		return this.resourcesDir;
+	}
+
+	/**
+	 * Returns the static resources that will be compressed.
+	 * @return the static resources
+	 */
+	@InputFiles
+	@SkipWhenEmpty
+	@PathSensitive(PathSensitivity.RELATIVE)
+	public FileTree getStaticResources() {
+		return getProject().fileTree(this.resourcesDir.getAsFile().get(),
+				(tree) -> this.locations.get().forEach((location) -> tree.include(location + "/**")));
+	}
+
+	/**
+	 * Returns the directory to which the compressed variants will be written. Each
+	 * variant is written to the same path, relative to this directory, as its resource is
+	 * relative to the {@link #getResourcesDir() resources directory}.
+	 * @return the destination directory
+	 */
+	@OutputDirectory
+	public DirectoryProperty getDestinationDir() {
+		return this.destinationDir;
+	}
+
+	/**
+	 * Returns the locations of the static resources, relative to the
+	 * {@link #getResourcesDir() resources directory}. Defaults to
+	 * {@code META-INF/resources}, {@code resources}, {@code static}, and {@code public}.
+	 * @return the locations
+	 */
+	@Input
+	public ListProperty<String> getLocations() {
+		return this.locations;
+	}
+
+	/**
+	 * Returns the file extensions of the static resources that will be compressed.
+	 * @return the file extensions
+	 */
+	@Input
+	public SetProperty<String> getFileExtensions() {
+		return this.fileExtensions;
+	}
+
+	/**
+	 * Returns the minimum size, in bytes, of the static resources that will be
+	 * compressed. Defaults to 2048.
+	 * @return the minimum size
+	 */
+	@Input
+	public Property<Long> getMinimumSize() {
+		return this.minimumSize;
+	}
+
+}
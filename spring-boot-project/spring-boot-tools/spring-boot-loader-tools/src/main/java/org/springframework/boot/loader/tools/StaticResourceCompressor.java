@@ -0,0 +1,214 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.util.Assert;
+
+/**
+ * Writes gzip-compressed variants of an application's static web resources so that they
+ * can be served as they are rather than being compressed each time they are requested.
+ * For each compressible resource beneath one of the static resource locations, a variant
+ * with an additional {@code .gz} extension is written to the same relative path in the
+ * destination directory. A variant is only written when it is smaller than the resource.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class StaticResourceCompressor {
+
+	/**
+	 * The default locations of static resources, relative to the root of the classpath.
+	 */
+	public static final List<String> DEFAULT_LOCATIONS = Collections
+			.unmodifiableList(Arrays.asList("META-INF/resources", "resources", "static", "public"));
+
+	/**
+	 * The default extensions of the resources that are compressed.
+	 */
+	public static final Set<String> DEFAULT_EXTENSIONS = Collections.unmodifiableSet(
+			new LinkedHashSet<>(Arrays.asList("css", "htm", "html", "js", "json", "map", "mjs", "svg", "txt", "xml")));
+
+	/**
+	 * The default minimum size, in bytes, of the resources that are compressed.
+	 */
+	public static final long DEFAULT_MINIMUM_SIZE = 2048;
+
+	private static final String EXTENSION = ".gz";
+
+	private final File sourceDirectory;
+
+	private final File destinationDirectory;
+
+	private List<String> locations = DEFAULT_LOCATIONS;
+
+	private Set<String> extensions = DEFAULT_EXTENSIONS;
+
+	private long minimumSize = DEFAULT_MINIMUM_SIZE;
+
+	/**
+	 * Creates a new {@code StaticResourceCompressor} that will write the compressed
+	 * variants alongside the resources in the given {@code directory}.
+	 * @param directory the directory, typically the root of the classpath, that contains
+	 * the static resource locations
+	 */
+	public StaticResourceCompressor(File directory) {
+		this(directory, directory);
+	}
+
+	/**
+	 * Creates a new {@code StaticResourceCompressor} that will compress the resources in
+	 * the given {@code sourceDirectory} and write the compressed variants to the given
+	 * {@code destinationDirectory}.
+	 * @param sourceDirectory the directory, typically the root of the classpath, that
+	 * contains the static resource locations
+	 * @param destinationDirectory the directory to which the compressed variants are
+	 * written
+	 */
+	public StaticResourceCompressor(File sourceDirectory, File destinationDirectory) {
+		Assert.notNull(sourceDirectory, "SourceDirectory must not be null");
+		Assert.notNull(destinationDirectory, "DestinationDirectory must not be null");
+		this.sourceDirectory = sourceDirectory;
+		this.destinationDirectory = destinationDirectory;
+	}
+
+	/**
+	 * Sets the locations of static resources, relative to the source directory.
+	 * @param locations the locations
+	 */
+	public void setLocations(Collection<String> locations) {
+		Assert.notNull(locations, "Locations must not be null");
+		this.locations = new ArrayList<>(locations);
+	}
+
+	/**
+	 * Sets the extensions of the resources that should be compressed.
+	 * @param extensions the extensions, with or without a leading {@code .}
+	 */
+	public void setExtensions(Collection<String> extensions) {
+		Assert.notNull(extensions, "Extensions must not be null");
+		this.extensions = extensions.stream().map(this::normalizeExtension)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * Sets the minimum size, in bytes, of the resources that should be compressed.
+	 * @param minimumSize the minimum size
+	 */
+	public void setMinimumSize(long minimumSize) {
+		this.minimumSize = minimumSize;
+	}
+
+	/**
+	 * Writes the compressed variants of any resources that have changed since their
+	 * variant was last written.
+	 * @return the compressed variants that were written
+	 * @throws IOException if a resource cannot be read or a variant cannot be written
+	 */
+	public List<File> compress() throws IOException {
+		List<File> written = new ArrayList<>();
+		for (String location : this.locations) {
+			Path root = new File(this.sourceDirectory, location).toPath();
+			if (Files.isDirectory(root)) {
+				try (Stream<Path> paths = Files.walk(root)) {
+					for (Path path : (Iterable<Path>) paths.filter(this::isCompressible)::iterator) {
+						File variant = compress(path);
+						if (variant != null) {
+							written.add(variant);
+						}
+					}
+				}
+			}
+		}
+		return written;
+	}
+
+	private boolean isCompressible(Path path) {
+		if (!Files.isRegularFile(path)) {
+			return false;
+		}
+		String name = path.getFileName().toString();
+		int lastDot = name.lastIndexOf('.');
+		return lastDot != -1 && this.extensions.contains(name.substring(lastDot + 1).toLowerCase(Locale.ENGLISH));
+	}
+
+	private File compress(Path path) throws IOException {
+		String relativePath = this.sourceDirectory.toPath().relativize(path).toString();
+		File variant = new File(this.destinationDirectory, relativePath + EXTENSION);
+		File resource = path.toFile();
+		if (variant.isFile() && variant.lastModified() >= resource.lastModified()) {
+			return null;
+		}
+		byte[] content = Files.readAllBytes(path);
+		byte[] compressed = (content.length >= this.minimumSize) ? gzip(content) : null;
+		if (compressed == null || compressed.length >= content.length) {
+			Files.deleteIfExists(variant.toPath());
+			return null;
+		}
+		File parent = variant.getParentFile();
+		if (!parent.isDirectory() && !parent.mkdirs()) {
+			throw new IllegalStateException("Cannot create directory '" + parent.getAbsolutePath() + "'");
+		}
+		Files.write(variant.toPath(), compressed);
+		return variant;
+	}
+
+	private byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 2);
+		try (OutputStream gzip = new BestCompressionGzipOutputStream(bytes)) {
+			gzip.write(content);
+		}
+		return bytes.toByteArray();
+	}
+
+	private String normalizeExtension(String extension) {
+		String normalized = extension.toLowerCase(Locale.ENGLISH);
+		return normalized.startsWith(".") ? normalized.substring(1) : normalized;
+	}
+
+	/**
+	 * A {@link GZIPOutputStream} that uses the best compression level as the cost of
+	 * compressing is only paid once, at build time.
+	 */
+	private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+
+		BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+			super(out);
+			this.def.setLevel(Deflater.BEST_COMPRESSION);
+		}
+
+	}
+
+}
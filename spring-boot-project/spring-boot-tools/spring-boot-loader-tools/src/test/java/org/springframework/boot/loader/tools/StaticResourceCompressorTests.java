@@ -0,0 +1,141 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StaticResourceCompressor}.
+ *
+ * @author agent (agent@local)
+ */
+class StaticResourceCompressorTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void compressesResourcesInDefaultLocations() throws IOException {
+		File css = write("static/css/app.css", compressible());
+		File js = write("META-INF/resources/app.js", compressible());
+		List<File> written = new StaticResourceCompressor(this.temp).compress();
+		assertThat(written).containsExactlyInAnyOrder(new File(css.getPath() + ".gz"), new File(js.getPath() + ".gz"));
+		assertThat(gunzip(new File(css.getPath() + ".gz"))).isEqualTo(Files.readAllBytes(css.toPath()));
+	}
+
+	@Test
+	void resourcesOutsideOfStaticLocationsAreNotCompressed() throws IOException {
+		write("templates/index.html", compressible());
+		assertThat(new StaticResourceCompressor(this.temp).compress()).isEmpty();
+	}
+
+	@Test
+	void resourcesWithoutCompressibleExtensionAreNotCompressed() throws IOException {
+		write("static/image.png", compressible());
+		write("static/README", compressible());
+		assertThat(new StaticResourceCompressor(this.temp).compress()).isEmpty();
+	}
+
+	@Test
+	void resourcesSmallerThanMinimumSizeAreNotCompressed() throws IOException {
+		write("static/small.css", "body { margin: 0 }".getBytes(StandardCharsets.UTF_8));
+		assertThat(new StaticResourceCompressor(this.temp).compress()).isEmpty();
+	}
+
+	@Test
+	void variantThatIsNotSmallerIsNotWritten() throws IOException {
+		byte[] random = new byte[8192];
+		new Random(0).nextBytes(random);
+		File resource = write("static/random.txt", random);
+		assertThat(new StaticResourceCompressor(this.temp).compress()).isEmpty();
+		assertThat(new File(resource.getPath() + ".gz")).doesNotExist();
+	}
+
+	@Test
+	void upToDateVariantIsNotRewritten() throws IOException {
+		File resource = write("static/app.css", compressible());
+		StaticResourceCompressor compressor = new StaticResourceCompressor(this.temp);
+		assertThat(compressor.compress()).hasSize(1);
+		assertThat(compressor.compress()).isEmpty();
+		new File(resource.getPath() + ".gz").setLastModified(resource.lastModified() - 10000);
+		assertThat(compressor.compress()).hasSize(1);
+	}
+
+	@Test
+	void variantsCanBeWrittenToAnotherDirectory() throws IOException {
+		File resource = write("public/index.html", compressible());
+		File destination = new File(this.temp, "destination");
+		List<File> written = new StaticResourceCompressor(this.temp, destination).compress();
+		assertThat(written).containsExactly(new File(destination, "public/index.html.gz"));
+		assertThat(new File(resource.getPath() + ".gz")).doesNotExist();
+	}
+
+	@Test
+	void customLocationsExtensionsAndMinimumSize() throws IOException {
+		write("static/app.css", compressible());
+		File resource = write("assets/data.csv",
+				"a,b,c\n1,2,3\n1,2,3\n1,2,3\n1,2,3\n1,2,3\n1,2,3\n1,2,3\n1,2,3\n1,2,3\n1,2,3\n"
+						.getBytes(StandardCharsets.UTF_8));
+		StaticResourceCompressor compressor = new StaticResourceCompressor(this.temp);
+		compressor.setLocations(Collections.singletonList("assets"));
+		compressor.setExtensions(Arrays.asList(".CSV"));
+		compressor.setMinimumSize(0);
+		assertThat(compressor.compress()).containsExactly(new File(resource.getPath() + ".gz"));
+	}
+
+	private File write(String path, byte[] content) throws IOException {
+		File file = new File(this.temp, path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content);
+		return file;
+	}
+
+	private byte[] compressible() {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			content.append(".item-").append(i).append(" { color: red; }\n");
+		}
+		return content.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private byte[] gunzip(File file) throws IOException {
+		try (InputStream input = new GZIPInputStream(new FileInputStream(file))) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			StreamUtils.copy(input, output);
+			return output.toByteArray();
+		}
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.maven;
+
+import java.io.File;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the Maven plugin's static resource compression support.
+ *
+ * @author agent (agent@local)
+ */
+@ExtendWith(MavenBuildExtension.class)
+class CompressStaticResourcesIntegrationTests {
+
+	@TestTemplate
+	void compressedVariantsOfStaticResourcesAreWritten(MavenBuild mavenBuild) {
+		mavenBuild.project("compress-static-resources").execute((project) -> {
+			File staticResources = new File(project, "target/classes/static");
+			assertThat(new File(staticResources, "app.css.gz")).isFile();
+			assertThat(new File(staticResources, "small.css.gz")).doesNotExist();
+		});
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
+/**
+ * Write gzip-compressed variants of the project's static resources so that they can be
+ * served as they are rather than being compressed each time they are requested.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+@Mojo(name = "compress-static-resources", defaultPhase = LifecyclePhase.PREPARE_PACKAGE, threadSafe = true)
+public class CompressStaticResourcesMojo extends AbstractMojo {
+
+	@Component
+	private BuildContext buildContext;
+
+	/**
+	 * Directory containing the classes and resource files that should be packaged into
+	 * the archive.
+	 */
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	/**
+	 * Locations of the static resources, relative to the classes directory. Defaults to
+	 * {@code META-INF/resources}, {@code resources}, {@code static}, and {@code public}.
+	 */
+	@Parameter
+	private List<String> locations;
+
+	/**
+	 * Extensions of the static resources that should be compressed. Defaults to
+	 * {@code css}, {@code htm}, {@code html}, {@code js}, {@code json}, {@code map},
+	 * {@code mjs}, {@code svg}, {@code txt}, and {@code xml}.
+	 */
+	@Parameter
+	private List<String> fileExtensions;
+
+	/**
+	 * Minimum size, in bytes, of the static resources that should be compressed.
+	 */
+	@Parameter(defaultValue = "2048")
+	private long minimumSize;
+
+	/**
+	 * Skip the execution.
+	 */
+	@Parameter(property = "spring-boot.compress-static-resources.skip", defaultValue = "false")
+	private boolean skip;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException {
+		if (this.skip) {
+			getLog().debug("skipping compression of static resources as per configuration.");
+			return;
+		}
+		StaticResourceCompressor compressor = new StaticResourceCompressor(this.classesDirectory);
+		if (this.locations != null) {
+			compressor.setLocations(this.locations);
+		}
+		if (this.fileExtensions != null) {
+			compressor.setExtensions(this.fileExtensions);
+		}
+		compressor.setMinimumSize(this.minimumSize);
+		try {
+			List<File> compressed = compressor.compress();
+			for (File file : compressed) {
+				this.buildContext.refresh(file);
+			}
+			getLog().info("Compressed " + compressed.size() + " static resource(s)");
+		}
+		catch (IOException ex) {
+			throw new MojoExecutionException("Failed to compress static resources", ex);
+		}
+	}
+
+}
@@ -19,6 +19,7 @@ package org.springframework.boot.context.properties;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
@@ -44,8 +45,11 @@ public class BoundConfigurationProperties {
 	 */
 	private static final String BEAN_NAME = BoundConfigurationProperties.class.getName();
 
+	private final AtomicLong modificationCount = new AtomicLong();
+
 	void add(ConfigurationProperty configurationProperty) {
 		this.properties.put(configurationProperty.getName(), configurationProperty);
+		this.modificationCount.incrementAndGet();
 	}
 
 	/**
@@ -65,6 +69,17 @@ public class BoundConfigurationProperties {
 		return Collections.unmodifiableMap(this.properties);
 	}
 
+	/**
+	 * Return the number of times that a property has been bound. The count changes
+	 * whenever configuration properties are bound or rebound, allowing information
+	 * derived from bound properties to be cached.
+	 * @return the modification count
+	 * @since 2.5.0
+	 */
+	public long getModificationCount() {
+		return this.modificationCount.get();
+	}
+
 	/**
 	 * Return the {@link BoundConfigurationProperties} from the given
 	 * {@link ApplicationContext} if it is available.
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.jetty;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jetty.server.AsyncRequestLogWriter;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+
+import org.springframework.util.Assert;
+
+/**
+ * An {@link AsyncRequestLogWriter} with a bounded queue that keeps track of the number of
+ * queued entries and of the entries that have been discarded because the queue was full.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class JettyAsyncRequestLogWriter extends AsyncRequestLogWriter {
+
+	private final BlockingQueue<String> queue;
+
+	private final AtomicLong discardedEntries = new AtomicLong();
+
+	/**
+	 * Create a new {@code JettyAsyncRequestLogWriter} that writes to standard error.
+	 * @param queueCapacity the maximum number of entries that can be queued for writing
+	 */
+	public JettyAsyncRequestLogWriter(int queueCapacity) {
+		this(null, queueCapacity);
+	}
+
+	/**
+	 * Create a new {@code JettyAsyncRequestLogWriter}.
+	 * @param filename the name of the log file or {@code null} to write to standard error
+	 * @param queueCapacity the maximum number of entries that can be queued for writing
+	 */
+	public JettyAsyncRequestLogWriter(String filename, int queueCapacity) {
+		this(filename, createQueue(queueCapacity));
+	}
+
+	private JettyAsyncRequestLogWriter(String filename, BlockingQueue<String> queue) {
+		super(filename, queue);
+		this.queue = queue;
+	}
+
+	private static BlockingQueue<String> createQueue(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "QueueCapacity must be greater than zero");
+		return new BlockingArrayQueue<>(queueCapacity);
+	}
+
+	@Override
+	public void write(String entry) {
+		if (!this.queue.offer(entry)) {
+			this.discardedEntries.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of entries that are waiting to be written.
+	 * @return the number of queued entries
+	 */
+	public int getQueuedEntries() {
+		return this.queue.size();
+	}
+
+	/**
+	 * Returns the number of entries that have been discarded because the queue was full.
+	 * @return the number of discarded entries
+	 */
+	public long getDiscardedEntries() {
+		return this.discardedEntries.get();
+	}
+
+}
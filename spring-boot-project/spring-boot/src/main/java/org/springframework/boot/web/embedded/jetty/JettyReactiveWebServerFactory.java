@@ -200,8 +200,9 @@ public class JettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 		httpConfiguration.setSendServerVersion(false);
 		List<ConnectionFactory> connectionFactories = new ArrayList<>();
 		connectionFactories.add(new HttpConnectionFactory(httpConfiguration));
-		if (getHttp2() != null && getHttp2().isEnabled()) {
-			connectionFactories.add(new HTTP2CServerConnectionFactory(httpConfiguration));
+		if (getHttp2() != null && getHttp2().isEnabled() && getHttp2().isCleartext()) {
+			connectionFactories.add(new Http2ServerConnectionFactoryCustomizer(getHttp2())
+					.customize(new HTTP2CServerConnectionFactory(httpConfiguration)));
 		}
 		JettyResourceFactory resourceFactory = getResourceFactory();
 		ServerConnector connector;
@@ -181,8 +181,9 @@ public class JettyServletWebServerFactory extends AbstractServletWebServerFactor
 		httpConfiguration.setSendServerVersion(false);
 		List<ConnectionFactory> connectionFactories = new ArrayList<>();
 		connectionFactories.add(new HttpConnectionFactory(httpConfiguration));
-		if (getHttp2() != null && getHttp2().isEnabled()) {
-			connectionFactories.add(new HTTP2CServerConnectionFactory(httpConfiguration));
+		if (getHttp2() != null && getHttp2().isEnabled() && getHttp2().isCleartext()) {
+			connectionFactories.add(new Http2ServerConnectionFactoryCustomizer(getHttp2())
+					.customize(new HTTP2CServerConnectionFactory(httpConfiguration)));
 		}
 		ServerConnector connector = new ServerConnector(server, this.acceptors, this.selectors,
 				connectionFactories.toArray(new ConnectionFactory[0]));
@@ -277,11 +278,17 @@ public class JettyServletWebServerFactory extends AbstractServletWebServerFactor
 			Resource rootResource = (docBase.isDirectory() ? Resource.newResource(docBase.getCanonicalFile())
 					: JarResource.newJarResource(Resource.newResource(docBase)));
 			resources.add((root != null) ? new LoaderHidingResource(rootResource) : rootResource);
+			List<URL> cachedResourceJarUrls = new ArrayList<>();
 			for (URL resourceJarUrl : getUrlsOfJarsWithMetaInfResources()) {
-				Resource resource = createResource(resourceJarUrl);
-				if (resource.exists() && resource.isDirectory()) {
-					resources.add(resource);
+				if (shouldCacheMetaInfResources() && isJar(resourceJarUrl)) {
+					cachedResourceJarUrls.add(resourceJarUrl);
+					continue;
 				}
+				addIfDirectory(resources, createResource(resourceJarUrl));
+			}
+			if (!cachedResourceJarUrls.isEmpty()) {
+				addIfDirectory(resources,
+						new MetaInfResourcesCacheResource(createMetaInfResourcesCache(cachedResourceJarUrls)));
 			}
 			handler.setBaseResource(new ResourceCollection(resources.toArray(new Resource[0])));
 		}
@@ -290,6 +297,16 @@ public class JettyServletWebServerFactory extends AbstractServletWebServerFactor
 		}
 	}
 
+	private void addIfDirectory(List<Resource> resources, Resource resource) {
+		if (resource.exists() && resource.isDirectory()) {
+			resources.add(resource);
+		}
+	}
+
+	private boolean isJar(URL url) throws Exception {
+		return !"file".equals(url.getProtocol()) || new File(url.toURI()).isFile();
+	}
+
 	private Resource createResource(URL url) throws Exception {
 		if ("file".equals(url.getProtocol())) {
 			File file = new File(url.toURI());
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.jetty;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import org.springframework.util.Assert;
+
+/**
+ * A Jetty {@link ThreadPool} that runs each task on its own thread using an
+ * {@link ExecutorService} such as one created by
+ * {@link org.springframework.boot.web.server.VirtualThreads#newThreadPerTaskExecutor(String)}.
+ * A new executor service is created each time the pool is started and it is shut down
+ * when the pool is stopped. As there is one thread per task, the number of tasks that are
+ * in flight is reported as the pool's number of threads and the pool never has any idle
+ * threads.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ * @see ConfigurableJettyWebServerFactory#setThreadPool(ThreadPool)
+ */
+public class JettyThreadPerTaskThreadPool extends AbstractLifeCycle implements ThreadPool {
+
+	private final Supplier<ExecutorService> executorFactory;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private volatile ExecutorService executor;
+
+	/**
+	 * Create a new {@code JettyThreadPerTaskThreadPool} that will use the given
+	 * {@code executorFactory} to create its executor service when it is started.
+	 * @param executorFactory factory for an executor service that runs each task on its
+	 * own thread
+	 */
+	public JettyThreadPerTaskThreadPool(Supplier<ExecutorService> executorFactory) {
+		Assert.notNull(executorFactory, "ExecutorFactory must not be null");
+		this.executorFactory = executorFactory;
+	}
+
+	@Override
+	protected void doStart() throws Exception {
+		this.executor = this.executorFactory.get();
+		super.doStart();
+	}
+
+	@Override
+	protected void doStop() throws Exception {
+		super.doStop();
+		ExecutorService executor = this.executor;
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		ExecutorService executor = this.executor;
+		if (executor == null) {
+			throw new RejectedExecutionException("Thread pool has not been started");
+		}
+		this.inFlight.incrementAndGet();
+		try {
+			executor.execute(() -> {
+				try {
+					command.run();
+				}
+				finally {
+					this.inFlight.decrementAndGet();
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.inFlight.decrementAndGet();
+			throw ex;
+		}
+	}
+
+	@Override
+	public void join() throws InterruptedException {
+		ExecutorService executor = this.executor;
+		if (executor != null) {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public int getThreads() {
+		return this.inFlight.get();
+	}
+
+	@Override
+	public int getIdleThreads() {
+		return 0;
+	}
+
+	@Override
+	public boolean isLowOnThreads() {
+		return false;
+	}
+
+}
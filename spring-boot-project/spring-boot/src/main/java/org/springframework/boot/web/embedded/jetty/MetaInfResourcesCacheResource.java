@@ -0,0 +1,174 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.jetty;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+import org.eclipse.jetty.util.URIUtil;
+import org.eclipse.jetty.util.resource.Resource;
+
+import org.springframework.boot.web.servlet.server.MetaInfResourcesCache;
+import org.springframework.boot.web.servlet.server.MetaInfResourcesCache.Entry;
+
+/**
+ * A Jetty {@link Resource} that serves the resources in the {@code META-INF/resources}
+ * directories of jars from a {@link MetaInfResourcesCache}.
+ *
+ * @author agent (agent@local)
+ */
+final class MetaInfResourcesCacheResource extends Resource {
+
+	private final MetaInfResourcesCache cache;
+
+	private final String path;
+
+	private final Entry entry;
+
+	MetaInfResourcesCacheResource(MetaInfResourcesCache cache) {
+		this(cache, "/");
+	}
+
+	private MetaInfResourcesCacheResource(MetaInfResourcesCache cache, String path) {
+		this.cache = cache;
+		this.path = path;
+		this.entry = cache.get(path);
+	}
+
+	@Override
+	public boolean isContainedIn(Resource resource) throws MalformedURLException {
+		return false;
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public boolean exists() {
+		return this.entry != null;
+	}
+
+	@Override
+	public boolean isDirectory() {
+		return this.entry != null && this.entry.isDirectory();
+	}
+
+	@Override
+	public long lastModified() {
+		return (this.entry != null) ? this.entry.getLastModified() : -1;
+	}
+
+	@Override
+	public long length() {
+		return (this.entry != null) ? this.entry.getContentLength() : -1;
+	}
+
+	@Override
+	@Deprecated
+	public URL getURL() {
+		return (this.entry != null) ? this.entry.getUrl() : null;
+	}
+
+	@Override
+	public File getFile() throws IOException {
+		return null;
+	}
+
+	@Override
+	public String getName() {
+		return (this.entry != null) ? this.entry.getUrl().toString() : this.path;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		if (this.entry == null || this.entry.isDirectory()) {
+			throw new IOException("'" + this.path + "' is not a readable resource");
+		}
+		return this.entry.getInputStream();
+	}
+
+	@Override
+	public ReadableByteChannel getReadableByteChannel() throws IOException {
+		return Channels.newChannel(getInputStream());
+	}
+
+	@Override
+	public boolean delete() throws SecurityException {
+		return false;
+	}
+
+	@Override
+	public boolean renameTo(Resource dest) throws SecurityException {
+		return false;
+	}
+
+	@Override
+	public String[] list() {
+		if (!isDirectory()) {
+			return null;
+		}
+		List<Entry> children = this.cache.list(this.path);
+		String[] names = new String[children.size()];
+		for (int i = 0; i < names.length; i++) {
+			Entry child = children.get(i);
+			names[i] = child.isDirectory() ? child.getName() + "/" : child.getName();
+		}
+		return names;
+	}
+
+	@Override
+	public Resource addPath(String path) throws IOException {
+		if (path == null) {
+			throw new MalformedURLException("Path must not be null");
+		}
+		String canonicalPath = URIUtil.canonicalPath(path);
+		if (canonicalPath == null) {
+			throw new MalformedURLException(path);
+		}
+		if (canonicalPath.isEmpty() || "/".equals(canonicalPath)) {
+			return this;
+		}
+		return new MetaInfResourcesCacheResource(this.cache, URIUtil.addPaths(this.path, canonicalPath));
+	}
+
+	@Override
+	public String getWeakETag() {
+		return (this.entry != null) ? this.entry.getETag() : super.getWeakETag();
+	}
+
+	@Override
+	public String getWeakETag(String suffix) {
+		if (this.entry == null) {
+			return super.getWeakETag(suffix);
+		}
+		String eTag = this.entry.getETag();
+		return eTag.substring(0, eTag.length() - 1) + suffix + "\"";
+	}
+
+	@Override
+	public String toString() {
+		return getName();
+	}
+
+}
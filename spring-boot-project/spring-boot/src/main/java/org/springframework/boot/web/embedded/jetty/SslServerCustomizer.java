@@ -16,6 +16,7 @@
 
 package org.springframework.boot.web.embedded.jetty;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.URL;
@@ -39,6 +40,7 @@ import org.springframework.boot.web.server.Http2;
 import org.springframework.boot.web.server.Ssl;
 import org.springframework.boot.web.server.SslConfigurationValidator;
 import org.springframework.boot.web.server.SslStoreProvider;
+import org.springframework.boot.web.server.SslStoreWatcher;
 import org.springframework.boot.web.server.WebServerException;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -71,7 +73,9 @@ class SslServerCustomizer implements JettyServerCustomizer {
 
 	@Override
 	public void customize(Server server) {
-		SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
+		SslStoreWatcher watcher = SslStoreWatcher.get(this.ssl, this.sslStoreProvider);
+		SslContextFactory.Server sslContextFactory = (watcher != null) ? new ReloadingSslContextFactory(watcher)
+				: new SslContextFactory.Server();
 		sslContextFactory.setEndpointIdentificationAlgorithm(null);
 		configureSsl(sslContextFactory, this.ssl, this.sslStoreProvider);
 		ServerConnector connector = createConnector(server, sslContextFactory, this.address);
@@ -137,7 +141,8 @@ class SslServerCustomizer implements JettyServerCustomizer {
 	private ServerConnector createHttp2ServerConnector(Server server, HttpConfiguration config,
 			SslContextFactory.Server sslContextFactory) {
 		HttpConnectionFactory http = new HttpConnectionFactory(config);
-		HTTP2ServerConnectionFactory h2 = new HTTP2ServerConnectionFactory(config);
+		HTTP2ServerConnectionFactory h2 = new Http2ServerConnectionFactoryCustomizer(this.http2)
+				.customize(new HTTP2ServerConnectionFactory(config));
 		ALPNServerConnectionFactory alpn = createAlpnServerConnectionFactory();
 		sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
 		if (isConscryptPresent()) {
@@ -180,6 +185,12 @@ class SslServerCustomizer implements JettyServerCustomizer {
 		if (ssl.getEnabledProtocols() != null) {
 			factory.setIncludeProtocols(ssl.getEnabledProtocols());
 		}
+		if (ssl.getSessionCacheSize() != null) {
+			factory.setSslSessionCacheSize(ssl.getSessionCacheSize());
+		}
+		if (ssl.getSessionTimeout() != null) {
+			factory.setSslSessionTimeout((int) ssl.getSessionTimeout().getSeconds());
+		}
 		if (sslStoreProvider != null) {
 			try {
 				factory.setKeyStore(sslStoreProvider.getKeyStore());
@@ -282,4 +293,42 @@ class SslServerCustomizer implements JettyServerCustomizer {
 
 	}
 
+	/**
+	 * A {@link SslContextFactory.Server} that reloads its stores when they have been
+	 * updated. While the factory is running, the stores are checked for updates by a
+	 * background thread so that the files are never read on the thread that accepts
+	 * connections.
+	 */
+	static class ReloadingSslContextFactory extends SslContextFactory.Server {
+
+		private final SslStoreWatcher watcher;
+
+		private Closeable checks;
+
+		ReloadingSslContextFactory(SslStoreWatcher watcher) {
+			this.watcher = watcher;
+		}
+
+		@Override
+		protected void doStart() throws Exception {
+			super.doStart();
+			this.checks = this.watcher.startChecking(() -> reload((factory) -> {
+			}));
+		}
+
+		@Override
+		protected void doStop() throws Exception {
+			if (this.checks != null) {
+				this.checks.close();
+				this.checks = null;
+			}
+			super.doStop();
+		}
+
+		boolean isChecking() {
+			return this.checks != null;
+		}
+
+	}
+
 }
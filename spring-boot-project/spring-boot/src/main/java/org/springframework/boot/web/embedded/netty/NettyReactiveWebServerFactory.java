@@ -31,6 +31,7 @@ import reactor.netty.resources.LoopResources;
 
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
+import org.springframework.boot.web.server.Http2;
 import org.springframework.boot.web.server.Shutdown;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.http.client.reactive.ReactorResourceFactory;
@@ -56,6 +57,8 @@ public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 
 	private ReactorResourceFactory resourceFactory;
 
+	private LoopResources loopResources;
+
 	private Shutdown shutdown;
 
 	public NettyReactiveWebServerFactory() {
@@ -145,6 +148,17 @@ public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 		this.resourceFactory = resourceFactory;
 	}
 
+	/**
+	 * Set the {@link LoopResources} that the server should use for its event loops rather
+	 * than those of the {@link #setResourceFactory resource factory}. The caller remains
+	 * responsible for disposing of the resources.
+	 * @param loopResources the loop resources
+	 * @since 2.5.0
+	 */
+	public void setLoopResources(LoopResources loopResources) {
+		this.loopResources = loopResources;
+	}
+
 	@Override
 	public void setShutdown(Shutdown shutdown) {
 		this.shutdown = shutdown;
@@ -157,7 +171,10 @@ public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 
 	private HttpServer createHttpServer() {
 		HttpServer server = HttpServer.create();
-		if (this.resourceFactory != null) {
+		if (this.loopResources != null) {
+			server = server.runOn(this.loopResources).bindAddress(this::getListenAddress);
+		}
+		else if (this.resourceFactory != null) {
 			LoopResources resources = this.resourceFactory.getLoopResources();
 			Assert.notNull(resources, "No LoopResources: is ReactorResourceFactory not initialized yet?");
 			server = server.runOn(resources).bindAddress(this::getListenAddress);
@@ -172,6 +189,9 @@ public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 			CompressionCustomizer compressionCustomizer = new CompressionCustomizer(getCompression());
 			server = compressionCustomizer.apply(server);
 		}
+		if (getHttp2() != null && getHttp2().isEnabled()) {
+			server = customizeHttp2Settings(server);
+		}
 		server = server.protocol(listProtocols()).forwarded(this.useForwardHeaders);
 		return applyCustomizers(server);
 	}
@@ -189,13 +209,28 @@ public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 			if (getSsl() != null && getSsl().isEnabled()) {
 				protocols.add(HttpProtocol.H2);
 			}
-			else {
+			else if (getHttp2().isCleartext()) {
 				protocols.add(HttpProtocol.H2C);
 			}
 		}
 		return protocols.toArray(new HttpProtocol[0]);
 	}
 
+	private HttpServer customizeHttp2Settings(HttpServer httpServer) {
+		Http2 http2 = getHttp2();
+		return httpServer.http2Settings((settings) -> {
+			if (http2.getMaxConcurrentStreams() != null) {
+				settings.maxConcurrentStreams(http2.getMaxConcurrentStreams());
+			}
+			if (http2.getInitialWindowSize() != null) {
+				settings.initialWindowSize((int) http2.getInitialWindowSize().toBytes());
+			}
+			if (http2.getHeaderTableSize() != null) {
+				settings.headerTableSize(http2.getHeaderTableSize().toBytes());
+			}
+		});
+	}
+
 	private InetSocketAddress getListenAddress() {
 		if (getAddress() != null) {
 			return new InetSocketAddress(getAddress().getHostAddress(), getPort());
@@ -23,6 +23,7 @@ import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.unix.Errors.NativeIoException;
 import io.netty.util.concurrent.DefaultEventExecutor;
@@ -32,6 +33,7 @@ import org.reactivestreams.Publisher;
 import reactor.netty.ChannelBindException;
 import reactor.netty.DisposableServer;
 import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerConfig;
 import reactor.netty.http.server.HttpServerRequest;
 import reactor.netty.http.server.HttpServerResponse;
 import reactor.netty.http.server.HttpServerRoutes;
@@ -220,4 +222,15 @@ public class NettyWebServer implements WebServer {
 		return -1;
 	}
 
+	/**
+	 * Returns the {@link EventLoopGroup} whose event loops handle the server's
+	 * connections.
+	 * @return the event loop group
+	 * @since 2.5.0
+	 */
+	public EventLoopGroup getEventLoopGroup() {
+		HttpServerConfig configuration = this.httpServer.configuration();
+		return configuration.loopResources().onServer(configuration.isPreferNative());
+	}
+
 }
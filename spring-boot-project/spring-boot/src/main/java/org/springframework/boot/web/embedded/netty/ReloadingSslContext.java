@@ -0,0 +1,186 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.netty;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSessionContext;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.ssl.ApplicationProtocolNegotiator;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.ReferenceCountUtil;
+
+import org.springframework.boot.web.server.SslStoreWatcher;
+
+/**
+ * An {@link SslContext} that delegates to another context that is replaced when the SSL
+ * stores are updated. While the context is {@link #start() started}, the stores are
+ * checked for updates by a background thread so that the files are never read on an event
+ * loop. Existing connections continue to use the engine with which they were established.
+ * <p>
+ * A replaced context is released once it has been replaced again, or when the context is
+ * {@link #stop() stopped}, rather than as soon as it is replaced, so that a connection
+ * that is in the middle of creating its engine is not left with a released context.
+ *
+ * @author agent (agent@local)
+ */
+final class ReloadingSslContext extends SslContext {
+
+	private final SslStoreWatcher watcher;
+
+	private final Factory factory;
+
+	private final Object monitor = new Object();
+
+	private volatile SslContext delegate;
+
+	private SslContext replaced;
+
+	private Closeable checks;
+
+	ReloadingSslContext(SslContext sslContext, SslStoreWatcher watcher, Factory factory) {
+		this.delegate = sslContext;
+		this.watcher = watcher;
+		this.factory = factory;
+	}
+
+	@Override
+	public boolean isClient() {
+		return this.delegate.isClient();
+	}
+
+	@Override
+	public List<String> cipherSuites() {
+		return this.delegate.cipherSuites();
+	}
+
+	@Override
+	public long sessionCacheSize() {
+		return this.delegate.sessionCacheSize();
+	}
+
+	@Override
+	public long sessionTimeout() {
+		return this.delegate.sessionTimeout();
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public ApplicationProtocolNegotiator applicationProtocolNegotiator() {
+		return this.delegate.applicationProtocolNegotiator();
+	}
+
+	@Override
+	public SSLEngine newEngine(ByteBufAllocator alloc) {
+		return this.delegate.newEngine(alloc);
+	}
+
+	@Override
+	public SSLEngine newEngine(ByteBufAllocator alloc, String peerHost, int peerPort) {
+		return this.delegate.newEngine(alloc, peerHost, peerPort);
+	}
+
+	/**
+	 * Start checking the stores for updates.
+	 */
+	void start() {
+		synchronized (this.monitor) {
+			if (this.checks == null) {
+				if (this.delegate == null) {
+					this.delegate = create();
+				}
+				this.checks = this.watcher.startChecking(this::reload);
+			}
+		}
+	}
+
+	/**
+	 * Stop checking the stores for updates and release the current context. A context
+	 * that is started again is recreated from the stores.
+	 */
+	void stop() {
+		synchronized (this.monitor) {
+			if (this.checks != null) {
+				try {
+					this.checks.close();
+				}
+				catch (IOException ex) {
+					// Ignore
+				}
+				this.checks = null;
+				release(this.replaced);
+				this.replaced = null;
+				release(this.delegate);
+				this.delegate = null;
+			}
+		}
+	}
+
+	boolean isRunning() {
+		synchronized (this.monitor) {
+			return this.checks != null;
+		}
+	}
+
+	private void reload() throws Exception {
+		synchronized (this.monitor) {
+			if (this.checks == null) {
+				return;
+			}
+			SslContext reloaded = this.factory.create();
+			// Engines that are still in use hold their own reference to the context
+			release(this.replaced);
+			this.replaced = this.delegate;
+			this.delegate = reloaded;
+		}
+	}
+
+	private SslContext create() {
+		try {
+			return this.factory.create();
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException("Unable to create SSL context", ex);
+		}
+	}
+
+	private void release(SslContext sslContext) {
+		if (sslContext != null) {
+			ReferenceCountUtil.release(sslContext);
+		}
+	}
+
+	@Override
+	public SSLSessionContext sessionContext() {
+		return this.delegate.sessionContext();
+	}
+
+	/**
+	 * Factory used to create a new {@link SslContext} from the updated stores.
+	 */
+	@FunctionalInterface
+	interface Factory {
+
+		SslContext create() throws Exception;
+
+	}
+
+}
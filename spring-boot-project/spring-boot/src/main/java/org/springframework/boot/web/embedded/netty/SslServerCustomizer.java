@@ -38,16 +38,23 @@ import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509ExtendedKeyManager;
 
 import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
 import reactor.netty.http.Http11SslContextSpec;
 import reactor.netty.http.Http2SslContextSpec;
 import reactor.netty.http.server.HttpServer;
 import reactor.netty.tcp.AbstractProtocolSslContextSpec;
+import reactor.netty.tcp.SslProvider;
 
 import org.springframework.boot.web.server.Http2;
 import org.springframework.boot.web.server.Ssl;
 import org.springframework.boot.web.server.SslConfigurationValidator;
 import org.springframework.boot.web.server.SslStoreProvider;
+import org.springframework.boot.web.server.SslStoreWatcher;
 import org.springframework.boot.web.server.WebServerException;
+import org.springframework.util.Assert;
 import org.springframework.util.ResourceUtils;
 
 /**
@@ -78,9 +85,30 @@ public class SslServerCustomizer implements NettyServerCustomizer {
 	@Override
 	public HttpServer apply(HttpServer server) {
 		AbstractProtocolSslContextSpec<?> sslContextSpec = createSslContextSpec();
+		SslStoreWatcher watcher = SslStoreWatcher.get(this.ssl, this.sslStoreProvider);
+		if (watcher != null) {
+			ReloadingSslContext sslContext = new ReloadingSslContext(createSslContext(sslContextSpec), watcher,
+					() -> createSslContext(createSslContextSpec()));
+			return server.secure((spec) -> spec.sslContext(sslContext)).doOnBind((config) -> sslContext.start())
+					.doOnUnbound((bound) -> sslContext.stop());
+		}
+		if (Boolean.TRUE.equals(this.ssl.getSessionTickets())) {
+			SslContext sslContext = createSslContext(sslContextSpec);
+			return server.secure((spec) -> spec.sslContext(sslContext));
+		}
 		return server.secure((spec) -> spec.sslContext(sslContextSpec));
 	}
 
+	SslContext createSslContext(AbstractProtocolSslContextSpec<?> sslContextSpec) {
+		SslContext sslContext = SslProvider.builder().sslContext(sslContextSpec).build().getSslContext();
+		if (Boolean.TRUE.equals(this.ssl.getSessionTickets())
+				&& sslContext.sessionContext() instanceof OpenSslSessionContext) {
+			// Enables tickets using keys that are generated and rotated by OpenSSL
+			((OpenSslSessionContext) sslContext.sessionContext()).setTicketKeys();
+		}
+		return sslContext;
+	}
+
 	protected AbstractProtocolSslContextSpec<?> createSslContextSpec() {
 		AbstractProtocolSslContextSpec<?> sslContextSpec;
 		if (this.http2 != null && this.http2.isEnabled()) {
@@ -103,10 +131,28 @@ public class SslServerCustomizer implements NettyServerCustomizer {
 			else if (this.ssl.getClientAuth() == Ssl.ClientAuth.WANT) {
 				builder.clientAuth(ClientAuth.OPTIONAL);
 			}
+			configureSslProvider(builder);
+			if (this.ssl.getSessionCacheSize() != null) {
+				builder.sessionCacheSize(this.ssl.getSessionCacheSize());
+			}
+			if (this.ssl.getSessionTimeout() != null) {
+				builder.sessionTimeout(this.ssl.getSessionTimeout().getSeconds());
+			}
 		});
 		return sslContextSpec;
 	}
 
+	private void configureSslProvider(SslContextBuilder builder) {
+		if (this.ssl.getProvider() == Ssl.Provider.JDK) {
+			builder.sslProvider(io.netty.handler.ssl.SslProvider.JDK);
+		}
+		else if (this.ssl.getProvider() == Ssl.Provider.OPENSSL) {
+			Assert.state(OpenSsl.isAvailable(),
+					"The 'io.netty:netty-tcnative' dependency is required to use the OpenSSL provider with Reactor Netty");
+			builder.sslProvider(io.netty.handler.ssl.SslProvider.OPENSSL);
+		}
+	}
+
 	KeyManagerFactory getKeyManagerFactory(Ssl ssl, SslStoreProvider sslStoreProvider) {
 		try {
 			KeyStore keyStore = getKeyStore(ssl, sslStoreProvider);
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.tomcat;
+
+import java.io.CharArrayWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.valves.AccessLogValve;
+
+import org.springframework.util.Assert;
+
+/**
+ * An {@link AccessLogValve} that writes log entries on a background thread. Entries are
+ * formatted on the request processing thread and then queued for writing. When the queue
+ * is full, entries are discarded rather than blocking request processing.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class AsyncAccessLogValve extends AccessLogValve {
+
+	private final AtomicLong discardedEntries = new AtomicLong();
+
+	private int queueCapacity = 1024;
+
+	private volatile BlockingQueue<char[]> queue;
+
+	private volatile boolean running;
+
+	private Thread writer;
+
+	/**
+	 * Returns the maximum number of entries that can be queued for writing.
+	 * @return the queue capacity
+	 */
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	/**
+	 * Sets the maximum number of entries that can be queued for writing. Entries that are
+	 * logged when the queue is full are discarded.
+	 * @param queueCapacity the queue capacity
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "QueueCapacity must be greater than zero");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Returns the number of entries that are waiting to be written.
+	 * @return the number of queued entries
+	 */
+	public int getQueuedEntries() {
+		BlockingQueue<char[]> queue = this.queue;
+		return (queue != null) ? queue.size() : 0;
+	}
+
+	/**
+	 * Returns the number of entries that have been discarded because the queue was full.
+	 * @return the number of discarded entries
+	 */
+	public long getDiscardedEntries() {
+		return this.discardedEntries.get();
+	}
+
+	@Override
+	public void log(CharArrayWriter message) {
+		BlockingQueue<char[]> queue = this.queue;
+		if (queue == null || !queue.offer(message.toCharArray())) {
+			this.discardedEntries.incrementAndGet();
+		}
+	}
+
+	@Override
+	protected synchronized void startInternal() throws LifecycleException {
+		this.queue = new ArrayBlockingQueue<>(this.queueCapacity);
+		this.running = true;
+		this.writer = new Thread(this::writeEntries, "tomcat-access-log");
+		this.writer.setDaemon(true);
+		this.writer.start();
+		super.startInternal();
+	}
+
+	@Override
+	protected synchronized void stopInternal() throws LifecycleException {
+		this.running = false;
+		try {
+			// Wait rather than join so that the monitor is released, allowing the writer
+			// to rotate the log file if it needs to while draining the queue
+			while (this.writer.isAlive()) {
+				wait(100);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		this.queue = null;
+		super.stopInternal();
+	}
+
+	private void writeEntries() {
+		BlockingQueue<char[]> queue = this.queue;
+		CharArrayWriter buffer = new CharArrayWriter(128);
+		while (this.running || !queue.isEmpty()) {
+			try {
+				char[] entry = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (entry != null) {
+					buffer.reset();
+					buffer.write(entry, 0, entry.length);
+					super.log(buffer);
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.tomcat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.security.cert.Certificate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.Manifest;
+
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.WebResource;
+import org.apache.catalina.WebResourceRoot;
+import org.apache.catalina.WebResourceSet;
+import org.apache.catalina.webresources.AbstractResourceSet;
+import org.apache.catalina.webresources.EmptyResource;
+import org.apache.tomcat.util.http.FastHttpDateFormat;
+
+import org.springframework.boot.web.servlet.server.MetaInfResourcesCache;
+import org.springframework.boot.web.servlet.server.MetaInfResourcesCache.Entry;
+
+/**
+ * A {@link WebResourceSet} that serves the resources in the {@code META-INF/resources}
+ * directories of jars from a {@link MetaInfResourcesCache}.
+ *
+ * @author agent (agent@local)
+ */
+final class MetaInfResourcesCacheResourceSet extends AbstractResourceSet {
+
+	private final MetaInfResourcesCache cache;
+
+	MetaInfResourcesCacheResourceSet(WebResourceRoot root, MetaInfResourcesCache cache) {
+		this.cache = cache;
+		setRoot(root);
+		setWebAppMount("/");
+		setStaticOnly(true);
+		try {
+			init();
+		}
+		catch (LifecycleException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Override
+	public WebResource getResource(String path) {
+		Entry entry = this.cache.get(path);
+		return (entry != null) ? new CachedWebResource(getRoot(), entry) : new EmptyResource(getRoot(), path);
+	}
+
+	@Override
+	public String[] list(String path) {
+		List<Entry> children = this.cache.list(path);
+		String[] names = new String[children.size()];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = children.get(i).getName();
+		}
+		return names;
+	}
+
+	@Override
+	public Set<String> listWebAppPaths(String path) {
+		Set<String> webAppPaths = new LinkedHashSet<>();
+		for (Entry child : this.cache.list(path)) {
+			webAppPaths.add(getWebAppPath(child));
+		}
+		return webAppPaths;
+	}
+
+	@Override
+	public boolean mkdir(String path) {
+		return false;
+	}
+
+	@Override
+	public boolean write(String path, InputStream is, boolean overwrite) {
+		return false;
+	}
+
+	@Override
+	public URL getBaseUrl() {
+		Entry root = this.cache.get("/");
+		return (root != null) ? root.getUrl() : null;
+	}
+
+	@Override
+	public void setReadOnly(boolean readOnly) {
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return true;
+	}
+
+	@Override
+	public void gc() {
+	}
+
+	@Override
+	protected void initInternal() {
+	}
+
+	private static String getWebAppPath(Entry entry) {
+		String path = entry.getPath();
+		return (entry.isDirectory() && !"/".equals(path)) ? path + "/" : path;
+	}
+
+	/**
+	 * A {@link WebResource} backed by a {@link MetaInfResourcesCache} {@link Entry}.
+	 */
+	private static final class CachedWebResource implements WebResource {
+
+		private final WebResourceRoot root;
+
+		private final Entry entry;
+
+		private String mimeType;
+
+		private CachedWebResource(WebResourceRoot root, Entry entry) {
+			this.root = root;
+			this.entry = entry;
+		}
+
+		@Override
+		public long getLastModified() {
+			return this.entry.getLastModified();
+		}
+
+		@Override
+		public String getLastModifiedHttp() {
+			return FastHttpDateFormat.formatDate(this.entry.getLastModified());
+		}
+
+		@Override
+		public boolean exists() {
+			return true;
+		}
+
+		@Override
+		public boolean isVirtual() {
+			return false;
+		}
+
+		@Override
+		public boolean isDirectory() {
+			return this.entry.isDirectory();
+		}
+
+		@Override
+		public boolean isFile() {
+			return !this.entry.isDirectory();
+		}
+
+		@Override
+		public boolean delete() {
+			return false;
+		}
+
+		@Override
+		public String getName() {
+			return this.entry.getName();
+		}
+
+		@Override
+		public long getContentLength() {
+			return this.entry.getContentLength();
+		}
+
+		@Override
+		public String getCanonicalPath() {
+			return null;
+		}
+
+		@Override
+		public boolean canRead() {
+			return true;
+		}
+
+		@Override
+		public String getWebappPath() {
+			return getWebAppPath(this.entry);
+		}
+
+		@Override
+		public String getETag() {
+			return this.entry.getETag();
+		}
+
+		@Override
+		public void setMimeType(String mimeType) {
+			this.mimeType = mimeType;
+		}
+
+		@Override
+		public String getMimeType() {
+			return this.mimeType;
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			if (this.entry.isDirectory()) {
+				return null;
+			}
+			try {
+				return this.entry.getInputStream();
+			}
+			catch (IOException ex) {
+				return null;
+			}
+		}
+
+		@Override
+		public byte[] getContent() {
+			if (this.entry.isDirectory()) {
+				return null;
+			}
+			try {
+				ByteBuffer content = this.entry.getContent();
+				byte[] bytes = new byte[content.remaining()];
+				content.get(bytes);
+				return bytes;
+			}
+			catch (IOException ex) {
+				return null;
+			}
+		}
+
+		@Override
+		public long getCreation() {
+			return this.entry.getLastModified();
+		}
+
+		@Override
+		public URL getURL() {
+			return this.entry.getUrl();
+		}
+
+		@Override
+		public URL getCodeBase() {
+			return null;
+		}
+
+		@Override
+		public Certificate[] getCertificates() {
+			return null;
+		}
+
+		@Override
+		public Manifest getManifest() {
+			return null;
+		}
+
+		@Override
+		public WebResourceRoot getWebResourceRoot() {
+			return this.root;
+		}
+
+	}
+
+}
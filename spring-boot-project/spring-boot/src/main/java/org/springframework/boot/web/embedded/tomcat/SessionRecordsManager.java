@@ -0,0 +1,127 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.tomcat;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.catalina.Loader;
+import org.apache.catalina.Session;
+import org.apache.catalina.session.StandardManager;
+import org.apache.catalina.session.StandardSession;
+import org.apache.catalina.util.CustomObjectInputStream;
+import org.apache.juli.logging.Log;
+import org.apache.juli.logging.LogFactory;
+
+import org.springframework.boot.web.servlet.server.SessionRecordsFile;
+
+/**
+ * {@link StandardManager} that stores each session as a separate record in a
+ * {@link SessionRecordsFile} so that a session that cannot be serialized or deserialized
+ * does not prevent the others from being persisted.
+ *
+ * @author agent (agent@local)
+ */
+class SessionRecordsManager extends StandardManager {
+
+	private static final Log log = LogFactory.getLog(SessionRecordsManager.class);
+
+	private final boolean compressed;
+
+	SessionRecordsManager(boolean compressed) {
+		this.compressed = compressed;
+	}
+
+	@Override
+	protected void doLoad() throws ClassNotFoundException, IOException {
+		SessionRecordsFile file = getSessionRecordsFile();
+		if (file == null || !file.exists()) {
+			return;
+		}
+		ClassLoader classLoader = getClassLoader();
+		List<StandardSession> sessions = file.read((input) -> readSession(input, classLoader));
+		synchronized (this.sessions) {
+			for (StandardSession session : sessions) {
+				session.setManager(this);
+				this.sessions.put(session.getIdInternal(), session);
+				session.activate();
+				// Expires any session that timed out while the manager was stopped
+				session.isValid();
+				this.sessionCounter++;
+			}
+		}
+		file.delete();
+	}
+
+	private StandardSession readSession(DataInputStream input, ClassLoader classLoader)
+			throws IOException, ClassNotFoundException {
+		ObjectInputStream stream = new CustomObjectInputStream(input, classLoader, log,
+				getSessionAttributeValueClassNamePattern(), getWarnOnSessionAttributeFilterFailure());
+		StandardSession session = getNewSession();
+		session.readObjectData(stream);
+		return session;
+	}
+
+	private ClassLoader getClassLoader() {
+		Loader loader = (getContext() != null) ? getContext().getLoader() : null;
+		ClassLoader classLoader = (loader != null) ? loader.getClassLoader() : null;
+		return (classLoader != null) ? classLoader : getClass().getClassLoader();
+	}
+
+	@Override
+	protected void doUnload() throws IOException {
+		SessionRecordsFile file = getSessionRecordsFile();
+		if (file == null) {
+			return;
+		}
+		List<StandardSession> sessions = new ArrayList<>();
+		synchronized (this.sessions) {
+			for (Session session : this.sessions.values()) {
+				StandardSession standardSession = (StandardSession) session;
+				standardSession.passivate();
+				sessions.add(standardSession);
+			}
+		}
+		file.write(sessions, this::writeSession);
+		for (StandardSession session : sessions) {
+			try {
+				session.expire(false);
+			}
+			finally {
+				session.recycle();
+			}
+		}
+	}
+
+	private void writeSession(StandardSession session, DataOutputStream output) throws IOException {
+		ObjectOutputStream stream = new ObjectOutputStream(output);
+		session.writeObjectData(stream);
+		stream.flush();
+	}
+
+	private SessionRecordsFile getSessionRecordsFile() {
+		File file = file();
+		return (file != null) ? new SessionRecordsFile(file, this.compressed) : null;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,15 +18,23 @@ package org.springframework.boot.web.embedded.tomcat;
 
 import java.io.FileNotFoundException;
 
+import org.apache.catalina.Engine;
+import org.apache.catalina.Lifecycle;
+import org.apache.catalina.LifecycleEvent;
+import org.apache.catalina.LifecycleListener;
 import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.AprLifecycleListener;
 import org.apache.catalina.webresources.TomcatURLStreamHandlerFactory;
 import org.apache.coyote.ProtocolHandler;
 import org.apache.coyote.http11.AbstractHttp11JsseProtocol;
 import org.apache.coyote.http11.Http11NioProtocol;
 import org.apache.tomcat.util.net.SSLHostConfig;
+import org.apache.tomcat.util.net.jsse.JSSEImplementation;
+import org.apache.tomcat.util.net.openssl.OpenSSLImplementation;
 
 import org.springframework.boot.web.server.Ssl;
 import org.springframework.boot.web.server.SslStoreProvider;
+import org.springframework.boot.web.server.SslStoreWatcher;
 import org.springframework.boot.web.server.WebServerException;
 import org.springframework.util.Assert;
 import org.springframework.util.ResourceUtils;
@@ -57,6 +65,11 @@ class SslConnectorCustomizer implements TomcatConnectorCustomizer {
 		configureSsl((AbstractHttp11JsseProtocol<?>) handler, this.ssl, this.sslStoreProvider);
 		connector.setScheme("https");
 		connector.setSecure(true);
+		SslStoreWatcher watcher = SslStoreWatcher.get(this.ssl, this.sslStoreProvider);
+		if (watcher != null) {
+			connector
+					.addLifecycleListener(new SslStoreReloadListener(watcher, (AbstractHttp11JsseProtocol<?>) handler));
+		}
 	}
 
 	/**
@@ -92,6 +105,33 @@ class SslConnectorCustomizer implements TomcatConnectorCustomizer {
 			configureSslKeyStore(protocol, ssl);
 			configureSslTrustStore(protocol, ssl);
 		}
+		configureSslProvider(protocol, ssl);
+		configureSslSessions(protocol, ssl);
+	}
+
+	private void configureSslProvider(AbstractHttp11JsseProtocol<?> protocol, Ssl ssl) {
+		if (ssl.getProvider() == Ssl.Provider.JDK) {
+			protocol.setSslImplementationName(JSSEImplementation.class.getName());
+		}
+		else if (ssl.getProvider() == Ssl.Provider.OPENSSL) {
+			Assert.state(AprLifecycleListener.isAprAvailable(),
+					"Tomcat Native is required to use the OpenSSL provider with Tomcat");
+			protocol.setSslImplementationName(OpenSSLImplementation.class.getName());
+		}
+	}
+
+	private void configureSslSessions(AbstractHttp11JsseProtocol<?> protocol, Ssl ssl) {
+		for (SSLHostConfig sslHostConfig : protocol.findSslHostConfigs()) {
+			if (ssl.getSessionCacheSize() != null) {
+				sslHostConfig.setSessionCacheSize(ssl.getSessionCacheSize());
+			}
+			if (ssl.getSessionTimeout() != null) {
+				sslHostConfig.setSessionTimeout((int) ssl.getSessionTimeout().getSeconds());
+			}
+			if (ssl.getSessionTickets() != null) {
+				sslHostConfig.setDisableSessionTickets(!ssl.getSessionTickets());
+			}
+		}
 	}
 
 	private void configureSslClientAuth(AbstractHttp11JsseProtocol<?> protocol, Ssl ssl) {
@@ -159,4 +199,41 @@ class SslConnectorCustomizer implements TomcatConnectorCustomizer {
 		}
 	}
 
+	/**
+	 * {@link LifecycleListener} that reloads the SSL stores when they are updated. Checks
+	 * for updates are made by the engine's background processor while the connector is
+	 * started.
+	 */
+	private static final class SslStoreReloadListener implements LifecycleListener {
+
+		private final SslStoreWatcher watcher;
+
+		private final AbstractHttp11JsseProtocol<?> protocol;
+
+		private SslStoreReloadListener(SslStoreWatcher watcher, AbstractHttp11JsseProtocol<?> protocol) {
+			this.watcher = watcher;
+			this.protocol = protocol;
+		}
+
+		@Override
+		public void lifecycleEvent(LifecycleEvent event) {
+			if (event.getLifecycle() instanceof Connector) {
+				if (Lifecycle.AFTER_START_EVENT.equals(event.getType())) {
+					getEngine(event).addLifecycleListener(this);
+				}
+				else if (Lifecycle.BEFORE_STOP_EVENT.equals(event.getType())) {
+					getEngine(event).removeLifecycleListener(this);
+				}
+			}
+			else if (Lifecycle.PERIODIC_EVENT.equals(event.getType())) {
+				this.watcher.reloadIfUpdated(this.protocol::reloadSslHostConfigs);
+			}
+		}
+
+		private Engine getEngine(LifecycleEvent event) {
+			return ((Connector) event.getLifecycle()).getService().getContainer();
+		}
+
+	}
+
 }
@@ -190,7 +190,7 @@ public class TomcatReactiveWebServerFactory extends AbstractReactiveWebServerFac
 		}
 		// Don't bind to the socket prematurely if ApplicationContext is slow to start
 		connector.setProperty("bindOnInit", "false");
-		if (getHttp2() != null && getHttp2().isEnabled()) {
+		if (isHttp2Enabled()) {
 			connector.addUpgradeProtocol(new Http2Protocol());
 		}
 		if (getSsl() != null && getSsl().isEnabled()) {
@@ -198,6 +198,7 @@ public class TomcatReactiveWebServerFactory extends AbstractReactiveWebServerFac
 		}
 		TomcatConnectorCustomizer compression = new CompressionConnectorCustomizer(getCompression());
 		compression.customize(connector);
+		new Http2ConnectorCustomizer(getHttp2()).customize(connector);
 		for (TomcatConnectorCustomizer customizer : this.tomcatConnectorCustomizers) {
 			customizer.customize(connector);
 		}
@@ -215,6 +216,13 @@ public class TomcatReactiveWebServerFactory extends AbstractReactiveWebServerFac
 		}
 	}
 
+	private boolean isHttp2Enabled() {
+		if (getHttp2() == null || !getHttp2().isEnabled()) {
+			return false;
+		}
+		return getHttp2().isCleartext() || (getSsl() != null && getSsl().isEnabled());
+	}
+
 	private void customizeSsl(Connector connector) {
 		new SslConnectorCustomizer(getSsl(), getSslStoreProvider()).customize(connector);
 	}
@@ -45,6 +45,7 @@ import org.apache.catalina.LifecycleListener;
 import org.apache.catalina.Manager;
 import org.apache.catalina.Valve;
 import org.apache.catalina.WebResource;
+import org.apache.catalina.WebResourceRoot;
 import org.apache.catalina.WebResourceRoot.ResourceSetType;
 import org.apache.catalina.WebResourceSet;
 import org.apache.catalina.Wrapper;
@@ -70,6 +71,7 @@ import org.springframework.boot.web.server.MimeMappings;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
 import org.springframework.boot.web.servlet.server.AbstractServletWebServerFactory;
+import org.springframework.boot.web.servlet.server.Session;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.NativeDetector;
 import org.springframework.core.io.ResourceLoader;
@@ -322,7 +324,7 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
 		}
 		// Don't bind to the socket prematurely if ApplicationContext is slow to start
 		connector.setProperty("bindOnInit", "false");
-		if (getHttp2() != null && getHttp2().isEnabled()) {
+		if (isHttp2Enabled()) {
 			connector.addUpgradeProtocol(new Http2Protocol());
 		}
 		if (getSsl() != null && getSsl().isEnabled()) {
@@ -330,6 +332,7 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
 		}
 		TomcatConnectorCustomizer compression = new CompressionConnectorCustomizer(getCompression());
 		compression.customize(connector);
+		new Http2ConnectorCustomizer(getHttp2()).customize(connector);
 		for (TomcatConnectorCustomizer customizer : this.tomcatConnectorCustomizers) {
 			customizer.customize(connector);
 		}
@@ -347,6 +350,13 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
 				protocolHandler).invoke((customizer) -> customizer.customize(protocolHandler));
 	}
 
+	private boolean isHttp2Enabled() {
+		if (getHttp2() == null || !getHttp2().isEnabled()) {
+			return false;
+		}
+		return getHttp2().isCleartext() || (getSsl() != null && getSsl().isEnabled());
+	}
+
 	private void customizeSsl(Connector connector) {
 		new SslConnectorCustomizer(getSsl(), getSslStoreProvider()).customize(connector);
 	}
@@ -400,7 +410,7 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
 		if (getSession().isPersistent()) {
 			Manager manager = context.getManager();
 			if (manager == null) {
-				manager = new StandardManager();
+				manager = createPersistentSessionManager(getSession().getPersistence());
 				context.setManager(manager);
 			}
 			configurePersistSession(manager);
@@ -410,11 +420,18 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
 		}
 	}
 
+	private Manager createPersistentSessionManager(Session.Persistence persistence) {
+		if (persistence.getFormat() == Session.Persistence.Format.RECORDS) {
+			return new SessionRecordsManager(persistence.isCompressed());
+		}
+		return new StandardManager();
+	}
+
 	private void configurePersistSession(Manager manager) {
 		Assert.state(manager instanceof StandardManager,
 				() -> "Unable to persist HTTP session state using manager type " + manager.getClass().getName());
 		File dir = getValidSessionStoreDir();
-		File file = new File(dir, "SESSIONS.ser");
+		File file = new File(dir, (manager instanceof SessionRecordsManager) ? "SESSIONS.rec" : "SESSIONS.ser");
 		((StandardManager) manager).setPathname(file.getAbsolutePath());
 	}
 
@@ -747,9 +764,14 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
 		}
 
 		private void addResourceJars(List<URL> resourceJarUrls) {
+			List<URL> cachedResourceJarUrls = new ArrayList<>();
 			for (URL url : resourceJarUrls) {
 				String path = url.getPath();
 				if (path.endsWith(".jar") || path.endsWith(".jar!/")) {
+					if (shouldCacheMetaInfResources()) {
+						cachedResourceJarUrls.add(url);
+						continue;
+					}
 					String jar = url.toString();
 					if (!jar.startsWith("jar:")) {
 						// A jar file in the file system. Convert to Jar URL.
@@ -761,6 +783,11 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
 					addResourceSet(url.toString());
 				}
 			}
+			if (!cachedResourceJarUrls.isEmpty()) {
+				WebResourceRoot resources = this.context.getResources();
+				resources.addJarResources(new MetaInfResourcesCacheResourceSet(resources,
+						createMetaInfResourcesCache(cachedResourceJarUrls)));
+			}
 		}
 
 		private void addResourceSet(String resource) {
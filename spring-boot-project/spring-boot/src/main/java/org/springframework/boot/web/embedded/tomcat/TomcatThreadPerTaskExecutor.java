@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.tomcat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.tomcat.util.threads.ResizableExecutor;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ResizableExecutor} that delegates to an {@link ExecutorService} that runs each
+ * task on its own thread, such as one created by
+ * {@link org.springframework.boot.web.server.VirtualThreads#newThreadPerTaskExecutor(String)}.
+ * As there is one thread per task, the number of tasks that are in flight is reported as
+ * both the pool size and the active count. This allows Tomcat's {@code ThreadPool} MBean,
+ * and the metrics that are derived from it, to report the number of busy threads.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ * @see TomcatProtocolHandlerCustomizer
+ */
+public class TomcatThreadPerTaskExecutor implements ResizableExecutor {
+
+	private final ExecutorService executor;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/**
+	 * Create a new {@code TomcatThreadPerTaskExecutor} that will delegate to the given
+	 * {@code executor}.
+	 * @param executor the executor that runs each task on its own thread
+	 */
+	public TomcatThreadPerTaskExecutor(ExecutorService executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		this.inFlight.incrementAndGet();
+		try {
+			this.executor.execute(() -> {
+				try {
+					command.run();
+				}
+				finally {
+					this.inFlight.decrementAndGet();
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.inFlight.decrementAndGet();
+			throw ex;
+		}
+	}
+
+	@Override
+	public int getPoolSize() {
+		return this.inFlight.get();
+	}
+
+	@Override
+	public int getMaxThreads() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public int getActiveCount() {
+		return this.inFlight.get();
+	}
+
+	@Override
+	public boolean resizePool(int corePoolSize, int maximumPoolSize) {
+		return false;
+	}
+
+	@Override
+	public boolean resizeQueue(int capacity) {
+		return false;
+	}
+
+	/**
+	 * Shut down the underlying executor.
+	 */
+	public void shutdown() {
+		this.executor.shutdown();
+	}
+
+}
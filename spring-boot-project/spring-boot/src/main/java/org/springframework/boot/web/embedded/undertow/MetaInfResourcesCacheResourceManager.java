@@ -0,0 +1,226 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.undertow;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.undertow.UndertowMessages;
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.RangeAwareResource;
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.server.handlers.resource.ResourceChangeListener;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.util.DateUtils;
+import io.undertow.util.ETag;
+import io.undertow.util.ETagUtils;
+import io.undertow.util.MimeMappings;
+
+import org.springframework.boot.web.servlet.server.MetaInfResourcesCache;
+import org.springframework.boot.web.servlet.server.MetaInfResourcesCache.Entry;
+
+/**
+ * {@link ResourceManager} that serves the resources in the {@code META-INF/resources}
+ * directories of jars from a {@link MetaInfResourcesCache}.
+ *
+ * @author agent (agent@local)
+ */
+class MetaInfResourcesCacheResourceManager implements ResourceManager {
+
+	private final MetaInfResourcesCache cache;
+
+	private final Map<Entry, CachedResource> resources = new ConcurrentHashMap<>();
+
+	MetaInfResourcesCacheResourceManager(MetaInfResourcesCache cache) {
+		this.cache = cache;
+	}
+
+	@Override
+	public Resource getResource(String path) {
+		Entry entry = this.cache.get(path);
+		return (entry != null) ? getResource(entry) : null;
+	}
+
+	private CachedResource getResource(Entry entry) {
+		return this.resources.computeIfAbsent(entry, CachedResource::new);
+	}
+
+	@Override
+	public boolean isResourceChangeListenerSupported() {
+		return false;
+	}
+
+	@Override
+	public void registerResourceChangeListener(ResourceChangeListener listener) {
+		throw UndertowMessages.MESSAGES.resourceChangeListenerNotSupported();
+	}
+
+	@Override
+	public void removeResourceChangeListener(ResourceChangeListener listener) {
+		throw UndertowMessages.MESSAGES.resourceChangeListenerNotSupported();
+	}
+
+	@Override
+	public void close() throws IOException {
+	}
+
+	/**
+	 * A {@link Resource} backed by a {@link MetaInfResourcesCache} {@link Entry}.
+	 */
+	private final class CachedResource implements RangeAwareResource {
+
+		private final Entry entry;
+
+		private final Date lastModified;
+
+		private final String lastModifiedString;
+
+		private final ETag eTag;
+
+		private CachedResource(Entry entry) {
+			this.entry = entry;
+			this.lastModified = new Date(entry.getLastModified());
+			this.lastModifiedString = DateUtils.toDateString(this.lastModified);
+			this.eTag = ETagUtils.parseETagList(entry.getETag()).get(0);
+		}
+
+		@Override
+		public String getPath() {
+			return this.entry.getPath();
+		}
+
+		@Override
+		public Date getLastModified() {
+			return this.lastModified;
+		}
+
+		@Override
+		public String getLastModifiedString() {
+			return this.lastModifiedString;
+		}
+
+		@Override
+		public ETag getETag() {
+			return this.eTag;
+		}
+
+		@Override
+		public String getName() {
+			return this.entry.getName();
+		}
+
+		@Override
+		public boolean isDirectory() {
+			return this.entry.isDirectory();
+		}
+
+		@Override
+		public List<Resource> list() {
+			List<Resource> resources = new ArrayList<>();
+			for (Entry child : MetaInfResourcesCacheResourceManager.this.cache.list(this.entry.getPath())) {
+				resources.add(MetaInfResourcesCacheResourceManager.this.getResource(child));
+			}
+			return resources;
+		}
+
+		@Override
+		public String getContentType(MimeMappings mimeMappings) {
+			String name = this.entry.getName();
+			int index = name.lastIndexOf('.');
+			if (index != -1 && index != name.length() - 1) {
+				return mimeMappings.getMimeType(name.substring(index + 1));
+			}
+			return null;
+		}
+
+		@Override
+		public void serve(Sender sender, HttpServerExchange exchange, IoCallback completionCallback) {
+			try {
+				sender.send(this.entry.getContent(), completionCallback);
+			}
+			catch (IOException ex) {
+				completionCallback.onException(exchange, sender, ex);
+			}
+		}
+
+		@Override
+		public void serveRange(Sender sender, HttpServerExchange exchange, long start, long end,
+				IoCallback completionCallback) {
+			try {
+				ByteBuffer content = this.entry.getContent();
+				content.position((int) start);
+				content.limit((int) end + 1);
+				sender.send(content, completionCallback);
+			}
+			catch (IOException ex) {
+				completionCallback.onException(exchange, sender, ex);
+			}
+		}
+
+		@Override
+		public boolean isRangeSupported() {
+			return true;
+		}
+
+		@Override
+		public Long getContentLength() {
+			return this.entry.getContentLength();
+		}
+
+		@Override
+		public String getCacheKey() {
+			return this.entry.getUrl().toString();
+		}
+
+		@Override
+		public File getFile() {
+			return null;
+		}
+
+		@Override
+		public Path getFilePath() {
+			return null;
+		}
+
+		@Override
+		public File getResourceManagerRoot() {
+			return null;
+		}
+
+		@Override
+		public Path getResourceManagerRootPath() {
+			return null;
+		}
+
+		@Override
+		public URL getUrl() {
+			return this.entry.getUrl();
+		}
+
+	}
+
+}
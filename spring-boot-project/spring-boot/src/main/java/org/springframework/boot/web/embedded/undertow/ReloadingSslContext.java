@@ -0,0 +1,166 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.undertow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.security.SecureRandom;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+
+import org.springframework.boot.web.server.SslStoreWatcher;
+
+/**
+ * An {@link SSLContext} that delegates to another context that is replaced when the SSL
+ * stores are updated. While the context is {@link #start() started}, the stores are
+ * checked for updates by a background thread so that the files are never read on an I/O
+ * thread. Checks stop when the context is closed. Existing connections continue to use
+ * the engine with which they were established.
+ *
+ * @author agent (agent@local)
+ */
+final class ReloadingSslContext extends SSLContext implements Closeable {
+
+	private final ReloadingSslContextSpi spi;
+
+	private final SslStoreWatcher watcher;
+
+	private final Object monitor = new Object();
+
+	private Closeable checks;
+
+	ReloadingSslContext(SSLContext sslContext, SslStoreWatcher watcher, Factory factory) {
+		this(new ReloadingSslContextSpi(sslContext, factory), sslContext, watcher);
+	}
+
+	private ReloadingSslContext(ReloadingSslContextSpi spi, SSLContext sslContext, SslStoreWatcher watcher) {
+		super(spi, sslContext.getProvider(), sslContext.getProtocol());
+		this.spi = spi;
+		this.watcher = watcher;
+	}
+
+	/**
+	 * Start checking the stores for updates.
+	 */
+	void start() {
+		synchronized (this.monitor) {
+			if (this.checks == null) {
+				this.checks = this.watcher.startChecking(this.spi::reload);
+			}
+		}
+	}
+
+	/**
+	 * Stop checking the stores for updates.
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (this.monitor) {
+			if (this.checks != null) {
+				this.checks.close();
+				this.checks = null;
+			}
+		}
+	}
+
+	boolean isRunning() {
+		synchronized (this.monitor) {
+			return this.checks != null;
+		}
+	}
+
+	/**
+	 * Factory used to create a new {@link SSLContext} from the updated stores.
+	 */
+	@FunctionalInterface
+	interface Factory {
+
+		SSLContext create() throws Exception;
+
+	}
+
+	private static final class ReloadingSslContextSpi extends SSLContextSpi {
+
+		private final Factory factory;
+
+		private volatile SSLContext delegate;
+
+		private ReloadingSslContextSpi(SSLContext delegate, Factory factory) {
+			this.delegate = delegate;
+			this.factory = factory;
+		}
+
+		private void reload() throws Exception {
+			this.delegate = this.factory.create();
+		}
+
+		@Override
+		protected void engineInit(KeyManager[] keyManagers, TrustManager[] trustManagers, SecureRandom random) {
+			throw new UnsupportedOperationException("A reloading SSLContext cannot be initialized");
+		}
+
+		@Override
+		protected SSLSocketFactory engineGetSocketFactory() {
+			return this.delegate.getSocketFactory();
+		}
+
+		@Override
+		protected SSLServerSocketFactory engineGetServerSocketFactory() {
+			return this.delegate.getServerSocketFactory();
+		}
+
+		@Override
+		protected SSLEngine engineCreateSSLEngine() {
+			return this.delegate.createSSLEngine();
+		}
+
+		@Override
+		protected SSLEngine engineCreateSSLEngine(String host, int port) {
+			return this.delegate.createSSLEngine(host, port);
+		}
+
+		@Override
+		protected SSLSessionContext engineGetServerSessionContext() {
+			return this.delegate.getServerSessionContext();
+		}
+
+		@Override
+		protected SSLSessionContext engineGetClientSessionContext() {
+			return this.delegate.getClientSessionContext();
+		}
+
+		@Override
+		protected SSLParameters engineGetDefaultSSLParameters() {
+			return this.delegate.getDefaultSSLParameters();
+		}
+
+		@Override
+		protected SSLParameters engineGetSupportedSSLParameters() {
+			return this.delegate.getSupportedSSLParameters();
+		}
+
+	}
+
+}
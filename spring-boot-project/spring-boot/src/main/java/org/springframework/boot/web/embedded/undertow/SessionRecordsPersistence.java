@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.undertow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.undertow.servlet.UndertowServletLogger;
+import io.undertow.servlet.api.SessionPersistenceManager;
+
+import org.springframework.boot.web.servlet.server.SessionRecordsFile;
+import org.springframework.core.ConfigurableObjectInputStream;
+
+/**
+ * {@link SessionPersistenceManager} that stores each session as a separate record in a
+ * {@link SessionRecordsFile}. The attributes of a restored session are only deserialized
+ * when Undertow first accesses them, which happens when the session is first used.
+ *
+ * @author agent (agent@local)
+ */
+class SessionRecordsPersistence implements SessionPersistenceManager {
+
+	private final File dir;
+
+	private final boolean compressed;
+
+	SessionRecordsPersistence(File dir, boolean compressed) {
+		this.dir = dir;
+		this.compressed = compressed;
+	}
+
+	@Override
+	public void persistSessions(String deploymentName, Map<String, PersistentSession> sessionData) {
+		try {
+			getSessionFile(deploymentName).write(sessionData.entrySet(), this::writeSession);
+		}
+		catch (Exception ex) {
+			UndertowServletLogger.ROOT_LOGGER.failedToPersistSessions(ex);
+		}
+	}
+
+	private void writeSession(Map.Entry<String, PersistentSession> session, DataOutputStream output)
+			throws IOException {
+		output.writeUTF(session.getKey());
+		output.writeLong(session.getValue().getExpiration().getTime());
+		byte[] attributes = serialize(session.getValue().getSessionData());
+		output.writeInt(attributes.length);
+		output.write(attributes);
+	}
+
+	private byte[] serialize(Map<String, Object> attributes) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+			stream.writeObject(new LinkedHashMap<>(attributes));
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Map<String, PersistentSession> loadSessionAttributes(String deploymentName, ClassLoader classLoader) {
+		try {
+			SessionRecordsFile file = getSessionFile(deploymentName);
+			if (file.exists()) {
+				long time = System.currentTimeMillis();
+				Map<String, PersistentSession> result = new LinkedHashMap<>();
+				for (LazyPersistentSession session : file.read((input) -> readSession(input, classLoader))) {
+					if (session.getExpiration().getTime() > time) {
+						result.put(session.id, session);
+					}
+				}
+				return result;
+			}
+		}
+		catch (Exception ex) {
+			UndertowServletLogger.ROOT_LOGGER.failedtoLoadPersistentSessions(ex);
+		}
+		return null;
+	}
+
+	private LazyPersistentSession readSession(DataInputStream input, ClassLoader classLoader) throws IOException {
+		String id = input.readUTF();
+		Date expiration = new Date(input.readLong());
+		byte[] attributes = new byte[input.readInt()];
+		input.readFully(attributes);
+		return new LazyPersistentSession(id, expiration, attributes, classLoader);
+	}
+
+	private SessionRecordsFile getSessionFile(String deploymentName) {
+		if (!this.dir.exists()) {
+			this.dir.mkdirs();
+		}
+		return new SessionRecordsFile(new File(this.dir, deploymentName + ".sessions"), this.compressed);
+	}
+
+	@Override
+	public void clear(String deploymentName) {
+		getSessionFile(deploymentName).delete();
+	}
+
+	/**
+	 * {@link PersistentSession} that deserializes its attributes on first access.
+	 */
+	static final class LazyPersistentSession extends PersistentSession {
+
+		private final String id;
+
+		private byte[] attributes;
+
+		private ClassLoader classLoader;
+
+		private Map<String, Object> sessionData;
+
+		private LazyPersistentSession(String id, Date expiration, byte[] attributes, ClassLoader classLoader) {
+			super(expiration, Collections.emptyMap());
+			this.id = id;
+			this.attributes = attributes;
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		public synchronized Map<String, Object> getSessionData() {
+			if (this.sessionData == null) {
+				this.sessionData = deserialize();
+				this.attributes = null;
+				this.classLoader = null;
+			}
+			return this.sessionData;
+		}
+
+		boolean isDeserialized() {
+			return this.sessionData != null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Map<String, Object> deserialize() {
+			try (ObjectInputStream stream = new ConfigurableObjectInputStream(new ByteArrayInputStream(this.attributes),
+					this.classLoader)) {
+				return (Map<String, Object>) stream.readObject();
+			}
+			catch (Exception ex) {
+				UndertowServletLogger.ROOT_LOGGER.failedtoLoadPersistentSessions(ex);
+				return Collections.emptyMap();
+			}
+		}
+
+	}
+
+}
@@ -31,6 +31,7 @@ import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509ExtendedKeyManager;
@@ -43,6 +44,7 @@ import org.xnio.SslClientAuthMode;
 import org.springframework.boot.web.server.Ssl;
 import org.springframework.boot.web.server.SslConfigurationValidator;
 import org.springframework.boot.web.server.SslStoreProvider;
+import org.springframework.boot.web.server.SslStoreWatcher;
 import org.springframework.boot.web.server.WebServerException;
 import org.springframework.util.ResourceUtils;
 
@@ -72,9 +74,11 @@ class SslBuilderCustomizer implements UndertowBuilderCustomizer {
 	@Override
 	public void customize(Undertow.Builder builder) {
 		try {
-			SSLContext sslContext = SSLContext.getInstance(this.ssl.getProtocol());
-			sslContext.init(getKeyManagers(this.ssl, this.sslStoreProvider),
-					getTrustManagers(this.ssl, this.sslStoreProvider), null);
+			SSLContext sslContext = createSslContext();
+			SslStoreWatcher watcher = SslStoreWatcher.get(this.ssl, this.sslStoreProvider);
+			if (watcher != null) {
+				sslContext = new ReloadingSslContext(sslContext, watcher, this::createSslContext);
+			}
 			builder.addHttpsListener(this.port, getListenAddress(), sslContext);
 			builder.setSocketOption(Options.SSL_CLIENT_AUTH_MODE, getSslClientAuthMode(this.ssl));
 			if (this.ssl.getEnabledProtocols() != null) {
@@ -89,6 +93,20 @@ class SslBuilderCustomizer implements UndertowBuilderCustomizer {
 		}
 	}
 
+	private SSLContext createSslContext() throws NoSuchAlgorithmException, KeyManagementException {
+		SSLContext sslContext = SSLContext.getInstance(this.ssl.getProtocol());
+		sslContext.init(getKeyManagers(this.ssl, this.sslStoreProvider),
+				getTrustManagers(this.ssl, this.sslStoreProvider), null);
+		SSLSessionContext sessionContext = sslContext.getServerSessionContext();
+		if (this.ssl.getSessionCacheSize() != null) {
+			sessionContext.setSessionCacheSize(this.ssl.getSessionCacheSize());
+		}
+		if (this.ssl.getSessionTimeout() != null) {
+			sessionContext.setSessionTimeout((int) this.ssl.getSessionTimeout().getSeconds());
+		}
+		return sslContext;
+	}
+
 	private String getListenAddress() {
 		if (this.address == null) {
 			return "0.0.0.0";
@@ -52,6 +52,7 @@ import io.undertow.servlet.api.ListenerInfo;
 import io.undertow.servlet.api.MimeMapping;
 import io.undertow.servlet.api.ServletContainerInitializerInfo;
 import io.undertow.servlet.api.ServletStackTraces;
+import io.undertow.servlet.api.SessionPersistenceManager;
 import io.undertow.servlet.core.DeploymentImpl;
 import io.undertow.servlet.handlers.DefaultServlet;
 import io.undertow.servlet.util.ImmediateInstanceFactory;
@@ -62,6 +63,7 @@ import org.springframework.boot.web.server.WebServer;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
 import org.springframework.boot.web.servlet.server.AbstractServletWebServerFactory;
 import org.springframework.boot.web.servlet.server.ServletWebServerFactory;
+import org.springframework.boot.web.servlet.server.Session;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.util.Assert;
@@ -339,8 +341,7 @@ public class UndertowServletWebServerFactory extends AbstractServletWebServerFac
 			customizer.customize(deployment);
 		}
 		if (getSession().isPersistent()) {
-			File dir = getValidSessionStoreDir();
-			deployment.setSessionPersistenceManager(new FileSessionPersistence(dir));
+			deployment.setSessionPersistenceManager(getSessionPersistenceManager(getSession().getPersistence()));
 		}
 		addLocaleMappings(deployment);
 		DeploymentManager manager = Servlets.newContainer().addDeployment(deployment);
@@ -375,6 +376,14 @@ public class UndertowServletWebServerFactory extends AbstractServletWebServerFac
 		return timeoutDuration == null || timeoutDuration.isZero() || timeoutDuration.isNegative();
 	}
 
+	private SessionPersistenceManager getSessionPersistenceManager(Session.Persistence persistence) {
+		File dir = getValidSessionStoreDir();
+		if (persistence.getFormat() == Session.Persistence.Format.RECORDS) {
+			return new SessionRecordsPersistence(dir, persistence.isCompressed());
+		}
+		return new FileSessionPersistence(dir);
+	}
+
 	private void addLocaleMappings(DeploymentInfo deployment) {
 		getLocaleCharsetMappings().forEach(
 				(locale, charset) -> deployment.addLocaleCharsetMapping(locale.toString(), charset.toString()));
@@ -426,7 +435,9 @@ public class UndertowServletWebServerFactory extends AbstractServletWebServerFac
 				resourceJarUrls.add(url);
 			}
 		}
-		managers.add(new MetaInfResourcesResourceManager(resourceJarUrls));
+		managers.add(shouldCacheMetaInfResources()
+				? new MetaInfResourcesCacheResourceManager(createMetaInfResourcesCache(resourceJarUrls))
+				: new MetaInfResourcesResourceManager(resourceJarUrls));
 		return new CompositeResourceManager(managers.toArray(new ResourceManager[0]));
 	}
 
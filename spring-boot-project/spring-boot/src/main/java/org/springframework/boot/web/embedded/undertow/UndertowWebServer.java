@@ -114,6 +114,7 @@ public class UndertowWebServer implements WebServer {
 					this.undertow = createUndertowServer();
 				}
 				this.undertow.start();
+				startSslStoreChecks();
 				this.started = true;
 				String message = getStartLogMessage();
 				logger.info(message);
@@ -148,6 +149,18 @@ public class UndertowWebServer implements WebServer {
 		}
 	}
 
+	private void startSslStoreChecks() {
+		for (Undertow.ListenerInfo listener : this.undertow.getListenerInfo()) {
+			if (listener.getSslContext() instanceof ReloadingSslContext) {
+				ReloadingSslContext sslContext = (ReloadingSslContext) listener.getSslContext();
+				sslContext.start();
+				if (!this.closeables.contains(sslContext)) {
+					this.closeables.add(sslContext);
+				}
+			}
+		}
+	}
+
 	private void closeSilently(Closeable closeable) {
 		try {
 			closeable.close();
@@ -160,7 +160,9 @@ class UndertowWebServerFactoryDelegate {
 		}
 		Http2 http2 = factory.getHttp2();
 		if (http2 != null) {
-			builder.setServerOption(UndertowOptions.ENABLE_HTTP2, http2.isEnabled());
+			builder.setServerOption(UndertowOptions.ENABLE_HTTP2,
+					http2.isEnabled() && (http2.isCleartext() || (ssl != null && ssl.isEnabled())));
+			customizeHttp2(builder, http2);
 		}
 		if (ssl != null && ssl.isEnabled()) {
 			new SslBuilderCustomizer(factory.getPort(), address, ssl, factory.getSslStoreProvider()).customize(builder);
@@ -175,6 +177,21 @@ class UndertowWebServerFactoryDelegate {
 		return builder;
 	}
 
+	private void customizeHttp2(Builder builder, Http2 http2) {
+		if (http2.getMaxConcurrentStreams() != null) {
+			builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS,
+					http2.getMaxConcurrentStreams());
+		}
+		if (http2.getInitialWindowSize() != null) {
+			builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE,
+					(int) http2.getInitialWindowSize().toBytes());
+		}
+		if (http2.getHeaderTableSize() != null) {
+			builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_HEADER_TABLE_SIZE,
+					(int) http2.getHeaderTableSize().toBytes());
+		}
+	}
+
 	List<HttpHandlerFactory> createHttpHandlerFactories(AbstractConfigurableWebServerFactory webServerFactory,
 			HttpHandlerFactory... initialHttpHandlerFactories) {
 		List<HttpHandlerFactory> factories = createHttpHandlerFactories(webServerFactory.getCompression(),
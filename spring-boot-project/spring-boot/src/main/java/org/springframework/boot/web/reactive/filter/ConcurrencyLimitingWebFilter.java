@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.reactive.filter;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter.Permit;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * {@link OrderedWebFilter} that uses an {@link AdaptiveConcurrencyLimiter} to limit the
+ * number of requests that are processed concurrently. Requests that exceed the limit are
+ * rejected with a {@literal 503 Service Unavailable} response.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class ConcurrencyLimitingWebFilter implements OrderedWebFilter {
+
+	/**
+	 * Default order, after metrics filters so that rejected requests are recorded.
+	 */
+	public static final int DEFAULT_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	private int order = DEFAULT_ORDER;
+
+	public ConcurrencyLimitingWebFilter(AdaptiveConcurrencyLimiter limiter) {
+		Assert.notNull(limiter, "Limiter must not be null");
+		this.limiter = limiter;
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Set the order for this filter.
+	 * @param order the order to set
+	 */
+	public void setOrder(int order) {
+		this.order = order;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		return Mono.defer(() -> {
+			Permit permit = this.limiter.tryAcquire();
+			if (permit == null) {
+				return reject(exchange);
+			}
+			return chain.filter(exchange).doFinally((signal) -> permit.release());
+		});
+	}
+
+	private Mono<Void> reject(ServerWebExchange exchange) {
+		ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+		return response.setComplete();
+	}
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.server;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Limits the number of requests that are processed concurrently. The limit adapts to the
+ * observed latency of requests. While latency remains close to its long-term average the
+ * limit grows. As latency increases, indicating that requests are queueing, the limit
+ * shrinks so that excess requests can be rejected early rather than being queued.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	private static final double SMOOTHING = 0.2;
+
+	private static final double TOLERANCE = 1.5;
+
+	private static final double MIN_GRADIENT = 0.5;
+
+	private static final int LONG_WINDOW = 600;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final LongSupplier nanoClock;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicLong rejected = new AtomicLong();
+
+	private final AtomicBoolean limitExceeded = new AtomicBoolean();
+
+	private final AtomicReference<State> state;
+
+	private volatile Listener listener;
+
+	/**
+	 * Create a new {@link AdaptiveConcurrencyLimiter} instance.
+	 * @param initialLimit the initial concurrency limit
+	 * @param minLimit the minimum concurrency limit
+	 * @param maxLimit the maximum concurrency limit
+	 */
+	public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+		this(initialLimit, minLimit, maxLimit, System::nanoTime);
+	}
+
+	AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, LongSupplier nanoClock) {
+		Assert.isTrue(minLimit > 0, "MinLimit must be greater than 0");
+		Assert.isTrue(maxLimit >= minLimit, "MaxLimit must be greater than or equal to MinLimit");
+		Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit,
+				"InitialLimit must be between MinLimit and MaxLimit");
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.state = new AtomicReference<>(new State(initialLimit, 0));
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Set the {@link Listener} that should be notified when the limit is exceeded and
+	 * when it has recovered.
+	 * @param listener the listener or {@code null}
+	 */
+	public void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Attempt to acquire a permit to process a request. The returned permit must be
+	 * {@link Permit#release() released} once the request has been processed.
+	 * @return the permit or {@code null} if the limit has been reached and the request
+	 * should be rejected
+	 */
+	public Permit tryAcquire() {
+		while (true) {
+			int current = this.inFlight.get();
+			if (current >= getLimit()) {
+				this.rejected.incrementAndGet();
+				if (this.limitExceeded.compareAndSet(false, true)) {
+					notifyListener(true);
+				}
+				return null;
+			}
+			if (this.inFlight.compareAndSet(current, current + 1)) {
+				return new Permit(this.nanoClock.getAsLong(), current + 1);
+			}
+		}
+	}
+
+	/**
+	 * Return the current concurrency limit.
+	 * @return the limit
+	 */
+	public int getLimit() {
+		return (int) this.state.get().limit;
+	}
+
+	/**
+	 * Return the number of requests that are currently being processed.
+	 * @return the number of in-flight requests
+	 */
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Return the number of requests that have been rejected because the limit had been
+	 * reached.
+	 * @return the number of rejected requests
+	 */
+	public long getRejected() {
+		return this.rejected.get();
+	}
+
+	private void release(Permit permit) {
+		long rtt = this.nanoClock.getAsLong() - permit.startTime;
+		int remaining = this.inFlight.decrementAndGet();
+		updateLimit(Math.max(rtt, 1), permit.inFlight);
+		if (remaining <= getLimit() / 2 && this.limitExceeded.compareAndSet(true, false)) {
+			notifyListener(false);
+		}
+	}
+
+	private void updateLimit(long rtt, int inFlight) {
+		while (true) {
+			State current = this.state.get();
+			State updated = current.update(rtt, inFlight, this.minLimit, this.maxLimit);
+			if (this.state.compareAndSet(current, updated)) {
+				return;
+			}
+		}
+	}
+
+	private void notifyListener(boolean exceeded) {
+		Listener listener = this.listener;
+		if (listener != null) {
+			if (exceeded) {
+				listener.limitExceeded(this);
+			}
+			else {
+				listener.limitRecovered(this);
+			}
+		}
+	}
+
+	/**
+	 * Immutable snapshot of the limit and of the long-term average latency, replaced
+	 * atomically so that permits can be released without locking.
+	 */
+	private static final class State {
+
+		private final double limit;
+
+		private final double longRtt;
+
+		private State(double limit, double longRtt) {
+			this.limit = limit;
+			this.longRtt = longRtt;
+		}
+
+		private State update(long rtt, int inFlight, int minLimit, int maxLimit) {
+			double longRtt = (this.longRtt != 0) ? this.longRtt + (rtt - this.longRtt) / LONG_WINDOW : rtt;
+			if (inFlight < this.limit / 2) {
+				// Requests are not queueing so latency says nothing about the limit
+				return new State(this.limit, longRtt);
+			}
+			double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRtt / rtt));
+			double newLimit = this.limit * gradient + Math.sqrt(this.limit);
+			newLimit = this.limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+			return new State(Math.max(minLimit, Math.min(maxLimit, newLimit)), longRtt);
+		}
+
+	}
+
+	/**
+	 * A permit to process a request that must be released once processing is complete.
+	 */
+	public final class Permit {
+
+		private final long startTime;
+
+		private final int inFlight;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit(long startTime, int inFlight) {
+			this.startTime = startTime;
+			this.inFlight = inFlight;
+		}
+
+		/**
+		 * Release the permit, using the time since it was acquired to adapt the limit.
+		 * Subsequent calls have no effect.
+		 */
+		public void release() {
+			if (this.released.compareAndSet(false, true)) {
+				AdaptiveConcurrencyLimiter.this.release(this);
+			}
+		}
+
+	}
+
+	/**
+	 * Listener that is notified when requests start being rejected and when the number of
+	 * in-flight requests has subsequently fallen to half of the limit.
+	 */
+	public interface Listener {
+
+		/**
+		 * Called when a request is rejected and the limit was not previously exceeded.
+		 * @param limiter the limiter
+		 */
+		void limitExceeded(AdaptiveConcurrencyLimiter limiter);
+
+		/**
+		 * Called when the limit was exceeded and the number of in-flight requests has
+		 * fallen to half of the limit.
+		 * @param limiter the limiter
+		 */
+		void limitRecovered(AdaptiveConcurrencyLimiter limiter);
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.boot.web.server;
 
+import org.springframework.util.unit.DataSize;
+
 /**
  * Simple server-independent abstraction for HTTP/2 configuration.
  *
@@ -26,6 +28,14 @@ public class Http2 {
 
 	private boolean enabled = false;
 
+	private boolean cleartext = true;
+
+	private Integer maxConcurrentStreams;
+
+	private DataSize initialWindowSize;
+
+	private DataSize headerTableSize;
+
 	/**
 	 * Return whether to enable HTTP/2 support, if the current environment supports it.
 	 * @return {@code true} to enable HTTP/2 support
@@ -38,4 +48,58 @@ public class Http2 {
 		this.enabled = enabled;
 	}
 
+	/**
+	 * Return whether HTTP/2 over cleartext (h2c) is supported when SSL is not enabled.
+	 * @return {@code true} to support h2c
+	 * @since 2.5.0
+	 */
+	public boolean isCleartext() {
+		return this.cleartext;
+	}
+
+	public void setCleartext(boolean cleartext) {
+		this.cleartext = cleartext;
+	}
+
+	/**
+	 * Return the maximum number of concurrent streams that a client is allowed to open on
+	 * a single connection.
+	 * @return the maximum number of concurrent streams or {@code null} to use the
+	 * server's default
+	 * @since 2.5.0
+	 */
+	public Integer getMaxConcurrentStreams() {
+		return this.maxConcurrentStreams;
+	}
+
+	public void setMaxConcurrentStreams(Integer maxConcurrentStreams) {
+		this.maxConcurrentStreams = maxConcurrentStreams;
+	}
+
+	/**
+	 * Return the initial flow-control window size of each stream.
+	 * @return the initial window size or {@code null} to use the server's default
+	 * @since 2.5.0
+	 */
+	public DataSize getInitialWindowSize() {
+		return this.initialWindowSize;
+	}
+
+	public void setInitialWindowSize(DataSize initialWindowSize) {
+		this.initialWindowSize = initialWindowSize;
+	}
+
+	/**
+	 * Return the maximum size of the HPACK header table used to decode request headers.
+	 * @return the header table size or {@code null} to use the server's default
+	 * @since 2.5.0
+	 */
+	public DataSize getHeaderTableSize() {
+		return this.headerTableSize;
+	}
+
+	public void setHeaderTableSize(DataSize headerTableSize) {
+		this.headerTableSize = headerTableSize;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.boot.web.server;
 
+import java.time.Duration;
+
 /**
  * Simple server-independent abstraction for SSL configuration.
  *
@@ -56,6 +58,18 @@ public class Ssl {
 
 	private String protocol = "TLS";
 
+	private Provider provider;
+
+	private Integer sessionCacheSize;
+
+	private Duration sessionTimeout;
+
+	private Boolean sessionTickets;
+
+	private boolean reloadOnUpdate;
+
+	private Duration reloadCheckInterval = Duration.ofSeconds(10);
+
 	/**
 	 * Return whether to enable SSL support.
 	 * @return whether to enable SSL support
@@ -238,6 +252,111 @@ public class Ssl {
 		this.protocol = protocol;
 	}
 
+	/**
+	 * Return the implementation of TLS to use. When {@code null}, the web server's
+	 * default is used.
+	 * @return the TLS provider or {@code null}
+	 * @since 2.5.0
+	 */
+	public Provider getProvider() {
+		return this.provider;
+	}
+
+	public void setProvider(Provider provider) {
+		this.provider = provider;
+	}
+
+	/**
+	 * Return the maximum number of TLS sessions to cache for resumption. When
+	 * {@code null}, the TLS implementation's default is used.
+	 * @return the session cache size or {@code null}
+	 * @since 2.5.0
+	 */
+	public Integer getSessionCacheSize() {
+		return this.sessionCacheSize;
+	}
+
+	public void setSessionCacheSize(Integer sessionCacheSize) {
+		this.sessionCacheSize = sessionCacheSize;
+	}
+
+	/**
+	 * Return how long a cached TLS session can be resumed. When {@code null}, the TLS
+	 * implementation's default is used.
+	 * @return the session timeout or {@code null}
+	 * @since 2.5.0
+	 */
+	public Duration getSessionTimeout() {
+		return this.sessionTimeout;
+	}
+
+	public void setSessionTimeout(Duration sessionTimeout) {
+		this.sessionTimeout = sessionTimeout;
+	}
+
+	/**
+	 * Return whether TLS session tickets should be issued so that clients can resume
+	 * sessions without a server-side cache. Only applies to the {@link Provider#OPENSSL
+	 * OpenSSL} provider. When {@code null}, the TLS implementation's default is used.
+	 * @return whether to issue session tickets or {@code null}
+	 * @since 2.5.0
+	 */
+	public Boolean getSessionTickets() {
+		return this.sessionTickets;
+	}
+
+	public void setSessionTickets(Boolean sessionTickets) {
+		this.sessionTickets = sessionTickets;
+	}
+
+	/**
+	 * Return whether the key store and trust store should be reloaded when the files from
+	 * which they were loaded are updated. Connections that are already established are
+	 * unaffected.
+	 * @return whether to reload the stores when they are updated
+	 * @since 2.5.0
+	 */
+	public boolean isReloadOnUpdate() {
+		return this.reloadOnUpdate;
+	}
+
+	public void setReloadOnUpdate(boolean reloadOnUpdate) {
+		this.reloadOnUpdate = reloadOnUpdate;
+	}
+
+	/**
+	 * Return the minimum amount of time between checks for updates to the key store and
+	 * trust store files.
+	 * @return the interval between checks for updates
+	 * @since 2.5.0
+	 */
+	public Duration getReloadCheckInterval() {
+		return this.reloadCheckInterval;
+	}
+
+	public void setReloadCheckInterval(Duration reloadCheckInterval) {
+		this.reloadCheckInterval = reloadCheckInterval;
+	}
+
+	/**
+	 * Implementations of TLS.
+	 *
+	 * @since 2.5.0
+	 */
+	public enum Provider {
+
+		/**
+		 * The JDK's implementation.
+		 */
+		JDK,
+
+		/**
+		 * OpenSSL, using Tomcat Native with Tomcat or netty-tcnative with Reactor Netty.
+		 */
+		OPENSSL
+
+	}
+
 	/**
 	 * Client authentication types.
 	 */
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.server;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.ResourceUtils;
+
+/**
+ * Detects updates to the files from which the key store and trust store of an {@link Ssl}
+ * configuration are loaded so that a web server can reload them without being restarted.
+ * Checks are either made periodically by a background thread, once per
+ * {@link Ssl#getReloadCheckInterval() check interval}, or made on demand and limited to
+ * one per check interval.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ * @see Ssl#isReloadOnUpdate()
+ */
+public final class SslStoreWatcher {
+
+	private static final Log logger = LogFactory.getLog(SslStoreWatcher.class);
+
+	private final List<Path> paths;
+
+	private final Duration checkInterval;
+
+	private final AtomicLong nextCheck;
+
+	private volatile List<String> stamps;
+
+	SslStoreWatcher(List<Path> paths, Duration checkInterval) {
+		this.paths = Collections.unmodifiableList(paths);
+		this.checkInterval = checkInterval;
+		this.nextCheck = new AtomicLong(System.nanoTime() + checkInterval.toNanos());
+		this.stamps = stamp();
+	}
+
+	/**
+	 * Return the paths of the store files that are watched.
+	 * @return the paths
+	 */
+	public List<Path> getPaths() {
+		return this.paths;
+	}
+
+	/**
+	 * Return the interval at which the store files are checked for updates.
+	 * @return the check interval
+	 */
+	public Duration getCheckInterval() {
+		return this.checkInterval;
+	}
+
+	/**
+	 * Use the given {@code reloader} to reload the stores if their files have been
+	 * updated since they were last loaded. Returns immediately if another thread is
+	 * checking or if the check interval has not elapsed since the last check. If the
+	 * reloader fails, the stores that were previously loaded remain in use and reloading
+	 * is attempted again on the next check.
+	 * @param reloader the reloader
+	 * @return {@code true} if the stores were reloaded, otherwise {@code false}
+	 */
+	public boolean reloadIfUpdated(Reloader reloader) {
+		long now = System.nanoTime();
+		long nextCheck = this.nextCheck.get();
+		if (now - nextCheck < 0 || !this.nextCheck.compareAndSet(nextCheck, now + this.checkInterval.toNanos())) {
+			return false;
+		}
+		return reloadIfUpdatedNow(reloader);
+	}
+
+	/**
+	 * Use the given {@code reloader} to reload the stores if their files have been
+	 * updated since they were last loaded, regardless of the check interval. Intended for
+	 * use by a single background thread that checks the files periodically. If the
+	 * reloader fails, the stores that were previously loaded remain in use and reloading
+	 * is attempted again on the next check.
+	 * @param reloader the reloader
+	 * @return {@code true} if the stores were reloaded, otherwise {@code false}
+	 */
+	public boolean reloadIfUpdatedNow(Reloader reloader) {
+		List<String> stamps = stamp();
+		if (stamps == null || stamps.equals(this.stamps)) {
+			return false;
+		}
+		try {
+			reloader.reload();
+			this.stamps = stamps;
+			logger.info("Reloaded SSL stores following an update to " + this.paths);
+			return true;
+		}
+		catch (Exception ex) {
+			logger.warn("Failed to reload SSL stores following an update to " + this.paths
+					+ ". The previously loaded stores remain in use", ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Start checking the store files for updates on a dedicated background thread, once
+	 * per check interval, using the given {@code reloader} when they have been updated.
+	 * Web servers use this so that the files are never read on a thread that accepts
+	 * connections.
+	 * @param reloader the reloader
+	 * @return a {@link Closeable} that stops the checks
+	 */
+	public Closeable startChecking(Reloader reloader) {
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+			Thread thread = new Thread(runnable, "ssl-store-watcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = Math.max(this.checkInterval.toMillis(), 1);
+		executor.scheduleWithFixedDelay(() -> reloadIfUpdatedNow(reloader), interval, interval, TimeUnit.MILLISECONDS);
+		return executor::shutdownNow;
+	}
+
+	private List<String> stamp() {
+		List<String> stamps = new ArrayList<>(this.paths.size());
+		for (Path path : this.paths) {
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+				stamps.add(attributes.lastModifiedTime().toMillis() + ":" + attributes.size());
+			}
+			catch (IOException ex) {
+				// The file may be in the process of being replaced
+				return null;
+			}
+		}
+		return stamps;
+	}
+
+	/**
+	 * Return a {@link SslStoreWatcher} for the given SSL configuration or {@code null} if
+	 * reloading is not enabled or none of the stores has been loaded from a file.
+	 * @param ssl the SSL configuration
+	 * @param sslStoreProvider the SSL store provider, if any
+	 * @return the watcher or {@code null}
+	 */
+	public static SslStoreWatcher get(Ssl ssl, SslStoreProvider sslStoreProvider) {
+		if (ssl == null || !ssl.isReloadOnUpdate()) {
+			return null;
+		}
+		List<Path> paths = new ArrayList<>();
+		if (sslStoreProvider == null) {
+			addPath(paths, ssl.getKeyStore());
+			addPath(paths, ssl.getTrustStore());
+		}
+		if (paths.isEmpty()) {
+			logger.warn("SSL stores will not be reloaded as they have not been loaded from files");
+			return null;
+		}
+		return new SslStoreWatcher(paths, ssl.getReloadCheckInterval());
+	}
+
+	private static void addPath(List<Path> paths, String location) {
+		if (location != null) {
+			try {
+				URL url = ResourceUtils.getURL(location);
+				if (ResourceUtils.isFileURL(url)) {
+					paths.add(ResourceUtils.getFile(url).toPath());
+				}
+			}
+			catch (FileNotFoundException ex) {
+				// Not a file that can be watched
+			}
+		}
+	}
+
+	/**
+	 * Callback used to reload the stores.
+	 */
+	@FunctionalInterface
+	public interface Reloader {
+
+		/**
+		 * Reload the stores and start using them for new connections.
+		 * @throws Exception if the stores cannot be reloaded
+		 */
+		void reload() throws Exception;
+
+	}
+
+}
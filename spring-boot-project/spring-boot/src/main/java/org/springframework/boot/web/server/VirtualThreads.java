@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Access to the virtual threads that are provided by newer JVMs. The JVM's virtual thread
+ * API is used reflectively so that a {@link WebServer} can process requests on virtual
+ * threads when they are available without requiring them.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public final class VirtualThreads {
+
+	private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+
+	private static final Class<?> BUILDER = resolveClass("java.lang.Thread$Builder");
+
+	private static final Method NAME = findMethod(BUILDER, "name", String.class, long.class);
+
+	private static final Method FACTORY = findMethod(BUILDER, "factory");
+
+	private static final Method NEW_THREAD_PER_TASK_EXECUTOR = findMethod(Executors.class, "newThreadPerTaskExecutor",
+			ThreadFactory.class);
+
+	private static final boolean AVAILABLE = determineAvailability();
+
+	private VirtualThreads() {
+	}
+
+	/**
+	 * Return whether virtual threads are available on the current JVM.
+	 * @return {@code true} if virtual threads are available, otherwise {@code false}
+	 */
+	public static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+	/**
+	 * Create a new {@link ExecutorService} that runs each task on a new virtual thread.
+	 * @param threadNamePrefix the prefix of the names of the created threads
+	 * @return the executor service
+	 * @throws IllegalStateException if virtual threads are not {@link #isAvailable()
+	 * available}
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix) {
+		Assert.state(AVAILABLE, "Virtual threads are not available");
+		Assert.notNull(threadNamePrefix, "ThreadNamePrefix must not be null");
+		Object builder = ReflectionUtils.invokeMethod(OF_VIRTUAL, null);
+		builder = ReflectionUtils.invokeMethod(NAME, builder, threadNamePrefix, 0L);
+		ThreadFactory threadFactory = (ThreadFactory) ReflectionUtils.invokeMethod(FACTORY, builder);
+		return (ExecutorService) ReflectionUtils.invokeMethod(NEW_THREAD_PER_TASK_EXECUTOR, null, threadFactory);
+	}
+
+	private static boolean determineAvailability() {
+		if (OF_VIRTUAL == null || NAME == null || FACTORY == null || NEW_THREAD_PER_TASK_EXECUTOR == null) {
+			return false;
+		}
+		try {
+			// Fails when virtual threads are a preview feature that has not been enabled
+			OF_VIRTUAL.invoke(null);
+			return true;
+		}
+		catch (Throwable ex) {
+			return false;
+		}
+	}
+
+	private static Class<?> resolveClass(String name) {
+		return ClassUtils.isPresent(name, null) ? ClassUtils.resolveClassName(name, null) : null;
+	}
+
+	private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+		return (type != null) ? ReflectionUtils.findMethod(type, name, parameterTypes) : null;
+	}
+
+}
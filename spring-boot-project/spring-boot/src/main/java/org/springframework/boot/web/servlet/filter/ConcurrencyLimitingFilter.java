@@ -0,0 +1,127 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.servlet.filter;
+
+import java.io.IOException;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter.Permit;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * {@link OrderedFilter} that uses an {@link AdaptiveConcurrencyLimiter} to limit the
+ * number of requests that are processed concurrently. Requests that exceed the limit are
+ * rejected with a {@literal 503 Service Unavailable} response.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ */
+public class ConcurrencyLimitingFilter extends OncePerRequestFilter implements OrderedFilter {
+
+	/**
+	 * Default order, after metrics filters so that rejected requests are recorded.
+	 */
+	public static final int DEFAULT_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	private int order = DEFAULT_ORDER;
+
+	public ConcurrencyLimitingFilter(AdaptiveConcurrencyLimiter limiter) {
+		Assert.notNull(limiter, "Limiter must not be null");
+		this.limiter = limiter;
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Set the order for this filter.
+	 * @param order the order to set
+	 */
+	public void setOrder(int order) {
+		this.order = order;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		Permit permit = this.limiter.tryAcquire();
+		if (permit == null) {
+			response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+			return;
+		}
+		try {
+			filterChain.doFilter(request, response);
+		}
+		finally {
+			if (request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new PermitReleasingAsyncListener(permit));
+			}
+			else {
+				permit.release();
+			}
+		}
+	}
+
+	/**
+	 * {@link AsyncListener} that releases a {@link Permit} once async processing is
+	 * complete.
+	 */
+	private static final class PermitReleasingAsyncListener implements AsyncListener {
+
+		private final Permit permit;
+
+		private PermitReleasingAsyncListener(Permit permit) {
+			this.permit = permit;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			this.permit.release();
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			this.permit.release();
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			this.permit.release();
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+
+	}
+
+}
@@ -74,6 +74,8 @@ public abstract class AbstractServletWebServerFactory extends AbstractConfigurab
 
 	private Jsp jsp = new Jsp();
 
+	private StaticResourceCache staticResourceCache = new StaticResourceCache();
+
 	private Map<Locale, Charset> localeCharsetMappings = new HashMap<>();
 
 	private Map<String, String> initParameters = Collections.emptyMap();
@@ -208,6 +210,15 @@ public abstract class AbstractServletWebServerFactory extends AbstractConfigurab
 		this.jsp = jsp;
 	}
 
+	public StaticResourceCache getStaticResourceCache() {
+		return this.staticResourceCache;
+	}
+
+	@Override
+	public void setStaticResourceCache(StaticResourceCache staticResourceCache) {
+		this.staticResourceCache = staticResourceCache;
+	}
+
 	public Session getSession() {
 		return this.session;
 	}
@@ -278,6 +289,34 @@ public abstract class AbstractServletWebServerFactory extends AbstractConfigurab
 		return this.staticResourceJars.getUrls();
 	}
 
+	/**
+	 * Returns whether or not the static resources in the {@code META-INF/resources}
+	 * directories of jars should be served from a {@link MetaInfResourcesCache}.
+	 * @return {@code true} if the resources should be cached, otherwise {@code false}
+	 * @since 2.5.0
+	 */
+	protected final boolean shouldCacheMetaInfResources() {
+		return this.staticResourceCache != null && this.staticResourceCache.isEnabled();
+	}
+
+	/**
+	 * Create a {@link MetaInfResourcesCache} for the given jars that is configured using
+	 * the {@link #getStaticResourceCache() static resource cache configuration}. The
+	 * cache is preloaded if required.
+	 * @param resourceJarUrls the URLs of the jars with {@code META-INF/resources}
+	 * directories
+	 * @return the cache
+	 * @since 2.5.0
+	 */
+	protected final MetaInfResourcesCache createMetaInfResourcesCache(List<URL> resourceJarUrls) {
+		MetaInfResourcesCache cache = new MetaInfResourcesCache(resourceJarUrls, this.staticResourceCache.getMaxSize(),
+				this.staticResourceCache.getMaxEntrySize());
+		if (this.staticResourceCache.isPreload()) {
+			cache.preload();
+		}
+		return cache;
+	}
+
 	protected final File getValidSessionStoreDir() {
 		return getValidSessionStoreDir(true);
 	}
@@ -112,6 +112,14 @@ public interface ConfigurableServletWebServerFactory
 	 */
 	void setJsp(Jsp jsp);
 
+	/**
+	 * Sets the configuration of the in-memory cache of the static resources in the
+	 * {@code META-INF/resources} directories of jars.
+	 * @param staticResourceCache the static resource cache configuration
+	 * @since 2.5.0
+	 */
+	void setStaticResourceCache(StaticResourceCache staticResourceCache);
+
 	/**
 	 * Sets the Locale to Charset mappings.
 	 * @param localeCharsetMappings the Locale to Charset mappings
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.servlet.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * An in-memory cache of the static resources in the {@code META-INF/resources}
+ * directories of jars. The jars are indexed when the cache is created so that the length,
+ * last modified time, and ETag of every resource are known up-front and a request for a
+ * resource that does not exist can be answered without opening any of the jars. The
+ * content of a resource is held in a direct {@link ByteBuffer}. It is loaded when the
+ * resource is first requested or, if the cache has been {@link #preload() preloaded},
+ * when the server starts. A resource that is larger than the maximum entry size, or that
+ * would take the cache beyond its maximum size, is read from its jar each time that its
+ * content is requested.
+ * <p>
+ * When more than one jar contains a resource with the same path, the resource in the jar
+ * that appears first is used.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ * @see StaticResourceCache
+ */
+public final class MetaInfResourcesCache {
+
+	private static final String META_INF_RESOURCES = "META-INF/resources";
+
+	private static final String ROOT_PATH = "/";
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+	private final Map<String, Set<String>> children = new LinkedHashMap<>();
+
+	private final long maxSize;
+
+	private final long maxEntrySize;
+
+	private final AtomicLong size = new AtomicLong();
+
+	/**
+	 * Create a new {@code MetaInfResourcesCache} for the given jars.
+	 * @param resourceJarUrls the URLs of the jars with {@code META-INF/resources}
+	 * directories in the order in which they should be searched
+	 * @param maxSize the maximum total size of the cached content
+	 * @param maxEntrySize the maximum size of an individual resource for its content to
+	 * be cached
+	 */
+	public MetaInfResourcesCache(List<URL> resourceJarUrls, DataSize maxSize, DataSize maxEntrySize) {
+		Assert.notNull(resourceJarUrls, "ResourceJarUrls must not be null");
+		Assert.notNull(maxSize, "MaxSize must not be null");
+		Assert.notNull(maxEntrySize, "MaxEntrySize must not be null");
+		this.maxSize = maxSize.toBytes();
+		this.maxEntrySize = maxEntrySize.toBytes();
+		for (URL resourceJarUrl : resourceJarUrls) {
+			index(getRoot(resourceJarUrl));
+		}
+	}
+
+	private String getRoot(URL resourceJarUrl) {
+		String root = resourceJarUrl.toString();
+		if (!root.startsWith("jar:")) {
+			root = "jar:" + root + "!/";
+		}
+		return root.endsWith("/") ? root : root + "/";
+	}
+
+	private void index(String root) {
+		try (JarFile jarFile = openJarFile(root)) {
+			Enumeration<JarEntry> jarEntries = jarFile.entries();
+			while (jarEntries.hasMoreElements()) {
+				JarEntry jarEntry = jarEntries.nextElement();
+				String name = jarEntry.getName();
+				if (name.startsWith(META_INF_RESOURCES + "/") && name.length() > META_INF_RESOURCES.length() + 1) {
+					add(new Entry(root, name, getPath(name.substring(META_INF_RESOURCES.length())),
+							jarEntry.isDirectory(), jarEntry.getSize(), jarEntry.getTime()));
+				}
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to index static resources in '" + root + "'", ex);
+		}
+	}
+
+	private void add(Entry entry) {
+		if (this.entries.putIfAbsent(entry.getPath(), entry) != null) {
+			return;
+		}
+		String path = entry.getPath();
+		while (!ROOT_PATH.equals(path)) {
+			String parent = getParent(path);
+			this.children.computeIfAbsent(parent, (key) -> new LinkedHashSet<>()).add(path);
+			Entry directory = new Entry(entry.root, null, parent, true, 0, entry.getLastModified());
+			if (this.entries.putIfAbsent(parent, directory) != null) {
+				return;
+			}
+			path = parent;
+		}
+	}
+
+	private String getParent(String path) {
+		int lastSlash = path.lastIndexOf('/');
+		return (lastSlash > 0) ? path.substring(0, lastSlash) : ROOT_PATH;
+	}
+
+	private static JarFile openJarFile(String root) throws IOException {
+		URLConnection connection = new URL(root).openConnection();
+		connection.setUseCaches(false);
+		return ((JarURLConnection) connection).getJarFile();
+	}
+
+	/**
+	 * Return the entry for the resource or directory with the given path.
+	 * @param path the path, relative to {@code META-INF/resources}
+	 * @return the entry or {@code null} if there is no resource or directory with the
+	 * given path
+	 */
+	public Entry get(String path) {
+		return this.entries.get(getPath(path));
+	}
+
+	/**
+	 * Return the entries for the resources and directories that are the immediate
+	 * children of the directory with the given path.
+	 * @param path the path of the directory, relative to {@code META-INF/resources}
+	 * @return the entries, never {@code null}
+	 */
+	public List<Entry> list(String path) {
+		Set<String> childPaths = this.children.get(getPath(path));
+		if (childPaths == null) {
+			return Collections.emptyList();
+		}
+		List<Entry> entries = new ArrayList<>(childPaths.size());
+		for (String childPath : childPaths) {
+			entries.add(this.entries.get(childPath));
+		}
+		return entries;
+	}
+
+	/**
+	 * Return whether the cache contains no resources or directories.
+	 * @return {@code true} if the cache is empty, otherwise {@code false}
+	 */
+	public boolean isEmpty() {
+		return this.entries.isEmpty();
+	}
+
+	/**
+	 * Return the total size, in bytes, of the content that is currently cached.
+	 * @return the size of the cached content
+	 */
+	public long getSize() {
+		return this.size.get();
+	}
+
+	/**
+	 * Load the content of the cached resources, reading each jar once, until the cache
+	 * reaches its maximum size.
+	 */
+	public void preload() {
+		Map<String, List<Entry>> entriesByRoot = new LinkedHashMap<>();
+		for (Entry entry : this.entries.values()) {
+			if (!entry.isDirectory()) {
+				entriesByRoot.computeIfAbsent(entry.root, (root) -> new ArrayList<>()).add(entry);
+			}
+		}
+		entriesByRoot.forEach((root, entries) -> {
+			try (JarFile jarFile = openJarFile(root)) {
+				for (Entry entry : entries) {
+					if (this.size.get() >= this.maxSize) {
+						return;
+					}
+					entry.load(jarFile);
+				}
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Failed to preload static resources from '" + root + "'", ex);
+			}
+		});
+	}
+
+	private boolean reserve(long length) {
+		if (length > this.maxEntrySize) {
+			return false;
+		}
+		while (true) {
+			long current = this.size.get();
+			if (current + length > this.maxSize) {
+				return false;
+			}
+			if (this.size.compareAndSet(current, current + length)) {
+				return true;
+			}
+		}
+	}
+
+	private static String getPath(String path) {
+		if (path == null || path.isEmpty() || ROOT_PATH.equals(path)) {
+			return ROOT_PATH;
+		}
+		String result = path.startsWith("/") ? path : "/" + path;
+		return result.endsWith("/") ? result.substring(0, result.length() - 1) : result;
+	}
+
+	/**
+	 * A resource or directory in the cache.
+	 */
+	public final class Entry {
+
+		private final String root;
+
+		private final String name;
+
+		private final String path;
+
+		private final boolean directory;
+
+		private final long contentLength;
+
+		private final long lastModified;
+
+		private final String eTag;
+
+		private volatile ByteBuffer content;
+
+		private Entry(String root, String name, String path, boolean directory, long contentLength, long lastModified) {
+			this.root = root;
+			this.name = name;
+			this.path = path;
+			this.directory = directory;
+			this.contentLength = directory ? 0 : contentLength;
+			this.lastModified = Math.max(lastModified, 0);
+			this.eTag = "W/\"" + this.contentLength + "-" + this.lastModified + "\"";
+		}
+
+		/**
+		 * Return the path of the resource or directory, relative to
+		 * {@code META-INF/resources}. The path of the root directory is {@code "/"}.
+		 * Other paths start with, but do not end with, {@code "/"}.
+		 * @return the path
+		 */
+		public String getPath() {
+			return this.path;
+		}
+
+		/**
+		 * Return the name of the resource or directory, that is the last segment of its
+		 * path.
+		 * @return the name
+		 */
+		public String getName() {
+			return this.path.substring(this.path.lastIndexOf('/') + 1);
+		}
+
+		/**
+		 * Return whether the entry is a directory.
+		 * @return {@code true} for a directory, {@code false} for a resource
+		 */
+		public boolean isDirectory() {
+			return this.directory;
+		}
+
+		/**
+		 * Return the length of the resource's content.
+		 * @return the content length, or {@code 0} for a directory
+		 */
+		public long getContentLength() {
+			return this.contentLength;
+		}
+
+		/**
+		 * Return the time at which the resource or directory was last modified.
+		 * @return the last modified time in milliseconds since the epoch
+		 */
+		public long getLastModified() {
+			return this.lastModified;
+		}
+
+		/**
+		 * Return the weak ETag of the resource, in the form used by the value of an
+		 * {@code ETag} header.
+		 * @return the ETag
+		 */
+		public String getETag() {
+			return this.eTag;
+		}
+
+		/**
+		 * Return a URL for the resource or directory in its jar.
+		 * @return the URL
+		 */
+		public URL getUrl() {
+			String path = (this.directory && !ROOT_PATH.equals(this.path)) ? this.path + "/" : this.path;
+			try {
+				return new URL(this.root + META_INF_RESOURCES + path);
+			}
+			catch (MalformedURLException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+		/**
+		 * Return whether the resource's content is currently cached.
+		 * @return {@code true} if the content is cached, otherwise {@code false}
+		 */
+		public boolean isCached() {
+			return this.content != null;
+		}
+
+		/**
+		 * Return the content of the resource, loading it if necessary.
+		 * @return a read-only buffer positioned at the start of the content
+		 * @throws IOException if the content cannot be read
+		 */
+		public ByteBuffer getContent() throws IOException {
+			Assert.state(!this.directory, () -> "'" + this.path + "' is a directory");
+			ByteBuffer content = this.content;
+			if (content == null) {
+				content = load(null);
+			}
+			return content.asReadOnlyBuffer();
+		}
+
+		/**
+		 * Return an input stream for the content of the resource, loading it if
+		 * necessary.
+		 * @return an input stream for the content
+		 * @throws IOException if the content cannot be read
+		 */
+		public InputStream getInputStream() throws IOException {
+			return new ByteBufferInputStream(getContent());
+		}
+
+		private synchronized ByteBuffer load(JarFile jarFile) throws IOException {
+			if (this.content != null) {
+				return this.content;
+			}
+			byte[] bytes = (jarFile != null) ? read(jarFile) : read();
+			if (!reserve(bytes.length)) {
+				return ByteBuffer.wrap(bytes);
+			}
+			ByteBuffer content = ByteBuffer.allocateDirect(bytes.length);
+			content.put(bytes);
+			content.flip();
+			this.content = content;
+			return content;
+		}
+
+		private byte[] read() throws IOException {
+			try (JarFile jarFile = openJarFile(this.root)) {
+				return read(jarFile);
+			}
+		}
+
+		private byte[] read(JarFile jarFile) throws IOException {
+			JarEntry jarEntry = jarFile.getJarEntry(this.name);
+			if (jarEntry == null) {
+				throw new IOException("Entry '" + this.name + "' not found in '" + this.root + "'");
+			}
+			try (InputStream inputStream = jarFile.getInputStream(jarEntry)) {
+				return StreamUtils.copyToByteArray(inputStream);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return this.path;
+		}
+
+	}
+
+	/**
+	 * An {@link InputStream} that reads from a {@link ByteBuffer}.
+	 */
+	private static final class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		private ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return this.buffer.hasRemaining() ? (this.buffer.get() & 0xFF) : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			int read = Math.min(length, this.buffer.remaining());
+			this.buffer.get(bytes, offset, read);
+			return read;
+		}
+
+		@Override
+		public long skip(long n) {
+			int skipped = (int) Math.max(0, Math.min(n, this.buffer.remaining()));
+			this.buffer.position(this.buffer.position() + skipped);
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return this.buffer.remaining();
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,12 +45,24 @@ public class Session {
 
 	private final Cookie cookie = new Cookie();
 
+	private final Persistence persistence = new Persistence();
+
 	private final SessionStoreDirectory sessionStoreDirectory = new SessionStoreDirectory();
 
 	public Cookie getCookie() {
 		return this.cookie;
 	}
 
+	/**
+	 * Return the configuration of how session data is persisted between restarts.
+	 * @return the persistence configuration
+	 * @since 2.5.0
+	 * @see #isPersistent()
+	 */
+	public Persistence getPersistence() {
+		return this.persistence;
+	}
+
 	public Duration getTimeout() {
 		return this.timeout;
 	}
@@ -207,6 +219,63 @@ public class Session {
 
 	}
 
+	/**
+	 * Persistence properties.
+	 *
+	 * @since 2.5.0
+	 */
+	public static class Persistence {
+
+		private Format format = Format.STANDARD;
+
+		private boolean compressed;
+
+		/**
+		 * Return the format used to store session data.
+		 * @return the session data format
+		 */
+		public Format getFormat() {
+			return this.format;
+		}
+
+		public void setFormat(Format format) {
+			this.format = format;
+		}
+
+		/**
+		 * Return whether session data should be compressed. Only applies to the
+		 * {@link Format#RECORDS records} format.
+		 * @return {@code true} to compress session data
+		 */
+		public boolean isCompressed() {
+			return this.compressed;
+		}
+
+		public void setCompressed(boolean compressed) {
+			this.compressed = compressed;
+		}
+
+		/**
+		 * Formats that can be used to store session data.
+		 */
+		public enum Format {
+
+			/**
+			 * The web server's standard format.
+			 */
+			STANDARD,
+
+			/**
+			 * One record per session, written and read in parallel. A session that cannot
+			 * be written or read does not prevent the others from being persisted or
+			 * restored. Supported by Tomcat and Undertow.
+			 */
+			RECORDS
+
+		}
+
+	}
+
 	/**
 	 * Available session tracking modes (mirrors
 	 * {@link javax.servlet.SessionTrackingMode}.
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.servlet.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * A file of persistent session data in which each session is stored as a separate,
+ * length-prefixed record. Records can, optionally, be compressed. A session that cannot
+ * be written or read is skipped without affecting the others. The file is written to a
+ * temporary file alongside it and then moved into place so that a failed write does not
+ * leave a partial file behind. Records are encoded and decoded in parallel.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ * @see Session.Persistence.Format#RECORDS
+ */
+public final class SessionRecordsFile {
+
+	private static final Log logger = LogFactory.getLog(SessionRecordsFile.class);
+
+	private static final int MAGIC = 0x53425352;
+
+	private static final int VERSION = 1;
+
+	private final File file;
+
+	private final boolean compressed;
+
+	/**
+	 * Create a new {@code SessionRecordsFile}.
+	 * @param file the file
+	 * @param compressed whether records should be compressed when they are written
+	 */
+	public SessionRecordsFile(File file, boolean compressed) {
+		Assert.notNull(file, "File must not be null");
+		this.file = file;
+		this.compressed = compressed;
+	}
+
+	/**
+	 * Return the underlying file.
+	 * @return the file
+	 */
+	public File getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Return whether the file exists.
+	 * @return {@code true} if the file exists, otherwise {@code false}
+	 */
+	public boolean exists() {
+		return this.file.exists();
+	}
+
+	/**
+	 * Delete the file.
+	 */
+	public void delete() {
+		this.file.delete();
+	}
+
+	/**
+	 * Write the given sessions to the file, replacing its existing content. The content
+	 * is first written to a temporary file in the same directory which then atomically
+	 * replaces the file where the file system supports it.
+	 * @param <T> the type of the sessions
+	 * @param sessions the sessions to write
+	 * @param writer the writer used to encode each session
+	 * @return the number of sessions that were written
+	 * @throws IOException if the file cannot be written
+	 */
+	public <T> int write(Collection<T> sessions, RecordWriter<T> writer) throws IOException {
+		List<byte[]> records = map(sessions, (session) -> encode(session, writer));
+		Path target = this.file.toPath().toAbsolutePath();
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream output = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(temp.toFile())))) {
+				output.writeInt(MAGIC);
+				output.writeInt(VERSION);
+				output.writeBoolean(this.compressed);
+				output.writeInt(records.size());
+				for (byte[] record : records) {
+					output.writeInt(record.length);
+					output.write(record);
+				}
+			}
+			move(temp, target);
+		}
+		finally {
+			Files.deleteIfExists(temp);
+		}
+		return records.size();
+	}
+
+	private void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private <T> byte[] encode(T session, RecordWriter<T> writer) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			OutputStream stream = (this.compressed) ? new DeflaterOutputStream(bytes) : bytes;
+			try (DataOutputStream output = new DataOutputStream(stream)) {
+				writer.write(session, output);
+			}
+			return bytes.toByteArray();
+		}
+		catch (Exception ex) {
+			logger.warn("Persistent session could not be written and has been skipped", ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Read the sessions in the file.
+	 * @param <T> the type of the sessions
+	 * @param reader the reader used to decode each session
+	 * @return the sessions that were read successfully in the order in which they were
+	 * written
+	 * @throws IOException if the file cannot be read
+	 */
+	public <T> List<T> read(RecordReader<T> reader) throws IOException {
+		List<byte[]> records = new ArrayList<>();
+		boolean compressed;
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)))) {
+			if (input.readInt() != MAGIC) {
+				throw new IOException("'" + this.file + "' is not a session records file");
+			}
+			int version = input.readInt();
+			if (version != VERSION) {
+				throw new IOException("Session records file version " + version + " is not supported");
+			}
+			compressed = input.readBoolean();
+			int count = input.readInt();
+			for (int i = 0; i < count; i++) {
+				byte[] record = new byte[input.readInt()];
+				input.readFully(record);
+				records.add(record);
+			}
+		}
+		return map(records, (record) -> decode(record, compressed, reader));
+	}
+
+	private <S, R> List<R> map(Collection<S> sources, Function<S, R> function) throws IOException {
+		int threads = Math.min(sources.size(), Runtime.getRuntime().availableProcessors());
+		if (threads <= 1) {
+			return sources.stream().map(function).filter(Objects::nonNull).collect(Collectors.toList());
+		}
+		// A dedicated executor, rather than the common pool, so that the workers use the
+		// caller's context class loader to find the web application's classes
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, (runnable) -> {
+			Thread thread = new Thread(runnable, "session-records-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(classLoader);
+			return thread;
+		});
+		try {
+			List<Future<R>> futures = new ArrayList<>(sources.size());
+			for (S source : sources) {
+				futures.add(executor.submit(() -> function.apply(source)));
+			}
+			List<R> results = new ArrayList<>(futures.size());
+			for (Future<R> future : futures) {
+				R result = future.get();
+				if (result != null) {
+					results.add(result);
+				}
+			}
+			return results;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while processing session records");
+		}
+		catch (ExecutionException ex) {
+			throw new IOException("Failed to process session records", ex.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private <T> T decode(byte[] record, boolean compressed, RecordReader<T> reader) {
+		InputStream stream = new ByteArrayInputStream(record);
+		try (DataInputStream input = new DataInputStream(compressed ? new InflaterInputStream(stream) : stream)) {
+			return reader.read(input);
+		}
+		catch (Exception ex) {
+			logger.warn("Persistent session could not be read and has been skipped", ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Callback used to write a session as a record.
+	 *
+	 * @param <T> the type of the session
+	 */
+	@FunctionalInterface
+	public interface RecordWriter<T> {
+
+		/**
+		 * Write the given session to the given output.
+		 * @param session the session to write
+		 * @param output the output for the session's record
+		 * @throws IOException if the session cannot be written
+		 */
+		void write(T session, DataOutputStream output) throws IOException;
+
+	}
+
+	/**
+	 * Callback used to read a session from a record.
+	 *
+	 * @param <T> the type of the session
+	 */
+	@FunctionalInterface
+	public interface RecordReader<T> {
+
+		/**
+		 * Read a session from the given input.
+		 * @param input the input for the session's record
+		 * @return the session
+		 * @throws IOException if the session cannot be read
+		 * @throws ClassNotFoundException if a class required by the session cannot be
+		 * found
+		 */
+		T read(DataInputStream input) throws IOException, ClassNotFoundException;
+
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.servlet.server;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the in-memory cache of the static resources that are served from the
+ * {@code META-INF/resources} directories of jars.
+ *
+ * @author agent (agent@local)
+ * @since 2.5.0
+ * @see MetaInfResourcesCache
+ */
+public class StaticResourceCache {
+
+	/**
+	 * Whether static resources in the META-INF/resources directories of jars should be
+	 * cached in memory.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Maximum total size of the cached static resources.
+	 */
+	private DataSize maxSize = DataSize.ofMegabytes(10);
+
+	/**
+	 * Maximum size of an individual static resource for it to be cached.
+	 */
+	private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+
+	/**
+	 * Whether to load static resources into the cache when the server starts rather than
+	 * when they are first requested.
+	 */
+	private boolean preload;
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public DataSize getMaxSize() {
+		return this.maxSize;
+	}
+
+	public void setMaxSize(DataSize maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public DataSize getMaxEntrySize() {
+		return this.maxEntrySize;
+	}
+
+	public void setMaxEntrySize(DataSize maxEntrySize) {
+		this.maxEntrySize = maxEntrySize;
+	}
+
+	public boolean isPreload() {
+		return this.preload;
+	}
+
+	public void setPreload(boolean preload) {
+		this.preload = preload;
+	}
+
+}
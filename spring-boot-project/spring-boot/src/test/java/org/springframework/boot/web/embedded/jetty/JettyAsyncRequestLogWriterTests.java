@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.jetty;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link JettyAsyncRequestLogWriter}.
+ *
+ * @author agent (agent@local)
+ */
+class JettyAsyncRequestLogWriterTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void entriesAreQueuedAndDiscardedWhenQueueIsFull() {
+		JettyAsyncRequestLogWriter writer = new JettyAsyncRequestLogWriter(2);
+		writer.write("one");
+		writer.write("two");
+		writer.write("three");
+		assertThat(writer.getQueuedEntries()).isEqualTo(2);
+		assertThat(writer.getDiscardedEntries()).isEqualTo(1);
+	}
+
+	@Test
+	void queuedEntriesAreWrittenInTheBackground() throws Exception {
+		File log = new File(this.temp, "access.log");
+		JettyAsyncRequestLogWriter writer = new JettyAsyncRequestLogWriter(log.getAbsolutePath(), 10);
+		writer.start();
+		try {
+			writer.write("one");
+			writer.write("two");
+			Awaitility.await().atMost(Duration.ofSeconds(30))
+					.untilAsserted(() -> assertThat(Files.readAllLines(log.toPath(), StandardCharsets.UTF_8))
+							.containsExactly("one", "two"));
+			assertThat(writer.getQueuedEntries()).isZero();
+		}
+		finally {
+			writer.stop();
+		}
+	}
+
+	@Test
+	void queueCapacityMustBeGreaterThanZero() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new JettyAsyncRequestLogWriter(0))
+				.withMessage("QueueCapacity must be greater than zero");
+	}
+
+}
@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.EventListener;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
@@ -344,6 +345,18 @@ class JettyServletWebServerFactoryTests extends AbstractJettyServletWebServerFac
 		assertThat(((JettyWebServer) this.webServer).getServer().getThreadPool()).isSameAs(threadPool);
 	}
 
+	@Test
+	void threadPerTaskThreadPool() throws Exception {
+		JettyServletWebServerFactory factory = getFactory();
+		JettyThreadPerTaskThreadPool threadPool = new JettyThreadPerTaskThreadPool(Executors::newCachedThreadPool);
+		factory.setThreadPool(threadPool);
+		this.webServer = factory.getWebServer(exampleServletRegistration());
+		this.webServer.start();
+		assertThat(getResponse(getLocalUrl("/hello"))).isEqualTo("Hello World");
+		this.webServer.stop();
+		assertThat(threadPool.isStopped()).isTrue();
+	}
+
 	@Test
 	void startFailsWhenThreadPoolIsTooSmall() {
 		JettyServletWebServerFactory factory = getFactory();
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.jetty;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link JettyThreadPerTaskThreadPool}.
+ *
+ * @author agent (agent@local)
+ */
+class JettyThreadPerTaskThreadPoolTests {
+
+	private ExecutorService executor;
+
+	private final JettyThreadPerTaskThreadPool threadPool = new JettyThreadPerTaskThreadPool(() -> {
+		this.executor = Executors.newCachedThreadPool();
+		return this.executor;
+	});
+
+	@AfterEach
+	void stop() throws Exception {
+		this.threadPool.stop();
+	}
+
+	@Test
+	void executeBeforeStartIsRejected() {
+		assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> this.threadPool.execute(() -> {
+		}));
+	}
+
+	@Test
+	void threadsReportsTasksInFlight() throws Exception {
+		this.threadPool.start();
+		CountDownLatch latch = new CountDownLatch(1);
+		this.threadPool.execute(() -> waitFor(latch));
+		this.threadPool.execute(() -> waitFor(latch));
+		assertThat(this.threadPool.getThreads()).isEqualTo(2);
+		assertThat(this.threadPool.getIdleThreads()).isZero();
+		latch.countDown();
+		await().atMost(5, TimeUnit.SECONDS).until(this.threadPool::getThreads, (threads) -> threads == 0);
+	}
+
+	@Test
+	void stopShutsDownExecutorAndRestartCreatesNewExecutor() throws Exception {
+		this.threadPool.start();
+		ExecutorService first = this.executor;
+		this.threadPool.stop();
+		assertThat(first.isShutdown()).isTrue();
+		this.threadPool.start();
+		assertThat(this.executor).isNotSameAs(first);
+		assertThat(this.executor.isShutdown()).isFalse();
+	}
+
+	@Test
+	void joinWaitsForExecutorToTerminate() throws Exception {
+		this.threadPool.start();
+		this.threadPool.stop();
+		this.threadPool.join();
+		assertThat(this.executor.isTerminated()).isTrue();
+	}
+
+	private void waitFor(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,7 +31,9 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.web.server.Http2;
 import org.springframework.boot.web.server.Ssl;
+import org.springframework.boot.web.server.SslStoreWatcher;
 import org.springframework.boot.web.server.WebServerException;
+import org.springframework.util.unit.DataSize;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -66,6 +68,21 @@ class SslServerCustomizerTests {
 				HttpConnectionFactory.class);
 	}
 
+	@Test
+	void whenHttp2IsEnabledSettingsAreAppliedToH2ConnectionFactory() {
+		Http2 http2 = new Http2();
+		http2.setEnabled(true);
+		http2.setMaxConcurrentStreams(50);
+		http2.setInitialWindowSize(DataSize.ofKilobytes(128));
+		http2.setHeaderTableSize(DataSize.ofKilobytes(8));
+		Server server = createCustomizedServer(http2);
+		HTTP2ServerConnectionFactory h2 = server.getConnectors()[0]
+				.getConnectionFactory(HTTP2ServerConnectionFactory.class);
+		assertThat(h2.getMaxConcurrentStreams()).isEqualTo(50);
+		assertThat(h2.getInitialStreamRecvWindow()).isEqualTo(128 * 1024);
+		assertThat(h2.getMaxDynamicTableSize()).isEqualTo(8 * 1024);
+	}
+
 	@Test
 	void alpnConnectionFactoryHasNullDefaultProtocolToAllowNegotiationToHttp11() {
 		Http2 http2 = new Http2();
@@ -88,6 +105,29 @@ class SslServerCustomizerTests {
 				});
 	}
 
+	@Test
+	void reloadingSslContextFactoryChecksForUpdatesWhileRunning() throws Exception {
+		Ssl ssl = new Ssl();
+		ssl.setReloadOnUpdate(true);
+		ssl.setKeyStore("src/test/resources/test.jks");
+		ssl.setKeyStorePassword("secret");
+		ssl.setKeyPassword("password");
+		SslServerCustomizer.ReloadingSslContextFactory factory = new SslServerCustomizer.ReloadingSslContextFactory(
+				SslStoreWatcher.get(ssl, null));
+		factory.setKeyStorePath(ssl.getKeyStore());
+		factory.setKeyStorePassword(ssl.getKeyStorePassword());
+		factory.setKeyManagerPassword(ssl.getKeyPassword());
+		assertThat(factory.isChecking()).isFalse();
+		factory.start();
+		try {
+			assertThat(factory.isChecking()).isTrue();
+		}
+		finally {
+			factory.stop();
+		}
+		assertThat(factory.isChecking()).isFalse();
+	}
+
 	private Server createCustomizedServer() {
 		return createCustomizedServer(new Http2());
 	}
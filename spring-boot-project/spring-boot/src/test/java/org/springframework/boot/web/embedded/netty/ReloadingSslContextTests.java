@@ -0,0 +1,168 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.netty;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.ReferenceCounted;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.web.server.Ssl;
+import org.springframework.boot.web.server.SslStoreWatcher;
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Tests for {@link ReloadingSslContext}.
+ *
+ * @author agent (agent@local)
+ */
+class ReloadingSslContextTests {
+
+	@TempDir
+	File temp;
+
+	private ReloadingSslContext sslContext;
+
+	@AfterEach
+	void stop() {
+		if (this.sslContext != null) {
+			this.sslContext.stop();
+		}
+	}
+
+	@Test
+	void newEngineDoesNotCheckForUpdates() throws IOException {
+		File keyStore = createKeyStore();
+		SslContext initial = mock(SslContext.class);
+		SslContext reloaded = mock(SslContext.class);
+		this.sslContext = new ReloadingSslContext(initial, createWatcher(keyStore, Duration.ZERO), () -> reloaded);
+		update(keyStore);
+		this.sslContext.newEngine(ByteBufAllocator.DEFAULT);
+		verify(initial).newEngine(ByteBufAllocator.DEFAULT);
+	}
+
+	@Test
+	void whenStartedStoresThatAreUpdatedAreReloadedInTheBackground() throws IOException {
+		File keyStore = createKeyStore();
+		SslContext initial = mock(SslContext.class);
+		SslContext reloaded = mock(SslContext.class);
+		this.sslContext = new ReloadingSslContext(initial, createWatcher(keyStore, Duration.ofMillis(10)),
+				() -> reloaded);
+		this.sslContext.start();
+		update(keyStore);
+		Awaitility.await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+			this.sslContext.newEngine(ByteBufAllocator.DEFAULT);
+			verify(reloaded).newEngine(ByteBufAllocator.DEFAULT);
+		});
+	}
+
+	@Test
+	void stopStopsCheckingForUpdates() throws IOException {
+		this.sslContext = new ReloadingSslContext(mock(SslContext.class),
+				createWatcher(createKeyStore(), Duration.ofMillis(10)), () -> mock(SslContext.class));
+		this.sslContext.start();
+		assertThat(this.sslContext.isRunning()).isTrue();
+		this.sslContext.stop();
+		assertThat(this.sslContext.isRunning()).isFalse();
+	}
+
+	@Test
+	void replacedContextIsReleasedWhenItIsReplacedAgain() throws IOException {
+		File keyStore = createKeyStore();
+		SslContext initial = mockReferenceCountedSslContext();
+		SslContext first = mockReferenceCountedSslContext();
+		SslContext second = mockReferenceCountedSslContext();
+		Iterator<SslContext> reloaded = Arrays.asList(first, second).iterator();
+		this.sslContext = new ReloadingSslContext(initial, createWatcher(keyStore, Duration.ofMillis(10)),
+				reloaded::next);
+		this.sslContext.start();
+		update(keyStore);
+		Awaitility.await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+			this.sslContext.newEngine(ByteBufAllocator.DEFAULT);
+			verify(first).newEngine(ByteBufAllocator.DEFAULT);
+		});
+		verify((ReferenceCounted) initial, never()).release();
+		update(keyStore);
+		Awaitility.await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+			this.sslContext.newEngine(ByteBufAllocator.DEFAULT);
+			verify(second).newEngine(ByteBufAllocator.DEFAULT);
+		});
+		verify((ReferenceCounted) initial).release();
+		verify((ReferenceCounted) first, never()).release();
+	}
+
+	@Test
+	void stopReleasesContexts() throws IOException {
+		SslContext initial = mockReferenceCountedSslContext();
+		this.sslContext = new ReloadingSslContext(initial, createWatcher(createKeyStore(), Duration.ofMillis(10)),
+				() -> mock(SslContext.class));
+		this.sslContext.start();
+		this.sslContext.stop();
+		verify((ReferenceCounted) initial).release();
+	}
+
+	@Test
+	void startAfterStopRecreatesContext() throws IOException {
+		SslContext recreated = mock(SslContext.class);
+		this.sslContext = new ReloadingSslContext(mockReferenceCountedSslContext(),
+				createWatcher(createKeyStore(), Duration.ofMillis(10)), () -> recreated);
+		this.sslContext.start();
+		this.sslContext.stop();
+		this.sslContext.start();
+		this.sslContext.newEngine(ByteBufAllocator.DEFAULT);
+		verify(recreated).newEngine(ByteBufAllocator.DEFAULT);
+	}
+
+	private SslContext mockReferenceCountedSslContext() {
+		return mock(SslContext.class, withSettings().extraInterfaces(ReferenceCounted.class));
+	}
+
+	private SslStoreWatcher createWatcher(File keyStore, Duration checkInterval) {
+		Ssl ssl = new Ssl();
+		ssl.setReloadOnUpdate(true);
+		ssl.setReloadCheckInterval(checkInterval);
+		ssl.setKeyStore(keyStore.getAbsolutePath());
+		return SslStoreWatcher.get(ssl, null);
+	}
+
+	private File createKeyStore() throws IOException {
+		File keyStore = new File(this.temp, "keystore");
+		FileCopyUtils.copy(new byte[] { 1, 2, 3 }, keyStore);
+		return keyStore;
+	}
+
+	private void update(File keyStore) throws IOException {
+		FileCopyUtils.copy(new byte[] { 4, 5, 6, 7 }, keyStore);
+		keyStore.setLastModified(keyStore.lastModified() + 5000);
+	}
+
+}
@@ -17,13 +17,20 @@
 package org.springframework.boot.web.embedded.netty;
 
 import java.security.NoSuchProviderException;
+import java.time.Duration;
 
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.SslContext;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.web.server.Ssl;
 import org.springframework.boot.web.server.WebServerException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Tests for {@link SslServerCustomizer}.
@@ -66,4 +73,44 @@ class SslServerCustomizerTests {
 				.withCauseInstanceOf(WebServerException.class).withMessageContaining("Could not load key store 'null'");
 	}
 
+	@Test
+	void jdkProviderIsUsedWhenCreatingSslContext() {
+		Ssl ssl = createSsl();
+		ssl.setProvider(Ssl.Provider.JDK);
+		assertThat(createSslContext(ssl)).isInstanceOf(JdkSslContext.class);
+	}
+
+	@Test
+	void openSslProviderIsUsedWhenCreatingSslContext() {
+		assumeTrue(OpenSsl.isAvailable());
+		Ssl ssl = createSsl();
+		ssl.setProvider(Ssl.Provider.OPENSSL);
+		ssl.setSessionTickets(true);
+		SslContext sslContext = createSslContext(ssl);
+		assertThat(sslContext.sessionContext()).isInstanceOf(OpenSslSessionContext.class);
+	}
+
+	@Test
+	void sessionCacheSizeAndTimeoutAreUsedWhenCreatingSslContext() {
+		Ssl ssl = createSsl();
+		ssl.setSessionCacheSize(1234);
+		ssl.setSessionTimeout(Duration.ofMinutes(5));
+		SslContext sslContext = createSslContext(ssl);
+		assertThat(sslContext.sessionCacheSize()).isEqualTo(1234);
+		assertThat(sslContext.sessionTimeout()).isEqualTo(300);
+	}
+
+	private Ssl createSsl() {
+		Ssl ssl = new Ssl();
+		ssl.setKeyStore("src/test/resources/test.jks");
+		ssl.setKeyStorePassword("secret");
+		ssl.setKeyPassword("password");
+		return ssl;
+	}
+
+	private SslContext createSslContext(Ssl ssl) {
+		SslServerCustomizer customizer = new SslServerCustomizer(ssl, null, null);
+		return customizer.createSslContext(customizer.createSslContextSpec());
+	}
+
 }
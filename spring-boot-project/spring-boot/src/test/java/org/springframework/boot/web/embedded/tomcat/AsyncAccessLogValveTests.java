@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.tomcat;
+
+import java.io.CharArrayWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.core.StandardEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link AsyncAccessLogValve}.
+ *
+ * @author agent (agent@local)
+ */
+class AsyncAccessLogValveTests {
+
+	@TempDir
+	File temp;
+
+	private final AsyncAccessLogValve valve = new AsyncAccessLogValve();
+
+	@BeforeEach
+	void configureValve() {
+		this.valve.setDirectory(this.temp.getAbsolutePath());
+		this.valve.setPrefix("access");
+		this.valve.setSuffix(".log");
+		this.valve.setRotatable(false);
+		StandardEngine engine = new StandardEngine();
+		engine.setName("test");
+		this.valve.setContainer(engine);
+	}
+
+	@AfterEach
+	void destroyValve() throws LifecycleException {
+		this.valve.destroy();
+	}
+
+	@Test
+	void queuedEntriesAreWrittenWhenValveIsStopped() throws Exception {
+		this.valve.start();
+		for (int i = 0; i < 100; i++) {
+			this.valve.log(entry("entry " + i));
+		}
+		this.valve.stop();
+		assertThat(this.valve.getQueuedEntries()).isZero();
+		assertThat(this.valve.getDiscardedEntries()).isZero();
+		assertThat(Files.readAllLines(new File(this.temp, "access.log").toPath(), StandardCharsets.UTF_8)).hasSize(100)
+				.startsWith("entry 0").endsWith("entry 99");
+	}
+
+	@Test
+	void entriesAreDiscardedWhenValveIsNotStarted() throws IOException {
+		this.valve.log(entry("discarded"));
+		assertThat(this.valve.getDiscardedEntries()).isEqualTo(1);
+	}
+
+	@Test
+	void queueCapacityMustBeGreaterThanZero() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.valve.setQueueCapacity(0))
+				.withMessage("QueueCapacity must be greater than zero");
+	}
+
+	private CharArrayWriter entry(String content) throws IOException {
+		CharArrayWriter writer = new CharArrayWriter();
+		writer.write(content);
+		return writer;
+	}
+
+}
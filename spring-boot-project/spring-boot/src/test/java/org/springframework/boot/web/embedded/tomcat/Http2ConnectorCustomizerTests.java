@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.tomcat;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.http2.Http2Protocol;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.web.server.Http2;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Http2ConnectorCustomizer}.
+ *
+ * @author agent (agent@local)
+ */
+class Http2ConnectorCustomizerTests {
+
+	@Test
+	void whenHttp2IsEnabledSettingsAreAppliedToHttp2Protocol() {
+		Http2 http2 = new Http2();
+		http2.setEnabled(true);
+		http2.setMaxConcurrentStreams(50);
+		http2.setInitialWindowSize(DataSize.ofKilobytes(128));
+		Http2Protocol protocol = customize(http2);
+		assertThat(protocol.getMaxConcurrentStreams()).isEqualTo(50);
+		assertThat(protocol.getInitialWindowSize()).isEqualTo(128 * 1024);
+	}
+
+	@Test
+	void whenSettingsAreNotConfiguredTomcatDefaultsAreUsed() {
+		Http2 http2 = new Http2();
+		http2.setEnabled(true);
+		Http2Protocol defaults = new Http2Protocol();
+		Http2Protocol protocol = customize(http2);
+		assertThat(protocol.getMaxConcurrentStreams()).isEqualTo(defaults.getMaxConcurrentStreams());
+		assertThat(protocol.getInitialWindowSize()).isEqualTo(defaults.getInitialWindowSize());
+	}
+
+	@Test
+	void whenHttp2IsDisabledSettingsAreNotApplied() {
+		Http2 http2 = new Http2();
+		http2.setMaxConcurrentStreams(50);
+		Http2Protocol protocol = customize(http2);
+		assertThat(protocol.getMaxConcurrentStreams()).isEqualTo(new Http2Protocol().getMaxConcurrentStreams());
+	}
+
+	private Http2Protocol customize(Http2 http2) {
+		Connector connector = new Connector("org.apache.coyote.http11.Http11NioProtocol");
+		connector.addUpgradeProtocol(new Http2Protocol());
+		new Http2ConnectorCustomizer(http2).customize(connector);
+		return (Http2Protocol) connector.findUpgradeProtocols()[0];
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.tomcat;
+
+import java.io.File;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.session.StandardSession;
+import org.apache.juli.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link SessionRecordsManager}.
+ *
+ * @author agent (agent@local)
+ */
+class SessionRecordsManagerTests {
+
+	@TempDir
+	File temp;
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void unloadAndLoad(boolean compressed) throws Exception {
+		File file = new File(this.temp, "SESSIONS.rec");
+		SessionRecordsManager manager = createManager(file, compressed);
+		addSession(manager, "abc", "spring", "boot");
+		addSession(manager, "def", "framework", "core");
+		manager.unload();
+		assertThat(manager.findSessions()).isEmpty();
+		assertThat(file).exists();
+		SessionRecordsManager restoringManager = createManager(file, compressed);
+		restoringManager.load();
+		assertThat(restoringManager.findSessions()).hasSize(2);
+		assertThat(restoringManager.findSession("abc").getSession().getAttribute("spring")).isEqualTo("boot");
+		assertThat(restoringManager.findSession("def").getSession().getAttribute("framework")).isEqualTo("core");
+		assertThat(restoringManager.findSession("abc").getManager()).isSameAs(restoringManager);
+		assertThat(file).doesNotExist();
+	}
+
+	@Test
+	void loadWhenFileIsMissingDoesNothing() throws Exception {
+		SessionRecordsManager manager = createManager(new File(this.temp, "SESSIONS.rec"), false);
+		manager.load();
+		assertThat(manager.findSessions()).isEmpty();
+	}
+
+	private SessionRecordsManager createManager(File file, boolean compressed) {
+		SessionRecordsManager manager = new SessionRecordsManager(compressed);
+		Context context = mock(Context.class);
+		given(context.getLogger()).willReturn(LogFactory.getLog(SessionRecordsManagerTests.class));
+		manager.setContext(context);
+		manager.setPathname(file.getAbsolutePath());
+		return manager;
+	}
+
+	private void addSession(SessionRecordsManager manager, String id, String name, Object value) {
+		StandardSession session = (StandardSession) manager.createEmptySession();
+		session.setValid(true);
+		session.setCreationTime(System.currentTimeMillis());
+		session.setMaxInactiveInterval(600);
+		session.setId(id, false);
+		session.setAttribute(name, value, false);
+	}
+
+}
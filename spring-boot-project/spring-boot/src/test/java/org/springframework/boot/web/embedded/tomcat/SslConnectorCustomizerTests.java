@@ -23,6 +23,7 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 
 import org.apache.catalina.LifecycleState;
 import org.apache.catalina.connector.Connector;
@@ -30,6 +31,7 @@ import org.apache.catalina.startup.Tomcat;
 import org.apache.catalina.webresources.TomcatURLStreamHandlerFactory;
 import org.apache.coyote.http11.Http11NioProtocol;
 import org.apache.tomcat.util.net.SSLHostConfig;
+import org.apache.tomcat.util.net.jsse.JSSEImplementation;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -217,6 +219,30 @@ class SslConnectorCustomizerTests {
 		assertThat(protocol.getTruststorePass()).isEqualTo("password");
 	}
 
+	@Test
+	void jdkProviderSelectsJsseImplementation() {
+		Http11NioProtocol protocol = (Http11NioProtocol) this.tomcat.getConnector().getProtocolHandler();
+		Ssl ssl = new Ssl();
+		ssl.setKeyStore("src/test/resources/test.jks");
+		ssl.setProvider(Ssl.Provider.JDK);
+		new SslConnectorCustomizer(ssl, null).customize(this.tomcat.getConnector());
+		assertThat(protocol.getSslImplementationName()).isEqualTo(JSSEImplementation.class.getName());
+	}
+
+	@Test
+	void sslSessionConfiguration() {
+		Ssl ssl = new Ssl();
+		ssl.setKeyStore("src/test/resources/test.jks");
+		ssl.setSessionCacheSize(1234);
+		ssl.setSessionTimeout(Duration.ofMinutes(5));
+		ssl.setSessionTickets(false);
+		new SslConnectorCustomizer(ssl, null).customize(this.tomcat.getConnector());
+		SSLHostConfig sslHostConfig = this.tomcat.getConnector().getProtocolHandler().findSslHostConfigs()[0];
+		assertThat(sslHostConfig.getSessionCacheSize()).isEqualTo(1234);
+		assertThat(sslHostConfig.getSessionTimeout()).isEqualTo(300);
+		assertThat(sslHostConfig.getDisableSessionTickets()).isTrue();
+	}
+
 	private KeyStore loadStore() throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
 		KeyStore keyStore = KeyStore.getInstance("JKS");
 		Resource resource = new ClassPathResource("test.jks");
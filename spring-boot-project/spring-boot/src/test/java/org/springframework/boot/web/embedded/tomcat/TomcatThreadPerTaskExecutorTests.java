@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.tomcat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link TomcatThreadPerTaskExecutor}.
+ *
+ * @author agent (agent@local)
+ */
+class TomcatThreadPerTaskExecutorTests {
+
+	private final ExecutorService delegate = Executors.newCachedThreadPool();
+
+	private final TomcatThreadPerTaskExecutor executor = new TomcatThreadPerTaskExecutor(this.delegate);
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdown();
+	}
+
+	@Test
+	void poolSizeAndActiveCountReportTasksInFlight() {
+		CountDownLatch latch = new CountDownLatch(1);
+		this.executor.execute(() -> waitFor(latch));
+		this.executor.execute(() -> waitFor(latch));
+		assertThat(this.executor.getPoolSize()).isEqualTo(2);
+		assertThat(this.executor.getActiveCount()).isEqualTo(2);
+		latch.countDown();
+		await().atMost(5, TimeUnit.SECONDS).until(this.executor::getActiveCount, (active) -> active == 0);
+		assertThat(this.executor.getPoolSize()).isZero();
+	}
+
+	@Test
+	void rejectedTaskIsNotCountedAsInFlight() {
+		this.executor.shutdown();
+		assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> this.executor.execute(() -> {
+		}));
+		assertThat(this.executor.getActiveCount()).isZero();
+	}
+
+	@Test
+	void poolCannotBeResized() {
+		assertThat(this.executor.resizePool(1, 10)).isFalse();
+		assertThat(this.executor.resizeQueue(10)).isFalse();
+	}
+
+	@Test
+	void shutdownShutsDownDelegate() {
+		this.executor.shutdown();
+		assertThat(this.delegate.isShutdown()).isTrue();
+	}
+
+	private void waitFor(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.undertow;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.util.MimeMappings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.web.servlet.server.MetaInfResourcesCache;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MetaInfResourcesCacheResourceManager}.
+ *
+ * @author agent (agent@local)
+ */
+class MetaInfResourcesCacheResourceManagerTests {
+
+	private ResourceManager resourceManager;
+
+	@BeforeEach
+	void createJar(@TempDir File tempDir) throws IOException {
+		File jar = new File(tempDir, "test.jar");
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			ZipEntry entry = new ZipEntry("META-INF/resources/css/app.css");
+			entry.setTime(1609459200000L);
+			out.putNextEntry(entry);
+			out.write("body {}".getBytes());
+		}
+		MetaInfResourcesCache cache = new MetaInfResourcesCache(Collections.singletonList(jar.toURI().toURL()),
+				DataSize.ofMegabytes(1), DataSize.ofKilobytes(1));
+		this.resourceManager = new MetaInfResourcesCacheResourceManager(cache);
+	}
+
+	@Test
+	void rootPathIsHandledCorrectly() throws IOException {
+		Resource resource = this.resourceManager.getResource("/");
+		assertThat(resource).isNotNull();
+		assertThat(resource.isDirectory()).isTrue();
+		assertThat(resource.list()).extracting(Resource::getPath).containsExactly("/css");
+	}
+
+	@Test
+	void resourceIsFound() throws IOException {
+		Resource resource = this.resourceManager.getResource("/css/app.css");
+		assertThat(resource).isNotNull();
+		assertThat(resource.isDirectory()).isFalse();
+		assertThat(resource.getContentLength()).isEqualTo(7);
+		assertThat(resource.getETag().isWeak()).isTrue();
+		assertThat(resource.getETag().getTag()).isEqualTo("7-1609459200000");
+		assertThat(resource.getLastModified().getTime()).isEqualTo(1609459200000L);
+		assertThat(resource.getContentType(MimeMappings.DEFAULT)).isEqualTo("text/css");
+		assertThat(resource.getUrl().toString()).endsWith("test.jar!/META-INF/resources/css/app.css");
+	}
+
+	@Test
+	void resourceIsReused() throws IOException {
+		assertThat(this.resourceManager.getResource("/css/app.css"))
+				.isSameAs(this.resourceManager.getResource("css/app.css"));
+	}
+
+	@Test
+	void missingResourceIsNotFound() throws IOException {
+		assertThat(this.resourceManager.getResource("/css/missing.css")).isNull();
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.undertow;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+
+import javax.net.ssl.SSLContext;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.web.server.Ssl;
+import org.springframework.boot.web.server.SslStoreWatcher;
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReloadingSslContext}.
+ *
+ * @author agent (agent@local)
+ */
+class ReloadingSslContextTests {
+
+	@TempDir
+	File temp;
+
+	private ReloadingSslContext sslContext;
+
+	@AfterEach
+	void close() throws IOException {
+		if (this.sslContext != null) {
+			this.sslContext.close();
+		}
+	}
+
+	@Test
+	void createSslEngineDoesNotCheckForUpdates() throws Exception {
+		File keyStore = createKeyStore();
+		SSLContext initial = createSslContext();
+		SSLContext reloaded = createSslContext();
+		this.sslContext = new ReloadingSslContext(initial, createWatcher(keyStore, Duration.ZERO), () -> reloaded);
+		update(keyStore);
+		this.sslContext.createSSLEngine();
+		assertThat(this.sslContext.getServerSessionContext()).isSameAs(initial.getServerSessionContext());
+	}
+
+	@Test
+	void whenStartedStoresThatAreUpdatedAreReloadedInTheBackground() throws Exception {
+		File keyStore = createKeyStore();
+		SSLContext reloaded = createSslContext();
+		this.sslContext = new ReloadingSslContext(createSslContext(), createWatcher(keyStore, Duration.ofMillis(10)),
+				() -> reloaded);
+		this.sslContext.start();
+		update(keyStore);
+		Awaitility.await().atMost(Duration.ofSeconds(30))
+				.untilAsserted(() -> assertThat(this.sslContext.getServerSessionContext())
+						.isSameAs(reloaded.getServerSessionContext()));
+	}
+
+	@Test
+	void closeStopsCheckingForUpdates() throws Exception {
+		this.sslContext = new ReloadingSslContext(createSslContext(),
+				createWatcher(createKeyStore(), Duration.ofMillis(10)), this::createSslContext);
+		this.sslContext.start();
+		assertThat(this.sslContext.isRunning()).isTrue();
+		this.sslContext.close();
+		assertThat(this.sslContext.isRunning()).isFalse();
+	}
+
+	private SSLContext createSslContext() throws Exception {
+		SSLContext sslContext = SSLContext.getInstance("TLS");
+		sslContext.init(null, null, null);
+		return sslContext;
+	}
+
+	private SslStoreWatcher createWatcher(File keyStore, Duration checkInterval) {
+		Ssl ssl = new Ssl();
+		ssl.setReloadOnUpdate(true);
+		ssl.setReloadCheckInterval(checkInterval);
+		ssl.setKeyStore(keyStore.getAbsolutePath());
+		return SslStoreWatcher.get(ssl, null);
+	}
+
+	private File createKeyStore() throws IOException {
+		File keyStore = new File(this.temp, "keystore");
+		FileCopyUtils.copy(new byte[] { 1, 2, 3 }, keyStore);
+		return keyStore;
+	}
+
+	private void update(File keyStore) throws IOException {
+		FileCopyUtils.copy(new byte[] { 4, 5, 6, 7 }, keyStore);
+		keyStore.setLastModified(keyStore.lastModified() + 5000);
+	}
+
+}
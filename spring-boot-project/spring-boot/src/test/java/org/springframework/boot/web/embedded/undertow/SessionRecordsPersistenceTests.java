@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.undertow;
+
+import java.io.File;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.undertow.servlet.api.SessionPersistenceManager.PersistentSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.boot.web.embedded.undertow.SessionRecordsPersistence.LazyPersistentSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SessionRecordsPersistence}.
+ *
+ * @author agent (agent@local)
+ */
+class SessionRecordsPersistenceTests {
+
+	@TempDir
+	File dir;
+
+	private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+	private final Date expiration = new Date(System.currentTimeMillis() + 10000);
+
+	@Test
+	void loadsNullForMissingFile() {
+		SessionRecordsPersistence persistence = new SessionRecordsPersistence(this.dir, false);
+		assertThat(persistence.loadSessionAttributes("test", this.classLoader)).isNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void persistAndLoad(boolean compressed) {
+		SessionRecordsPersistence persistence = new SessionRecordsPersistence(this.dir, compressed);
+		Map<String, PersistentSession> sessionData = new LinkedHashMap<>();
+		sessionData.put("abc", createSession(this.expiration, "spring", "boot"));
+		sessionData.put("def", createSession(this.expiration, "framework", "core"));
+		persistence.persistSessions("test", sessionData);
+		Map<String, PersistentSession> restored = persistence.loadSessionAttributes("test", this.classLoader);
+		assertThat(restored).containsOnlyKeys("abc", "def");
+		assertThat(restored.get("abc").getExpiration()).isEqualTo(this.expiration);
+		assertThat(restored.get("abc").getSessionData()).containsEntry("spring", "boot");
+		assertThat(restored.get("def").getSessionData()).containsEntry("framework", "core");
+	}
+
+	@Test
+	void attributesAreDeserializedOnFirstAccess() {
+		SessionRecordsPersistence persistence = new SessionRecordsPersistence(this.dir, false);
+		Map<String, PersistentSession> sessionData = new LinkedHashMap<>();
+		sessionData.put("abc", createSession(this.expiration, "spring", "boot"));
+		persistence.persistSessions("test", sessionData);
+		LazyPersistentSession restored = (LazyPersistentSession) persistence
+				.loadSessionAttributes("test", this.classLoader).get("abc");
+		assertThat(restored.isDeserialized()).isFalse();
+		assertThat(restored.getSessionData()).containsEntry("spring", "boot");
+		assertThat(restored.isDeserialized()).isTrue();
+	}
+
+	@Test
+	void dontRestoreExpired() {
+		SessionRecordsPersistence persistence = new SessionRecordsPersistence(this.dir, false);
+		Map<String, PersistentSession> sessionData = new LinkedHashMap<>();
+		sessionData.put("abc", createSession(new Date(System.currentTimeMillis() - 1000), "spring", "boot"));
+		persistence.persistSessions("test", sessionData);
+		Map<String, PersistentSession> restored = persistence.loadSessionAttributes("test", this.classLoader);
+		assertThat(restored).isNotNull().doesNotContainKey("abc");
+	}
+
+	@Test
+	void deleteFileOnClear() {
+		SessionRecordsPersistence persistence = new SessionRecordsPersistence(this.dir, false);
+		File sessionFile = new File(this.dir, "test.sessions");
+		persistence.persistSessions("test", new LinkedHashMap<>());
+		assertThat(sessionFile).exists();
+		persistence.clear("test");
+		assertThat(sessionFile).doesNotExist();
+	}
+
+	private PersistentSession createSession(Date expiration, String name, Object value) {
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put(name, value);
+		return new PersistentSession(expiration, data);
+	}
+
+}
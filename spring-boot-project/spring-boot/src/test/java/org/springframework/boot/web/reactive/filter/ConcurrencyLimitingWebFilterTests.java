@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.reactive.filter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConcurrencyLimitingWebFilter}.
+ *
+ * @author agent (agent@local)
+ */
+class ConcurrencyLimitingWebFilterTests {
+
+	private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+
+	private final ConcurrencyLimitingWebFilter filter = new ConcurrencyLimitingWebFilter(this.limiter);
+
+	@Test
+	void requestWithinLimitIsProcessedAndPermitIsReleased() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+		AtomicBoolean processed = new AtomicBoolean();
+		StepVerifier.create(this.filter.filter(exchange, (filtered) -> {
+			processed.set(true);
+			assertThat(this.limiter.getInFlight()).isEqualTo(1);
+			return Mono.empty();
+		})).verifyComplete();
+		assertThat(processed).isTrue();
+		assertThat(this.limiter.getInFlight()).isEqualTo(0);
+	}
+
+	@Test
+	void permitIsNotAcquiredUntilSubscription() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+		Mono<Void> filtered = this.filter.filter(exchange, (chained) -> Mono.empty());
+		assertThat(this.limiter.getInFlight()).isEqualTo(0);
+		assertThat(this.limiter.getRejected()).isEqualTo(0);
+		StepVerifier.create(filtered).verifyComplete();
+		StepVerifier.create(filtered).verifyComplete();
+		assertThat(this.limiter.getInFlight()).isEqualTo(0);
+		assertThat(this.limiter.getRejected()).isEqualTo(0);
+	}
+
+	@Test
+	void requestThatExceedsLimitIsRejected() {
+		this.limiter.tryAcquire();
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+		PublisherProbe<Void> chain = PublisherProbe.empty();
+		StepVerifier.create(this.filter.filter(exchange, (filtered) -> chain.mono())).verifyComplete();
+		chain.assertWasNotSubscribed();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(this.limiter.getRejected()).isEqualTo(1);
+	}
+
+	@Test
+	void whenProcessingFailsPermitIsReleased() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+		StepVerifier.create(this.filter.filter(exchange, (filtered) -> Mono.error(new IllegalStateException())))
+				.verifyError(IllegalStateException.class);
+		assertThat(this.limiter.getInFlight()).isEqualTo(0);
+	}
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.server;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter.Listener;
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter.Permit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Tests for {@link AdaptiveConcurrencyLimiter}.
+ *
+ * @author agent (agent@local)
+ */
+class AdaptiveConcurrencyLimiterTests {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	void createWhenInitialLimitIsOutOfRangeThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveConcurrencyLimiter(30, 1, 20))
+				.withMessage("InitialLimit must be between MinLimit and MaxLimit");
+	}
+
+	@Test
+	void createWhenMinLimitIsZeroThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveConcurrencyLimiter(1, 0, 20))
+				.withMessage("MinLimit must be greater than 0");
+	}
+
+	@Test
+	void tryAcquireWhenLimitHasBeenReachedRejectsRequest() {
+		AdaptiveConcurrencyLimiter limiter = createLimiter(2, 1, 10);
+		Permit permit = limiter.tryAcquire();
+		assertThat(permit).isNotNull();
+		assertThat(limiter.tryAcquire()).isNotNull();
+		assertThat(limiter.tryAcquire()).isNull();
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+		assertThat(limiter.getRejected()).isEqualTo(1);
+		permit.release();
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+		assertThat(limiter.tryAcquire()).isNotNull();
+	}
+
+	@Test
+	void releaseMoreThanOnceHasNoEffect() {
+		AdaptiveConcurrencyLimiter limiter = createLimiter(2, 1, 10);
+		Permit permit = limiter.tryAcquire();
+		limiter.tryAcquire();
+		permit.release();
+		permit.release();
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	void limitGrowsWhenLimitIsReachedAndLatencyIsStable() {
+		AdaptiveConcurrencyLimiter limiter = createLimiter(10, 1, 100);
+		for (int i = 0; i < 10; i++) {
+			processAtLimit(limiter, Duration.ofMillis(10));
+		}
+		assertThat(limiter.getLimit()).isGreaterThan(10);
+	}
+
+	@Test
+	void limitDoesNotGrowBeyondMaxLimit() {
+		AdaptiveConcurrencyLimiter limiter = createLimiter(10, 1, 15);
+		for (int i = 0; i < 50; i++) {
+			processAtLimit(limiter, Duration.ofMillis(10));
+		}
+		assertThat(limiter.getLimit()).isEqualTo(15);
+	}
+
+	@Test
+	void limitDoesNotChangeWhenWellBelowLimit() {
+		AdaptiveConcurrencyLimiter limiter = createLimiter(10, 1, 100);
+		for (int i = 0; i < 10; i++) {
+			Permit permit = limiter.tryAcquire();
+			this.nanoTime.addAndGet(Duration.ofMillis(10).toNanos());
+			permit.release();
+		}
+		assertThat(limiter.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void limitShrinksWhenLatencyIncreases() {
+		AdaptiveConcurrencyLimiter limiter = createLimiter(20, 1, 100);
+		for (int i = 0; i < 5; i++) {
+			processAtLimit(limiter, Duration.ofMillis(10));
+		}
+		int limit = limiter.getLimit();
+		for (int i = 0; i < 5; i++) {
+			processAtLimit(limiter, Duration.ofMillis(100));
+		}
+		assertThat(limiter.getLimit()).isLessThan(limit);
+	}
+
+	@Test
+	void limitDoesNotShrinkBelowMinLimit() {
+		AdaptiveConcurrencyLimiter limiter = createLimiter(20, 15, 100);
+		processAtLimit(limiter, Duration.ofMillis(10));
+		for (int i = 0; i < 20; i++) {
+			processAtLimit(limiter, Duration.ofSeconds(10));
+		}
+		assertThat(limiter.getLimit()).isEqualTo(15);
+	}
+
+	@Test
+	void concurrentAcquireAndReleaseLeavesNoRequestsInFlight() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 1, 200);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < 10000; j++) {
+						Permit permit = limiter.tryAcquire();
+						if (permit != null) {
+							permit.release();
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat(limiter.getInFlight()).isEqualTo(0);
+		assertThat(limiter.getLimit()).isBetween(1, 200);
+	}
+
+	@Test
+	void listenerIsNotifiedWhenLimitIsExceededAndWhenItRecovers() {
+		AdaptiveConcurrencyLimiter limiter = createLimiter(4, 1, 4);
+		Listener listener = mock(Listener.class);
+		limiter.setListener(listener);
+		List<Permit> permits = acquireAll(limiter);
+		assertThat(limiter.tryAcquire()).isNull();
+		assertThat(limiter.tryAcquire()).isNull();
+		verify(listener).limitExceeded(limiter);
+		permits.get(0).release();
+		verifyNoMoreInteractions(listener);
+		permits.get(1).release();
+		verify(listener).limitRecovered(limiter);
+		permits.get(2).release();
+		verifyNoMoreInteractions(listener);
+	}
+
+	private AdaptiveConcurrencyLimiter createLimiter(int initialLimit, int minLimit, int maxLimit) {
+		return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, this.nanoTime::get);
+	}
+
+	private void processAtLimit(AdaptiveConcurrencyLimiter limiter, Duration latency) {
+		List<Permit> permits = acquireAll(limiter);
+		this.nanoTime.addAndGet(latency.toNanos());
+		permits.forEach(Permit::release);
+	}
+
+	private List<Permit> acquireAll(AdaptiveConcurrencyLimiter limiter) {
+		List<Permit> permits = new ArrayList<>();
+		Permit permit = limiter.tryAcquire();
+		while (permit != null) {
+			permits.add(permit);
+			permit = limiter.tryAcquire();
+		}
+		return permits;
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.server;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link SslStoreWatcher}.
+ *
+ * @author agent (agent@local)
+ */
+class SslStoreWatcherTests {
+
+	@TempDir
+	File temp;
+
+	private final AtomicInteger reloads = new AtomicInteger();
+
+	@Test
+	void getWhenReloadOnUpdateIsDisabledReturnsNull() throws IOException {
+		Ssl ssl = new Ssl();
+		ssl.setKeyStore(createStore("keystore").getAbsolutePath());
+		assertThat(SslStoreWatcher.get(ssl, null)).isNull();
+	}
+
+	@Test
+	void getWhenSslStoreProviderIsUsedReturnsNull() throws IOException {
+		Ssl ssl = new Ssl();
+		ssl.setReloadOnUpdate(true);
+		ssl.setKeyStore(createStore("keystore").getAbsolutePath());
+		assertThat(SslStoreWatcher.get(ssl, mock(SslStoreProvider.class))).isNull();
+	}
+
+	@Test
+	void getWatchesKeyStoreAndTrustStoreFiles() throws IOException {
+		File keyStore = createStore("keystore");
+		File trustStore = createStore("truststore");
+		Ssl ssl = new Ssl();
+		ssl.setReloadOnUpdate(true);
+		ssl.setKeyStore(keyStore.getAbsolutePath());
+		ssl.setTrustStore("file:" + trustStore.getAbsolutePath());
+		assertThat(SslStoreWatcher.get(ssl, null).getPaths()).containsExactly(keyStore.toPath(), trustStore.toPath());
+	}
+
+	@Test
+	void reloadIfUpdatedWhenNotUpdatedDoesNotReload() throws IOException {
+		SslStoreWatcher watcher = createWatcher(Duration.ZERO, createStore("keystore"));
+		assertThat(watcher.reloadIfUpdated(this.reloads::incrementAndGet)).isFalse();
+		assertThat(this.reloads).hasValue(0);
+	}
+
+	@Test
+	void reloadIfUpdatedWhenUpdatedReloadsOnce() throws IOException {
+		File keyStore = createStore("keystore");
+		SslStoreWatcher watcher = createWatcher(Duration.ZERO, keyStore);
+		update(keyStore);
+		assertThat(watcher.reloadIfUpdated(this.reloads::incrementAndGet)).isTrue();
+		assertThat(watcher.reloadIfUpdated(this.reloads::incrementAndGet)).isFalse();
+		assertThat(this.reloads).hasValue(1);
+	}
+
+	@Test
+	void reloadIfUpdatedBeforeCheckIntervalHasElapsedDoesNotReload() throws IOException {
+		File keyStore = createStore("keystore");
+		SslStoreWatcher watcher = createWatcher(Duration.ofHours(1), keyStore);
+		update(keyStore);
+		assertThat(watcher.reloadIfUpdated(this.reloads::incrementAndGet)).isFalse();
+		assertThat(this.reloads).hasValue(0);
+	}
+
+	@Test
+	void reloadIfUpdatedNowBeforeCheckIntervalHasElapsedReloads() throws IOException {
+		File keyStore = createStore("keystore");
+		SslStoreWatcher watcher = createWatcher(Duration.ofHours(1), keyStore);
+		update(keyStore);
+		assertThat(watcher.reloadIfUpdatedNow(this.reloads::incrementAndGet)).isTrue();
+		assertThat(watcher.reloadIfUpdatedNow(this.reloads::incrementAndGet)).isFalse();
+		assertThat(this.reloads).hasValue(1);
+	}
+
+	@Test
+	void reloadIfUpdatedWhenReloadFailsRetriesOnNextCheck() throws IOException {
+		File keyStore = createStore("keystore");
+		SslStoreWatcher watcher = createWatcher(Duration.ZERO, keyStore);
+		update(keyStore);
+		assertThat(watcher.reloadIfUpdated(() -> {
+			throw new IllegalStateException("Failure");
+		})).isFalse();
+		assertThat(watcher.reloadIfUpdated(this.reloads::incrementAndGet)).isTrue();
+		assertThat(this.reloads).hasValue(1);
+	}
+
+	@Test
+	void reloadIfUpdatedWhenFileIsMissingDoesNotReload() throws IOException {
+		File keyStore = createStore("keystore");
+		SslStoreWatcher watcher = createWatcher(Duration.ZERO, keyStore);
+		keyStore.delete();
+		assertThat(watcher.reloadIfUpdated(this.reloads::incrementAndGet)).isFalse();
+		assertThat(this.reloads).hasValue(0);
+	}
+
+	@Test
+	void startCheckingReloadsInTheBackgroundUntilClosed() throws Exception {
+		File keyStore = createStore("keystore");
+		SslStoreWatcher watcher = createWatcher(Duration.ofMillis(10), keyStore);
+		Closeable checks = watcher.startChecking(this.reloads::incrementAndGet);
+		try {
+			update(keyStore);
+			Awaitility.await().atMost(Duration.ofSeconds(30)).untilAtomic(this.reloads, equalTo(1));
+		}
+		finally {
+			checks.close();
+		}
+		keyStore.setLastModified(keyStore.lastModified() + 5000);
+		Thread.sleep(100);
+		assertThat(this.reloads).hasValue(1);
+	}
+
+	private SslStoreWatcher createWatcher(Duration checkInterval, File store) {
+		return new SslStoreWatcher(Collections.singletonList(store.toPath()), checkInterval);
+	}
+
+	private File createStore(String name) throws IOException {
+		File store = new File(this.temp, name);
+		FileCopyUtils.copy(new byte[] { 1, 2, 3 }, store);
+		return store;
+	}
+
+	private void update(File store) throws IOException {
+		FileCopyUtils.copy(new byte[] { 4, 5, 6, 7 }, store);
+		store.setLastModified(store.lastModified() + 5000);
+	}
+
+}
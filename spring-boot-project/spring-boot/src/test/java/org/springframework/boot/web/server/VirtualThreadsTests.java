@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link VirtualThreads}.
+ *
+ * @author agent (agent@local)
+ */
+class VirtualThreadsTests {
+
+	@Test
+	void whenAvailableExecutorRunsEachTaskOnNamedVirtualThread() throws Exception {
+		assumeTrue(VirtualThreads.isAvailable());
+		ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-");
+		try {
+			Future<Thread> thread = executor.submit(Thread::currentThread);
+			assertThat(thread.get().getName()).startsWith("test-");
+			assertThat(ReflectionUtils.invokeMethod(Thread.class.getMethod("isVirtual"), thread.get())).isEqualTo(true);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void whenNotAvailableCreatingExecutorThrowsException() {
+		assumeFalse(VirtualThreads.isAvailable());
+		assertThatIllegalStateException().isThrownBy(() -> VirtualThreads.newThreadPerTaskExecutor("test-"))
+				.withMessage("Virtual threads are not available");
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.servlet.filter;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.web.server.AdaptiveConcurrencyLimiter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConcurrencyLimitingFilter}.
+ *
+ * @author agent (agent@local)
+ */
+class ConcurrencyLimitingFilterTests {
+
+	private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+
+	private final ConcurrencyLimitingFilter filter = new ConcurrencyLimitingFilter(this.limiter);
+
+	@Test
+	void requestWithinLimitIsProcessedAndPermitIsReleased() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		this.filter.doFilter(new MockHttpServletRequest(), response, chain);
+		assertThat(chain.getRequest()).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(this.limiter.getInFlight()).isEqualTo(0);
+	}
+
+	@Test
+	void requestThatExceedsLimitIsRejected() throws Exception {
+		this.limiter.tryAcquire();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		this.filter.doFilter(new MockHttpServletRequest(), response, chain);
+		assertThat(chain.getRequest()).isNull();
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(this.limiter.getRejected()).isEqualTo(1);
+	}
+
+	@Test
+	void whenAsyncProcessingHasStartedPermitIsReleasedWhenItCompletes() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAsyncSupported(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.filter.doFilter(request, response,
+				(servletRequest, servletResponse) -> servletRequest.startAsync(servletRequest, servletResponse));
+		assertThat(this.limiter.getInFlight()).isEqualTo(1);
+		request.getAsyncContext().complete();
+		assertThat(this.limiter.getInFlight()).isEqualTo(0);
+	}
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.servlet.server;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.web.servlet.server.MetaInfResourcesCache.Entry;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link MetaInfResourcesCache}.
+ *
+ * @author agent (agent@local)
+ */
+class MetaInfResourcesCacheTests {
+
+	private static final long LAST_MODIFIED = 1609459200000L;
+
+	@TempDir
+	File tempDir;
+
+	@Test
+	void resourceIsIndexed() throws IOException {
+		MetaInfResourcesCache cache = createCache(createJar("one.jar", "css/app.css", "body {}"));
+		Entry entry = cache.get("/css/app.css");
+		assertThat(entry).isNotNull();
+		assertThat(entry.isDirectory()).isFalse();
+		assertThat(entry.getName()).isEqualTo("app.css");
+		assertThat(entry.getContentLength()).isEqualTo(7);
+		assertThat(entry.getLastModified()).isEqualTo(LAST_MODIFIED);
+		assertThat(entry.getETag()).isEqualTo("W/\"7-" + LAST_MODIFIED + "\"");
+		assertThat(entry.isCached()).isFalse();
+	}
+
+	@Test
+	void resourceIsIndexedWithoutLeadingSlash() throws IOException {
+		MetaInfResourcesCache cache = createCache(createJar("one.jar", "css/app.css", "body {}"));
+		assertThat(cache.get("css/app.css")).isSameAs(cache.get("/css/app.css"));
+	}
+
+	@Test
+	void missingResourceIsNotFound() throws IOException {
+		MetaInfResourcesCache cache = createCache(createJar("one.jar", "css/app.css", "body {}"));
+		assertThat(cache.get("/css/missing.css")).isNull();
+	}
+
+	@Test
+	void resourcesOutsideOfMetaInfResourcesAreNotIndexed() throws IOException {
+		File jar = createJar("one.jar", (output) -> {
+			addEntry(output, "META-INF/resources/index.html", "index");
+			addEntry(output, "com/example/Example.class", "class");
+		});
+		MetaInfResourcesCache cache = createCache(jar);
+		assertThat(cache.get("/index.html")).isNotNull();
+		assertThat(cache.get("/com/example/Example.class")).isNull();
+		assertThat(cache.list("/")).extracting(Entry::getName).containsExactly("index.html");
+	}
+
+	@Test
+	void parentDirectoriesAreIndexed() throws IOException {
+		MetaInfResourcesCache cache = createCache(createJar("one.jar", "css/theme/app.css", "body {}"));
+		assertThat(cache.get("/").isDirectory()).isTrue();
+		assertThat(cache.get("/css").isDirectory()).isTrue();
+		assertThat(cache.get("/css/").isDirectory()).isTrue();
+		assertThat(cache.get("/css/theme").isDirectory()).isTrue();
+		assertThat(cache.list("/")).extracting(Entry::getPath).containsExactly("/css");
+		assertThat(cache.list("/css/theme")).extracting(Entry::getPath).containsExactly("/css/theme/app.css");
+		assertThat(cache.list("/css/theme/app.css")).isEmpty();
+	}
+
+	@Test
+	void resourceInFirstJarIsUsedWhenMultipleJarsContainTheSamePath() throws IOException {
+		File one = createJar("one.jar", "app.js", "one");
+		File two = createJar("two.jar", (output) -> {
+			addEntry(output, "META-INF/resources/app.js", "two-two");
+			addEntry(output, "META-INF/resources/other.js", "other");
+		});
+		MetaInfResourcesCache cache = createCache(one, two);
+		assertThat(read(cache.get("/app.js"))).isEqualTo("one");
+		assertThat(read(cache.get("/other.js"))).isEqualTo("other");
+		assertThat(cache.list("/")).extracting(Entry::getName).containsExactly("app.js", "other.js");
+	}
+
+	@Test
+	void contentIsCachedWhenFirstRead() throws IOException {
+		MetaInfResourcesCache cache = createCache(createJar("one.jar", "css/app.css", "body {}"));
+		Entry entry = cache.get("/css/app.css");
+		assertThat(read(entry)).isEqualTo("body {}");
+		assertThat(entry.isCached()).isTrue();
+		assertThat(entry.getContent().isDirect()).isTrue();
+		assertThat(cache.getSize()).isEqualTo(7);
+		assertThat(read(entry)).isEqualTo("body {}");
+		assertThat(cache.getSize()).isEqualTo(7);
+	}
+
+	@Test
+	void contentIsReadOnlyAndIndependentOfOtherReads() throws IOException {
+		MetaInfResourcesCache cache = createCache(createJar("one.jar", "css/app.css", "body {}"));
+		Entry entry = cache.get("/css/app.css");
+		ByteBuffer first = entry.getContent();
+		first.get(new byte[3]);
+		assertThat(first.isReadOnly()).isTrue();
+		assertThat(entry.getContent().remaining()).isEqualTo(7);
+	}
+
+	@Test
+	void contentIsReadableAsInputStream() throws IOException {
+		MetaInfResourcesCache cache = createCache(createJar("one.jar", "css/app.css", "body {}"));
+		assertThat(StreamUtils.copyToString(cache.get("/css/app.css").getInputStream(), StandardCharsets.UTF_8))
+				.isEqualTo("body {}");
+	}
+
+	@Test
+	void resourceLargerThanMaxEntrySizeIsNotCached() throws IOException {
+		MetaInfResourcesCache cache = new MetaInfResourcesCache(urls(createJar("one.jar", "css/app.css", "body {}")),
+				DataSize.ofKilobytes(1), DataSize.ofBytes(6));
+		Entry entry = cache.get("/css/app.css");
+		assertThat(read(entry)).isEqualTo("body {}");
+		assertThat(entry.isCached()).isFalse();
+		assertThat(cache.getSize()).isZero();
+	}
+
+	@Test
+	void resourceThatWouldExceedMaxSizeIsNotCached() throws IOException {
+		File jar = createJar("one.jar", (output) -> {
+			addEntry(output, "META-INF/resources/one.txt", "12345");
+			addEntry(output, "META-INF/resources/two.txt", "67890");
+		});
+		MetaInfResourcesCache cache = new MetaInfResourcesCache(urls(jar), DataSize.ofBytes(8), DataSize.ofBytes(8));
+		assertThat(read(cache.get("/one.txt"))).isEqualTo("12345");
+		assertThat(read(cache.get("/two.txt"))).isEqualTo("67890");
+		assertThat(cache.get("/one.txt").isCached()).isTrue();
+		assertThat(cache.get("/two.txt").isCached()).isFalse();
+		assertThat(cache.getSize()).isEqualTo(5);
+	}
+
+	@Test
+	void preloadLoadsContentOfAllResources() throws IOException {
+		File jar = createJar("one.jar", (output) -> {
+			addEntry(output, "META-INF/resources/one.txt", "12345");
+			addEntry(output, "META-INF/resources/css/two.txt", "67890");
+		});
+		MetaInfResourcesCache cache = createCache(jar);
+		cache.preload();
+		assertThat(cache.get("/one.txt").isCached()).isTrue();
+		assertThat(cache.get("/css/two.txt").isCached()).isTrue();
+		assertThat(cache.getSize()).isEqualTo(10);
+	}
+
+	@Test
+	void directoryHasNoContent() throws IOException {
+		MetaInfResourcesCache cache = createCache(createJar("one.jar", "css/app.css", "body {}"));
+		assertThatIllegalStateException().isThrownBy(() -> cache.get("/css").getContent())
+				.withMessageContaining("is a directory");
+	}
+
+	@Test
+	void urlOfResourceCanBeUsedToReadItsContent() throws IOException {
+		File jar = createJar("one.jar", "css/app.css", "body {}");
+		MetaInfResourcesCache cache = createCache(jar);
+		URL url = cache.get("/css/app.css").getUrl();
+		assertThat(url.toString()).isEqualTo("jar:" + jar.toURI().toURL() + "!/META-INF/resources/css/app.css");
+		assertThat(StreamUtils.copyToString(url.openStream(), StandardCharsets.UTF_8)).isEqualTo("body {}");
+	}
+
+	@Test
+	void cacheWithNoJarsIsEmpty() {
+		MetaInfResourcesCache cache = new MetaInfResourcesCache(Collections.emptyList(), DataSize.ofMegabytes(1),
+				DataSize.ofKilobytes(1));
+		assertThat(cache.isEmpty()).isTrue();
+		assertThat(cache.get("/")).isNull();
+	}
+
+	private MetaInfResourcesCache createCache(File... jars) throws IOException {
+		return new MetaInfResourcesCache(urls(jars), DataSize.ofMegabytes(1), DataSize.ofKilobytes(1));
+	}
+
+	private List<URL> urls(File... jars) throws IOException {
+		URL[] urls = new URL[jars.length];
+		for (int i = 0; i < jars.length; i++) {
+			urls[i] = jars[i].toURI().toURL();
+		}
+		return Arrays.asList(urls);
+	}
+
+	private String read(Entry entry) throws IOException {
+		ByteBuffer content = entry.getContent();
+		byte[] bytes = new byte[content.remaining()];
+		content.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private File createJar(String name, String path, String content) throws IOException {
+		return createJar(name, (output) -> addEntry(output, "META-INF/resources/" + path, content));
+	}
+
+	private File createJar(String name, JarCustomizer customizer) throws IOException {
+		File jarFile = new File(this.tempDir, name);
+		try (JarOutputStream output = new JarOutputStream(new FileOutputStream(jarFile))) {
+			customizer.customize(output);
+		}
+		return jarFile;
+	}
+
+	private void addEntry(JarOutputStream output, String name, String content) throws IOException {
+		JarEntry entry = new JarEntry(name);
+		entry.setTime(LAST_MODIFIED);
+		output.putNextEntry(entry);
+		output.write(content.getBytes(StandardCharsets.UTF_8));
+		output.closeEntry();
+	}
+
+	@FunctionalInterface
+	interface JarCustomizer {
+
+		void customize(JarOutputStream output) throws IOException;
+
+	}
+
+}
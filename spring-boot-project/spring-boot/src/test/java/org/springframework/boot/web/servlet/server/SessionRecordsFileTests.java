@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.servlet.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link SessionRecordsFile}.
+ *
+ * @author agent (agent@local)
+ */
+class SessionRecordsFileTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void writeAndRead() throws IOException {
+		SessionRecordsFile file = new SessionRecordsFile(new File(this.temp, "sessions"), false);
+		assertThat(file.write(Arrays.asList("one", "two", "three"), (session, output) -> output.writeUTF(session)))
+				.isEqualTo(3);
+		assertThat(file.read((input) -> input.readUTF())).containsExactly("one", "two", "three");
+	}
+
+	@Test
+	void writeAndReadCompressed() throws IOException {
+		SessionRecordsFile file = new SessionRecordsFile(new File(this.temp, "sessions"), true);
+		file.write(Arrays.asList("one", "two", "three"), (session, output) -> output.writeUTF(session));
+		SessionRecordsFile uncompressed = new SessionRecordsFile(file.getFile(), false);
+		assertThat(uncompressed.read((input) -> input.readUTF())).containsExactly("one", "two", "three");
+	}
+
+	@Test
+	void writeReplacesExistingFileAndLeavesNoTemporaryFileBehind() throws IOException {
+		SessionRecordsFile file = new SessionRecordsFile(new File(this.temp, "sessions"), false);
+		file.write(Arrays.asList("one", "two"), (session, output) -> output.writeUTF(session));
+		file.write(Arrays.asList("three"), (session, output) -> output.writeUTF(session));
+		assertThat(file.read((input) -> input.readUTF())).containsExactly("three");
+		assertThat(this.temp.list()).containsExactly("sessions");
+	}
+
+	@Test
+	void sessionThatCannotBeWrittenIsSkipped() throws IOException {
+		SessionRecordsFile file = new SessionRecordsFile(new File(this.temp, "sessions"), false);
+		int written = file.write(Arrays.asList("one", "two", "three"), (session, output) -> {
+			if (session.equals("two")) {
+				throw new IOException("Failure");
+			}
+			output.writeUTF(session);
+		});
+		assertThat(written).isEqualTo(2);
+		assertThat(file.read((input) -> input.readUTF())).containsExactly("one", "three");
+	}
+
+	@Test
+	void sessionThatCannotBeReadIsSkipped() throws IOException {
+		SessionRecordsFile file = new SessionRecordsFile(new File(this.temp, "sessions"), false);
+		file.write(Arrays.asList("one", "two", "three"), (session, output) -> output.writeUTF(session));
+		List<String> sessions = file.read((input) -> {
+			String session = input.readUTF();
+			if (session.equals("two")) {
+				throw new ClassNotFoundException("Failure");
+			}
+			return session;
+		});
+		assertThat(sessions).containsExactly("one", "three");
+	}
+
+	@Test
+	void sessionsAreWrittenAndReadWithCallersContextClassLoader() throws IOException {
+		List<String> written = IntStream.range(0, 100).mapToObj(String::valueOf).collect(Collectors.toList());
+		SessionRecordsFile file = new SessionRecordsFile(new File(this.temp, "sessions"), false);
+		ClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+		Set<ClassLoader> classLoaders = ConcurrentHashMap.newKeySet();
+		ClassLoader previous = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(classLoader);
+		try {
+			file.write(written, (session, output) -> {
+				classLoaders.add(Thread.currentThread().getContextClassLoader());
+				output.writeUTF(session);
+			});
+			List<String> read = file.read((input) -> {
+				classLoaders.add(Thread.currentThread().getContextClassLoader());
+				return input.readUTF();
+			});
+			assertThat(read).isEqualTo(written);
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(previous);
+		}
+		assertThat(classLoaders).containsExactly(classLoader);
+	}
+
+	@Test
+	void readWhenFileIsNotSessionRecordsFileThrowsException() throws IOException {
+		File sessions = new File(this.temp, "sessions");
+		FileCopyUtils.copy(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }, sessions);
+		assertThatIOException().isThrownBy(() -> new SessionRecordsFile(sessions, false).read((input) -> null))
+				.withMessageContaining("is not a session records file");
+	}
+
+	@Test
+	void delete() throws IOException {
+		SessionRecordsFile file = new SessionRecordsFile(new File(this.temp, "sessions"), false);
+		file.write(Arrays.asList("one"), (session, output) -> output.writeUTF(session));
+		assertThat(file.exists()).isTrue();
+		file.delete();
+		assertThat(file.exists()).isFalse();
+	}
+
+}
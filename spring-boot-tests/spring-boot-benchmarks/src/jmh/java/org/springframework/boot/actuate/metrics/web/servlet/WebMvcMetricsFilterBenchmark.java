@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.servlet;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.boot.actuate.metrics.AutoTimer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Benchmark for the per-request overhead of {@link WebMvcMetricsFilter}. The
+ * {@code uncached} mode wraps the {@link DefaultWebMvcTagsProvider} so that tags and
+ * timers are resolved on every request, as they were before timers were cached.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WebMvcMetricsFilterBenchmark {
+
+	@Param({ "cached", "uncached" })
+	private String mode;
+
+	private WebMvcMetricsFilter filter;
+
+	@Setup
+	public void setup() {
+		DefaultWebMvcTagsProvider tagsProvider = new DefaultWebMvcTagsProvider();
+		this.filter = new WebMvcMetricsFilter(new SimpleMeterRegistry(),
+				"cached".equals(this.mode) ? tagsProvider : new DelegatingWebMvcTagsProvider(tagsProvider),
+				"http.server.requests", AutoTimer.ENABLED);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse filter() throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/people/42");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.filter.doFilter(request, response, (servletRequest, servletResponse) -> servletRequest
+				.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/people/{id}"));
+		return response;
+	}
+
+	private static final class DelegatingWebMvcTagsProvider implements WebMvcTagsProvider {
+
+		private final WebMvcTagsProvider delegate;
+
+		private DelegatingWebMvcTagsProvider(WebMvcTagsProvider delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler,
+				Throwable exception) {
+			return this.delegate.getTags(request, response, handler, exception);
+		}
+
+		@Override
+		public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+			return this.delegate.getLongRequestTags(request, handler);
+		}
+
+	}
+
+}
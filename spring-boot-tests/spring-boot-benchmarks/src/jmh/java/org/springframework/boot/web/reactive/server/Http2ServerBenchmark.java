@@ -0,0 +1,136 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.reactive.server;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatReactiveWebServerFactory;
+import org.springframework.boot.web.server.Http2;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.server.reactive.HttpHandler;
+
+/**
+ * Benchmark for the throughput of a reactive web server when requests are multiplexed as
+ * concurrent streams over a small number of cleartext HTTP/2 connections. Each operation
+ * sends a batch of requests, keeping a fixed number of them in flight at once, so that
+ * only the server's configuration varies. The {@code http1} and {@code h2c-default}
+ * protocols provide baselines with HTTP/2 disabled and with the server's default HTTP/2
+ * settings respectively. The others limit the number of concurrent streams that the
+ * server allows on each connection.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Http2ServerBenchmark {
+
+	private static final int REQUESTS = 256;
+
+	private static final int CONCURRENCY = 64;
+
+	private static final int CONNECTIONS = 4;
+
+	private static final byte[] BODY = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+	@Param({ "netty", "tomcat" })
+	private String server;
+
+	@Param({ "http1", "h2c-default", "h2c-16", "h2c-128" })
+	private String protocol;
+
+	private WebServer webServer;
+
+	private ConnectionProvider connectionProvider;
+
+	private HttpClient client;
+
+	@Setup
+	public void start() {
+		AbstractReactiveWebServerFactory factory = createFactory();
+		factory.setHttp2(createHttp2());
+		this.webServer = factory.getWebServer(handler());
+		this.webServer.start();
+		this.connectionProvider = ConnectionProvider.builder("http2-benchmark").maxConnections(CONNECTIONS)
+				.pendingAcquireMaxCount(-1).build();
+		HttpProtocol clientProtocol = "http1".equals(this.protocol) ? HttpProtocol.HTTP11 : HttpProtocol.H2C;
+		this.client = HttpClient.create(this.connectionProvider).protocol(clientProtocol)
+				.baseUrl("http://localhost:" + this.webServer.getPort());
+	}
+
+	private Http2 createHttp2() {
+		Http2 http2 = new Http2();
+		if (this.protocol.startsWith("h2c")) {
+			http2.setEnabled(true);
+			String maxConcurrentStreams = this.protocol.substring("h2c-".length());
+			if (!"default".equals(maxConcurrentStreams)) {
+				http2.setMaxConcurrentStreams(Integer.parseInt(maxConcurrentStreams));
+			}
+		}
+		return http2;
+	}
+
+	private AbstractReactiveWebServerFactory createFactory() {
+		if ("tomcat".equals(this.server)) {
+			return new TomcatReactiveWebServerFactory(0);
+		}
+		return new NettyReactiveWebServerFactory(0);
+	}
+
+	private HttpHandler handler() {
+		return (request, response) -> response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(BODY)));
+	}
+
+	@TearDown
+	public void stop() {
+		this.connectionProvider.disposeLater().block(Duration.ofSeconds(10));
+		this.webServer.stop();
+	}
+
+	@Benchmark
+	public Long concurrentRequests() {
+		return Flux.range(0, REQUESTS).flatMap((request) -> get(), CONCURRENCY).count().block(Duration.ofSeconds(30));
+	}
+
+	private Mono<byte[]> get() {
+		// Reactor Netty fails, rather than queues, a request for which no stream is
+		// available so it is retried once a stream may have been released
+		return this.client.get().uri("/").responseContent().aggregate().asByteArray().retryWhen(
+				Retry.fixedDelay(Long.MAX_VALUE, Duration.ofMillis(1)).filter(IOException.class::isInstance));
+	}
+
+}